@@ -0,0 +1,316 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.tools;
+
+import com.donohoedigital.base.*;
+import com.donohoedigital.config.*;
+import com.donohoedigital.games.poker.engine.*;
+import org.apache.logging.log4j.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static com.donohoedigital.games.poker.engine.PreflopEquity.*;
+
+/**
+ * Offline generator for the {@link PreflopEquity} resource. Heads-up and one
+ * opponent figures are enumerated exactly over every suit-distinct board, the
+ * final hand type distribution over every board, and the two to nine opponent
+ * figures are estimated by Monte Carlo from a fixed seed, so reruns produce the
+ * same file. Takes several minutes per core; copy the output to
+ * {@code pokerengine/src/main/resources/com/donohoedigital/games/poker/engine}.
+ */
+@SuppressWarnings({"UseOfSystemOutOrSystemErr"})
+public class PreflopEquityGenerator extends BaseCommandLineApp {
+    private static Logger logger = LogManager.getLogger(PreflopEquityGenerator.class);
+
+    private static final int NUM_HOLDINGS = 1326;
+
+    /**
+     * Run generator
+     */
+    public static void main(String[] args) {
+        try {
+            new PreflopEquityGenerator("poker", args);
+        } catch (ApplicationError ae) {
+            System.err.println("PreflopEquityGenerator ending due to ApplicationError: " + ae.toString());
+        } catch (Throwable t) {
+            System.err.println(Utils.formatExceptionText(t));
+        }
+
+        System.exit(0);
+    }
+
+    public PreflopEquityGenerator(String sConfigName, String[] args) throws IOException {
+        super(sConfigName, args);
+
+        Path out = Path.of(htOptions_.getString("out"));
+        long time = System.currentTimeMillis();
+        byte[] table = generate(htOptions_.getInteger("samples"), htOptions_.getInteger("seed"));
+        Files.write(out, table);
+        logger.info("Wrote " + out + " in " + (System.currentTimeMillis() - time) / 1000 + "s");
+    }
+
+    /**
+     * Setup the command line options.
+     */
+    @Override
+    protected void setupApplicationCommandLineOptions() {
+        CommandLine.addStringOption("out", RESOURCE);
+        CommandLine.setDescription("out", "file to write", RESOURCE);
+
+        CommandLine.addIntegerOption("samples", 2_000_000);
+        CommandLine.setDescription("samples", "Monte Carlo deals per hand class for 2-9 opponents", "2000000");
+
+        CommandLine.addIntegerOption("seed", 1);
+        CommandLine.setDescription("seed", "Monte Carlo seed", "1");
+    }
+
+    ///
+    /// GUTS of the Program...
+    ///
+
+    /**
+     * Build the table file contents.
+     */
+    static byte[] generate(int samples, long seed) {
+        long[] holdings = new long[NUM_HOLDINGS];
+        int[] classes = new int[NUM_HOLDINGS];
+        int[] representative = new int[NUM_CLASSES];
+        Arrays.fill(representative, -1);
+        int n = 0;
+        for (int i = 0; i < 52; i++) {
+            for (int j = i + 1; j < 52; j++) {
+                holdings[n] = (1L << i) | (1L << j);
+                classes[n] = getHandClass(i, j);
+                if (representative[classes[n]] < 0) {
+                    representative[classes[n]] = n;
+                }
+                n++;
+            }
+        }
+
+        // heads-up, summed over ordered (row, column) pairs
+        long[] wins = new long[NUM_CLASSES * NUM_CLASSES];
+        long[] ties = new long[NUM_CLASSES * NUM_CLASSES];
+        enumerateHeadsUp(holdings, classes, wins, ties);
+        logger.info("Heads-up enumeration done");
+
+        float[] win = new float[NUM_CLASSES * MAX_OPPONENTS];
+        float[] tie = new float[NUM_CLASSES * MAX_OPPONENTS];
+        float[] headsUp = new float[NUM_CLASSES * NUM_CLASSES];
+        for (int a = 0; a < NUM_CLASSES; a++) {
+            long classWins = 0;
+            long classTies = 0;
+            long classTotal = 0;
+            for (int b = 0; b < NUM_CLASSES; b++) {
+                long w = wins[a * NUM_CLASSES + b];
+                long t = ties[a * NUM_CLASSES + b];
+                long total = w + t + wins[b * NUM_CLASSES + a];
+                headsUp[a * NUM_CLASSES + b] = (float) ((w + t / 2.0) / total);
+                classWins += w;
+                classTies += t;
+                classTotal += total;
+            }
+            win[a * MAX_OPPONENTS] = (float) ((double) classWins / classTotal);
+            tie[a * MAX_OPPONENTS] = (float) ((double) classTies / classTotal);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        float[] handTypes = new float[NUM_CLASSES * NUM_HAND_TYPES];
+        for (int c = 0; c < NUM_CLASSES; c++) {
+            long hero = holdings[representative[c]];
+            simulateMultiway(hero, samples, random, c, win, tie);
+            enumerateHandTypes(hero, c, handTypes);
+        }
+        logger.info("Multiway simulation done");
+
+        ByteBuffer out = ByteBuffer.allocate(FILE_BYTES);
+        out.putInt(MAGIC).putInt(VERSION).putInt(NUM_CLASSES).putInt(MAX_OPPONENTS);
+        put(out, win);
+        put(out, tie);
+        put(out, handTypes);
+        put(out, headsUp);
+        return out.array();
+    }
+
+    private static void put(ByteBuffer out, float[] values) {
+        for (float value : values) {
+            out.putFloat(value);
+        }
+    }
+
+    /**
+     * Every pair of non-overlapping holdings on every board. Boards that differ
+     * only by a suit permutation give the same class results, so each
+     * suit-distinct board is scored once and weighted by how many boards it
+     * stands for (134,459 boards instead of 2,598,960).
+     */
+    private static void enumerateHeadsUp(long[] holdings, int[] classes, long[] wins, long[] ties) {
+        Map<Long, Integer> boards = new HashMap<>();
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            long board = (1L << a) | (1L << b) | (1L << c) | (1L << d) | (1L << e);
+                            boards.merge(canonical(board), 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        int[] live = new int[NUM_HOLDINGS];
+        long[] liveMasks = new long[NUM_HOLDINGS];
+        int[] scores = new int[NUM_HOLDINGS];
+        for (Map.Entry<Long, Integer> entry : boards.entrySet()) {
+            long board = entry.getKey();
+            int weight = entry.getValue();
+            int count = 0;
+            for (int h = 0; h < NUM_HOLDINGS; h++) {
+                if ((holdings[h] & board) == 0) {
+                    live[count] = classes[h];
+                    liveMasks[count] = holdings[h];
+                    scores[count] = LookupHandEvaluator.getScore(holdings[h] | board);
+                    count++;
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                long mask = liveMasks[i];
+                int score = scores[i];
+                int row = live[i] * NUM_CLASSES;
+                for (int j = i + 1; j < count; j++) {
+                    if ((liveMasks[j] & mask) != 0) {
+                        continue;
+                    }
+                    if (score > scores[j]) {
+                        wins[row + live[j]] += weight;
+                    } else if (score < scores[j]) {
+                        wins[live[j] * NUM_CLASSES + live[i]] += weight;
+                    } else {
+                        ties[row + live[j]] += weight;
+                        ties[live[j] * NUM_CLASSES + live[i]] += weight;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Board mask with its suits reordered by their rank sets, which is the same
+     * for every suit permutation of the board.
+     */
+    private static long canonical(long board) {
+        long[] suits = new long[4];
+        for (int suit = 0; suit < 4; suit++) {
+            for (int rank = 0; rank < 13; rank++) {
+                if ((board & (1L << (rank * 4 + suit))) != 0) {
+                    suits[suit] |= 1L << rank;
+                }
+            }
+        }
+        Arrays.sort(suits);
+        long canonical = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            for (int rank = 0; rank < 13; rank++) {
+                if ((suits[suit] & (1L << rank)) != 0) {
+                    canonical |= 1L << (rank * 4 + suit);
+                }
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * Deal a board and nine opponents per sample; the first {@code k} opponents
+     * give the {@code k} opponent result, so one deal serves every count.
+     */
+    private static void simulateMultiway(long hero, int samples, SplittableRandom random, int handClass, float[] win,
+            float[] tie) {
+        int[] deck = new int[50];
+        int size = 0;
+        for (int i = 0; i < 52; i++) {
+            if ((hero & (1L << i)) == 0) {
+                deck[size++] = i;
+            }
+        }
+        int dealt = 5 + 2 * MAX_OPPONENTS;
+        long[] wins = new long[MAX_OPPONENTS + 1];
+        long[] ties = new long[MAX_OPPONENTS + 1];
+        for (int s = 0; s < samples; s++) {
+            for (int i = 0; i < dealt; i++) {
+                int swap = i + random.nextInt(size - i);
+                int card = deck[swap];
+                deck[swap] = deck[i];
+                deck[i] = card;
+            }
+            long board = (1L << deck[0]) | (1L << deck[1]) | (1L << deck[2]) | (1L << deck[3]) | (1L << deck[4]);
+            int heroScore = LookupHandEvaluator.getScore(hero | board);
+            int best = 0;
+            for (int k = 1; k <= MAX_OPPONENTS; k++) {
+                int opp = LookupHandEvaluator.getScore((1L << deck[3 + 2 * k]) | (1L << deck[4 + 2 * k]) | board);
+                if (opp > heroScore) {
+                    break;
+                }
+                best = Math.max(best, opp);
+                if (heroScore > best) {
+                    wins[k]++;
+                } else {
+                    ties[k]++;
+                }
+            }
+        }
+        // one opponent comes from the exact enumeration
+        for (int k = 2; k <= MAX_OPPONENTS; k++) {
+            win[handClass * MAX_OPPONENTS + k - 1] = (float) ((double) wins[k] / samples);
+            tie[handClass * MAX_OPPONENTS + k - 1] = (float) ((double) ties[k] / samples);
+        }
+    }
+
+    /**
+     * Final hand type over every board, which is the same for every member of a
+     * class.
+     */
+    private static void enumerateHandTypes(long hero, int handClass, float[] handTypes) {
+        long[] counts = new long[NUM_HAND_TYPES];
+        long total = 0;
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            long board = (1L << a) | (1L << b) | (1L << c) | (1L << d) | (1L << e);
+                            if ((board & hero) == 0) {
+                                counts[LookupHandEvaluator.getScore(hero | board) / HandScoreConstants.SCORE_BASE]++;
+                                total++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        for (int type = 0; type < NUM_HAND_TYPES; type++) {
+            handTypes[handClass * NUM_HAND_TYPES + type] = (float) ((double) counts[type] / total);
+        }
+    }
+}
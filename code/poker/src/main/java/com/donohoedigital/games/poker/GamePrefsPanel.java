@@ -517,6 +517,8 @@ public class GamePrefsPanel extends DDPanel implements ActionListener {
             if (Utils.ISWINDOWS)
                 OptionMenu.add(new OptionBoolean(NODE, PokerClientConstants.OPTION_ONLINE_FRONT, OSTYLE, map_, true),
                         miscoptions);
+            OptionMenu.add(new OptionBoolean(NODE, PokerClientConstants.OPTION_ONLINE_BINARY, OSTYLE, map_, true),
+                    miscoptions);
 
             // buttons
             DDButton bannedplayers = new GlassButton("bannedplayers", "Glass");
@@ -89,6 +89,7 @@ public class PokerClientConstants {
 
     public static final String OPTION_ONLINE_AUDIO = "onlineaudio";
     public static final String OPTION_ONLINE_FRONT = "onlinefront";
+    public static final String OPTION_ONLINE_BINARY = "onlinebinary";
     public static final String OPTION_ONLINE_COUNTDOWN = "countdown";
     public static final String OPTION_ONLINE_CHAT = "onlinechat";
 
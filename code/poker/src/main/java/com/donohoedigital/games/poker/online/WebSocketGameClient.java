@@ -19,6 +19,7 @@ package com.donohoedigital.games.poker.online;
 
 import com.donohoedigital.games.poker.protocol.message.ClientMessageType;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -26,9 +27,11 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -58,7 +61,9 @@ public class WebSocketGameClient {
     private static final int MAX_RECONNECT_ATTEMPTS = 10;
 
     private final ObjectMapper objectMapper;
+    private final ObjectMapper binaryMapper;
     private final HttpClient httpClient;
+    private volatile WireEncoding encoding = WireEncoding.JSON;
 
     private Consumer<InboundMessage> messageHandler;
     private volatile WebSocket webSocket;
@@ -99,6 +104,7 @@ public class WebSocketGameClient {
     // Visible for testing
     WebSocketGameClient(ObjectMapper objectMapper, HttpClient httpClient, ScheduledExecutorService scheduler) {
         this.objectMapper = objectMapper;
+        this.binaryMapper = WireEncoding.CBOR.mapperFor(objectMapper);
         this.httpClient = httpClient;
         this.scheduler = scheduler;
     }
@@ -111,6 +117,14 @@ public class WebSocketGameClient {
         this.messageHandler = handler;
     }
 
+    /**
+     * Sets the encoding requested from the server for both directions. Takes
+     * effect on the next {@link #connect}.
+     */
+    public void setEncoding(WireEncoding encoding) {
+        this.encoding = encoding;
+    }
+
     /**
      * Connects to the game server WebSocket endpoint.
      *
@@ -281,7 +295,13 @@ public class WebSocketGameClient {
     // -------------------------------------------------------------------------
 
     private String buildWsUrl(String token) {
-        return "ws://" + serverHost + ":" + serverPort + "/ws/games/" + gameId + "?token=" + token;
+        // stateDeltas: game state updates arrive as GAME_STATE_DELTA patches
+        String url = "ws://" + serverHost + ":" + serverPort + "/ws/games/" + gameId + "?token=" + token
+                + "&stateDeltas=1";
+        if (encoding.isBinary()) {
+            url += "&" + WireEncoding.QUERY_PARAM + "=" + encoding.queryValue();
+        }
+        return url;
     }
 
     private CompletableFuture<Void> openConnection() {
@@ -305,9 +325,12 @@ public class WebSocketGameClient {
             long seq = sequenceCounter.incrementAndGet();
             envelope.put("sequenceNumber", seq);
             envelope.set("data", objectMapper.valueToTree(data));
-            String json = objectMapper.writeValueAsString(envelope);
-            logger.debug("[WS-SEND] type={} seq={} json={}", type, seq, json);
-            webSocket.sendText(json, true);
+            logger.debug("[WS-SEND] type={} seq={} json={}", type, seq, envelope);
+            if (encoding.isBinary()) {
+                webSocket.sendBinary(ByteBuffer.wrap(binaryMapper.writeValueAsBytes(envelope)), true);
+            } else {
+                webSocket.sendText(objectMapper.writeValueAsString(envelope), true);
+            }
         } catch (Exception e) {
             logger.error("Failed to send {} message", type, e);
         }
@@ -328,10 +351,13 @@ public class WebSocketGameClient {
 
         // Use the reconnect token (24h, game-scoped) instead of the original
         // ws-connect JWT which is single-use and short-lived (60s).
+        // Present the last broadcast seen so the server can replay only what was
+        // missed instead of sending a full snapshot.
         String token = this.reconnectToken;
         if (token != null) {
-            this.wsUrl = buildWsUrl(token);
-            logger.info("WebSocket disconnected, scheduling reconnect with reconnect token");
+            long lastSeq = lastReceivedSequence.get();
+            this.wsUrl = buildWsUrl(token) + (lastSeq > 0 ? "&lastSeq=" + lastSeq : "");
+            logger.info("WebSocket disconnected, scheduling reconnect with reconnect token (lastSeq={})", lastSeq);
         } else {
             logger.info("WebSocket disconnected, scheduling reconnect (no reconnect token available)");
         }
@@ -358,8 +384,8 @@ public class WebSocketGameClient {
                             reconnecting.set(false);
                     } else {
                         // No explicit state request needed — the server sends
-                        // CONNECTED + GAME_STATE on every new WebSocket connection
-                        // (GameWebSocketHandler.afterConnectionEstablished).
+                        // CONNECTED followed by either the missed broadcasts or a
+                        // GAME_STATE (GameWebSocketHandler.afterConnectionEstablished).
                         reconnected.set(true);
                         reconnecting.set(false);
                     }
@@ -396,6 +422,7 @@ public class WebSocketGameClient {
     private class GameWebSocketListener implements WebSocket.Listener {
 
         private final StringBuilder textAccumulator = new StringBuilder();
+        private final ByteArrayOutputStream binaryAccumulator = new ByteArrayOutputStream();
 
         @Override
         public void onOpen(WebSocket webSocket) {
@@ -410,7 +437,29 @@ public class WebSocketGameClient {
             if (last) {
                 String json = textAccumulator.toString();
                 textAccumulator.setLength(0);
-                dispatch(json);
+                try {
+                    dispatch(objectMapper.readTree(json));
+                } catch (Exception e) {
+                    logger.error("Failed to parse inbound message: {}", json, e);
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+            byte[] chunk = new byte[data.remaining()];
+            data.get(chunk);
+            binaryAccumulator.writeBytes(chunk);
+            if (last) {
+                byte[] bytes = binaryAccumulator.toByteArray();
+                binaryAccumulator.reset();
+                try {
+                    dispatch(binaryMapper.readTree(bytes));
+                } catch (Exception e) {
+                    logger.error("Failed to parse inbound binary message ({} bytes)", bytes.length, e);
+                }
             }
             webSocket.request(1);
             return null;
@@ -429,11 +478,10 @@ public class WebSocketGameClient {
             handleReconnect();
         }
 
-        private void dispatch(String json) {
+        private void dispatch(JsonNode root) {
             if (messageHandler == null)
                 return;
             try {
-                JsonNode root = objectMapper.readTree(json);
                 String typeName = root.path("type").asText();
                 String msgGameId = root.path("gameId").asText();
                 JsonNode data = root.path("data");
@@ -444,6 +492,13 @@ public class WebSocketGameClient {
                         : null;
                 logger.debug("[WS-RAW] type={} gameId={} seq={}", typeName, msgGameId, seq);
 
+                ServerMessageType type = ServerMessageType.valueOf(typeName);
+                if (type == ServerMessageType.CONNECTED && data.hasNonNull("lastSequence")) {
+                    // Sequenced messages on this connection continue from here (a
+                    // resume replays from it; a snapshot covers everything before it)
+                    lastReceivedSequence.set(data.get("lastSequence").asLong());
+                }
+
                 if (seq != null) {
                     long prev = lastReceivedSequence.get();
                     if (prev > 0 && seq > prev + 1) {
@@ -458,10 +513,9 @@ public class WebSocketGameClient {
                     lastReceivedSequence.set(seq);
                 }
 
-                ServerMessageType type = ServerMessageType.valueOf(typeName);
                 messageHandler.accept(new InboundMessage(type, msgGameId, data, seq));
             } catch (Exception e) {
-                logger.error("Failed to dispatch inbound message: {}", json, e);
+                logger.error("Failed to dispatch inbound message: {}", root, e);
             }
         }
     }
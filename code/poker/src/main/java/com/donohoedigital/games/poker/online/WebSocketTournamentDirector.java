@@ -31,11 +31,15 @@ import com.donohoedigital.games.poker.PokerClientConstants;
 import com.donohoedigital.games.poker.display.ClientHandScoreConstants;
 import com.donohoedigital.games.poker.protocol.constants.ProtocolConstants;
 import com.donohoedigital.games.poker.event.PokerTableEvent;
+import com.donohoedigital.games.poker.protocol.message.GameStatePatch;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageData;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageData.*;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -134,6 +138,12 @@ public class WebSocketTournamentDirector extends BasePhase
     // Most recent full GAME_STATE payload from the server.
     private volatile GameStateData latestGameState_;
 
+    // State the server's GAME_STATE_DELTA messages apply to, and its version
+    // (0 when the last state did not come from a delta, so only a keyframe fits).
+    // Only touched on the WebSocket receive thread.
+    private ObjectNode deltaBaseState_;
+    private long deltaBaseVersion_;
+
     // Scheduler for rebuy/addon decline timeouts (Gap 1: prevent server deadlock
     // when user ignores the rebuy/addon button in the Swing UI).
     private final ScheduledExecutorService declineScheduler_ = Executors.newSingleThreadScheduledExecutor(r -> {
@@ -197,6 +207,9 @@ public class WebSocketTournamentDirector extends BasePhase
         jwt_ = config.jwt();
 
         wsClient_.setMessageHandler(this::onMessage);
+        wsClient_.setEncoding(PokerUtils.isOptionOn(PokerClientConstants.OPTION_ONLINE_BINARY)
+                ? WireEncoding.CBOR
+                : WireEncoding.JSON);
         wsClient_.connect(serverHost_, serverPort_, gameId_, jwt_);
 
         // Route player UI actions to WebSocket; hide buttons immediately on click.
@@ -442,8 +455,13 @@ public class WebSocketTournamentDirector extends BasePhase
                 }
                 case GAME_STATE -> {
                     GameStateData d = parse(data, GameStateData.class);
+                    deltaBaseVersion_ = 0;
                     onGameState(d);
                 }
+                case GAME_STATE_DELTA -> {
+                    GameStateDeltaData d = parse(data, GameStateDeltaData.class);
+                    onGameStateDelta(d);
+                }
                 case HAND_STARTED -> {
                     HandStartedData d = parse(data, HandStartedData.class);
                     onHandStarted(d);
@@ -665,6 +683,24 @@ public class WebSocketTournamentDirector extends BasePhase
         }
     }
 
+    private void onGameStateDelta(GameStateDeltaData d) throws JsonProcessingException {
+        if (d.baseVersion() != 0 && (d.baseVersion() != deltaBaseVersion_ || deltaBaseState_ == null)) {
+            // The delta was computed against a state we no longer hold (e.g. a plain
+            // GAME_STATE arrived in between); the server answers with a full state
+            // and restarts deltas from a keyframe.
+            logger.debug("[GAME_STATE_DELTA] base {} does not match held version {}; requesting state",
+                    d.baseVersion(), deltaBaseVersion_);
+            deltaBaseVersion_ = 0;
+            wsClient_.sendRequestState();
+            return;
+        }
+        ObjectNode base = d.baseVersion() == 0 ? objectMapper.createObjectNode() : deltaBaseState_;
+        ObjectNode state = GameStatePatch.apply(base, (ObjectNode) d.patch());
+        deltaBaseState_ = state;
+        deltaBaseVersion_ = d.version();
+        onGameState(objectMapper.treeToValue(state, GameStateData.class));
+    }
+
     private void onGameState(GameStateData d) {
         latestGameState_ = d;
         logger.debug("[GAME_STATE] status={} level={} tables={} players={}", d.status(), d.level(),
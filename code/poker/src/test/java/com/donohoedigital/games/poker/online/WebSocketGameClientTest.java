@@ -22,6 +22,7 @@ package com.donohoedigital.games.poker.online;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.timeout;
@@ -31,11 +32,16 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -154,14 +160,128 @@ class WebSocketGameClientTest {
             client.connect("game.example.com", 9090, "abc", "tok").join();
 
             // Capture the URI that was passed to buildAsync
-            org.mockito.ArgumentCaptor<URI> uriCaptor = org.mockito.ArgumentCaptor.forClass(URI.class);
+            ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
             verify(builder).buildAsync(uriCaptor.capture(), any(WebSocket.Listener.class));
 
             URI uri = uriCaptor.getValue();
             assertThat(uri.getHost()).isEqualTo("game.example.com");
             assertThat(uri.getPort()).isEqualTo(9090);
             assertThat(uri.getPath()).isEqualTo("/ws/games/abc");
-            assertThat(uri.getQuery()).isEqualTo("token=tok");
+            assertThat(uri.getQuery()).isEqualTo("token=tok&stateDeltas=1");
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    void should_PresentLastSequence_When_Reconnecting() {
+        // Verifies that a reconnect tells the server the last broadcast the client
+        // saw, so the server can replay just the missed events instead of a snapshot.
+        HttpClient httpClient = mock(HttpClient.class);
+        WebSocket.Builder builder = mock(WebSocket.Builder.class);
+        when(httpClient.newWebSocketBuilder()).thenReturn(builder);
+
+        WebSocket connectedWs = mock(WebSocket.class);
+        when(builder.buildAsync(any(URI.class), any(WebSocket.Listener.class)))
+                .thenReturn(CompletableFuture.completedFuture(connectedWs));
+
+        WebSocketGameClient client = new WebSocketGameClient(new ObjectMapper().registerModule(new JavaTimeModule()),
+                httpClient);
+        try {
+            client.connect("localhost", 11885, "game-1", "jwt-1").join();
+            ArgumentCaptor<WebSocket.Listener> listenerCaptor = ArgumentCaptor.forClass(WebSocket.Listener.class);
+            verify(builder).buildAsync(any(URI.class), listenerCaptor.capture());
+
+            client.setReconnectToken("reconnect-tok");
+            client.setLastReceivedSequenceForTest(17);
+            listenerCaptor.getValue().onClose(connectedWs, 1006, "dropped");
+
+            ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
+            verify(builder, timeout(3000).times(2)).buildAsync(uriCaptor.capture(), any(WebSocket.Listener.class));
+            assertThat(uriCaptor.getValue().getQuery()).isEqualTo("token=reconnect-tok&stateDeltas=1&lastSeq=17");
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    void should_ContinueFromServerSequence_When_ConnectedReceived() {
+        // Verifies that the CONNECTED message sets the sequence baseline, so the
+        // first broadcast after a snapshot or replay is not mistaken for a gap.
+        HttpClient httpClient = mock(HttpClient.class);
+        WebSocket.Builder builder = mock(WebSocket.Builder.class);
+        when(httpClient.newWebSocketBuilder()).thenReturn(builder);
+
+        WebSocket connectedWs = mock(WebSocket.class);
+        when(builder.buildAsync(any(URI.class), any(WebSocket.Listener.class)))
+                .thenReturn(CompletableFuture.completedFuture(connectedWs));
+
+        WebSocketGameClient client = new WebSocketGameClient(new ObjectMapper().registerModule(new JavaTimeModule()),
+                httpClient);
+        List<WebSocketGameClient.InboundMessage> received = new ArrayList<>();
+        client.setMessageHandler(received::add);
+        try {
+            client.connect("localhost", 11885, "game-1", "jwt-1").join();
+            ArgumentCaptor<WebSocket.Listener> listenerCaptor = ArgumentCaptor.forClass(WebSocket.Listener.class);
+            verify(builder).buildAsync(any(URI.class), listenerCaptor.capture());
+            WebSocket.Listener listener = listenerCaptor.getValue();
+
+            listener.onText(connectedWs,
+                    "{\"type\":\"CONNECTED\",\"gameId\":\"game-1\",\"data\":{\"playerId\":1,\"lastSequence\":40}}",
+                    true);
+            listener.onText(connectedWs,
+                    "{\"type\":\"CHAT_MESSAGE\",\"gameId\":\"game-1\",\"sequenceNumber\":41,\"data\":{}}", true);
+
+            assertThat(client.getLastReceivedSequenceForTest()).isEqualTo(41);
+            assertThat(received).extracting(WebSocketGameClient.InboundMessage::sequenceNumber).containsExactly(null,
+                    41L);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    void should_UseCborFrames_When_BinaryEncodingSelected() throws Exception {
+        // Verifies that a client asking for CBOR says so in the URL, decodes binary
+        // frames (even when fragmented) and sends its own messages as binary.
+        HttpClient httpClient = mock(HttpClient.class);
+        WebSocket.Builder builder = mock(WebSocket.Builder.class);
+        when(httpClient.newWebSocketBuilder()).thenReturn(builder);
+
+        WebSocket connectedWs = mock(WebSocket.class);
+        when(builder.buildAsync(any(URI.class), any(WebSocket.Listener.class)))
+                .thenReturn(CompletableFuture.completedFuture(connectedWs));
+
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ObjectMapper cbor = WireEncoding.CBOR.mapperFor(mapper);
+        WebSocketGameClient client = new WebSocketGameClient(mapper, httpClient);
+        client.setEncoding(WireEncoding.CBOR);
+        List<WebSocketGameClient.InboundMessage> received = new ArrayList<>();
+        client.setMessageHandler(received::add);
+        try {
+            client.connect("localhost", 11885, "game-1", "jwt-1").join();
+            ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
+            ArgumentCaptor<WebSocket.Listener> listenerCaptor = ArgumentCaptor.forClass(WebSocket.Listener.class);
+            verify(builder).buildAsync(uriCaptor.capture(), listenerCaptor.capture());
+            assertThat(uriCaptor.getValue().getQuery()).isEqualTo("token=jwt-1&stateDeltas=1&encoding=cbor");
+
+            byte[] frame = cbor.writeValueAsBytes(mapper.readTree("{\"type\":\"CHAT_MESSAGE\",\"gameId\":\"game-1\","
+                    + "\"sequenceNumber\":1,\"data\":{\"message\":\"hi\"}}"));
+            int half = frame.length / 2;
+            WebSocket.Listener listener = listenerCaptor.getValue();
+            listener.onBinary(connectedWs, ByteBuffer.wrap(frame, 0, half), false);
+            listener.onBinary(connectedWs, ByteBuffer.wrap(frame, half, frame.length - half), true);
+
+            assertThat(received).hasSize(1);
+            assertThat(received.get(0).data().get("message").asText()).isEqualTo("hi");
+
+            client.sendRequestState();
+            ArgumentCaptor<ByteBuffer> sent = ArgumentCaptor.forClass(ByteBuffer.class);
+            verify(connectedWs).sendBinary(sent.capture(), eq(true));
+            ByteBuffer buf = sent.getValue();
+            byte[] bytes = new byte[buf.remaining()];
+            buf.get(bytes);
+            assertThat(cbor.readTree(bytes).get("type").asText()).isEqualTo("REQUEST_STATE");
         } finally {
             client.disconnect();
         }
@@ -78,6 +78,33 @@ class WebSocketTournamentDirectorTest {
         Mockito.verify(mockGame).setLevel(3);
     }
 
+    // -------------------------------------------------------------------------
+    // GAME_STATE_DELTA
+    // -------------------------------------------------------------------------
+
+    @Test
+    void gameStateDeltaAppliesPatchToKeyframe() throws Exception {
+        dispatch(ServerMessageType.GAME_STATE_DELTA, gameStateDelta(1, 0, buildGameState(1, 3)));
+        Mockito.verify(mockGame).setLevel(3);
+
+        ObjectNode patch = mapper.createObjectNode();
+        patch.put("level", 4);
+        dispatch(ServerMessageType.GAME_STATE_DELTA, gameStateDelta(2, 1, patch));
+        Mockito.verify(mockGame).setLevel(4);
+    }
+
+    @Test
+    void gameStateDeltaIgnoredWhenBaseVersionUnknown() throws Exception {
+        dispatch(ServerMessageType.GAME_STATE_DELTA, gameStateDelta(1, 0, buildGameState(1, 3)));
+        // A plain GAME_STATE replaces the state the server's deltas were based on
+        dispatch(ServerMessageType.GAME_STATE, buildGameState(1, 3));
+
+        ObjectNode patch = mapper.createObjectNode();
+        patch.put("level", 4);
+        dispatch(ServerMessageType.GAME_STATE_DELTA, gameStateDelta(2, 1, patch));
+        Mockito.verify(mockGame, Mockito.never()).setLevel(4);
+    }
+
     // -------------------------------------------------------------------------
     // LEVEL_CHANGED
     // -------------------------------------------------------------------------
@@ -442,6 +469,14 @@ class WebSocketTournamentDirectorTest {
         return gs;
     }
 
+    /** Builds a GAME_STATE_DELTA JSON. */
+    private ObjectNode gameStateDelta(long version, long baseVersion, ObjectNode patch) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("version", version).put("baseVersion", baseVersion);
+        node.set("patch", patch);
+        return node;
+    }
+
     /** Builds a HAND_STARTED JSON. */
     private ObjectNode handStarted(int dealerSeat, int smallBlindSeat, int bigBlindSeat) {
         ObjectNode node = mapper.createObjectNode();
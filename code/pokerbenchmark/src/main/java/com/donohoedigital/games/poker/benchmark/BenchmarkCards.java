@@ -0,0 +1,49 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import com.donohoedigital.games.poker.engine.Card;
+import com.donohoedigital.games.poker.engine.Hand;
+
+/**
+ * Fixed benchmark inputs written as card strings.
+ */
+public final class BenchmarkCards {
+
+    private BenchmarkCards() {
+    }
+
+    /**
+     * @param cards
+     *            space-separated cards, e.g. {@code "Ah Kd 7c"}
+     * @return a hand holding those cards
+     */
+    public static Hand hand(String cards) {
+        Hand hand = new Hand();
+        for (String card : cards.trim().split("\\s+")) {
+            Card c = Card.getCard(card);
+            if (c == null) {
+                throw new IllegalArgumentException("Invalid card: " + card);
+            }
+            hand.addCard(c);
+        }
+        return hand;
+    }
+}
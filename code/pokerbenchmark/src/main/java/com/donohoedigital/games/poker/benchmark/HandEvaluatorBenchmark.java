@@ -0,0 +1,91 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.games.poker.engine.Card;
+import com.donohoedigital.games.poker.engine.Deck;
+import com.donohoedigital.games.poker.engine.Hand;
+import com.donohoedigital.games.poker.engine.HandInfoFaster;
+import com.donohoedigital.games.poker.gameserver.ServerHandEvaluator;
+
+/**
+ * Seven-card hand scoring: {@link HandInfoFaster#getScore} (client and AI) and
+ * {@link ServerHandEvaluator#getScore} (server showdowns), over the same fixed
+ * set of random river deals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HandEvaluatorBenchmark {
+
+    /** Deals cycled through; a power of two so the index is a mask. */
+    private static final int DEALS = 1024;
+
+    private final Hand[] pockets = new Hand[DEALS];
+    private final Hand[] boards = new Hand[DEALS];
+    private final List<List<Card>> pocketLists = new ArrayList<>(DEALS);
+    private final List<List<Card>> boardLists = new ArrayList<>(DEALS);
+
+    private final HandInfoFaster handInfo = new HandInfoFaster();
+    private final ServerHandEvaluator serverEvaluator = new ServerHandEvaluator();
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < DEALS; i++) {
+            Deck deck = new Deck(true, 1000 + i);
+            pockets[i] = new Hand(deck.nextCard(), deck.nextCard());
+            boards[i] = new Hand(deck.nextCard(), deck.nextCard(), deck.nextCard(), deck.nextCard(),
+                    deck.nextCard());
+            pocketLists.add(List.copyOf(pockets[i]));
+            boardLists.add(List.copyOf(boards[i]));
+        }
+    }
+
+    @Benchmark
+    public int handInfoFaster() {
+        int i = next++ & (DEALS - 1);
+        return handInfo.getScore(pockets[i], boards[i]);
+    }
+
+    @Benchmark
+    public int serverHandEvaluator() {
+        int i = next++ & (DEALS - 1);
+        return serverEvaluator.getScore(pocketLists.get(i), boardLists.get(i));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.comms.DMTypedHashMap;
+import com.donohoedigital.games.poker.engine.PokerConstants;
+import com.donohoedigital.games.poker.model.PayoutCalculator;
+
+/**
+ * Computing the whole payout table of a percentage-allocated tournament, as
+ * done for every elimination and results display. First place is paid the
+ * remainder, so it recomputes every other spot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PayoutCalculatorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int spots;
+
+    private PayoutCalculator calculator;
+    private int prizePool;
+
+    @Setup
+    public void setUp() {
+        DMTypedHashMap map = new DMTypedHashMap();
+        map.setInteger("payout", PokerConstants.PAYOUT_SPOTS);
+        map.setInteger("alloc", PokerConstants.ALLOC_PERC);
+        map.setInteger("payoutspots", spots);
+        // a flat-ish percentage curve; the values only need to be valid
+        for (int i = 2; i <= spots; i++) {
+            map.setString("spotamount" + i, String.valueOf(50.0 / spots));
+        }
+        calculator = new PayoutCalculator(map);
+        prizePool = calculator.getPrizePool(spots * 10, 100);
+    }
+
+    @Benchmark
+    public int payoutTable() {
+        int total = 0;
+        for (int position = 1; position <= spots; position++) {
+            total += calculator.getPayout(position, spots, prizePool);
+        }
+        return total;
+    }
+}
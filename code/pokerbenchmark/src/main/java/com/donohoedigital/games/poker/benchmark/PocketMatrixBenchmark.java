@@ -0,0 +1,76 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.games.poker.core.ai.PocketRanks;
+import com.donohoedigital.games.poker.core.ai.PocketScores;
+import com.donohoedigital.games.poker.engine.Hand;
+
+/**
+ * Construction of the per-board {@link PocketScores} and {@link PocketRanks}
+ * matrices, i.e. the cost of a board cache miss. Both caches are cleared before
+ * each operation so every call builds from scratch; {@code ranks} includes the
+ * scores it is built from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class PocketMatrixBenchmark {
+
+    @Param({"Ah Kd 7c", "Ah Kd 7c 2s", "Ah Kd 7c 2s 9h"})
+    public String board;
+
+    private Hand community;
+
+    @Setup
+    public void setUp() {
+        community = BenchmarkCards.hand(board);
+    }
+
+    @Benchmark
+    public PocketScores scores() {
+        PocketScores.clearCache();
+        return PocketScores.getInstance(community);
+    }
+
+    @Benchmark
+    public PocketRanks ranks() {
+        PocketRanks.clearCache();
+        PocketScores.clearCache();
+        return PocketRanks.getInstance(community);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.BlindsData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.GameStateData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PlayerActedData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PlayerSummaryData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PotData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.SeatData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.TableData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Encoding outbound WebSocket messages: a full GAME_STATE of a 100-player,
+ * 10-table tournament (the largest regular message) and a PLAYER_ACTED (the
+ * most frequent one), in each {@link WireEncoding}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ServerMessageSerializationBenchmark {
+
+    @Param({"JSON", "CBOR"})
+    public WireEncoding encoding;
+
+    private ObjectMapper mapper;
+    private ServerMessage gameState;
+    private ServerMessage playerActed;
+
+    @Setup
+    public void setUp() {
+        // configured like the server's Spring Boot mapper
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = encoding.mapperFor(json);
+
+        List<TableData> tables = new ArrayList<>();
+        List<PlayerSummaryData> players = new ArrayList<>();
+        long playerId = 1;
+        for (int t = 1; t <= 10; t++) {
+            List<SeatData> seats = new ArrayList<>();
+            List<Long> eligible = new ArrayList<>();
+            for (int s = 0; s < 10; s++, playerId++) {
+                seats.add(new SeatData(s, playerId, "Player " + playerId, 12_500, "ACTIVE", s == 0, s == 1, s == 2,
+                        s == 2 ? 400 : 0, s == 3 ? List.of("Ah", "Kd") : List.of(), s == 3));
+                players.add(new PlayerSummaryData(playerId, "Player " + playerId, 12_500, t, s, null));
+                eligible.add(playerId);
+            }
+            tables.add(new TableData(t, seats, List.of("Qh", "7h", "2c"), List.of(new PotData(1_200, eligible)),
+                    "FLOP", 42));
+        }
+        gameState = ServerMessage.of(ServerMessageType.GAME_STATE, "benchmark-game",
+                new GameStateData("IN_PROGRESS", 4, new BlindsData(200, 400, 25), 180_000L, tables, players, 100,
+                        100, 10, 37));
+        playerActed = ServerMessage.of(ServerMessageType.PLAYER_ACTED, "benchmark-game",
+                new PlayerActedData(7, "Player 7", "RAISE", 1_200, 1_600, 10_900, 3_400, 3));
+    }
+
+    @Benchmark
+    public byte[] gameState() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(gameState);
+    }
+
+    @Benchmark
+    public byte[] playerActed() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(playerActed);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.games.poker.gameserver.PokerSimulationService;
+import com.donohoedigital.games.poker.protocol.dto.SimulationResult;
+
+/**
+ * Equity requests as the calculator endpoint runs them, on the service's worker
+ * pool. {@code parallelism} 1 gives a per-core baseline that does not depend on
+ * the machine's core count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SimulationBenchmark {
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private PokerSimulationService service;
+
+    @Setup
+    public void setUp() {
+        service = new PokerSimulationService(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    /** AKo against QQ and two random hands, 10,000 Monte Carlo deals. */
+    @Benchmark
+    public SimulationResult preflopMonteCarlo() {
+        return service.simulate(List.of("Ah", "Kd"), List.of(), 3, 10_000, List.of(List.of("Qs", "Qc")), false);
+    }
+
+    /** AKo against three random hands, answered from the preflop equity table. */
+    @Benchmark
+    public SimulationResult preflopTable() {
+        return service.simulate(List.of("Ah", "Kd"), List.of(), 3, 10_000, null, false);
+    }
+
+    /** Flush draw on the flop against one random hand, every turn and river. */
+    @Benchmark
+    public SimulationResult flopExhaustive() {
+        return service.simulate(List.of("Ah", "Kh"), List.of("Qh", "7h", "2c"), 1, null, null, true);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.games.poker.core.PlayerActionProvider;
+import com.donohoedigital.games.poker.core.TournamentEngine;
+import com.donohoedigital.games.poker.engine.PlayerAction;
+import com.donohoedigital.games.poker.engine.event.GameEvent;
+import com.donohoedigital.games.poker.gameserver.GameServerProperties;
+import com.donohoedigital.games.poker.gameserver.InMemoryGameEventStore;
+import com.donohoedigital.games.poker.gameserver.ServerGameEventBus;
+import com.donohoedigital.games.poker.gameserver.ServerPlayer;
+import com.donohoedigital.games.poker.gameserver.ServerPlayerActionProvider;
+import com.donohoedigital.games.poker.gameserver.ServerTournamentContext;
+import com.donohoedigital.games.poker.gameserver.ServerTournamentDirector;
+import com.donohoedigital.games.poker.model.LevelAdvanceMode;
+
+/**
+ * Whole practice tournaments run headless through
+ * {@link ServerTournamentDirector} with no AI delays: the server's hand loop,
+ * event bus and event store. Players act from a seeded random choice of their
+ * legal actions, so AI cost is left out and every run plays the same hands.
+ * Besides time per tournament, the {@code hands} counter reports hands per
+ * second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@State(Scope.Thread)
+public class TournamentDirectorBenchmark {
+
+    @Param({"10", "60"})
+    public int players;
+
+    /** Hands dealt, reported per second alongside the tournament rate. */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long hands;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hands = 0;
+        }
+    }
+
+    private final GameServerProperties properties = new GameServerProperties(50, 30, 120, 10, 1000, 3, 2, 5, 5, 24,
+            7, "ws://localhost", 0);
+    private long seed;
+
+    @Benchmark
+    public int tournament(Counters counters) {
+        List<ServerPlayer> field = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            ServerPlayer player = new ServerPlayer(i + 1, "Player" + (i + 1), false, 5, 500);
+            player.setSeat(i);
+            field.add(player);
+        }
+        ServerTournamentContext tournament = new ServerTournamentContext(field, (players + 9) / 10, 500,
+                new int[]{50, 100, 200, 400, 800, 1600}, new int[]{100, 200, 400, 800, 1600, 3200},
+                new int[]{25, 50, 100, 200, 400, 800}, new int[]{20, 20, 20, 20, 20, 20}, new boolean[6], true, 0, 0,
+                false, 0, LevelAdvanceMode.HANDS, 2);
+
+        ServerGameEventBus eventBus = new ServerGameEventBus(new InMemoryGameEventStore("benchmark-" + seed));
+        eventBus.subscribe(event -> {
+            if (event instanceof GameEvent.HandStarted) {
+                counters.hands++;
+            }
+        });
+        ServerPlayerActionProvider actionProvider = new ServerPlayerActionProvider(randomActions(seed++), request -> {
+        }, 0, 2, new ConcurrentHashMap<>());
+
+        ServerTournamentDirector director = new ServerTournamentDirector(new TournamentEngine(eventBus, actionProvider),
+                tournament, eventBus, actionProvider, properties, event -> {
+                });
+        director.run();
+        return tournament.getNumPlayers();
+    }
+
+    private static PlayerActionProvider randomActions(long seed) {
+        Random random = new Random(seed);
+        return (player, options) -> {
+            List<PlayerAction> actions = new ArrayList<>(5);
+            if (options.canCheck())
+                actions.add(PlayerAction.check());
+            if (options.canCall())
+                actions.add(PlayerAction.call());
+            if (options.canFold())
+                actions.add(PlayerAction.fold());
+            if (options.canBet())
+                actions.add(PlayerAction.bet(options.minBet()
+                        + random.nextInt(Math.max(1, (options.maxBet() - options.minBet()) / 2 + 1))));
+            if (options.canRaise())
+                actions.add(PlayerAction.raise(options.minRaise()
+                        + random.nextInt(Math.max(1, (options.maxRaise() - options.minRaise()) / 2 + 1))));
+            return actions.isEmpty() ? PlayerAction.fold() : actions.get(random.nextInt(actions.size()));
+        };
+    }
+}
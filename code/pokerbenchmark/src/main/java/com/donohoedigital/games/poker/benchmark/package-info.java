@@ -0,0 +1,36 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+/**
+ * JMH microbenchmarks for the engine, AI and server hot paths.
+ *
+ * <p>
+ * Build and run from {@code code/}:
+ *
+ * <pre>
+ * mvn package -P benchmarks -pl pokerbenchmark -am -DskipTests
+ * java -jar pokerbenchmark/target/benchmarks.jar -rf json -rff baseline.json
+ * </pre>
+ *
+ * Every benchmark fixes its inputs (seeded decks, fixed boards) and its fork,
+ * warmup and measurement counts, so two JSON result files from the same machine
+ * can be compared directly, e.g. in JMH Visualizer. Pass a regex to run a
+ * subset: {@code java -jar benchmarks.jar HandEvaluator}.
+ */
+package com.donohoedigital.games.poker.benchmark;
@@ -0,0 +1,81 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.core.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.donohoedigital.games.poker.benchmark.BenchmarkCards;
+import com.donohoedigital.games.poker.engine.Hand;
+
+/**
+ * The V2 AI's odds enumeration ({@code _computeOdds}): raw hand strength and
+ * potential against all 1,081 opponent hands, with a one-card lookahead before
+ * the river. Lives in the AI package to reach the package-private
+ * {@link V2Algorithm#computeRawOdds}. The board's {@link PocketRanks} are
+ * built in the first call and cached after that, as within a hand.
+ * {@code computeOddsShared} reads opponent scores from a table's
+ * {@link BoardScores}, as every V2 player after the first on a street does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class V2AlgorithmBenchmark {
+
+    @Param({"Ah Kd 7c", "Ah Kd 7c 2s", "Ah Kd 7c 2s 9h"})
+    public String board;
+
+    private final V2Algorithm algorithm = new V2Algorithm();
+    private final Hand pocket = BenchmarkCards.hand("Qs Js");
+    private Hand community;
+    private BoardScores boardScores;
+
+    @Setup
+    public void setUp() {
+        community = BenchmarkCards.hand(board);
+        boardScores = BoardScores.compute(community);
+    }
+
+    @Benchmark
+    public float computeOdds() {
+        algorithm.computeRawOdds(pocket, community);
+        return algorithm.getRawHandStrength();
+    }
+
+    @Benchmark
+    public float computeOddsShared() {
+        algorithm.computeRawOdds(pocket, community, boardScores);
+        return algorithm.getRawHandStrength();
+    }
+}
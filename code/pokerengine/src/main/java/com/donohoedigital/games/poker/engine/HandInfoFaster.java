@@ -34,57 +34,28 @@
 package com.donohoedigital.games.poker.engine;
 
 /**
+ * Fast score-only hand evaluation. Scoring is delegated to
+ * {@link LookupHandEvaluator}; this class just gathers card indices from
+ * {@link Hand} objects and tracks the major suit.
  *
  * @author donohoe
  */
-@SuppressWarnings("DuplicatedCode")
 public class HandInfoFaster implements HandScoreConstants {
-    // num cards
-    private static final int NUM_CARDS = 5;
-
-    // pair/trips/quads
-    private final byte[] nNumRank_ = new byte[Card.ACE + 1];
-    private final byte[] nGroupings_ = new byte[NUM_CARDS + 1];
-    private final byte[][] nTopGroupings_ = new byte[NUM_CARDS + 1][2];
-
-    // straight
-    private byte nStraightHigh_ = 0;
-
     // flush
     private final byte[] nNumSuit_ = new byte[CardSuit.NUM_SUITS];
     private byte nBiggestSuit_ = 0;
 
-    // straight flush
-    private final boolean[] bExist_ = new boolean[Card.ACE + 1];
-
-    // hand
-    private final SimpleHand all_ = new SimpleHand();
-
-    // local class for hand
-    private static class SimpleHand {
-        SimpleCard[] cards = new SimpleCard[7];
-        int size = 0;
-
-        public SimpleHand() {
-            for (int i = 0; i < cards.length; i++) {
-                cards[i] = new SimpleCard();
-            }
-        }
-
-    }
-
-    // local class for card
-    private static class SimpleCard {
-        int suit;
-        int rank;
-    }
+    // card indices for evaluator
+    private final int[] cards_ = new int[LookupHandEvaluator.MAX_CARDS];
 
     /**
-     * Get score
+     * Get score - not thread safe for perf reasons
      */
-    @SuppressWarnings("DuplicatedCode")
     public int getScore(Hand h, Hand c) {
-        all_.size = 0;
+        int size = 0;
+        for (int r = 0; r < CardSuit.NUM_SUITS; r++)
+            nNumSuit_[r] = 0;
+
         // do here (inlining can be faster)
         if (h != null) {
             for (int i = h.size() - 1; i >= 0; i--) {
@@ -92,9 +63,8 @@ public class HandInfoFaster implements HandScoreConstants {
                 // Skip blank/unknown cards (e.g., when player joins mid-game)
                 if (c1.isBlank())
                     continue;
-                all_.cards[all_.size].suit = c1.getSuit();
-                all_.cards[all_.size].rank = c1.getRank();
-                all_.size++;
+                cards_[size++] = c1.getIndex();
+                countSuit(c1.getSuit());
             }
         }
         if (c != null) {
@@ -103,12 +73,11 @@ public class HandInfoFaster implements HandScoreConstants {
                 // Skip blank/unknown cards (e.g., when player joins mid-game)
                 if (c1.isBlank())
                     continue;
-                all_.cards[all_.size].suit = c1.getSuit();
-                all_.cards[all_.size].rank = c1.getRank();
-                all_.size++;
+                cards_[size++] = c1.getIndex();
+                countSuit(c1.getSuit());
             }
         }
-        return getScore(all_);
+        return LookupHandEvaluator.getScore(cards_, size);
     }
 
     /**
@@ -127,206 +96,11 @@ public class HandInfoFaster implements HandScoreConstants {
     }
 
     /**
-     * Get score - not thread safe for perf reasons
+     * Track suit counts for major suit
      */
-    private int getScore(SimpleHand h) {
-        @SuppressWarnings("ManualMinMaxCalculation")
-        byte nMaxHandSize = (byte) (h.size >= NUM_CARDS ? NUM_CARDS : h.size);
-
-        byte TOPGROUPINIT = (byte) 0;
-        boolean bStraight = false;
-        boolean bFlush = false;
-        int r, c;
-        byte rank, suit;
-
-        // init
-        for (r = Card.TWO; r <= Card.ACE; r++)
-            nNumRank_[r] = 0;
-        for (r = 0; r <= NUM_CARDS; r++)
-            nGroupings_[r] = 0;
-        for (r = 0; r < CardSuit.NUM_SUITS; r++)
-            nNumSuit_[r] = 0;
-        // low value is 2 (up to A)
-        for (int i = 0; i < (NUM_CARDS + 1); i++) {
-            nTopGroupings_[i][0] = TOPGROUPINIT;
-            nTopGroupings_[i][1] = TOPGROUPINIT;
-        }
-        nStraightHigh_ = 0;
-
-        // determine num of each rank, check flush
-        for (r = 0; r < h.size; r++) {
-            rank = (byte) h.cards[r].rank;
-            suit = (byte) h.cards[r].suit;
-
-            nNumRank_[rank]++;
-
-            nGroupings_[nNumRank_[rank]]++;
-            if (nNumRank_[rank] != 0) {
-                nGroupings_[nNumRank_[rank] - 1]--;
-            }
-
-            if ((++nNumSuit_[suit]) >= NUM_CARDS) {
-                bFlush = true;
-            }
-
-            if (nNumSuit_[suit] > nNumSuit_[nBiggestSuit_]) {
-                nBiggestSuit_ = suit;
-            }
-        }
-
-        // Ace present for low straight
-        byte nStraightSize = (byte) (nNumRank_[Card.ACE] != 0 ? 1 : 0);
-
-        // check for straight and pair data
-        for (r = Card.TWO; r <= Card.ACE; r++) {
-            // check straight
-            if (nNumRank_[r] != 0) {
-                if ((++nStraightSize) >= NUM_CARDS) {
-                    bStraight = true;
-                    nStraightHigh_ = (byte) r;
-                }
-            } else {
-                nStraightSize = 0;
-            }
-
-            // get top set of each type (pair, trips, quads, etc.)
-            c = nNumRank_[r];
-            if (c != 0) {
-                nTopGroupings_[c][1] = nTopGroupings_[c][0];
-                nTopGroupings_[c][0] = (byte) r;
-            }
-        }
-
-        // now id type
-        int score;
-
-        if (bStraight && bFlush && isStraightFlush(h)) {
-            if (nStraightHigh_ == Card.ACE)
-                score = ROYAL_FLUSH * SCORE_BASE;
-            else
-                score = STRAIGHT_FLUSH * SCORE_BASE;
-            score += nStraightHigh_ * H0;
-        } else if (nGroupings_[4] != 0) {
-            score = QUADS * SCORE_BASE;
-            score += nTopGroupings_[4][0] * H1;
-            nTopGroupings_[4][1] = TOPGROUPINIT; // just in case 2 sets quads
-            score += getKickers(1, nTopGroupings_[4], H0);
-        } else if (nGroupings_[3] >= 2) {
-            score = FULL_HOUSE * SCORE_BASE;
-            score += nTopGroupings_[3][0] * H1;
-            score += nTopGroupings_[3][1] * H0;
-        } else if (nGroupings_[3] == 1 && nGroupings_[2] != 0) {
-            score = FULL_HOUSE * SCORE_BASE;
-            score += nTopGroupings_[3][0] * H1;
-            score += nTopGroupings_[2][0] * H0;
-        } else if (bFlush) {
-            score = FLUSH * SCORE_BASE;
-            score += getFlushKickers(h, 5, nBiggestSuit_, H4);
-        } else if (bStraight) {
-            score = STRAIGHT * SCORE_BASE;
-            score += nStraightHigh_ * H0;
-        } else if (nGroupings_[3] == 1) {
-            score = TRIPS * SCORE_BASE;
-            score += nTopGroupings_[3][0] * H2;
-            score += getKickers(nMaxHandSize - 3, nTopGroupings_[3], H1);
-        } else if (nGroupings_[2] >= 2) {
-            score = TWO_PAIR * SCORE_BASE;
-            score += nTopGroupings_[2][0] * H2;
-            score += nTopGroupings_[2][1] * H1;
-            score += getKickers(nMaxHandSize - 4, nTopGroupings_[2], H0);
-        } else if (nGroupings_[2] == 1) {
-            score = PAIR * SCORE_BASE;
-            score += nTopGroupings_[2][0] * H3;
-            score += getKickers(nMaxHandSize - 2, nTopGroupings_[2], H2);
-        } else {
-            score = HIGH_CARD * SCORE_BASE;
-            score += getKickers(nMaxHandSize, nTopGroupings_[2], H4);
-        }
-        return score;
-    }
-
-    /**
-     * Does this hand have a straight flush?
-     */
-    private boolean isStraightFlush(SimpleHand h) {
-        // init
-        int i;
-        for (i = Card.TWO; i <= Card.ACE; i++)
-            bExist_[i] = false;
-
-        // note which cards in hand are from flush suit
-        for (i = 0; i < h.size; i++) {
-            if (h.cards[i].suit == nBiggestSuit_) {
-                bExist_[h.cards[i].rank] = true;
-            }
-        }
-
-        // check for straight
-        int straight = bExist_[Card.ACE] ? 1 : 0;
-        byte high = 0;
-        for (i = Card.TWO; i <= Card.ACE; i++) {
-            if (bExist_[i]) {
-                if ((++straight) >= NUM_CARDS) {
-                    high = (byte) i;
-                }
-            } else {
-                straight = 0;
-            }
-        }
-
-        /// if high is set, we have a straight
-        if (high == 0)
-            return false;
-
-        // store new high card
-        nStraightHigh_ = high;
-        return true;
-    }
-
-    /**
-     * Get kickers
-     */
-    private int getKickers(int nNumKickers, byte[] not_allowed, int H_start) {
-        int i = Card.ACE;
-        int value = 0;
-        while (nNumKickers != 0) {
-            while (nNumRank_[i] == 0 || i == not_allowed[0] || i == not_allowed[1]) {
-                i--;
-            }
-            nNumKickers--;
-            value += (i * H_start);
-            H_start = (H_start >> 4);
-            i--;
-        }
-        return value;
-    }
-
-    /**
-     * Get suited kickers
-     */
-    @SuppressWarnings("SameParameterValue")
-    private int getFlushKickers(SimpleHand h, int nNumKickers, byte suit, int H_start) {
-        int i;
-        int value = 0;
-
-        for (i = Card.TWO; i <= Card.ACE; i++)
-            bExist_[i] = false;
-
-        for (i = 0; i < h.size; i++) {
-            if (h.cards[i].suit == suit) {
-                bExist_[h.cards[i].rank] = true;
-            }
-        }
-
-        i = Card.ACE;
-        while (nNumKickers != 0) {
-            while (!bExist_[i])
-                i--;
-            nNumKickers--;
-            value += (i * H_start);
-            H_start = (H_start >> 4);
-            i--;
+    private void countSuit(int suit) {
+        if (++nNumSuit_[suit] > nNumSuit_[nBiggestSuit_]) {
+            nBiggestSuit_ = (byte) suit;
         }
-        return value;
     }
 }
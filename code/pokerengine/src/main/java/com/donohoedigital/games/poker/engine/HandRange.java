@@ -0,0 +1,329 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.engine;
+
+import java.util.Arrays;
+
+/**
+ * Weighted set of two-card starting hands, as used for range-vs-range equity.
+ *
+ * <p>
+ * Ranges use the same grouping as the client's hand groups (pairs, suited and
+ * offsuit rank classes) and the usual text syntax, with items separated by
+ * commas or whitespace:
+ * <ul>
+ * <li>{@code AA}, {@code AKs}, {@code AKo}, {@code AK} (suited and offsuit)</li>
+ * <li>{@code QQ+} (QQ, KK, AA), {@code A2s+} (A2s through AKs), {@code KTo+}
+ * (KTo through KQo)</li>
+ * <li>{@code QQ-88}, {@code T9s-T6s}, {@code AJo-A8o}</li>
+ * <li>{@code AhKd} for a single combination</li>
+ * <li>an optional {@code :weight} suffix such as {@code AKo:0.5}, giving the
+ * relative frequency of that item (default 1)</li>
+ * </ul>
+ * Later items override the weight of earlier ones that name the same combos.
+ *
+ * <p>
+ * Combos are identified by a pair of {@link Card#getIndex()} values and exposed
+ * as 52-bit card masks (see {@link Card#fingerprint()}).
+ */
+public class HandRange {
+
+    /** Number of distinct two-card combinations in a 52 card deck. */
+    public static final int NUM_COMBOS = 1326;
+
+    private static final int NUM_CARDS = 52;
+
+    private final double[] weights_ = new double[NUM_COMBOS];
+
+    /**
+     * Empty range
+     */
+    public HandRange() {
+    }
+
+    /**
+     * Range containing every starting hand with weight 1.
+     */
+    public static HandRange all() {
+        HandRange range = new HandRange();
+        Arrays.fill(range.weights_, 1.0d);
+        return range;
+    }
+
+    /**
+     * Range containing a single combination.
+     */
+    public static HandRange of(Card c1, Card c2) {
+        HandRange range = new HandRange();
+        range.setWeight(c1.getIndex(), c2.getIndex(), 1.0d);
+        return range;
+    }
+
+    /**
+     * Parse range text (see class comment).
+     *
+     * @throws IllegalArgumentException
+     *             if the text is empty or any item is malformed
+     */
+    public static HandRange parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Range is empty");
+        }
+
+        HandRange range = new HandRange();
+        for (String item : text.trim().split("[,\\s]+")) {
+            if (!item.isEmpty()) {
+                range.parseItem(item);
+            }
+        }
+        return range;
+    }
+
+    /**
+     * Index of the combo made of the given card indexes (order doesn't matter).
+     */
+    public static int comboIndex(int card1, int card2) {
+        int hi = Math.max(card1, card2);
+        int lo = Math.min(card1, card2);
+        return hi * (hi - 1) / 2 + lo;
+    }
+
+    /**
+     * Card mask (two bits set) for the given combo index.
+     */
+    public static long comboMask(int comboIndex) {
+        int hi = 1;
+        while ((hi + 1) * hi / 2 <= comboIndex) {
+            hi++;
+        }
+        int lo = comboIndex - hi * (hi - 1) / 2;
+        return (1L << hi) | (1L << lo);
+    }
+
+    /**
+     * Weight of the combo made of the two cards, 0 if not in the range.
+     */
+    public double getWeight(Card c1, Card c2) {
+        if (c1.getIndex() == c2.getIndex())
+            return 0.0d;
+        return weights_[comboIndex(c1.getIndex(), c2.getIndex())];
+    }
+
+    /**
+     * Set the weight of a single combo; 0 removes it.
+     */
+    public void setWeight(int card1, int card2, double weight) {
+        if (card1 == card2 || card1 < 0 || card2 < 0 || card1 >= NUM_CARDS || card2 >= NUM_CARDS) {
+            throw new IllegalArgumentException("Invalid combo: " + card1 + "," + card2);
+        }
+        if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Invalid weight: " + weight);
+        }
+        weights_[comboIndex(card1, card2)] = weight;
+    }
+
+    /**
+     * Remove every combo that uses a card in the given mask.
+     */
+    public void removeCards(long deadCards) {
+        for (int i = 0; i < NUM_COMBOS; i++) {
+            if (weights_[i] != 0 && (comboMask(i) & deadCards) != 0) {
+                weights_[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Number of combos with a non-zero weight.
+     */
+    public int size() {
+        int count = 0;
+        for (double w : weights_) {
+            if (w > 0)
+                count++;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Card masks of the combos in this range, in combo index order.
+     */
+    public long[] getComboMasks() {
+        long[] masks = new long[size()];
+        int n = 0;
+        for (int i = 0; i < NUM_COMBOS; i++) {
+            if (weights_[i] > 0)
+                masks[n++] = comboMask(i);
+        }
+        return masks;
+    }
+
+    /**
+     * Weights of the combos in this range, parallel to {@link #getComboMasks()}.
+     */
+    public double[] getComboWeights() {
+        double[] weights = new double[size()];
+        int n = 0;
+        for (double w : weights_) {
+            if (w > 0)
+                weights[n++] = w;
+        }
+        return weights;
+    }
+
+    ////
+    //// Parsing
+    ////
+
+    private void parseItem(String item) {
+        double weight = 1.0d;
+        int colon = item.indexOf(':');
+        if (colon >= 0) {
+            try {
+                weight = Double.parseDouble(item.substring(colon + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in range item: " + item);
+            }
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight in range item: " + item);
+            }
+            item = item.substring(0, colon);
+        }
+
+        // specific combo, e.g. AhKd
+        if (item.length() == 4 && isSuit(item.charAt(1)) && isSuit(item.charAt(3))) {
+            Card c1 = Card.getCard(item.substring(0, 2));
+            Card c2 = Card.getCard(item.substring(2, 4));
+            if (c1 == null || c2 == null || c1.getIndex() == c2.getIndex()) {
+                throw new IllegalArgumentException("Invalid combo in range: " + item);
+            }
+            setWeight(c1.getIndex(), c2.getIndex(), weight);
+            return;
+        }
+
+        int dash = item.indexOf('-');
+        if (dash >= 0) {
+            HandClass from = HandClass.parse(item.substring(0, dash), item);
+            HandClass to = HandClass.parse(item.substring(dash + 1), item);
+            if (from.isPair() != to.isPair() || from.suited != to.suited || from.offsuit != to.offsuit
+                    || (!from.isPair() && from.high != to.high)) {
+                throw new IllegalArgumentException("Invalid range item: " + item);
+            }
+            int lo = from.isPair() ? Math.min(from.high, to.high) : Math.min(from.low, to.low);
+            int hi = from.isPair() ? Math.max(from.high, to.high) : Math.max(from.low, to.low);
+            for (int r = lo; r <= hi; r++) {
+                if (from.isPair())
+                    addClass(r, r, false, false, weight);
+                else
+                    addClass(from.high, r, from.suited, from.offsuit, weight);
+            }
+            return;
+        }
+
+        boolean plus = item.endsWith("+");
+        HandClass hand = HandClass.parse(plus ? item.substring(0, item.length() - 1) : item, item);
+        if (!plus) {
+            addClass(hand.high, hand.low, hand.suited, hand.offsuit, weight);
+        } else if (hand.isPair()) {
+            for (int r = hand.high; r <= Card.ACE; r++) {
+                addClass(r, r, false, false, weight);
+            }
+        } else {
+            for (int r = hand.low; r < hand.high; r++) {
+                addClass(hand.high, r, hand.suited, hand.offsuit, weight);
+            }
+        }
+    }
+
+    private static boolean isSuit(char c) {
+        return "cdhsCDHS".indexOf(c) >= 0;
+    }
+
+    /**
+     * Add all combos of a rank class. Pairs ignore the suited/offsuit flags.
+     */
+    private void addClass(int rank1, int rank2, boolean suited, boolean offsuit, double weight) {
+        for (int s1 = 0; s1 < CardSuit.NUM_SUITS; s1++) {
+            for (int s2 = 0; s2 < CardSuit.NUM_SUITS; s2++) {
+                if (rank1 == rank2) {
+                    if (s1 >= s2)
+                        continue;
+                } else if (s1 == s2 ? !suited : !offsuit) {
+                    continue;
+                }
+                setWeight(Card.getCard(s1, rank1).getIndex(), Card.getCard(s2, rank2).getIndex(), weight);
+            }
+        }
+    }
+
+    /**
+     * A rank class like AA, AKs, AKo or AK (high rank first).
+     */
+    private record HandClass(int high, int low, boolean suited, boolean offsuit) {
+
+        boolean isPair() {
+            return high == low;
+        }
+
+        static HandClass parse(String text, String item) {
+            if (text.length() < 2 || text.length() > 3) {
+                throw new IllegalArgumentException("Invalid range item: " + item);
+            }
+            int r1 = Card.getRank(text.charAt(0));
+            int r2 = Card.getRank(text.charAt(1));
+            if (r1 == Card.UNKNOWN || r2 == Card.UNKNOWN) {
+                throw new IllegalArgumentException("Invalid range item: " + item);
+            }
+            boolean suited = true;
+            boolean offsuit = true;
+            if (text.length() == 3) {
+                char c = Character.toLowerCase(text.charAt(2));
+                if (c == 's')
+                    offsuit = false;
+                else if (c == 'o')
+                    suited = false;
+                else
+                    throw new IllegalArgumentException("Invalid range item: " + item);
+                if (r1 == r2) {
+                    throw new IllegalArgumentException("Pairs can't be suited or offsuit: " + item);
+                }
+            }
+            return new HandClass(Math.max(r1, r2), Math.min(r1, r2), suited, offsuit);
+        }
+    }
+}
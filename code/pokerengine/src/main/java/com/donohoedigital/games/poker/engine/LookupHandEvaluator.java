@@ -0,0 +1,233 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.engine;
+
+/**
+ * Table-driven 0-7 card hand evaluator. Produces scores bit-identical to
+ * {@link HandInfoFaster} (same {@link HandScoreConstants} encoding) but works
+ * from 13-bit per-suit rank masks instead of rebuilding rank/suit/grouping
+ * arrays on every call.
+ * <p>
+ * Cards are identified by {@link Card#getIndex()} ({@code (rank - 2) * 4 + suit})
+ * or by a 52-bit mask of {@code 1L << index} (the same bits as
+ * {@link Card#fingerprint()}). Flush and straight-flush scores come from a
+ * precomputed table indexed by the suited rank mask; everything else is
+ * derived from rank bitmasks (quads/trips/pairs/singles) plus straight and
+ * top-5 kicker tables. Since a flush can't coexist with quads or a full house
+ * in 7 or fewer distinct cards, a flush hit can be returned immediately.
+ * <p>
+ * All methods are static, allocation-free and thread-safe. Callers must not
+ * pass more than {@link #MAX_CARDS} cards or duplicate cards.
+ */
+public final class LookupHandEvaluator implements HandScoreConstants {
+
+    /** Maximum cards supported (2 hole + 5 community) */
+    public static final int MAX_CARDS = 7;
+
+    /** Index used by {@link Card} for blank/unknown cards */
+    public static final int BLANK_INDEX = 52;
+
+    // one bit per rank (2..A => bits 0..12)
+    private static final int NUM_RANKS = 13;
+    private static final int RANK_MASKS = 1 << NUM_RANKS;
+    private static final int RANK_BITS = RANK_MASKS - 1;
+
+    // bits 0, 4, 8, ... 48 - selects one suit out of a 52-bit card mask
+    private static final long SUIT_LANE = 0x1111111111111L;
+
+    // flush/straight flush score for a suited rank mask (0 if fewer than 5 cards)
+    private static final int[] FLUSH_SCORE = new int[RANK_MASKS];
+
+    // high card of best straight for a rank mask (0 if none)
+    private static final byte[] STRAIGHT_HIGH = new byte[RANK_MASKS];
+
+    // top 5 ranks packed as nibbles, highest rank in bits 16-19 (H4 position)
+    private static final int[] TOP5 = new int[RANK_MASKS];
+
+    static {
+        for (int mask = 0; mask < RANK_MASKS; mask++) {
+            TOP5[mask] = computeTop5(mask);
+            STRAIGHT_HIGH[mask] = (byte) computeStraightHigh(mask);
+        }
+        for (int mask = 0; mask < RANK_MASKS; mask++) {
+            if (Integer.bitCount(mask) < 5)
+                continue;
+            int high = STRAIGHT_HIGH[mask];
+            if (high != 0) {
+                FLUSH_SCORE[mask] = (high == Card.ACE ? ROYAL_FLUSH : STRAIGHT_FLUSH) * SCORE_BASE + high * H0;
+            } else {
+                FLUSH_SCORE[mask] = FLUSH * SCORE_BASE + TOP5[mask];
+            }
+        }
+    }
+
+    private LookupHandEvaluator() {
+    }
+
+    /**
+     * Score the first {@code count} card indices in {@code cards}. Blank cards
+     * ({@link #BLANK_INDEX}) are skipped.
+     */
+    public static int getScore(int[] cards, int count) {
+        // four 16-bit suit lanes, so no per-suit branch is needed
+        long suits = 0;
+        int num = 0;
+        for (int i = 0; i < count; i++) {
+            int index = cards[i];
+            if (index >= BLANK_INDEX)
+                continue;
+            suits |= 1L << (((index & 3) << 4) | (index >>> 2));
+            num++;
+        }
+        return getScore((int) suits & RANK_BITS, (int) (suits >>> 16) & RANK_BITS, (int) (suits >>> 32) & RANK_BITS,
+                (int) (suits >>> 48) & RANK_BITS, num);
+    }
+
+    /**
+     * Score a 52-bit card mask (bit {@code n} set for card index {@code n}).
+     */
+    public static int getScore(long cards) {
+        return getScore((int) Long.compress(cards, SUIT_LANE), (int) Long.compress(cards >>> 1, SUIT_LANE),
+                (int) Long.compress(cards >>> 2, SUIT_LANE), (int) Long.compress(cards >>> 3, SUIT_LANE),
+                Long.bitCount(cards & ~(-1L << BLANK_INDEX)));
+    }
+
+    /**
+     * Score from per-suit rank masks (bit {@code rank - 2} set for each card
+     * held in that suit). Useful for callers that maintain masks incrementally
+     * while enumerating boards.
+     *
+     * @param numCards
+     *            total number of cards across all four masks
+     */
+    public static int getScore(int clubs, int diamonds, int hearts, int spades, int numCards) {
+        // flush beats everything below straight flush and, with 7 or fewer
+        // cards, rules out quads and full houses
+        if (numCards >= 5) {
+            int flush = FLUSH_SCORE[clubs] | FLUSH_SCORE[diamonds] | FLUSH_SCORE[hearts] | FLUSH_SCORE[spades];
+            if (flush != 0)
+                return flush;
+        }
+
+        int maxHandSize = Math.min(numCards, 5);
+        int present = clubs | diamonds | hearts | spades;
+        int quads = clubs & diamonds & hearts & spades;
+        int odd = clubs ^ diamonds ^ hearts ^ spades;
+        int twoPlus = (clubs & diamonds) | (clubs & hearts) | (clubs & spades) | (diamonds & hearts)
+                | (diamonds & spades) | (hearts & spades);
+        int trips = odd & twoPlus;
+        int pairs = twoPlus & ~odd & ~quads;
+
+        if (quads != 0) {
+            int quad = highBit(quads);
+            return QUADS * SCORE_BASE + rank(quad) * H1 + kickers(present & ~quad, 1, 0);
+        }
+
+        if (trips != 0) {
+            int trip = highBit(trips);
+            int otherTrips = trips & ~trip;
+            if (otherTrips != 0) {
+                return FULL_HOUSE * SCORE_BASE + rank(trip) * H1 + rank(highBit(otherTrips)) * H0;
+            }
+            if (pairs != 0) {
+                return FULL_HOUSE * SCORE_BASE + rank(trip) * H1 + rank(highBit(pairs)) * H0;
+            }
+        }
+
+        int straightHigh = STRAIGHT_HIGH[present];
+        if (straightHigh != 0) {
+            return STRAIGHT * SCORE_BASE + straightHigh * H0;
+        }
+
+        if (trips != 0) {
+            return TRIPS * SCORE_BASE + rank(trips) * H2 + kickers(present & ~trips, maxHandSize - 3, 1);
+        }
+
+        if (pairs != 0) {
+            int pair = highBit(pairs);
+            int otherPairs = pairs & ~pair;
+            if (otherPairs != 0) {
+                int second = highBit(otherPairs);
+                return TWO_PAIR * SCORE_BASE + rank(pair) * H2 + rank(second) * H1
+                        + kickers(present & ~(pair | second), maxHandSize - 4, 0);
+            }
+            return PAIR * SCORE_BASE + rank(pair) * H3 + kickers(present & ~pair, maxHandSize - 2, 2);
+        }
+
+        return HIGH_CARD * SCORE_BASE + kickers(present, maxHandSize, 4);
+    }
+
+    /**
+     * Encode the top {@code num} ranks in {@code mask}, highest rank at nibble
+     * {@code pos} (i.e. multiplied by H{pos}) and descending from there.
+     */
+    private static int kickers(int mask, int num, int pos) {
+        return (TOP5[mask] >>> (4 * (5 - num))) << (4 * (pos - num + 1));
+    }
+
+    private static int highBit(int mask) {
+        return Integer.highestOneBit(mask);
+    }
+
+    private static int rank(int bit) {
+        return Integer.numberOfTrailingZeros(bit) + Card.TWO;
+    }
+
+    private static int computeTop5(int mask) {
+        int value = 0;
+        int found = 0;
+        for (int bit = NUM_RANKS - 1; bit >= 0 && found < 5; bit--) {
+            if ((mask & (1 << bit)) != 0) {
+                value = (value << 4) | (bit + Card.TWO);
+                found++;
+            }
+        }
+        return value << (4 * (5 - found));
+    }
+
+    private static int computeStraightHigh(int mask) {
+        int high = 0;
+        // ace counts low for the wheel
+        int run = (mask & (1 << (Card.ACE - Card.TWO))) != 0 ? 1 : 0;
+        for (int bit = 0; bit < NUM_RANKS; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                if (++run >= 5)
+                    high = bit + Card.TWO;
+            } else {
+                run = 0;
+            }
+        }
+        return high;
+    }
+}
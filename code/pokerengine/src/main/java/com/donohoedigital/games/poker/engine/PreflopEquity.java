@@ -0,0 +1,250 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed preflop all-in equities for the 169 starting hand classes,
+ * read from the {@value #RESOURCE} classpath resource through a read-only
+ * {@link java.nio.MappedByteBuffer}. Every lookup is a single buffer read, so
+ * preflop queries need no simulation.
+ * <p>
+ * Hand classes are numbered on the usual 13x13 grid, {@code row * 13 + col}
+ * with row and column {@code 0} for an ace down to {@code 12} for a deuce.
+ * Pairs are on the diagonal, suited hands above it (high rank is the row) and
+ * offsuit hands below it (high rank is the column).
+ * <p>
+ * The resource holds, per class, the chance of winning outright and of tying
+ * for the best hand against 1 to {@value #MAX_OPPONENTS} random opponents, the
+ * distribution of the class's final hand type over all boards, and the
+ * equity of every class against every other class heads-up. The one opponent
+ * and heads-up figures are exact enumerations; the multiway figures are Monte
+ * Carlo estimates. The file is written by {@code PreflopEquityGenerator}
+ * (gametools); the layout is:
+ *
+ * <pre>
+ * int   magic, version, classes, max opponents
+ * float win[class][opponents - 1], tie[class][opponents - 1]
+ * float handType[class][HIGH_CARD..ROYAL_FLUSH]
+ * float headsUp[class][class]   (win + tie / 2 of the row class)
+ * </pre>
+ *
+ * All values are big-endian. Instances are immutable and thread-safe.
+ */
+public final class PreflopEquity implements HandScoreConstants {
+
+    /** Classpath resource holding the default tables. */
+    public static final String RESOURCE = "preflop-equity.bin";
+
+    /** Number of starting hand classes. */
+    public static final int NUM_CLASSES = 169;
+
+    /** Largest opponent count in the multiway table. */
+    public static final int MAX_OPPONENTS = 9;
+
+    /** File magic, "PFEQ". */
+    public static final int MAGIC = 0x50464551;
+
+    /** File format version. */
+    public static final int VERSION = 1;
+
+    /** Hand type slots per class, indexed by score / SCORE_BASE. */
+    public static final int NUM_HAND_TYPES = ROYAL_FLUSH + 1;
+
+    private static final int HEADER_BYTES = 16;
+    private static final int WIN_OFFSET = HEADER_BYTES;
+    private static final int TIE_OFFSET = WIN_OFFSET + NUM_CLASSES * MAX_OPPONENTS * Float.BYTES;
+    private static final int HAND_TYPE_OFFSET = TIE_OFFSET + NUM_CLASSES * MAX_OPPONENTS * Float.BYTES;
+    private static final int HEADS_UP_OFFSET = HAND_TYPE_OFFSET + NUM_CLASSES * NUM_HAND_TYPES * Float.BYTES;
+
+    /** Total size of a version {@value #VERSION} file in bytes. */
+    public static final int FILE_BYTES = HEADS_UP_OFFSET + NUM_CLASSES * NUM_CLASSES * Float.BYTES;
+
+    private static volatile PreflopEquity instance;
+
+    private final ByteBuffer data;
+
+    private PreflopEquity(ByteBuffer data) {
+        if (data.capacity() != FILE_BYTES || data.getInt(0) != MAGIC || data.getInt(4) != VERSION
+                || data.getInt(8) != NUM_CLASSES || data.getInt(12) != MAX_OPPONENTS) {
+            throw new IllegalStateException("Not a version " + VERSION + " preflop equity table");
+        }
+        this.data = data;
+    }
+
+    /**
+     * @return the tables shipped with the engine, mapped on first use
+     * @throws IllegalStateException
+     *             if the resource is missing or malformed
+     */
+    public static PreflopEquity getInstance() {
+        PreflopEquity equity = instance;
+        if (equity == null) {
+            synchronized (PreflopEquity.class) {
+                equity = instance;
+                if (equity == null) {
+                    URL url = PreflopEquity.class.getResource(RESOURCE);
+                    if (url == null) {
+                        throw new IllegalStateException("Missing resource " + RESOURCE);
+                    }
+                    equity = load(url);
+                    instance = equity;
+                }
+            }
+        }
+        return equity;
+    }
+
+    /**
+     * Map a table file read-only.
+     *
+     * @throws UncheckedIOException
+     *             if the file can't be read
+     * @throws IllegalStateException
+     *             if it isn't a preflop equity table
+     */
+    public static PreflopEquity load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new PreflopEquity(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map " + path, e);
+        }
+    }
+
+    /**
+     * Map a table from a URL. Resources packed in a jar can't be mapped in
+     * place, so they are first copied to a temporary file.
+     */
+    public static PreflopEquity load(URL url) {
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return load(Path.of(url.toURI()));
+            }
+            Path copy = Files.createTempFile("preflop-equity", ".bin");
+            copy.toFile().deleteOnExit();
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return load(copy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + url, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Bad resource URL " + url, e);
+        }
+    }
+
+    /**
+     * @return class of a starting hand given as two card ranks and whether the
+     *         cards share a suit (ignored for pairs)
+     */
+    public static int getHandClass(int rank1, int rank2, boolean suited) {
+        int row = Card.ACE - Math.max(rank1, rank2);
+        int col = Card.ACE - Math.min(rank1, rank2);
+        return suited ? row * 13 + col : col * 13 + row;
+    }
+
+    /**
+     * @return class of a starting hand
+     */
+    public static int getHandClass(Card card1, Card card2) {
+        return getHandClass(card1.getRank(), card2.getRank(), card1.getSuit() == card2.getSuit());
+    }
+
+    /**
+     * @return class of a starting hand given as {@link Card#getIndex()} values
+     */
+    public static int getHandClass(int index1, int index2) {
+        return getHandClass((index1 >>> 2) + Card.TWO, (index2 >>> 2) + Card.TWO, (index1 & 3) == (index2 & 3));
+    }
+
+    /**
+     * @return chance (0-1) that the class beats every one of {@code opponents}
+     *         random hands
+     */
+    public float getWin(int handClass, int opponents) {
+        return data.getFloat(WIN_OFFSET + multiwayIndex(handClass, opponents));
+    }
+
+    /**
+     * @return chance (0-1) that the class ties for the best hand against
+     *         {@code opponents} random hands
+     */
+    public float getTie(int handClass, int opponents) {
+        return data.getFloat(TIE_OFFSET + multiwayIndex(handClass, opponents));
+    }
+
+    /**
+     * @return all-in equity (0-1) against {@code opponents} random hands, with
+     *         ties counted as half a win
+     */
+    public float getEquity(int handClass, int opponents) {
+        int index = multiwayIndex(handClass, opponents);
+        return data.getFloat(WIN_OFFSET + index) + data.getFloat(TIE_OFFSET + index) / 2;
+    }
+
+    /**
+     * @return chance (0-1) that the class ends up with the given hand type
+     *         ({@link HandScoreConstants#HIGH_CARD} to
+     *         {@link HandScoreConstants#ROYAL_FLUSH}) after five board cards
+     */
+    public float getHandTypeOdds(int handClass, int handType) {
+        checkClass(handClass);
+        if (handType < 0 || handType >= NUM_HAND_TYPES) {
+            throw new IllegalArgumentException("Hand type out of range: " + handType);
+        }
+        return data.getFloat(HAND_TYPE_OFFSET + (handClass * NUM_HAND_TYPES + handType) * Float.BYTES);
+    }
+
+    /**
+     * @return equity (0-1) of {@code heroClass} against {@code opponentClass}
+     *         heads-up, averaged over every combination of the two classes
+     *         that doesn't share a card
+     */
+    public float getHeadsUpEquity(int heroClass, int opponentClass) {
+        checkClass(heroClass);
+        checkClass(opponentClass);
+        return data.getFloat(HEADS_UP_OFFSET + (heroClass * NUM_CLASSES + opponentClass) * Float.BYTES);
+    }
+
+    private static int multiwayIndex(int handClass, int opponents) {
+        checkClass(handClass);
+        if (opponents < 1 || opponents > MAX_OPPONENTS) {
+            throw new IllegalArgumentException("Opponents must be 1-" + MAX_OPPONENTS + ", got " + opponents);
+        }
+        return (handClass * MAX_OPPONENTS + opponents - 1) * Float.BYTES;
+    }
+
+    private static void checkClass(int handClass) {
+        if (handClass < 0 || handClass >= NUM_CLASSES) {
+            throw new IllegalArgumentException("Hand class out of range: " + handClass);
+        }
+    }
+}
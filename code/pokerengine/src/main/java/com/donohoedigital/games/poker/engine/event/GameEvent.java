@@ -58,6 +58,17 @@ public sealed interface GameEvent {
     record PlayerRemoved(int tableId, int playerId, int seat) implements GameEvent {
     }
 
+    /**
+     * Players moved between tables in one balancing pass. Table ids are table
+     * numbers, as in {@link PlayerAdded} and {@link PlayerRemoved}.
+     */
+    record PlayersMoved(List<PlayerMove> moves) implements GameEvent {
+    }
+
+    /** One player's move (used in PlayersMoved). */
+    record PlayerMove(int playerId, int fromTableId, int fromSeat, int toTableId, int toSeat) {
+    }
+
     /** The tournament level changed. */
     record LevelChanged(int tableId, int newLevel) implements GameEvent {
     }
@@ -0,0 +1,143 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HandRangeTest {
+
+    // ===== Combo Counts =====
+
+    @Test
+    void should_CountSixCombos_When_Pair() {
+        assertThat(HandRange.parse("AA").size()).isEqualTo(6);
+    }
+
+    @Test
+    void should_CountSuitedOffsuitAndBoth_When_NonPair() {
+        assertThat(HandRange.parse("AKs").size()).isEqualTo(4);
+        assertThat(HandRange.parse("AKo").size()).isEqualTo(12);
+        assertThat(HandRange.parse("AK").size()).isEqualTo(16);
+        assertThat(HandRange.parse("KA").size()).isEqualTo(16);
+    }
+
+    @Test
+    void should_ExpandPlus_When_PairOrKicker() {
+        assertThat(HandRange.parse("QQ+").size()).isEqualTo(18);
+        assertThat(HandRange.parse("22+").size()).isEqualTo(78);
+        // A2s..AKs = 12 classes
+        assertThat(HandRange.parse("A2s+").size()).isEqualTo(48);
+        // KTo, KJo, KQo
+        assertThat(HandRange.parse("KTo+").size()).isEqualTo(36);
+    }
+
+    @Test
+    void should_ExpandDash_When_RangeOfClasses() {
+        assertThat(HandRange.parse("QQ-88").size()).isEqualTo(30);
+        assertThat(HandRange.parse("88-QQ").size()).isEqualTo(30);
+        assertThat(HandRange.parse("T9s-T6s").size()).isEqualTo(16);
+    }
+
+    @Test
+    void should_CombineItems_When_CommaOrSpaceSeparated() {
+        assertThat(HandRange.parse("AA,KK,AKs,T9s+").size()).isEqualTo(6 + 6 + 4 + 4);
+        assertThat(HandRange.parse("AA KK, AA").size()).isEqualTo(12);
+    }
+
+    @Test
+    void should_ContainEveryCombo_When_All() {
+        HandRange all = HandRange.all();
+        assertThat(all.size()).isEqualTo(HandRange.NUM_COMBOS);
+        assertThat(all.getComboMasks()).doesNotHaveDuplicates().allMatch(m -> Long.bitCount(m) == 2);
+    }
+
+    // ===== Specific Combos And Weights =====
+
+    @Test
+    void should_ParseSingleCombo_When_SuitsGiven() {
+        HandRange range = HandRange.parse("AhKd");
+        assertThat(range.size()).isEqualTo(1);
+        assertThat(range.getComboMasks()[0]).isEqualTo(Card.HEARTS_A.fingerprint() | Card.DIAMONDS_K.fingerprint());
+        assertThat(range.getWeight(Card.DIAMONDS_K, Card.HEARTS_A)).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_ApplyWeight_When_Suffixed() {
+        HandRange range = HandRange.parse("AA,AKo:0.25");
+        assertThat(range.getWeight(Card.SPADES_A, Card.HEARTS_A)).isEqualTo(1.0);
+        assertThat(range.getWeight(Card.SPADES_A, Card.HEARTS_K)).isEqualTo(0.25);
+        assertThat(range.getWeight(Card.SPADES_A, Card.SPADES_K)).isZero();
+    }
+
+    @Test
+    void should_OverrideEarlierWeight_When_SameCombosRepeated() {
+        HandRange range = HandRange.parse("QQ+,AA:0");
+        assertThat(range.size()).isEqualTo(12);
+    }
+
+    @Test
+    void should_DropCombos_When_CardsRemoved() {
+        HandRange range = HandRange.parse("AA,KK");
+        range.removeCards(Card.SPADES_A.fingerprint());
+        assertThat(range.size()).isEqualTo(3 + 6);
+    }
+
+    @Test
+    void should_RoundTripComboIndex_When_AnyPair() {
+        for (int a = 0; a < 52; a++) {
+            for (int b = 0; b < a; b++) {
+                int index = HandRange.comboIndex(a, b);
+                assertThat(index).isEqualTo(HandRange.comboIndex(b, a)).isBetween(0, HandRange.NUM_COMBOS - 1);
+                assertThat(HandRange.comboMask(index)).isEqualTo((1L << a) | (1L << b));
+            }
+        }
+    }
+
+    // ===== Errors =====
+
+    @Test
+    void should_Throw_When_Malformed() {
+        assertThatThrownBy(() -> HandRange.parse("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AX")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AAs")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AKx")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AhAh")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AKs-QJs")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("QQ-AKs")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AA:abc")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandRange.parse("AA:-1")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.donohoedigital.games.poker.engine.Card.*;
+import static org.assertj.core.api.Assertions.*;
+
+class LookupHandEvaluatorTest implements HandScoreConstants {
+
+    // ===== Equivalence With Counting Evaluator =====
+
+    @Test
+    void should_MatchReference_When_AllFiveCardHands() {
+        ReferenceEvaluator reference = new ReferenceEvaluator();
+        int[] cards = new int[5];
+        int mismatches = 0;
+        for (cards[0] = 0; cards[0] < 52; cards[0]++)
+            for (cards[1] = cards[0] + 1; cards[1] < 52; cards[1]++)
+                for (cards[2] = cards[1] + 1; cards[2] < 52; cards[2]++)
+                    for (cards[3] = cards[2] + 1; cards[3] < 52; cards[3]++)
+                        for (cards[4] = cards[3] + 1; cards[4] < 52; cards[4]++) {
+                            if (LookupHandEvaluator.getScore(cards, 5) != reference.getScore(cards, 5))
+                                mismatches++;
+                        }
+        assertThat(mismatches).isZero();
+    }
+
+    @Test
+    void should_MatchReference_When_RandomHandsOfEverySize() {
+        ReferenceEvaluator reference = new ReferenceEvaluator();
+        Random random = new Random(8675309);
+        int[] cards = new int[7];
+        for (int n = 0; n < 500000; n++) {
+            int size = 1 + random.nextInt(7);
+            long mask = 0;
+            for (int i = 0; i < size; i++) {
+                int index;
+                do {
+                    index = random.nextInt(52);
+                } while ((mask & (1L << index)) != 0);
+                mask |= 1L << index;
+                cards[i] = index;
+            }
+            // counting evaluator can't find a kicker for quads with no other card
+            if (size == 4 && reference.isBareQuads(cards))
+                continue;
+
+            int expected = reference.getScore(cards, size);
+            assertThat(LookupHandEvaluator.getScore(cards, size)).isEqualTo(expected);
+            assertThat(LookupHandEvaluator.getScore(mask)).isEqualTo(expected);
+        }
+    }
+
+    // ===== Entry Points =====
+
+    @Test
+    void should_ScoreSameAsHandInfoFaster_When_UsingFingerprint() {
+        Hand hole = new Hand(SPADES_A, SPADES_K);
+        Hand board = new Hand(SPADES_Q, SPADES_J, SPADES_T, HEARTS_2, CLUBS_3);
+        long mask = hole.fingerprint() | board.fingerprint();
+
+        assertThat(LookupHandEvaluator.getScore(mask)).isEqualTo(new HandInfoFaster().getScore(hole, board));
+        assertThat(LookupHandEvaluator.getScore(mask) / SCORE_BASE).isEqualTo(ROYAL_FLUSH);
+    }
+
+    @Test
+    void should_SkipBlankCards_When_IndexIsBlank() {
+        int[] withBlank = {HEARTS_A.getIndex(), LookupHandEvaluator.BLANK_INDEX, CLUBS_A.getIndex()};
+        int[] withoutBlank = {HEARTS_A.getIndex(), CLUBS_A.getIndex()};
+
+        assertThat(LookupHandEvaluator.getScore(withBlank, 3)).isEqualTo(LookupHandEvaluator.getScore(withoutBlank, 2));
+    }
+
+    @Test
+    void should_ScoreFromSuitMasks_When_MasksProvided() {
+        // A-K-Q-J-T of clubs plus 2 of hearts
+        int clubs = 0x1F00;
+        int hearts = 0x0001;
+        int score = LookupHandEvaluator.getScore(clubs, 0, hearts, 0, 6);
+
+        assertThat(score).isEqualTo(ROYAL_FLUSH * SCORE_BASE + ACE * H0);
+    }
+
+    @Test
+    void should_ReturnHighCardBase_When_NoCards() {
+        assertThat(LookupHandEvaluator.getScore(0L)).isEqualTo(HIGH_CARD * SCORE_BASE);
+        assertThat(LookupHandEvaluator.getScore(new int[0], 0)).isEqualTo(HIGH_CARD * SCORE_BASE);
+    }
+
+    @Test
+    void should_UseThirdPairAsKicker_When_ThreePairs() {
+        long mask = SPADES_A.fingerprint() | HEARTS_A.fingerprint() | SPADES_K.fingerprint() | HEARTS_K.fingerprint()
+                | SPADES_Q.fingerprint() | HEARTS_Q.fingerprint() | CLUBS_2.fingerprint();
+
+        assertThat(LookupHandEvaluator.getScore(mask)).isEqualTo(TWO_PAIR * SCORE_BASE + ACE * H2 + KING * H1 + QUEEN * H0);
+    }
+
+    /**
+     * Straightforward rank/suit counting evaluator (the algorithm HandInfoFaster
+     * used before the lookup tables) used as an oracle.
+     */
+    private static class ReferenceEvaluator {
+        private final int[] numRank = new int[ACE + 1];
+        private final int[] groupings = new int[6];
+        private final int[][] topGroupings = new int[6][2];
+        private final int[] numSuit = new int[4];
+        private final boolean[] exist = new boolean[ACE + 1];
+        private int straightHigh;
+
+        boolean isBareQuads(int[] cards) {
+            int rank = cards[0] >>> 2;
+            for (int i = 1; i < 4; i++) {
+                if ((cards[i] >>> 2) != rank)
+                    return false;
+            }
+            return true;
+        }
+
+        int getScore(int[] cards, int size) {
+            int maxHandSize = Math.min(size, 5);
+            boolean straight = false;
+            boolean flush = false;
+            int biggestSuit = 0;
+
+            Arrays.fill(numRank, 0);
+            Arrays.fill(groupings, 0);
+            Arrays.fill(numSuit, 0);
+            for (int[] top : topGroupings) {
+                top[0] = 0;
+                top[1] = 0;
+            }
+            straightHigh = 0;
+
+            for (int i = 0; i < size; i++) {
+                int rank = rank(cards[i]);
+                int suit = suit(cards[i]);
+                numRank[rank]++;
+                groupings[numRank[rank]]++;
+                groupings[numRank[rank] - 1]--;
+                if (++numSuit[suit] >= 5)
+                    flush = true;
+                if (numSuit[suit] > numSuit[biggestSuit])
+                    biggestSuit = suit;
+            }
+
+            int straightSize = numRank[ACE] != 0 ? 1 : 0;
+            for (int r = TWO; r <= ACE; r++) {
+                if (numRank[r] != 0) {
+                    if (++straightSize >= 5) {
+                        straight = true;
+                        straightHigh = r;
+                    }
+                } else {
+                    straightSize = 0;
+                }
+                int count = numRank[r];
+                if (count != 0) {
+                    topGroupings[count][1] = topGroupings[count][0];
+                    topGroupings[count][0] = r;
+                }
+            }
+
+            if (straight && flush && isStraightFlush(cards, size, biggestSuit)) {
+                return (straightHigh == ACE ? ROYAL_FLUSH : STRAIGHT_FLUSH) * SCORE_BASE + straightHigh * H0;
+            } else if (groupings[4] != 0) {
+                topGroupings[4][1] = 0;
+                return QUADS * SCORE_BASE + topGroupings[4][0] * H1 + getKickers(1, topGroupings[4], H0);
+            } else if (groupings[3] >= 2) {
+                return FULL_HOUSE * SCORE_BASE + topGroupings[3][0] * H1 + topGroupings[3][1] * H0;
+            } else if (groupings[3] == 1 && groupings[2] != 0) {
+                return FULL_HOUSE * SCORE_BASE + topGroupings[3][0] * H1 + topGroupings[2][0] * H0;
+            } else if (flush) {
+                markSuit(cards, size, biggestSuit);
+                int value = 0;
+                int h = H4;
+                for (int i = ACE, n = 5; n > 0; i--) {
+                    if (exist[i]) {
+                        value += i * h;
+                        h >>= 4;
+                        n--;
+                    }
+                }
+                return FLUSH * SCORE_BASE + value;
+            } else if (straight) {
+                return STRAIGHT * SCORE_BASE + straightHigh * H0;
+            } else if (groupings[3] == 1) {
+                return TRIPS * SCORE_BASE + topGroupings[3][0] * H2
+                        + getKickers(maxHandSize - 3, topGroupings[3], H1);
+            } else if (groupings[2] >= 2) {
+                return TWO_PAIR * SCORE_BASE + topGroupings[2][0] * H2 + topGroupings[2][1] * H1
+                        + getKickers(maxHandSize - 4, topGroupings[2], H0);
+            } else if (groupings[2] == 1) {
+                return PAIR * SCORE_BASE + topGroupings[2][0] * H3 + getKickers(maxHandSize - 2, topGroupings[2], H2);
+            }
+            return HIGH_CARD * SCORE_BASE + getKickers(maxHandSize, topGroupings[2], H4);
+        }
+
+        private boolean isStraightFlush(int[] cards, int size, int suit) {
+            markSuit(cards, size, suit);
+            int run = exist[ACE] ? 1 : 0;
+            int high = 0;
+            for (int i = TWO; i <= ACE; i++) {
+                if (exist[i]) {
+                    if (++run >= 5)
+                        high = i;
+                } else {
+                    run = 0;
+                }
+            }
+            if (high == 0)
+                return false;
+            straightHigh = high;
+            return true;
+        }
+
+        private void markSuit(int[] cards, int size, int suit) {
+            Arrays.fill(exist, false);
+            for (int i = 0; i < size; i++) {
+                if (suit(cards[i]) == suit)
+                    exist[rank(cards[i])] = true;
+            }
+        }
+
+        private int getKickers(int num, int[] notAllowed, int h) {
+            int i = ACE;
+            int value = 0;
+            while (num != 0) {
+                while (numRank[i] == 0 || i == notAllowed[0] || i == notAllowed[1])
+                    i--;
+                num--;
+                value += i * h;
+                h >>= 4;
+                i--;
+            }
+            return value;
+        }
+
+        private static int rank(int index) {
+            return (index >>> 2) + TWO;
+        }
+
+        private static int suit(int index) {
+            return index & 3;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static com.donohoedigital.games.poker.engine.Card.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PreflopEquityTest implements HandScoreConstants {
+
+    private final PreflopEquity table = PreflopEquity.getInstance();
+
+    private static int handClass(String notation) {
+        int rank1 = rank(notation.charAt(0));
+        int rank2 = rank(notation.charAt(1));
+        return PreflopEquity.getHandClass(rank1, rank2, notation.endsWith("s"));
+    }
+
+    private static int rank(char c) {
+        return switch (c) {
+            case 'A' -> ACE;
+            case 'K' -> KING;
+            case 'Q' -> QUEEN;
+            case 'J' -> JACK;
+            case 'T' -> TEN;
+            default -> c - '0';
+        };
+    }
+
+    // ===== Hand Classes =====
+
+    @Test
+    void should_NumberClassesOnStartingHandGrid() {
+        assertThat(PreflopEquity.getHandClass(SPADES_A, HEARTS_A)).isZero();
+        assertThat(PreflopEquity.getHandClass(SPADES_A, SPADES_K)).isEqualTo(1);
+        assertThat(PreflopEquity.getHandClass(SPADES_K, HEARTS_A)).isEqualTo(13);
+        assertThat(PreflopEquity.getHandClass(CLUBS_2, DIAMONDS_2)).isEqualTo(168);
+        assertThat(PreflopEquity.getHandClass(HEARTS_7.getIndex(), CLUBS_2.getIndex()))
+                .isEqualTo(PreflopEquity.getHandClass(HEARTS_7, CLUBS_2));
+    }
+
+    @Test
+    void should_CoverAll169Classes_When_EveryHoldingClassified() {
+        boolean[] seen = new boolean[PreflopEquity.NUM_CLASSES];
+        for (int i = 0; i < 52; i++)
+            for (int j = i + 1; j < 52; j++)
+                seen[PreflopEquity.getHandClass(i, j)] = true;
+        for (boolean s : seen)
+            assertThat(s).isTrue();
+    }
+
+    // ===== Equities =====
+
+    @Test
+    void should_MatchPublishedHeadsUpEquities() {
+        assertThat(table.getEquity(handClass("AA"), 1)).isCloseTo(0.852f, within(0.002f));
+        assertThat(table.getEquity(handClass("AKs"), 1)).isCloseTo(0.670f, within(0.002f));
+        assertThat(table.getEquity(handClass("72"), 1)).isCloseTo(0.346f, within(0.002f));
+        assertThat(table.getHeadsUpEquity(handClass("AA"), handClass("KK"))).isCloseTo(0.820f, within(0.003f));
+        assertThat(table.getHeadsUpEquity(handClass("QQ"), handClass("AKs"))).isCloseTo(0.540f, within(0.005f));
+    }
+
+    @Test
+    void should_MatchMonteCarlo_When_SeveralRandomOpponents() {
+        int[] hero = {SPADES_J.getIndex(), SPADES_T.getIndex()};
+        int opponents = 4;
+        double expected = simulate(hero, opponents, 200000, new SplittableRandom(17));
+        assertThat((double) table.getEquity(handClass("JTs"), opponents)).isCloseTo(expected, within(0.005));
+    }
+
+    @Test
+    void should_LoseEquity_When_OpponentsAdded() {
+        for (int c = 0; c < PreflopEquity.NUM_CLASSES; c++) {
+            for (int opp = 2; opp <= PreflopEquity.MAX_OPPONENTS; opp++) {
+                assertThat(table.getEquity(c, opp)).isLessThan(table.getEquity(c, opp - 1));
+            }
+        }
+    }
+
+    @Test
+    void should_ShareHeadsUpPot_When_BothOrdersAdded() {
+        for (int a = 0; a < PreflopEquity.NUM_CLASSES; a++) {
+            for (int b = 0; b < PreflopEquity.NUM_CLASSES; b++) {
+                assertThat(table.getHeadsUpEquity(a, b) + table.getHeadsUpEquity(b, a)).isCloseTo(1.0f,
+                        within(1e-5f));
+            }
+        }
+    }
+
+    @Test
+    void should_SumHandTypeOddsToOne() {
+        for (int c = 0; c < PreflopEquity.NUM_CLASSES; c++) {
+            float sum = 0;
+            for (int type = HIGH_CARD; type <= ROYAL_FLUSH; type++)
+                sum += table.getHandTypeOdds(c, type);
+            assertThat(sum).isCloseTo(1.0f, within(1e-4f));
+        }
+        assertThat(table.getHandTypeOdds(handClass("AA"), HIGH_CARD)).isZero();
+        assertThat(table.getHandTypeOdds(handClass("AA"), QUADS))
+                .isGreaterThan(table.getHandTypeOdds(handClass("72"), QUADS));
+    }
+
+    // ===== Loading =====
+
+    @Test
+    void should_RejectFile_When_NotAnEquityTable(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bad.bin");
+        Files.write(file, new byte[PreflopEquity.FILE_BYTES]);
+        assertThatThrownBy(() -> PreflopEquity.load(file)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_RejectArguments_When_OutOfRange() {
+        assertThatThrownBy(() -> table.getEquity(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.getEquity(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.getHeadsUpEquity(169, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Plain Monte Carlo equity, counting a tie for the best hand as half a win
+     * like the table does.
+     */
+    private static double simulate(int[] hero, int opponents, int deals, SplittableRandom random) {
+        long heroMask = (1L << hero[0]) | (1L << hero[1]);
+        int[] deck = new int[50];
+        int size = 0;
+        for (int i = 0; i < 52; i++)
+            if ((heroMask & (1L << i)) == 0)
+                deck[size++] = i;
+        double total = 0;
+        int needed = 5 + 2 * opponents;
+        for (int d = 0; d < deals; d++) {
+            for (int i = 0; i < needed; i++) {
+                int swap = i + random.nextInt(size - i);
+                int card = deck[swap];
+                deck[swap] = deck[i];
+                deck[i] = card;
+            }
+            long board = 0;
+            for (int i = 0; i < 5; i++)
+                board |= 1L << deck[i];
+            int heroScore = LookupHandEvaluator.getScore(heroMask | board);
+            int best = 0;
+            for (int o = 0; o < opponents; o++)
+                best = Math.max(best,
+                        LookupHandEvaluator.getScore((1L << deck[5 + 2 * o]) | (1L << deck[6 + 2 * o]) | board));
+            if (heroScore > best)
+                total += 1;
+            else if (heroScore == best)
+                total += 0.5;
+        }
+        return total / deals;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.core.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe LRU cache used by the per-board pocket tables
+ * ({@link PocketScores}, {@link PocketRanks}, {@link PocketOdds}).
+ * <p>
+ * Entries for many boards can live side by side, so tables at different games
+ * sharing the same JVM don't evict each other on every call the way the old
+ * single-board caches did. Values are computed outside the lock; if two threads
+ * race to build the same entry, the first one stored wins and the other result
+ * is discarded. Values must therefore be immutable once constructed.
+ *
+ * @param <K>
+ *            key type (typically a board fingerprint)
+ * @param <V>
+ *            cached value type
+ */
+public class BoardCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> map;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maxSize
+     *            maximum number of entries kept; least recently used entries are
+     *            evicted beyond this
+     */
+    public BoardCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > BoardCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached value for {@code key}, computing and storing it with
+     * {@code loader} on a miss.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        synchronized (map) {
+            V value = map.get(key);
+            if (value != null) {
+                hits.incrementAndGet();
+                return value;
+            }
+        }
+
+        misses.incrementAndGet();
+        V computed = loader.apply(key);
+
+        synchronized (map) {
+            V existing = map.putIfAbsent(key, computed);
+            return existing != null ? existing : computed;
+        }
+    }
+
+    /**
+     * Return the cached value for {@code key}, or null if it isn't cached. Counts
+     * as a hit when found and a miss when not.
+     */
+    public V getIfPresent(K key) {
+        synchronized (map) {
+            V value = map.get(key);
+            if (value != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Store {@code value} for {@code key}, replacing any cached value. Not counted
+     * as a hit or miss; pair it with {@link #getIfPresent}, which already counted
+     * the lookup.
+     */
+    public void put(K key, V value) {
+        synchronized (map) {
+            map.put(key, value);
+        }
+    }
+
+    /**
+     * Remove all entries. Counters are left untouched.
+     */
+    public void clear() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return snapshot of the cache counters
+     */
+    public Stats getStats() {
+        return new Stats(hits.get(), misses.get(), evictions.get(), size(), maxSize);
+    }
+
+    /**
+     * Point-in-time cache statistics.
+     */
+    public record Stats(long hits, long misses, long evictions, int size, int maxSize) {
+
+        /**
+         * @return fraction of lookups served from the cache (0.0 if none yet)
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.core.ai;
+
+import com.donohoedigital.games.poker.engine.Hand;
+import com.donohoedigital.games.poker.engine.LookupHandEvaluator;
+
+/**
+ * Hand scores for every pocket holding on one board, and on that board plus
+ * each card that can come next.
+ * <p>
+ * These scores are the same for every player at the table; only the cards a
+ * player holds differ, and each V2 AI skips the holdings and next cards its own
+ * pocket rules out. One instance per board can therefore serve every V2 player
+ * at a table, so the enumeration is done once per street instead of once per
+ * AI decision. A flop or turn instance is about 280KB, too large for a global
+ * {@link BoardCache} of many boards, so instances are held per table and
+ * reached through {@link V2AIContext#getBoardScores()}.
+ * <p>
+ * Immutable once built.
+ */
+public final class BoardScores {
+
+    // Bits for the 52 real cards in a Hand fingerprint (drops Card.BLANK)
+    private static final long ALL_CARDS = (1L << 52) - 1;
+
+    private static final int NUM_HOLDINGS = 52 * 51 / 2;
+
+    private final long board;
+    private final int[] scores; // [holding]
+    private final int[] nextScores; // [holding * 52 + next card], null on the river
+
+    /**
+     * Score every holding on the given board.
+     *
+     * @param community
+     *            flop, turn or river
+     * @return scores for the board
+     */
+    public static BoardScores compute(Hand community) {
+        if (community == null || community.size() < 3) {
+            throw new IllegalArgumentException("BoardScores.compute() needs a flop, turn or river.");
+        }
+        return new BoardScores(community.fingerprint() & ALL_CARDS, community.size() < 5);
+    }
+
+    private BoardScores(long board, boolean withNextCards) {
+        this.board = board;
+        this.scores = new int[NUM_HOLDINGS];
+        this.nextScores = withNextCards ? new int[NUM_HOLDINGS * 52] : null;
+
+        for (int j = 1; j < 52; ++j) {
+            if ((board & (1L << j)) != 0)
+                continue;
+
+            for (int i = 0; i < j; ++i) {
+                if ((board & (1L << i)) != 0)
+                    continue;
+
+                long cards = board | (1L << i) | (1L << j);
+                int holding = holding(i, j);
+                scores[holding] = LookupHandEvaluator.getScore(cards);
+
+                if (nextScores != null) {
+                    int base = holding * 52;
+                    for (int k = 0; k < 52; ++k) {
+                        if ((cards & (1L << k)) == 0) {
+                            nextScores[base + k] = LookupHandEvaluator.getScore(cards | (1L << k));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return card mask (bit n set for card index n) of the board these scores
+     *         are for
+     */
+    public long getBoard() {
+        return board;
+    }
+
+    /**
+     * @return true if next-card scores are present (flop and turn boards)
+     */
+    public boolean hasNextCards() {
+        return nextScores != null;
+    }
+
+    /**
+     * @param card1
+     *            index of first pocket card
+     * @param card2
+     *            index of second pocket card
+     * @return score of the holding on this board (0 if it uses a board card)
+     */
+    public int getScore(int card1, int card2) {
+        return scores[holding(card1, card2)];
+    }
+
+    /**
+     * @param card1
+     *            index of first pocket card
+     * @param card2
+     *            index of second pocket card
+     * @param next
+     *            index of the next board card
+     * @return score of the holding on this board plus {@code next} (0 if any
+     *         card is used twice)
+     */
+    public int getScore(int card1, int card2, int next) {
+        return nextScores[holding(card1, card2) * 52 + next];
+    }
+
+    private static int holding(int card1, int card2) {
+        int lo = Math.min(card1, card2);
+        int hi = Math.max(card1, card2);
+        return hi * (hi - 1) / 2 + lo;
+    }
+}
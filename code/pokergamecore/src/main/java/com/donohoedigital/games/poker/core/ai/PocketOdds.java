@@ -35,8 +35,6 @@ package com.donohoedigital.games.poker.core.ai;
 import com.donohoedigital.games.poker.engine.Card;
 import com.donohoedigital.games.poker.engine.Hand;
 
-import java.util.HashMap;
-
 /**
  * Reusable computation of odds of winning (Effective Hand Strength) with a
  * given pocket hand, board, and cards to come.
@@ -45,25 +43,21 @@ import java.util.HashMap;
  * particularly valuable).
  */
 public class PocketOdds {
-    private static long fpBoard_ = 0;
+    /** Maximum number of board/pocket combinations kept (about 3KB each) */
+    public static final int CACHE_SIZE = 2048;
 
-    private static HashMap cache_ = new HashMap();
+    private static final BoardCache<OddsKey, PocketOdds> cache_ = new BoardCache<>(CACHE_SIZE);
 
     private PocketMatrixShort ehs_ = new PocketMatrixShort();
 
     private float ehsAverage_ = 0.0f;
 
     /**
-     * PocketScores is a wrapper on PocketMatrixShort, and stores a win/tie
+     * PocketOdds is a wrapper on PocketMatrixShort, and stores a win/tie
      * probability for a pocket hand, with a given board. Instances are returned
      * only by PocketOdds.getInstance() so that they can be cached (constructor is
-     * private). The cache is maintained as long as every call is for the same board
-     * cards. This means that while a hand is in play, at most one instance is
-     * cached for each combination of the 49 cards not in the flop, or 1176 1128
-     * 1081instances.
-     *
-     * When a call is made to getInstance() with a different flop, the cache is
-     * cleared.
+     * private). Instances are cached per (board, pocket) fingerprint pair in a
+     * bounded LRU {@link BoardCache} shared by all threads.
      *
      * @param community
      *            The cards currently on the board; cannot be null or empty.
@@ -92,28 +86,29 @@ public class PocketOdds {
             throw new IllegalArgumentException("PocketOdds.getInstance() called with empty pocket hand.");
         }
 
-        // compute fingerprint for board - change triggers cache flush
-        long fpBoard = community.fingerprint();
-
-        if (fpBoard != fpBoard_) {
-            cache_.clear();
-            fpBoard_ = fpBoard;
-        }
+        OddsKey key = new OddsKey(community.fingerprint(), pocket.fingerprint());
 
-        Object key = pocket.fingerprint();
+        return cache_.get(key, k -> new PocketOdds(community, pocket));
+    }
 
-        PocketOdds odds = (PocketOdds) cache_.get(key);
+    /**
+     * @return hit/miss/eviction counters for the shared cache
+     */
+    public static BoardCache.Stats getCacheStats() {
+        return cache_.getStats();
+    }
 
-        if (odds == null) {
-            // long before = System.currentTimeMillis();
-            odds = new PocketOdds(community, pocket);
-            // long after = System.currentTimeMillis();
-            // System.out.println("PocketOdds constructed in " + (after-before) + "
-            // milliseconds.");
-            cache_.put(key, odds);
-        }
+    /**
+     * Clear the shared cache (counters are kept).
+     */
+    public static void clearCache() {
+        cache_.clear();
+    }
 
-        return odds;
+    /**
+     * Cache key - board and pocket fingerprints.
+     */
+    private record OddsKey(long board, long pocket) {
     }
 
     /**
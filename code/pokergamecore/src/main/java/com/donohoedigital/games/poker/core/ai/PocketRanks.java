@@ -35,16 +35,15 @@ package com.donohoedigital.games.poker.core.ai;
 import com.donohoedigital.games.poker.engine.Card;
 import com.donohoedigital.games.poker.engine.Hand;
 
-import java.util.HashMap;
-
 /**
  * Reusable computation of relative ranking of hands (Raw Hand Strength) with a
  * given board.
  */
 public class PocketRanks {
-    private static long fpFlop_ = 0;
+    /** Maximum number of boards kept (about 3KB each) */
+    public static final int CACHE_SIZE = 1024;
 
-    private static HashMap cache_ = new HashMap();
+    private static final BoardCache<Long, PocketRanks> cache_ = new BoardCache<>(CACHE_SIZE);
 
     private PocketMatrixShort rhs_ = new PocketMatrixShort();
 
@@ -52,14 +51,10 @@ public class PocketRanks {
      * PocketRanks is a wrapper on PocketMatrixShort, and stores a ranking for each
      * possible pocket hand, with a given board. Instances are returned only by
      * PocketRanks.getInstance() so that they can be cached (constructor is
-     * private). The cache is maintained as long as every call is for the same flop
-     * cards. Even when two-card lookahead is performed, this means that while a
-     * hand is in play, at most one instance is cached for the flop, one for each
-     * possible turn card, and one for each possible river card, for a total of 98
-     * instances.
-     *
-     * When a call is made to PocketRanks.getInstance() with a different flop, the
-     * cache is cleared.
+     * private). Instances are cached per board fingerprint in a bounded LRU
+     * {@link BoardCache} shared by all threads. Even when two-card lookahead is
+     * performed, a single hand needs at most 98 instances (flop, each turn, each
+     * river), so several tables' worth of boards fit without thrashing.
      *
      * @param community
      *            The cards currently on the board; cannot be null or empty.
@@ -74,29 +69,21 @@ public class PocketRanks {
             throw new IllegalArgumentException("PocketRanks.getInstance() called with pre-flop community hand.");
         }
 
-        // compute fingerprint for flop - change triggers cache flush
-        long fpFlop = community.fingerprint(3);
-
-        if (fpFlop != fpFlop_) {
-            cache_.clear();
-            fpFlop_ = fpFlop;
-        }
-
-        Object key = community.fingerprint();
-
-        PocketRanks ranks = (PocketRanks) cache_.get(key);
+        return cache_.get(community.fingerprint(), key -> new PocketRanks(community));
+    }
 
-        if (ranks == null) {
-            // long before = System.currentTimeMillis();
-            ranks = new PocketRanks(community);
-            // long after = System.currentTimeMillis();
-            // System.out.println(
-            // "PocketRanks constructed for " + community +
-            // " in " + Long.toString(after-before) + " milliseconds.");
-            cache_.put(key, ranks);
-        }
+    /**
+     * @return hit/miss/eviction counters for the shared cache
+     */
+    public static BoardCache.Stats getCacheStats() {
+        return cache_.getStats();
+    }
 
-        return ranks;
+    /**
+     * Clear the shared cache (counters are kept).
+     */
+    public static void clearCache() {
+        cache_.clear();
     }
 
     /**
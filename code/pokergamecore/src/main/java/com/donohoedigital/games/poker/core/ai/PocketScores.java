@@ -36,15 +36,14 @@ import com.donohoedigital.games.poker.engine.Card;
 import com.donohoedigital.games.poker.engine.Hand;
 import com.donohoedigital.games.poker.engine.HandInfoFaster;
 
-import java.util.HashMap;
-
 /**
  * Reusable computation of hand scores with a given board.
  */
 public class PocketScores {
-    private static long fpFlop_ = 0;
+    /** Maximum number of boards kept (about 5KB each) */
+    public static final int CACHE_SIZE = 2048;
 
-    private static HashMap cache_ = new HashMap();
+    private static final BoardCache<Long, PocketScores> cache_ = new BoardCache<>(CACHE_SIZE);
 
     private PocketMatrixInt score_ = new PocketMatrixInt();
 
@@ -52,18 +51,13 @@ public class PocketScores {
      * PocketScores is a wrapper on PocketMatrixInt, and stores a raw hand score for
      * each possible pocket hand, with a given board. Instances are returned only by
      * PocketScores.getInstance() so that they can be cached (constructor is
-     * private). The cache is maintained as long as every call is for the same flop
-     * cards. Even when two-card lookahead is performed, this means that while a
-     * hand is in play, at most one instance is cached for the flop, one for each
-     * possible turn card, and one for each possible river card, for a total of 98
-     * instances.
-     *
-     * When a call is made to getInstance() with a different flop, the cache is
-     * cleared.
+     * private). Instances are cached per board fingerprint in a bounded LRU
+     * {@link BoardCache} shared by all threads, so boards from different tables
+     * can be cached at the same time.
      *
      * @param community
      *            The cards currently on the board; cannot be null or empty.
-     * @return An instance of PocketRanks for the specified board.
+     * @return An instance of PocketScores for the specified board.
      */
     public static PocketScores getInstance(Hand community) {
         if (community == null) {
@@ -74,27 +68,21 @@ public class PocketScores {
             throw new IllegalArgumentException("PocketScores.getInstance() called with pre-flop community hand.");
         }
 
-        // compute fingerprint for flop - change triggers cache flush
-        long fpFlop = (community.size() == 0)
-                ? 0
-                : 1L << community.getCard(0).getIndex() | 1L << community.getCard(1).getIndex()
-                        | 1L << community.getCard(2).getIndex();
-
-        if (fpFlop != fpFlop_) {
-            cache_.clear();
-            fpFlop_ = fpFlop;
-        }
-
-        Object key = community.fingerprint();
-
-        PocketScores scores = (PocketScores) cache_.get(key);
+        return cache_.get(community.fingerprint(), key -> new PocketScores(community));
+    }
 
-        if (scores == null) {
-            scores = new PocketScores(community);
-            cache_.put(key, scores);
-        }
+    /**
+     * @return hit/miss/eviction counters for the shared cache
+     */
+    public static BoardCache.Stats getCacheStats() {
+        return cache_.getStats();
+    }
 
-        return scores;
+    /**
+     * Clear the shared cache (counters are kept).
+     */
+    public static void clearCache() {
+        cache_.clear();
     }
 
     /**
@@ -80,6 +80,14 @@ public interface V2AIContext extends AIContext {
 
     float getApparentStrength(int seat, Hand community);
 
+    /**
+     * Holding scores for the current board, shared by the V2 players at this
+     * table, or null if there are none and the AI should score the board itself.
+     */
+    default BoardScores getBoardScores() {
+        return null;
+    }
+
     // === Draw Detection ===
 
     int getNutFlushCount(Hand pocket, Hand community);
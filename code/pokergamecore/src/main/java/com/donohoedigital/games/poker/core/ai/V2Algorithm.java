@@ -90,11 +90,16 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
     private GamePlayerInfo currentPlayer;
     private V2AIContext currentContext;
 
+    // Bits for the 52 real cards in a Hand fingerprint (drops Card.BLANK)
+    private static final long ALL_CARDS = (1L << 52) - 1;
+
     // === Hand strength cache (per action, fingerprint-keyed) ===
     private long fpPocket = 0;
     private long fpCommunity = 0;
     private int myHandScore;
     private int[][] otherHandScore = null; // [52][52]
+    private int[] nextCards = null; // card indices not in pocket or community
+    private int[] myNextScore = null; // [52] our score with each next card added
     private float rawHandStrength = -1;
     private float biasedHandStrength = -1;
 
@@ -405,19 +410,69 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
      * V2Player._computeOdds().
      */
     private void _computeOdds(Hand pocket, Hand community, GamePlayerInfo player, V2AIContext context) {
+        computeRawOdds(pocket, community, context.getBoardScores());
+
+        // Reset cached values
+        biasedHandStrength = -1;
+        cachedBEHS = -1;
+
+        if (community.size() == 5) {
+            biasedPositivePotential = 0.0f;
+            biasedNegativePotential = 0.0f;
+            return;
+        }
+
+        computeBiasedPotential(player, context);
+    }
+
+    /**
+     * Raw hand strength and potential against every possible opponent hand; the
+     * part of {@link #_computeOdds} that does not depend on the opponents.
+     * Package-private for benchmarks.
+     * <p>
+     * Works on 52-bit card masks scored by {@link LookupHandEvaluator}, so the
+     * enumeration allocates nothing. Our score with each possible next card does
+     * not depend on the opponent's cards, so it is computed once up front rather
+     * than for each of the ~1,000 opponent hands.
+     */
+    void computeRawOdds(Hand pocket, Hand community) {
+        computeRawOdds(pocket, community, null);
+    }
+
+    /**
+     * {@link #computeRawOdds(Hand, Hand)} reading opponent scores from a table's
+     * shared {@link BoardScores} instead of scoring them here. {@code shared} is
+     * ignored if null or built for a different board.
+     */
+    void computeRawOdds(Hand pocket, Hand community, BoardScores shared) {
         float[][] posPot = getPositivePotentialArray();
         float[][] negPot = getNegativePotentialArray();
         int[][] otherScore = getOtherHandScoreArray();
+        int[] nextCards = getNextCardsArray();
+        int[] myNextScore = getMyNextScoreArray();
 
-        Deck deck = new Deck(false);
-        deck.removeCards(pocket);
-        deck.removeCards(community);
+        long board = community.fingerprint() & ALL_CARDS;
+        long mine = (pocket.fingerprint() & ALL_CARDS) | board;
+        boolean river = community.size() >= 5;
 
-        Hand opponentHand = new Hand(Card.BLANK, Card.BLANK);
-        HandInfoFaster info = new HandInfoFaster();
         PocketRanks ranks = PocketRanks.getInstance(community);
 
-        myHandScore = info.getScore(pocket, community);
+        if (shared != null && shared.getBoard() != board) {
+            shared = null;
+        }
+
+        myHandScore = LookupHandEvaluator.getScore(mine);
+
+        // Cards that can still come, with our score after each
+        int numNext = 0;
+        for (int k = 0; k < 52; ++k) {
+            if ((mine & (1L << k)) == 0) {
+                nextCards[numNext++] = k;
+                if (!river) {
+                    myNextScore[k] = LookupHandEvaluator.getScore(mine | (1L << k));
+                }
+            }
+        }
 
         int totalHands = 0;
         int winCount = 0;
@@ -428,19 +483,20 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
         float npotDiv = 0.0f;
 
         for (int i = 51; i >= 0; --i) {
-            opponentHand.setCard(0, Card.getCard(i % 4, i / 4 + 2));
-
             for (int j = 51; j > i; --j) {
-                opponentHand.setCard(1, Card.getCard(j % 4, j / 4 + 2));
+                long opponent = (1L << i) | (1L << j);
 
-                if (pocket.containsAny(opponentHand) || community.containsAny(opponentHand)) {
+                if ((mine & opponent) != 0) {
                     otherScore[i][j] = 0;
                     posPot[i][j] = 0;
                     negPot[i][j] = 0;
                     continue;
                 }
 
-                int ohs = otherScore[i][j] = info.getScore(opponentHand, community);
+                long theirs = opponent | board;
+                int ohs = otherScore[i][j] = shared != null
+                        ? shared.getScore(i, j)
+                        : LookupHandEvaluator.getScore(theirs);
 
                 if (ohs <= myHandScore) {
                     ++winCount;
@@ -449,23 +505,25 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
                 ++totalHands;
 
                 // Compute potential if not river
-                if (community.size() < 5) {
-                    deck.removeCards(opponentHand);
+                if (!river) {
+                    float rhs = ranks.getRawHandStrength(i, j);
+                    float phs = (float) ((double) rhs * rhs);
 
-                    int deckSize = deck.size();
                     float pdiv = 0.0f;
                     float ndiv = 0.0f;
                     float ppot = 0.0f;
                     float npot = 0.0f;
 
-                    for (int k = 0; k < deckSize; ++k) {
-                        Card nextCard = deck.getCard(k);
-                        community.add(nextCard);
-
-                        float phs = (float) Math.pow(ranks.getRawHandStrength(opponentHand), 2);
+                    for (int n = 0; n < numNext; ++n) {
+                        int k = nextCards[n];
+                        if (k == i || k == j) {
+                            continue;
+                        }
 
-                        int myNewScore = info.getScore(pocket, community);
-                        int otherNewScore = info.getScore(opponentHand, community);
+                        int myNewScore = myNextScore[k];
+                        int otherNewScore = shared != null
+                                ? shared.getScore(i, j, k)
+                                : LookupHandEvaluator.getScore(theirs | (1L << k));
 
                         // Currently behind
                         pdiv += phs;
@@ -500,8 +558,6 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
                                 npot += 1.0f;
                             }
                         }
-
-                        community.remove(nextCard);
                     }
 
                     ppot = pdiv > 0 ? ppot / pdiv : 0;
@@ -510,10 +566,10 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
                     posPot[i][j] = ppot;
                     negPot[i][j] = npot;
 
-                    if (otherScore[i][j] > myHandScore) {
+                    if (ohs > myHandScore) {
                         ppotSum += ppot;
                         ppotDiv += 1.0;
-                    } else if (otherScore[i][j] == myHandScore) {
+                    } else if (ohs == myHandScore) {
                         ppotSum += ppot * 0.5;
                         ppotDiv += 0.5;
                         npotSum += npot * 0.5f;
@@ -522,8 +578,6 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
                         npotSum += npot;
                         npotDiv += 1.0f;
                     }
-
-                    deck.addAll(opponentHand);
                 }
             }
         }
@@ -531,18 +585,6 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
         rawHandStrength = (float) winCount / totalHands;
         rawPositivePotential = ppotDiv != 0.0f ? ppotSum / ppotDiv : 0.0f;
         rawNegativePotential = npotDiv != 0.0f ? npotSum / npotDiv : 0.0f;
-
-        // Reset cached values
-        biasedHandStrength = -1;
-        cachedBEHS = -1;
-
-        if (community.size() == 5) {
-            biasedPositivePotential = 0.0f;
-            biasedNegativePotential = 0.0f;
-            return;
-        }
-
-        computeBiasedPotential(player, context);
     }
 
     /**
@@ -557,8 +599,6 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
         Hand community = context.getCommunity();
         PocketRanks ranks = PocketRanks.getInstance(community);
 
-        Hand hand = new Hand(Card.BLANK, Card.BLANK);
-
         float bpp = 0.0f;
         float bnp = 0.0f;
         float total = 0.0f;
@@ -566,17 +606,13 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
         int skip = context.getSeat(player);
 
         for (int i = 51; i >= 0; --i) {
-            hand.setCard(0, Card.getCard(i % 4, i / 4 + 2));
-
             for (int j = 51; j > i; --j) {
-                hand.setCard(1, Card.getCard(j % 4, j / 4 + 2));
-
                 for (int seat = 0; seat < 10; ++seat) {
                     if (seat == skip)
                         continue;
 
                     float weight = fieldMatrix.get(i, j);
-                    float rhs = ranks.getRawHandStrength(hand);
+                    float rhs = ranks.getRawHandStrength(i, j);
 
                     bpp += posPot[i][j] * weight * rhs;
                     bnp += negPot[i][j] * weight * rhs;
@@ -822,4 +858,18 @@ public class V2Algorithm implements PurePokerAI, V2PlayerState, AIConstants {
         }
         return otherHandScore;
     }
+
+    private int[] getNextCardsArray() {
+        if (nextCards == null) {
+            nextCards = new int[52];
+        }
+        return nextCards;
+    }
+
+    private int[] getMyNextScoreArray() {
+        if (myNextScore == null) {
+            myNextScore = new int[52];
+        }
+        return myNextScore;
+    }
 }
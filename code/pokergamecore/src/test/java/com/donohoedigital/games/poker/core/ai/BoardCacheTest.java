@@ -0,0 +1,162 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.core.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoardCacheTest {
+
+    @Test
+    void missThenHitForSameKey() {
+        BoardCache<Long, String> cache = new BoardCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, k -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get(1L, k -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        BoardCache.Stats stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getIfPresentDoesNotLoad() {
+        BoardCache<Long, String> cache = new BoardCache<>(4);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        cache.get(1L, k -> "one");
+        assertThat(cache.getIfPresent(1L)).isEqualTo("one");
+
+        BoardCache.Stats stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void putAfterGetIfPresentMissCountsOneMiss() {
+        BoardCache<Long, String> cache = new BoardCache<>(4);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        cache.put(1L, "one");
+        assertThat(cache.getIfPresent(1L)).isEqualTo("one");
+
+        BoardCache.Stats stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        BoardCache<Long, String> cache = new BoardCache<>(2);
+        cache.get(1L, k -> "one");
+        cache.get(2L, k -> "two");
+        cache.get(1L, k -> "one again"); // touch 1 so 2 is eldest
+        cache.get(3L, k -> "three");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+        assertThat(cache.get(1L, k -> "reloaded")).isEqualTo("one");
+        assertThat(cache.get(2L, k -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void keepsMultipleBoardsWithoutClearing() {
+        BoardCache<Long, String> cache = new BoardCache<>(8);
+        for (long board = 0; board < 5; board++) {
+            long b = board;
+            cache.get(board, k -> "board" + b);
+        }
+        for (long board = 0; board < 5; board++) {
+            assertThat(cache.get(board, k -> "miss")).isEqualTo("board" + board);
+        }
+        assertThat(cache.getStats().hits()).isEqualTo(5);
+        assertThat(cache.getStats().evictions()).isZero();
+    }
+
+    @Test
+    void clearKeepsCounters() {
+        BoardCache<Long, String> cache = new BoardCache<>(2);
+        cache.get(1L, k -> "one");
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new BoardCache<Long, String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void concurrentCallersSeeSingleValuePerKey() throws Exception {
+        BoardCache<Long, Object> cache = new BoardCache<>(16);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Object[] seen = new Object[threads];
+        try {
+            for (int t = 0; t < threads; t++) {
+                int index = t;
+                executor.submit(() -> {
+                    start.await();
+                    seen[index] = cache.get(42L, k -> new Object());
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Object value : seen) {
+            assertThat(value).isSameAs(seen[0]);
+        }
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
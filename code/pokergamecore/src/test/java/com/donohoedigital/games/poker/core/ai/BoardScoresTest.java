@@ -0,0 +1,72 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.core.ai;
+
+import com.donohoedigital.games.poker.engine.Card;
+import com.donohoedigital.games.poker.engine.Hand;
+import com.donohoedigital.games.poker.engine.HandInfoFaster;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoardScoresTest {
+
+    @Test
+    void flopScoresMatchEvaluatorForHoldingAndNextCard() {
+        Hand flop = hand("Ah", "Kh", "7c");
+        BoardScores scores = BoardScores.compute(flop);
+        HandInfoFaster info = new HandInfoFaster();
+
+        Hand pocket = hand("Qh", "Jh");
+        int qh = pocket.getCard(0).getIndex();
+        int jh = pocket.getCard(1).getIndex();
+        assertThat(scores.getScore(qh, jh)).isEqualTo(info.getScore(pocket, flop));
+        assertThat(scores.getScore(jh, qh)).isEqualTo(scores.getScore(qh, jh));
+
+        Hand turn = hand("Ah", "Kh", "7c", "Th");
+        int th = turn.getCard(3).getIndex();
+        assertThat(scores.hasNextCards()).isTrue();
+        assertThat(scores.getScore(qh, jh, th)).isEqualTo(info.getScore(pocket, turn));
+        assertThat(scores.getScore(qh, jh, th)).isGreaterThan(scores.getScore(qh, jh));
+    }
+
+    @Test
+    void riverHasNoNextCards() {
+        Hand river = hand("2c", "5d", "9h", "Js", "Kd");
+        BoardScores scores = BoardScores.compute(river);
+
+        assertThat(scores.hasNextCards()).isFalse();
+        assertThat(scores.getBoard()).isEqualTo(river.fingerprint());
+    }
+
+    @Test
+    void preFlopBoardIsRejected() {
+        assertThatThrownBy(() -> BoardScores.compute(hand("2c", "5d")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Hand hand(String... cards) {
+        Hand hand = new Hand(cards.length);
+        for (String card : cards) {
+            hand.addCard(Card.getCard(card));
+        }
+        return hand;
+    }
+}
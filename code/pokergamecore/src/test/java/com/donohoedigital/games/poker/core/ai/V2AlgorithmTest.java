@@ -402,6 +402,84 @@ class V2AlgorithmTest {
         return context;
     }
 
+    @Test
+    void computeRawOdds_nutsOnRiver_beatsEveryHandWithNoPotential() {
+        V2Algorithm algorithm = new V2Algorithm();
+
+        algorithm.computeRawOdds(hand("As", "Ks"), hand("Qs", "Js", "Ts", "2h", "3d"));
+
+        assertThat(algorithm.getRawHandStrength()).isEqualTo(1.0f);
+        assertThat(algorithm.getPositiveHandPotential()).isZero();
+        assertThat(algorithm.getNegativeHandPotential()).isZero();
+    }
+
+    @Test
+    void computeRawOdds_comboDrawOnFlop_hasPositivePotential() {
+        V2Algorithm algorithm = new V2Algorithm();
+
+        algorithm.computeRawOdds(hand("9h", "8h"), hand("7h", "6c", "2h"));
+
+        assertThat(algorithm.getPositiveHandPotential()).isGreaterThan(0.1f);
+        assertThat(algorithm.getRawHandStrength()).isBetween(0.0f, 1.0f);
+    }
+
+    @Test
+    void computeRawOdds_reusedBuffers_matchFreshInstanceAndLeaveBoardUntouched() {
+        Hand pocket = hand("Qd", "Jd");
+        Hand flop = hand("Td", "4s", "2c");
+
+        V2Algorithm reused = new V2Algorithm();
+        reused.computeRawOdds(hand("As", "Ah"), hand("Kc", "7d", "7h", "3s"));
+        reused.computeRawOdds(pocket, flop);
+
+        V2Algorithm fresh = new V2Algorithm();
+        fresh.computeRawOdds(pocket, flop);
+
+        assertThat(reused.getRawHandStrength()).isEqualTo(fresh.getRawHandStrength());
+        assertThat(reused.getPositiveHandPotential()).isEqualTo(fresh.getPositiveHandPotential());
+        assertThat(reused.getNegativeHandPotential()).isEqualTo(fresh.getNegativeHandPotential());
+        assertThat(flop).hasSize(3);
+    }
+
+    @Test
+    void computeRawOdds_sharedBoardScores_matchOwnEnumeration() {
+        Hand pocket = hand("Ac", "5c");
+        Hand turn = hand("Kc", "8c", "5h", "2s");
+
+        V2Algorithm own = new V2Algorithm();
+        own.computeRawOdds(pocket, turn);
+
+        V2Algorithm shared = new V2Algorithm();
+        shared.computeRawOdds(pocket, turn, BoardScores.compute(turn));
+
+        assertThat(shared.getRawHandStrength()).isEqualTo(own.getRawHandStrength());
+        assertThat(shared.getPositiveHandPotential()).isEqualTo(own.getPositiveHandPotential());
+        assertThat(shared.getNegativeHandPotential()).isEqualTo(own.getNegativeHandPotential());
+    }
+
+    @Test
+    void computeRawOdds_sharedScoresForOtherBoard_areIgnored() {
+        Hand pocket = hand("Ac", "5c");
+        Hand turn = hand("Kc", "8c", "5h", "2s");
+
+        V2Algorithm own = new V2Algorithm();
+        own.computeRawOdds(pocket, turn);
+
+        V2Algorithm stale = new V2Algorithm();
+        stale.computeRawOdds(pocket, turn, BoardScores.compute(hand("Kc", "8c", "5h")));
+
+        assertThat(stale.getRawHandStrength()).isEqualTo(own.getRawHandStrength());
+        assertThat(stale.getPositiveHandPotential()).isEqualTo(own.getPositiveHandPotential());
+    }
+
+    private static Hand hand(String... cards) {
+        Hand hand = new Hand(cards.length);
+        for (String card : cards) {
+            hand.addCard(Card.getCard(card));
+        }
+        return hand;
+    }
+
     private GamePlayerInfo createMockPlayer() {
         GamePlayerInfo player = mock(GamePlayerInfo.class);
         when(player.getChipCount()).thenReturn(1000);
@@ -42,7 +42,21 @@ import java.util.List;
  * <p>
  * Provide either {@code iterations} (100-100000) for Monte Carlo mode, or
  * {@code exhaustive=true} to enumerate all possible board completions.
+ *
+ * <p>
+ * For range-vs-range equity, give {@code heroRange} instead of
+ * {@code holeCards} and/or one {@code opponentRanges} entry per ranged
+ * opponent, using range text like {@code "AA,KK,AKs,T9s+"}. Opponents without a
+ * known hand or range are dealt random hands.
  */
 public record SimulationRequest(List<String> holeCards, List<String> communityCards, int numOpponents,
-        Integer iterations, List<List<String>> knownOpponentHands, Boolean exhaustive) {
+        Integer iterations, List<List<String>> knownOpponentHands, Boolean exhaustive, String heroRange,
+        List<String> opponentRanges) {
+
+    /**
+     * @return true if the hero or any opponent is described by a range
+     */
+    public boolean hasRanges() {
+        return heroRange != null || (opponentRanges != null && !opponentRanges.isEmpty());
+    }
 }
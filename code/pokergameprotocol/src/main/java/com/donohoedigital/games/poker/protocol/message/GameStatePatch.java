@@ -0,0 +1,145 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.protocol.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Computes and applies the patches carried by GAME_STATE_DELTA messages.
+ *
+ * The format is a JSON merge patch (RFC 7386) over the serialized
+ * {@link ServerMessageData.GameStateData}, extended for arrays: an object field
+ * holds only the fields that changed, a {@code null} removes a field, and an
+ * array whose length is unchanged is patched by an object keyed by element
+ * index (e.g. {@code {"3": {"chipCount": 1200}}}). Arrays that changed length
+ * and scalar values are replaced outright.
+ *
+ * Seats and player summaries keep their positions from one snapshot to the
+ * next, so a new hand usually only touches chip counts, bets, blinds flags and
+ * cards of a few entries.
+ */
+public final class GameStatePatch {
+
+    private GameStatePatch() {
+    }
+
+    /**
+     * Computes the patch that turns {@code base} into {@code target}.
+     *
+     * @param base
+     *            state the receiver holds (an empty object for a keyframe)
+     * @param target
+     *            state the receiver should end up with
+     * @return patch object (empty if nothing changed)
+     */
+    public static ObjectNode diff(ObjectNode base, ObjectNode target) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> it = target.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode to = field.getValue();
+            JsonNode from = base.get(field.getKey());
+            if (to.isNull()) {
+                if (from != null && !from.isNull()) {
+                    patch.set(field.getKey(), NullNode.instance);
+                }
+            } else if (from == null || from.isNull()) {
+                patch.set(field.getKey(), to);
+            } else if (!from.equals(to)) {
+                patch.set(field.getKey(), diffValue(from, to));
+            }
+        }
+        for (Iterator<String> it = base.fieldNames(); it.hasNext();) {
+            String name = it.next();
+            if (!target.has(name) && !base.get(name).isNull()) {
+                patch.set(name, NullNode.instance);
+            }
+        }
+        return patch;
+    }
+
+    private static JsonNode diffValue(JsonNode from, JsonNode to) {
+        if (from.isObject() && to.isObject()) {
+            return diff((ObjectNode) from, (ObjectNode) to);
+        }
+        if (from.isArray() && to.isArray() && from.size() == to.size()) {
+            ObjectNode elements = JsonNodeFactory.instance.objectNode();
+            for (int i = 0; i < to.size(); i++) {
+                JsonNode before = from.get(i);
+                JsonNode after = to.get(i);
+                if (!before.equals(after)) {
+                    elements.set(Integer.toString(i), diffValue(before, after));
+                }
+            }
+            return elements;
+        }
+        return to;
+    }
+
+    /**
+     * Applies a patch produced by {@link #diff}. The base is not modified.
+     *
+     * @param base
+     *            state the patch was computed against
+     * @param patch
+     *            patch to apply
+     * @return the patched state
+     */
+    public static ObjectNode apply(ObjectNode base, ObjectNode patch) {
+        ObjectNode result = base.deepCopy();
+        merge(result, patch);
+        return result;
+    }
+
+    private static void merge(ObjectNode target, ObjectNode patch) {
+        for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                target.remove(field.getKey());
+            } else {
+                target.set(field.getKey(), mergeValue(target.get(field.getKey()), value));
+            }
+        }
+    }
+
+    private static JsonNode mergeValue(JsonNode current, JsonNode patch) {
+        if (current != null && patch.isObject()) {
+            if (current.isObject()) {
+                merge((ObjectNode) current, (ObjectNode) patch);
+                return current;
+            }
+            if (current.isArray()) {
+                ArrayNode array = (ArrayNode) current;
+                for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext();) {
+                    Map.Entry<String, JsonNode> element = it.next();
+                    int index = Integer.parseInt(element.getKey());
+                    array.set(index, mergeValue(array.get(index), element.getValue()));
+                }
+                return array;
+            }
+        }
+        return patch.deepCopy();
+    }
+}
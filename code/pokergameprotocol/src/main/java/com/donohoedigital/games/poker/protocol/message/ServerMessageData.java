@@ -18,6 +18,7 @@
 package com.donohoedigital.games.poker.protocol.message;
 
 import com.donohoedigital.games.poker.protocol.dto.HandEvaluationData;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 import java.util.Map;
@@ -28,7 +29,7 @@ import java.util.Map;
  * Each record matches the master plan JSON spec exactly, ensuring consistent
  * wire format across all client implementations (desktop, web, mobile).
  */
-public sealed interface ServerMessageData permits ServerMessageData.ConnectedData,ServerMessageData.GameStateData,ServerMessageData.HandStartedData,ServerMessageData.HoleCardsDealtData,ServerMessageData.CommunityCardsDealtData,ServerMessageData.ActionRequiredData,ServerMessageData.PlayerActedData,ServerMessageData.ActionTimeoutData,ServerMessageData.HandCompleteData,ServerMessageData.LevelChangedData,ServerMessageData.PlayerEliminatedData,ServerMessageData.RebuyOfferedData,ServerMessageData.AddonOfferedData,ServerMessageData.GameCompleteData,ServerMessageData.PlayerJoinedData,ServerMessageData.PlayerLeftData,ServerMessageData.PlayerDisconnectedData,ServerMessageData.PotAwardedData,ServerMessageData.ShowdownStartedData,ServerMessageData.PlayerRebuyData,ServerMessageData.PlayerAddonData,ServerMessageData.GamePausedData,ServerMessageData.GameResumedData,ServerMessageData.PlayerKickedData,ServerMessageData.ChatMessageData,ServerMessageData.TimerUpdateData,ServerMessageData.ErrorData,ServerMessageData.LobbyStateData,ServerMessageData.LobbyPlayerJoinedData,ServerMessageData.LobbyPlayerLeftData,ServerMessageData.LobbyPlayerKickedData,ServerMessageData.LobbySettingsChangedData,ServerMessageData.LobbyGameStartingData,ServerMessageData.GameCancelledData,ServerMessageData.ChipsTransferredData,ServerMessageData.ColorUpStartedData,ServerMessageData.AiHoleCardsData,ServerMessageData.NeverBrokeOfferedData,ServerMessageData.PlayerSatOutData,ServerMessageData.PlayerCameBackData,ServerMessageData.ObserverJoinedData,ServerMessageData.ObserverLeftData,ServerMessageData.ColorUpCompletedData,ServerMessageData.ButtonMovedData,ServerMessageData.CurrentPlayerChangedData,ServerMessageData.TableStateChangedData,ServerMessageData.CleaningDoneData,ServerMessageData.PlayerMovedData,ServerMessageData.AdvisorData {
+public sealed interface ServerMessageData permits ServerMessageData.ConnectedData,ServerMessageData.GameStateData,ServerMessageData.GameStateDeltaData,ServerMessageData.HandStartedData,ServerMessageData.HoleCardsDealtData,ServerMessageData.CommunityCardsDealtData,ServerMessageData.ActionRequiredData,ServerMessageData.PlayerActedData,ServerMessageData.ActionTimeoutData,ServerMessageData.HandCompleteData,ServerMessageData.LevelChangedData,ServerMessageData.PlayerEliminatedData,ServerMessageData.RebuyOfferedData,ServerMessageData.AddonOfferedData,ServerMessageData.GameCompleteData,ServerMessageData.PlayerJoinedData,ServerMessageData.PlayerLeftData,ServerMessageData.PlayerDisconnectedData,ServerMessageData.PotAwardedData,ServerMessageData.ShowdownStartedData,ServerMessageData.PlayerRebuyData,ServerMessageData.PlayerAddonData,ServerMessageData.GamePausedData,ServerMessageData.GameResumedData,ServerMessageData.PlayerKickedData,ServerMessageData.ChatMessageData,ServerMessageData.TimerUpdateData,ServerMessageData.ErrorData,ServerMessageData.LobbyStateData,ServerMessageData.LobbyPlayerJoinedData,ServerMessageData.LobbyPlayerLeftData,ServerMessageData.LobbyPlayerKickedData,ServerMessageData.LobbySettingsChangedData,ServerMessageData.LobbyGameStartingData,ServerMessageData.GameCancelledData,ServerMessageData.ChipsTransferredData,ServerMessageData.ColorUpStartedData,ServerMessageData.AiHoleCardsData,ServerMessageData.NeverBrokeOfferedData,ServerMessageData.PlayerSatOutData,ServerMessageData.PlayerCameBackData,ServerMessageData.ObserverJoinedData,ServerMessageData.ObserverLeftData,ServerMessageData.ColorUpCompletedData,ServerMessageData.ButtonMovedData,ServerMessageData.CurrentPlayerChangedData,ServerMessageData.TableStateChangedData,ServerMessageData.CleaningDoneData,ServerMessageData.PlayerMovedData,ServerMessageData.AdvisorData {
 
     /**
      * Sent on successful WebSocket connection, includes full game state snapshot.
@@ -37,8 +38,21 @@ public sealed interface ServerMessageData permits ServerMessageData.ConnectedDat
      * {@code reconnectToken} is a game-scoped JWT (scope: "reconnect", 24h TTL) the
      * client stores in memory and uses for WebSocket reconnection — bypassing
      * cookie auth entirely.
+     *
+     * <p>
+     * {@code lastSequence} is the broadcast sequence number the client should treat
+     * as last received; sequenced messages that follow continue from it. When
+     * {@code resumed} is true the server replays the broadcasts the client missed
+     * (after the {@code lastSeq} it presented) instead of sending a GAME_STATE
+     * snapshot.
      */
-    record ConnectedData(long playerId, GameStateData gameState, String reconnectToken) implements ServerMessageData {
+    record ConnectedData(long playerId, GameStateData gameState, String reconnectToken, boolean resumed,
+            long lastSequence) implements ServerMessageData {
+
+        /** Connection without resume information. */
+        public ConnectedData(long playerId, GameStateData gameState, String reconnectToken) {
+            this(playerId, gameState, reconnectToken, false, 0);
+        }
     }
 
     /** Full game state snapshot. */
@@ -47,6 +61,17 @@ public sealed interface ServerMessageData permits ServerMessageData.ConnectedDat
             int playerRank) implements ServerMessageData {
     }
 
+    /**
+     * Changes to the game state since the last GAME_STATE_DELTA, for clients that
+     * asked for delta updates. {@code patch} is a {@link GameStatePatch} over the
+     * serialized {@link GameStateData} of version {@code baseVersion}; a
+     * {@code baseVersion} of 0 marks a keyframe whose patch holds the whole state.
+     * A client whose current version is not {@code baseVersion} (for example
+     * after a plain GAME_STATE) must ignore the delta and request the state.
+     */
+    record GameStateDeltaData(long version, long baseVersion, JsonNode patch) implements ServerMessageData {
+    }
+
     /** New hand started. */
     record HandStartedData(int handNumber, int dealerSeat, int smallBlindSeat, int bigBlindSeat,
             List<BlindPostedData> blindsPosted) implements ServerMessageData {
@@ -30,6 +30,9 @@ public enum ServerMessageType {
     /** Full game state update */
     GAME_STATE,
 
+    /** Changes since the last game state update (clients that opted in) */
+    GAME_STATE_DELTA,
+
     /** New hand started */
     HAND_STARTED,
 
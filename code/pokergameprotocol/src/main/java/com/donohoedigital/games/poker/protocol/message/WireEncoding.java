@@ -0,0 +1,87 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.protocol.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.util.Locale;
+
+/**
+ * Encoding of {@link ServerMessage} and {@link ClientMessage} on the game
+ * WebSocket.
+ *
+ * JSON text frames are the default. A client may ask for CBOR binary frames by
+ * adding {@code encoding=cbor} to the WebSocket URL; both directions then use
+ * CBOR. The message records are the same in either encoding, so the choice is
+ * made entirely by the {@link ObjectMapper}: CBOR writes integers in 1-5 bytes
+ * and field names and strings without quoting or escaping. Dates keep the JSON
+ * mapper's representation so a decoded tree binds exactly like a JSON one.
+ */
+public enum WireEncoding {
+
+    /** JSON text frames (default). */
+    JSON,
+
+    /** CBOR (RFC 8949) binary frames. */
+    CBOR;
+
+    /** WebSocket URL query parameter used to request an encoding. */
+    public static final String QUERY_PARAM = "encoding";
+
+    /**
+     * @return value of {@link #QUERY_PARAM} that selects this encoding
+     */
+    public String queryValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolves a {@link #QUERY_PARAM} value; anything unrecognised means JSON.
+     *
+     * @param value
+     *            query parameter value, may be null
+     * @return the requested encoding
+     */
+    public static WireEncoding fromQueryValue(String value) {
+        return CBOR.queryValue().equalsIgnoreCase(value) ? CBOR : JSON;
+    }
+
+    /**
+     * @return true if messages in this encoding travel as binary frames
+     */
+    public boolean isBinary() {
+        return this == CBOR;
+    }
+
+    /**
+     * Derives the mapper for this encoding from the JSON mapper, keeping its
+     * registered modules and configuration. Create it once and share it: a shared
+     * mapper lets broadcasts reuse one encoding for many connections.
+     *
+     * @param jsonMapper
+     *            the application's JSON mapper
+     * @return {@code jsonMapper} itself for JSON, otherwise a new mapper
+     */
+    public ObjectMapper mapperFor(ObjectMapper jsonMapper) {
+        if (this == JSON) {
+            return jsonMapper;
+        }
+        return jsonMapper.copyWith(new CBORFactory());
+    }
+}
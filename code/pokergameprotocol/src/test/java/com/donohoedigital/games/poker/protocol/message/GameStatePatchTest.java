@@ -0,0 +1,144 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.protocol.message;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.BlindsData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.GameStateData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PlayerSummaryData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PotData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.SeatData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.TableData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class GameStatePatchTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+    }
+
+    @Test
+    void diff_ofEqualStatesIsEmpty() {
+        ObjectNode state = tree(state(1, 0, List.of()));
+
+        assertTrue(GameStatePatch.diff(state, state.deepCopy()).isEmpty());
+    }
+
+    @Test
+    void apply_reproducesTargetState() throws Exception {
+        GameStateData before = state(7, 0, List.of());
+        GameStateData after = state(8, 3, List.of("Ah", "Kd", "2c"));
+
+        ObjectNode patch = GameStatePatch.diff(tree(before), tree(after));
+
+        assertEquals(after, mapper.treeToValue(GameStatePatch.apply(tree(before), patch), GameStateData.class));
+    }
+
+    @Test
+    void apply_keyframeOverEmptyStateReproducesTarget() throws Exception {
+        GameStateData state = state(3, 2, List.of("Ts"));
+
+        ObjectNode keyframe = GameStatePatch.diff(mapper.createObjectNode(), tree(state));
+
+        assertEquals(state,
+                mapper.treeToValue(GameStatePatch.apply(mapper.createObjectNode(), keyframe), GameStateData.class));
+    }
+
+    @Test
+    void diff_patchesUnchangedLengthArraysByIndex() {
+        ObjectNode patch = GameStatePatch.diff(tree(state(7, 0, List.of())), tree(state(8, 0, List.of())));
+
+        ObjectNode seats = (ObjectNode) patch.get("tables").get("0").get("seats");
+        assertTrue(seats.size() < 10, "only seats whose fields changed are sent: " + seats);
+        assertFalse(seats.elements().next().has("playerName"));
+    }
+
+    @Test
+    void diff_removesFieldsThatBecameNull() throws Exception {
+        GameStateData before = new GameStateData("IN_PROGRESS", 1, new BlindsData(10, 20, 0), 60L, List.of(),
+                List.of(), 2, 2, 1, 1);
+        GameStateData after = new GameStateData("IN_PROGRESS", 1, new BlindsData(10, 20, 0), null, List.of(),
+                List.of(), 2, 2, 1, 1);
+
+        ObjectNode patch = GameStatePatch.diff(tree(before), tree(after));
+
+        assertTrue(patch.get("nextLevelIn").isNull());
+        assertNull(mapper.treeToValue(GameStatePatch.apply(tree(before), patch), GameStateData.class).nextLevelIn());
+    }
+
+    @Test
+    void apply_doesNotModifyBase() {
+        ObjectNode base = tree(state(1, 0, List.of()));
+        ObjectNode copy = base.deepCopy();
+
+        GameStatePatch.apply(base, GameStatePatch.diff(base, tree(state(2, 1, List.of("9h")))));
+
+        assertEquals(copy, base);
+    }
+
+    @Test
+    void diff_ofNextHandIsMuchSmallerThanFullState() throws Exception {
+        ObjectNode before = tree(state(41, 0, List.of()));
+        ObjectNode after = tree(state(42, 0, List.of()));
+
+        int full = mapper.writeValueAsBytes(after).length;
+        int delta = mapper.writeValueAsBytes(GameStatePatch.diff(before, after)).length;
+
+        assertTrue(delta * 5 < full, "delta " + delta + " bytes vs full " + full + " bytes");
+    }
+
+    /**
+     * A 10-seat table as seen at the start of hand {@code hand}: the button moves
+     * one seat per hand, and the blinds pay 50/100.
+     */
+    private static GameStateData state(int hand, int actor, List<String> board) {
+        int dealer = hand % 10;
+        List<SeatData> seats = new ArrayList<>();
+        List<PlayerSummaryData> players = new ArrayList<>();
+        for (int seat = 0; seat < 10; seat++) {
+            boolean sb = seat == (dealer + 1) % 10;
+            boolean bb = seat == (dealer + 2) % 10;
+            int bet = sb ? 50 : bb ? 100 : 0;
+            int chips = 10_000 - bet - (hand % 3 == seat % 3 ? 150 : 0);
+            seats.add(new SeatData(seat, 100 + seat, "Player " + seat, chips, "ACTIVE", seat == dealer, sb, bb, bet,
+                    seat == 0 ? List.of("As", "Qs") : List.of(), seat == actor));
+            players.add(new PlayerSummaryData(100 + seat, "Player " + seat, chips, 1, seat, null));
+        }
+        TableData table = new TableData(1, seats, board, List.of(new PotData(150, List.of(100L, 101L, 102L))),
+                "PRE_FLOP", hand);
+        return new GameStateData("IN_PROGRESS", 2, new BlindsData(50, 100, 0), null, List.of(table), players, 10, 10,
+                1, 4);
+    }
+
+    private ObjectNode tree(GameStateData state) {
+        return mapper.valueToTree(state);
+    }
+}
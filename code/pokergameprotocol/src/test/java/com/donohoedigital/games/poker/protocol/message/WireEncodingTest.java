@@ -0,0 +1,104 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.protocol.message;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.BlindsData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.GameStateData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PlayerSummaryData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.PotData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.SeatData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.TableData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class WireEncodingTest {
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+
+    @BeforeEach
+    void setUp() {
+        json = new ObjectMapper().registerModule(new JavaTimeModule());
+        cbor = WireEncoding.CBOR.mapperFor(json);
+    }
+
+    @Test
+    void fromQueryValue_defaultsToJson() {
+        assertEquals(WireEncoding.CBOR, WireEncoding.fromQueryValue("cbor"));
+        assertEquals(WireEncoding.CBOR, WireEncoding.fromQueryValue("CBOR"));
+        assertEquals(WireEncoding.JSON, WireEncoding.fromQueryValue(null));
+        assertEquals(WireEncoding.JSON, WireEncoding.fromQueryValue("msgpack"));
+        assertEquals("cbor", WireEncoding.CBOR.queryValue());
+    }
+
+    @Test
+    void mapperFor_jsonIsTheSameMapper() {
+        assertSame(json, WireEncoding.JSON.mapperFor(json));
+        assertFalse(WireEncoding.JSON.isBinary());
+        assertTrue(WireEncoding.CBOR.isBinary());
+        assertTrue(cbor.getFactory().canHandleBinaryNatively());
+    }
+
+    @Test
+    void cbor_decodedTreeBindsLikeJson() throws Exception {
+        Instant timestamp = Instant.parse("2026-03-01T12:00:00.250Z");
+        ServerMessage message = new ServerMessage(ServerMessageType.GAME_STATE, "game-1", timestamp, gameState(),
+                42L);
+
+        JsonNode decoded = cbor.readTree(cbor.writeValueAsBytes(message));
+
+        assertEquals("GAME_STATE", decoded.get("type").asText());
+        assertEquals(42L, decoded.get("sequenceNumber").asLong());
+        assertEquals(timestamp, json.treeToValue(decoded.get("timestamp"), Instant.class));
+        assertEquals(gameState(), json.treeToValue(decoded.get("data"), GameStateData.class));
+    }
+
+    @Test
+    void cbor_isSmallerThanJson() throws Exception {
+        ServerMessage message = new ServerMessage(ServerMessageType.GAME_STATE, "game-1", Instant.now(), gameState(),
+                42L);
+
+        int text = json.writeValueAsBytes(message).length;
+        int binary = cbor.writeValueAsBytes(message).length;
+
+        assertTrue(binary < text, "cbor " + binary + " bytes vs json " + text + " bytes");
+    }
+
+    private static GameStateData gameState() {
+        List<SeatData> seats = List.of(
+                new SeatData(0, 100, "Player 0", 9_950, "ACTIVE", true, true, false, 50, List.of("As", "Qs"), false),
+                new SeatData(1, 101, "Player 1", 9_900, "ACTIVE", false, false, true, 100, List.of(), true));
+        TableData table = new TableData(1, seats, List.of(), List.of(new PotData(150, List.of(100L, 101L))),
+                "PRE_FLOP", 3);
+        List<PlayerSummaryData> players = List.of(new PlayerSummaryData(100, "Player 0", 9_950, 1, 0, null),
+                new PlayerSummaryData(101, "Player 1", 9_900, 1, 1, null));
+        return new GameStateData("IN_PROGRESS", 1, new BlindsData(50, 100, 0), 120L, List.of(table), players, 2, 2,
+                1, 1);
+    }
+}
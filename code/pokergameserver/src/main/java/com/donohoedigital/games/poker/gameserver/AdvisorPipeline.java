@@ -0,0 +1,316 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.donohoedigital.games.poker.core.ai.BoardCache;
+import com.donohoedigital.games.poker.engine.Card;
+
+/**
+ * Runs {@link AdvisorService} analyses on a small bounded pool so the
+ * tournament director thread never waits for them.
+ *
+ * <p>
+ * Analyses are cached by (hole cards, board, opponent count), so the same spot
+ * seen at several tables or after a reconnect is computed once; concurrent
+ * requests for a spot still being computed share the same job. Pot odds and
+ * the recommendation are cheap and applied per request on top of the cached
+ * analysis.
+ *
+ * <p>
+ * Each {@link #submit} returns a {@link Request} which the caller cancels when
+ * the spot goes stale (the street advances or the hand ends). A queued job
+ * whose requests have all been cancelled is skipped. When the queue is full
+ * new work is dropped - advice is best effort.
+ */
+public class AdvisorPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdvisorPipeline.class);
+
+    /** Monte Carlo iterations for advisor equity calculation. */
+    public static final int DEFAULT_ITERATIONS = 500;
+
+    /** Number of analyses kept in the cache. */
+    static final int DEFAULT_CACHE_SIZE = 4096;
+
+    /** Jobs allowed to wait for a worker. */
+    static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private final AdvisorService service;
+    private final int iterations;
+    private final ThreadPoolExecutor executor;
+    private final BoardCache<Key, AdvisorService.Analysis> cache;
+    private final ConcurrentHashMap<Key, Job> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param service
+     *            advisor doing the actual work
+     * @param threads
+     *            number of worker threads
+     * @param queueCapacity
+     *            jobs allowed to wait for a worker before new ones are dropped
+     * @param cacheSize
+     *            number of analyses cached
+     * @param iterations
+     *            Monte Carlo iterations per equity calculation
+     */
+    public AdvisorPipeline(AdvisorService service, int threads, int queueCapacity, int cacheSize, int iterations) {
+        this.service = service;
+        this.iterations = iterations;
+        this.cache = new BoardCache<>(cacheSize);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "advisor-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, (r, pool) -> ((Job) r).reject());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Request advice for a player. {@code onResult} is called with the result,
+     * either right away (cached spot) or later on an advisor thread, unless the
+     * request is cancelled first.
+     *
+     * @param holeCards
+     *            player's hole cards
+     * @param communityCards
+     *            community cards (0-5)
+     * @param numOpponents
+     *            number of active opponents
+     * @param potSize
+     *            current pot size
+     * @param callAmount
+     *            amount needed to call
+     * @param onResult
+     *            receives the advisor result
+     * @return handle used to cancel the request
+     */
+    public Request submit(Card[] holeCards, Card[] communityCards, int numOpponents, int potSize, int callAmount,
+            Consumer<AdvisorResult> onResult) {
+        Key key = Key.of(holeCards, communityCards, numOpponents);
+
+        AdvisorService.Analysis cached = cache.getIfPresent(key);
+        if (cached != null) {
+            onResult.accept(service.toResult(cached, potSize, callAmount));
+            return new Request(null, CompletableFuture.completedFuture(null));
+        }
+
+        Job job;
+        boolean created;
+        while (true) {
+            Job fresh = new Job(key, holeCards.clone(), communityCards.clone());
+            job = inFlight.computeIfAbsent(key, k -> fresh);
+            created = job == fresh;
+            if (job.join()) {
+                break;
+            }
+            // job was abandoned between lookup and join; it removes itself
+            inFlight.remove(key, job);
+        }
+
+        CompletableFuture<Void> delivery = job.result
+                .thenAccept(analysis -> onResult.accept(service.toResult(analysis, potSize, callAmount)));
+        delivery.exceptionally(t -> {
+            logger.debug("[ADVISOR] no result for {}: {}", key, t.toString());
+            return null;
+        });
+        if (created) {
+            executor.execute(job);
+        }
+        return new Request(job, delivery);
+    }
+
+    /**
+     * @return cache statistics
+     */
+    public BoardCache.Stats getCacheStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * @return number of jobs waiting for a worker
+     */
+    public int getQueuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stop the worker threads. Queued jobs are dropped.
+     */
+    public void shutdown() {
+        for (Runnable r : executor.shutdownNow()) {
+            ((Job) r).reject();
+        }
+    }
+
+    /**
+     * Handle for one {@link #submit} call.
+     */
+    public static final class Request {
+        private final Job job;
+        private final CompletableFuture<Void> delivery;
+        private boolean cancelled;
+
+        private Request(Job job, CompletableFuture<Void> delivery) {
+            this.job = job;
+            this.delivery = delivery;
+        }
+
+        /**
+         * Stop this request from delivering a result. The shared job is skipped if
+         * nobody else is waiting for it and it hasn't started yet.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+            }
+            delivery.cancel(false);
+            if (job != null) {
+                job.leave();
+            }
+        }
+
+        /**
+         * @return true once the result was delivered, or the request was cancelled
+         *         or dropped
+         */
+        public boolean isDone() {
+            return delivery.isDone();
+        }
+    }
+
+    /**
+     * Cache key: 52-bit masks of hole and board cards plus opponent count.
+     */
+    record Key(long hole, long board, int numOpponents) {
+
+        static Key of(Card[] holeCards, Card[] communityCards, int numOpponents) {
+            long hole = 0;
+            for (Card c : holeCards) {
+                hole |= c.fingerprint();
+            }
+            long board = 0;
+            for (Card c : communityCards) {
+                board |= c.fingerprint();
+            }
+            return new Key(hole, board, numOpponents);
+        }
+    }
+
+    /**
+     * One analysis, shared by every request for the same key while it's pending.
+     */
+    private final class Job implements Runnable {
+        private final Key key;
+        private final Card[] holeCards;
+        private final Card[] communityCards;
+        private final CompletableFuture<AdvisorService.Analysis> result = new CompletableFuture<>();
+        private int waiters;
+        private boolean abandoned;
+
+        Job(Key key, Card[] holeCards, Card[] communityCards) {
+            this.key = key;
+            this.holeCards = holeCards;
+            this.communityCards = communityCards;
+        }
+
+        synchronized boolean join() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        synchronized void leave() {
+            waiters--;
+        }
+
+        /**
+         * Mark abandoned if no one is waiting. Once abandoned no request can join.
+         */
+        private synchronized boolean abandonIfUnwanted() {
+            if (waiters <= 0) {
+                abandoned = true;
+            }
+            return abandoned;
+        }
+
+        void reject() {
+            synchronized (this) {
+                abandoned = true;
+            }
+            inFlight.remove(key, this);
+            result.completeExceptionally(new RejectedExecutionException("Advisor queue full"));
+        }
+
+        @Override
+        public void run() {
+            if (abandonIfUnwanted()) {
+                inFlight.remove(key, this);
+                result.cancel(false);
+                return;
+            }
+            try {
+                AdvisorService.Analysis analysis = service.analyze(holeCards, communityCards, key.numOpponents(),
+                        iterations, ThreadLocalRandom.current());
+                cache.put(key, analysis);
+                inFlight.remove(key, this);
+                result.complete(analysis);
+            } catch (RuntimeException e) {
+                inFlight.remove(key, this);
+                logger.warn("[ADVISOR] analysis failed for {}", key, e);
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
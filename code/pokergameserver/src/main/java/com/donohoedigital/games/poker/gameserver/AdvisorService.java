@@ -44,10 +44,13 @@ import java.util.Random;
 import com.donohoedigital.games.poker.engine.Card;
 import com.donohoedigital.games.poker.engine.CardSuit;
 import com.donohoedigital.games.poker.engine.HandScoreConstants;
+import com.donohoedigital.games.poker.engine.PreflopEquity;
 
 /**
- * Stateless advisor service that computes hand evaluation, Monte Carlo equity,
- * pot odds, starting hand category, and recommendation text.
+ * Stateless advisor service that computes hand evaluation, equity (from
+ * {@link PreflopEquity} preflop, Monte Carlo after the flop), pot odds,
+ * starting hand category, and recommendation text. The game server runs it
+ * through {@link AdvisorPipeline} so the work stays off the game loop.
  */
 public class AdvisorService implements HandScoreConstants {
 
@@ -98,7 +101,7 @@ public class AdvisorService implements HandScoreConstants {
      * @param numOpponents
      *            number of active opponents
      * @param iterations
-     *            Monte Carlo iterations for equity calculation
+     *            Monte Carlo iterations for postflop equity calculation
      * @return advisor result
      */
     public AdvisorResult compute(Card[] holeCards, Card[] communityCards, int potSize, int callAmount, int numOpponents,
@@ -111,6 +114,37 @@ public class AdvisorService implements HandScoreConstants {
      */
     AdvisorResult compute(Card[] holeCards, Card[] communityCards, int potSize, int callAmount, int numOpponents,
             int iterations, Random random) {
+        return toResult(analyze(holeCards, communityCards, numOpponents, iterations, random), potSize, callAmount);
+    }
+
+    /**
+     * The part of the advisor output that depends only on the cards and the number
+     * of opponents (not on pot or bet sizes). This is the expensive part, so
+     * {@link AdvisorPipeline} caches it per spot.
+     */
+    public record Analysis(int handRank, String handDescription, double equity, String startingHandCategory,
+            String startingHandNotation, Map<String, Double> improvementOdds, Double positivePotential,
+            Double negativePotential) {
+    }
+
+    /**
+     * Compute the card-dependent analysis: hand evaluation, Monte Carlo equity,
+     * starting hand category, improvement odds and hand potential.
+     *
+     * @param holeCards
+     *            player's 2 hole cards
+     * @param communityCards
+     *            community cards (0-5), may be empty
+     * @param numOpponents
+     *            number of active opponents
+     * @param iterations
+     *            Monte Carlo iterations for postflop equity calculation
+     * @param random
+     *            random source for equity and hand potential sampling
+     * @return analysis
+     */
+    public Analysis analyze(Card[] holeCards, Card[] communityCards, int numOpponents, int iterations,
+            Random random) {
 
         // Hand evaluation
         List<Card> holeList = List.of(holeCards);
@@ -126,14 +160,15 @@ public class AdvisorService implements HandScoreConstants {
         int totalCards = holeCards.length + communityCards.length;
         String handDescription = totalCards >= 5 ? describeHand(handType, score, holeCards, communityCards) : null;
 
-        // Equity via Monte Carlo
-        double equity = calculateEquity(holeCards, communityCards, numOpponents, iterations, random);
-
-        // Pot odds
-        double potOdds = callAmount == 0 ? 0.0 : (double) callAmount / (potSize + callAmount) * 100.0;
-
-        // Recommendation
-        String recommendation = computeRecommendation(equity, potOdds, callAmount);
+        // Equity from the precomputed table preflop, otherwise via Monte Carlo
+        double equity;
+        if (communityCards.length == 0 && holeCards.length == 2 && numOpponents >= 1
+                && numOpponents <= PreflopEquity.MAX_OPPONENTS) {
+            equity = PreflopEquity.getInstance()
+                    .getEquity(PreflopEquity.getHandClass(holeCards[0], holeCards[1]), numOpponents) * 100.0;
+        } else {
+            equity = calculateEquity(holeCards, communityCards, numOpponents, iterations, random);
+        }
 
         // Starting hand category (pre-flop only)
         String startingHandCategory = null;
@@ -150,14 +185,39 @@ public class AdvisorService implements HandScoreConstants {
 
         // Improvement odds (flop/turn only)
         Map<String, Double> improvementOdds = computeImprovementOdds(holeCards, communityCards, handType);
+        if (improvementOdds != null) {
+            // analyses are shared between players once cached
+            improvementOdds = Map.copyOf(improvementOdds);
+        }
 
         // Hand potential (flop/turn only)
         double[] handPotential = computeHandPotential(holeCards, communityCards, random);
         Double positivePotential = handPotential == null ? null : handPotential[0];
         Double negativePotential = handPotential == null ? null : handPotential[1];
 
-        return new AdvisorResult(handRank, handDescription, equity, potOdds, recommendation, startingHandCategory,
-                startingHandNotation, improvementOdds, positivePotential, negativePotential);
+        return new Analysis(handRank, handDescription, equity, startingHandCategory, startingHandNotation,
+                improvementOdds, positivePotential, negativePotential);
+    }
+
+    /**
+     * Combine a card analysis with the current pot and bet to produce the full
+     * advisor result (pot odds and recommendation).
+     *
+     * @param analysis
+     *            result of {@link #analyze}
+     * @param potSize
+     *            current pot size
+     * @param callAmount
+     *            amount needed to call
+     * @return advisor result
+     */
+    public AdvisorResult toResult(Analysis analysis, int potSize, int callAmount) {
+        double potOdds = callAmount == 0 ? 0.0 : (double) callAmount / (potSize + callAmount) * 100.0;
+        String recommendation = computeRecommendation(analysis.equity(), potOdds, callAmount);
+
+        return new AdvisorResult(analysis.handRank(), analysis.handDescription(), analysis.equity(), potOdds,
+                recommendation, analysis.startingHandCategory(), analysis.startingHandNotation(),
+                analysis.improvementOdds(), analysis.positivePotential(), analysis.negativePotential());
     }
 
     /**
@@ -0,0 +1,63 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver;
+
+/**
+ * Creates the {@link IGameEventStore} for each new game. The default keeps
+ * events in memory; the persistence module can provide a database-backed
+ * factory.
+ */
+@FunctionalInterface
+public interface GameEventStoreFactory {
+
+    /** Factory creating an {@link InMemoryGameEventStore} per game. */
+    GameEventStoreFactory IN_MEMORY = InMemoryGameEventStore::new;
+
+    /**
+     * @param maxRetainedEvents
+     *            most recent events each game keeps in memory; 0 keeps all
+     * @return factory creating a capped {@link InMemoryGameEventStore} per game
+     */
+    static GameEventStoreFactory inMemory(long maxRetainedEvents) {
+        return maxRetainedEvents == 0 ? IN_MEMORY : gameId -> new InMemoryGameEventStore(gameId, maxRetainedEvents);
+    }
+
+    /**
+     * @param gameId
+     *            game the store belongs to
+     * @return a new event store for the game
+     */
+    IGameEventStore create(String gameId);
+}
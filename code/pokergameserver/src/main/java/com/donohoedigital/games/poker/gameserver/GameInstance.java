@@ -77,10 +77,12 @@ public class GameInstance {
     // Game state
     private volatile GameInstanceState state;
     private ServerTournamentContext tournament;
-    private ServerTournamentDirector director;
+    private volatile ServerTournamentDirector director;
     private ServerPlayerActionProvider actionProvider;
     private ServerGameEventBus eventBus;
     private IGameEventStore eventStore;
+    private GameEventStoreFactory eventStoreFactory = GameEventStoreFactory.IN_MEMORY;
+    private boolean parallelTables;
 
     // Player tracking
     private final Map<Long, ServerPlayerSession> playerSessions = new ConcurrentHashMap<>();
@@ -192,7 +194,7 @@ public class GameInstance {
                 throw new IllegalStateException("Cannot prepareStart in state: " + state);
             }
             if (eventBus == null) {
-                eventStore = new InMemoryGameEventStore(gameId);
+                eventStore = eventStoreFactory.create(gameId);
                 eventBus = new ServerGameEventBus(eventStore);
             }
             return eventBus;
@@ -228,7 +230,7 @@ public class GameInstance {
             // create now. This avoids a race where a broadcast callback wired after
             // start() could miss events fired by the director's first hand.
             if (eventBus == null) {
-                eventStore = new InMemoryGameEventStore(gameId);
+                eventStore = eventStoreFactory.create(gameId);
                 eventBus = new ServerGameEventBus(eventStore);
             }
 
@@ -317,6 +319,12 @@ public class GameInstance {
                 director.setNewHandCallback(newHandCallback);
             }
 
+            // Practice games share zip mode and continue prompts across the whole
+            // game, so only online multi-table games run their tables in parallel.
+            if (parallelTables && config.practiceConfig() == null) {
+                director.setParallelTables(true);
+            }
+
             if (config.practiceConfig() != null) {
                 GameConfig.PracticeConfig pc = config.practiceConfig();
                 if (pc.handResultPauseMs() != null)
@@ -507,6 +515,15 @@ public class GameInstance {
         } finally {
             stateLock.unlock();
         }
+        wakeDirector();
+    }
+
+    /** Let an idle director re-check its tables after a player change. */
+    private void wakeDirector() {
+        ServerTournamentDirector d = director;
+        if (d != null) {
+            d.wake();
+        }
     }
 
     /** Check if player is in this game */
@@ -533,6 +550,7 @@ public class GameInstance {
                 ServerPlayer p = table.getPlayer(s);
                 if (p != null && p.getID() == toIntId(profileId)) {
                     p.setSittingOut(sittingOut);
+                    wakeDirector();
                     return;
                 }
             }
@@ -598,6 +616,15 @@ public class GameInstance {
             } finally {
                 stateLock.unlock();
             }
+            // make the full event log durable before anyone reads the result
+            IGameEventStore store = eventStore;
+            if (store != null) {
+                try {
+                    store.flush();
+                } catch (IllegalStateException e) {
+                    logger.error("[GameInstance] event log of game {} is incomplete", gameId, e);
+                }
+            }
         }
     }
 
@@ -733,6 +760,22 @@ public class GameInstance {
         }
     }
 
+    /**
+     * Set the factory used to create this game's event store. Must be called
+     * before {@link #prepareStart} or {@link #start}.
+     */
+    void setEventStoreFactory(GameEventStoreFactory eventStoreFactory) {
+        this.eventStoreFactory = eventStoreFactory;
+    }
+
+    /**
+     * Run each table of a multi-table online game on its own thread. Must be
+     * called before {@link #start}.
+     */
+    void setParallelTables(boolean parallelTables) {
+        this.parallelTables = parallelTables;
+    }
+
     public IGameEventStore getEventStore() {
         return eventStore;
     }
@@ -38,14 +38,24 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
- * Registry and lifecycle manager for all GameInstances. Thread pool management
- * for running game director threads.
+ * Registry and lifecycle manager for all GameInstances. Thread management for
+ * running game director threads.
+ *
+ * <p>
+ * By default each director runs on its own virtual thread, so a game blocked on
+ * a human decision or parked between hands costs no platform thread and one
+ * node can host thousands of idle games. {@link DirectorThreads#POOLED} keeps
+ * the previous fixed pool of {@code threadPoolSize} platform threads.
  *
  * <p>
  * This class is thread-safe and manages the lifecycle of all active games on
@@ -53,23 +63,80 @@ import java.util.stream.Collectors;
  */
 public class GameInstanceManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(GameInstanceManager.class);
+
     private final GameServerProperties properties;
     private final AIProviderFactory aiProviderFactory;
+    private final GameEventStoreFactory eventStoreFactory;
     private final ConcurrentHashMap<String, GameInstance> games = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor;
     private volatile boolean shutdown = false;
+    private volatile boolean parallelTables = false;
+
+    /** How game director loops are mapped onto threads. */
+    public enum DirectorThreads {
+        /** One virtual thread per game (default). */
+        VIRTUAL,
+        /** Fixed pool of {@code threadPoolSize} platform threads. */
+        POOLED
+    }
 
     public GameInstanceManager(GameServerProperties properties) {
         this(properties, null);
     }
 
     public GameInstanceManager(GameServerProperties properties, AIProviderFactory aiProviderFactory) {
+        this(properties, aiProviderFactory, null);
+    }
+
+    /**
+     * @param properties
+     *            game server configuration
+     * @param aiProviderFactory
+     *            optional strategic AI factory (null = simple random AI)
+     * @param eventStoreFactory
+     *            optional event store factory (null = in-memory stores)
+     */
+    public GameInstanceManager(GameServerProperties properties, AIProviderFactory aiProviderFactory,
+            GameEventStoreFactory eventStoreFactory) {
+        this(properties, aiProviderFactory, eventStoreFactory, DirectorThreads.VIRTUAL);
+    }
+
+    /**
+     * @param properties
+     *            game server configuration
+     * @param aiProviderFactory
+     *            optional strategic AI factory (null = simple random AI)
+     * @param eventStoreFactory
+     *            optional event store factory (null = in-memory stores)
+     * @param directorThreads
+     *            how director loops are run (null = virtual threads)
+     */
+    public GameInstanceManager(GameServerProperties properties, AIProviderFactory aiProviderFactory,
+            GameEventStoreFactory eventStoreFactory, DirectorThreads directorThreads) {
         this.properties = properties;
         this.aiProviderFactory = aiProviderFactory;
-        this.executor = Executors.newScheduledThreadPool(properties.threadPoolSize());
+        this.eventStoreFactory = eventStoreFactory != null ? eventStoreFactory : GameEventStoreFactory.IN_MEMORY;
+        this.executor = directorThreads == DirectorThreads.POOLED
+                ? Executors.newFixedThreadPool(properties.threadPoolSize())
+                : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-director-", 0).factory());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
 
         // Schedule periodic cleanup of completed games (every minute)
-        executor.scheduleAtFixedRate(this::cleanupCompletedGames, 1, 1, TimeUnit.MINUTES);
+        scheduler.scheduleAtFixedRate(this::cleanupCompletedGames, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Run each table of multi-table online games on its own thread, so hand rate
+     * per table does not depend on the size of the field. Applies to games
+     * created after the call.
+     *
+     * @param parallelTables
+     *            true to advance tables independently
+     */
+    public void setParallelTables(boolean parallelTables) {
+        this.parallelTables = parallelTables;
     }
 
     // ====================================
@@ -108,6 +175,8 @@ public class GameInstanceManager {
 
         String gameId = generateGameId();
         GameInstance instance = GameInstance.create(gameId, ownerProfileId, config, properties, aiProviderFactory);
+        instance.setEventStoreFactory(eventStoreFactory);
+        instance.setParallelTables(parallelTables);
         games.put(gameId, instance);
 
         return instance;
@@ -122,6 +191,8 @@ public class GameInstanceManager {
             throw new GameServerException("Server is shutting down");
         }
         GameInstance instance = GameInstance.create(gameId, ownerProfileId, config, properties, aiProviderFactory);
+        instance.setEventStoreFactory(eventStoreFactory);
+        instance.setParallelTables(parallelTables);
         games.put(gameId, instance);
         return instance;
     }
@@ -182,8 +253,12 @@ public class GameInstanceManager {
             GameInstanceState state = game.getState();
             Instant completedAt = game.getCompletedAt();
 
-            return (state == GameInstanceState.COMPLETED || state == GameInstanceState.CANCELLED) && completedAt != null
-                    && completedAt.isBefore(cutoff);
+            boolean expired = (state == GameInstanceState.COMPLETED || state == GameInstanceState.CANCELLED)
+                    && completedAt != null && completedAt.isBefore(cutoff);
+            if (expired) {
+                closeEventStore(game);
+            }
+            return expired;
         });
     }
 
@@ -196,7 +271,7 @@ public class GameInstanceManager {
      *
      * <p>
      * Stops accepting new games, shuts down all active games gracefully, and
-     * terminates the executor.
+     * terminates the director and cleanup executors.
      */
     public void shutdown() {
         shutdown = true;
@@ -204,7 +279,8 @@ public class GameInstanceManager {
         // Shutdown all active games
         games.values().forEach(GameInstance::shutdown);
 
-        // Shutdown executor
+        // Shutdown executors
+        scheduler.shutdownNow();
         executor.shutdown();
         try {
             if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
@@ -214,12 +290,27 @@ public class GameInstanceManager {
             executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
+
+        // Directors have stopped; write out anything still buffered
+        games.values().forEach(this::closeEventStore);
     }
 
     // ====================================
     // Helper Methods
     // ====================================
 
+    private void closeEventStore(GameInstance game) {
+        IGameEventStore store = game.getEventStore();
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IllegalStateException e) {
+                // keep closing the other games' stores
+                logger.error("[GameInstanceManager] event log of game {} is incomplete", game.getGameId(), e);
+            }
+        }
+    }
+
     private GameInstance getGameOrThrow(String gameId) {
         GameInstance game = games.get(gameId);
         if (game == null) {
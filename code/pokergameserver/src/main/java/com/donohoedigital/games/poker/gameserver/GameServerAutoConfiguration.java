@@ -31,7 +31,10 @@
  */
 package com.donohoedigital.games.poker.gameserver;
 
+import java.util.Locale;
+
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -56,11 +59,28 @@ public class GameServerAutoConfiguration {
      * @param aiProviderFactory
      *            optional AI provider factory; when absent, games use simple random
      *            AI
+     * @param eventStoreFactory
+     *            optional event store factory; when absent, games keep their
+     *            events in memory
+     * @param memoryRetention
+     *            most recent events an in-memory store keeps (0 = all)
+     * @param directorThreads
+     *            {@code virtual} (default) or {@code pooled}
+     * @param parallelTables
+     *            advance each table of a multi-table game on its own thread
      * @return GameInstanceManager instance
      */
     @Bean
     public GameInstanceManager gameInstanceManager(GameServerProperties properties,
-            ObjectProvider<AIProviderFactory> aiProviderFactory) {
-        return new GameInstanceManager(properties, aiProviderFactory.getIfAvailable());
+            ObjectProvider<AIProviderFactory> aiProviderFactory,
+            ObjectProvider<GameEventStoreFactory> eventStoreFactory,
+            @Value("${game.server.event-store.memory-retention:0}") long memoryRetention,
+            @Value("${game.server.director-threads:virtual}") String directorThreads,
+            @Value("${game.server.parallel-tables:false}") boolean parallelTables) {
+        GameInstanceManager manager = new GameInstanceManager(properties, aiProviderFactory.getIfAvailable(),
+                eventStoreFactory.getIfAvailable(() -> GameEventStoreFactory.inMemory(memoryRetention)),
+                GameInstanceManager.DirectorThreads.valueOf(directorThreads.trim().toUpperCase(Locale.ROOT)));
+        manager.setParallelTables(parallelTables);
+        return manager;
     }
 }
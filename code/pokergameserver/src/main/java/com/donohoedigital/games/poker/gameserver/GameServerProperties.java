@@ -44,7 +44,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *            Timeout in seconds before disconnected player is auto-removed
  *            (default 120)
  * @param threadPoolSize
- *            Size of thread pool for running game instances (default 10)
+ *            Size of thread pool for running game instances when directors run
+ *            in pooled mode (default 10)
  * @param rateLimitMillis
  *            Minimum milliseconds between player actions to prevent spam
  *            (default 1000)
@@ -80,4 +80,20 @@ public interface IGameEventStore {
      * @return the current sequence number
      */
     long getCurrentSequenceNumber();
+
+    /**
+     * Block until every event appended so far is durable. Stores that write
+     * synchronously have nothing to do.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Flush and release any resources (such as background writer threads). Called
+     * when the game completes or the server shuts down; the store must not be
+     * appended to afterwards.
+     */
+    default void close() {
+        flush();
+    }
 }
@@ -22,37 +22,74 @@ package com.donohoedigital.games.poker.gameserver;
 import com.donohoedigital.games.poker.engine.event.GameEvent;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * In-memory implementation of {@link IGameEventStore}.
  *
  * <p>
- * Uses CopyOnWriteArrayList for thread-safe concurrent access. Suitable for M1
- * single-server deployments. M2 adds DatabaseGameEventStore for persistence
- * across restarts.
+ * Events live in an append-only log of fixed-size chunks, so an append never
+ * copies earlier events and an event is found by sequence number with two
+ * array lookups. Appends are serialized by the store's monitor; readers take
+ * no locks. A reader sees every event up to the published size, which is
+ * written (volatile) only after the event is in place, and the lists it gets
+ * back are snapshots that later appends do not change.
+ *
+ * <p>
+ * An optional retention cap bounds memory for long games: once more than the
+ * cap is held, whole chunks of the oldest events are released, but only chunks
+ * that end before the first event of a hand still in progress at any table, so
+ * a hand in progress can always be replayed from its start. Sequence numbers
+ * keep counting; {@link #getEventsSince} simply
+ * starts at {@link #getFirstRetainedSequenceNumber()} when asked for evicted
+ * events. Suitable for single-server deployments; DatabaseGameEventStore
+ * persists across restarts.
  */
 public class InMemoryGameEventStore implements IGameEventStore {
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
     private final String gameId;
-    private final AtomicLong sequenceNumber;
-    private final List<StoredEvent> events;
+    private final long maxRetainedEvents;
+
+    // replaced wholesale by clear(), so a reader never mixes two generations
+    private volatile Log log = new Log();
 
     /**
-     * Create a new event store for a game.
+     * Create a new event store for a game that keeps every event.
      *
      * @param gameId
      *            unique identifier for the game
      */
     public InMemoryGameEventStore(String gameId) {
+        this(gameId, 0);
+    }
+
+    /**
+     * Create a new event store for a game.
+     *
+     * @param gameId
+     *            unique identifier for the game
+     * @param maxRetainedEvents
+     *            minimum number of most recent events to keep (whole chunks are
+     *            released, so up to one chunk more is held, and more while a
+     *            long hand is in progress); 0 keeps everything
+     */
+    public InMemoryGameEventStore(String gameId, long maxRetainedEvents) {
         if (gameId == null || gameId.isBlank()) {
             throw new IllegalArgumentException("Game ID cannot be null or blank");
         }
+        if (maxRetainedEvents < 0) {
+            throw new IllegalArgumentException("Retention cannot be negative");
+        }
         this.gameId = gameId;
-        this.sequenceNumber = new AtomicLong(0);
-        this.events = new CopyOnWriteArrayList<>();
+        this.maxRetainedEvents = maxRetainedEvents;
     }
 
     @Override
@@ -61,20 +98,54 @@ public class InMemoryGameEventStore implements IGameEventStore {
             throw new IllegalArgumentException("Event cannot be null");
         }
 
-        StoredEvent stored = new StoredEvent(gameId, sequenceNumber.incrementAndGet(), event.getClass().getSimpleName(),
-                event, Instant.now());
+        synchronized (this) {
+            Log l = log;
+            long seq = l.size + 1;
+            StoredEvent stored = new StoredEvent(gameId, seq, event.getClass().getSimpleName(), event, Instant.now());
+
+            if (event instanceof GameEvent.HandStarted started) {
+                l.handStarts.put(started.tableId(), seq);
+            } else if (event instanceof GameEvent.HandCompleted completed) {
+                l.handStarts.remove(completed.tableId());
+            }
 
-        events.add(stored);
+            long index = seq - 1;
+            Directory dir = l.directory;
+            long chunk = index >>> CHUNK_BITS;
+            if (chunk - dir.firstChunk == dir.chunks.length) {
+                long keepFrom = l.handStarts.values().stream().mapToLong(Long::longValue).min().orElse(seq);
+                dir = l.directory = dir.grow(chunk, maxRetainedEvents, keepFrom);
+            }
+            dir.chunks[(int) (chunk - dir.firstChunk)][(int) (index & CHUNK_MASK)] = stored;
+            l.size = seq; // publish
+        }
     }
 
     @Override
     public List<StoredEvent> getEvents() {
-        return Collections.unmodifiableList(events);
+        return getEventsSince(0);
     }
 
     @Override
     public List<StoredEvent> getEventsSince(long afterSequence) {
-        return events.stream().filter(e -> e.sequenceNumber() > afterSequence).toList();
+        Log l = log;
+        long end = l.size; // read size before directory: directory is at least this new
+        Directory dir = l.directory;
+        long from = Math.max(afterSequence + 1, dir.firstSequence());
+        if (from > end) {
+            return List.of();
+        }
+        return new Slice(dir, from, (int) (end - from + 1));
+    }
+
+    /**
+     * @return the oldest sequence number still held (current sequence + 1 when
+     *         empty)
+     */
+    public long getFirstRetainedSequenceNumber() {
+        Log l = log;
+        long end = l.size;
+        return Math.min(l.directory.firstSequence(), end + 1);
     }
 
     @Override
@@ -83,13 +154,82 @@ public class InMemoryGameEventStore implements IGameEventStore {
     }
 
     @Override
-    public void clear() {
-        events.clear();
-        sequenceNumber.set(0);
+    public synchronized void clear() {
+        log = new Log();
     }
 
     @Override
     public long getCurrentSequenceNumber() {
-        return sequenceNumber.get();
+        return log.size;
+    }
+
+    /**
+     * One generation of the log: the chunk directory plus the published size
+     * (which is also the last sequence number).
+     */
+    private static final class Log {
+        volatile Directory directory = new Directory(0, new StoredEvent[0][]);
+        volatile long size;
+        // first sequence number of the hand in progress at each table (appender only)
+        final Map<Integer, Long> handStarts = new HashMap<>();
+    }
+
+    /**
+     * Immutable view of the retained chunks; the chunk arrays themselves are
+     * filled in place. {@code firstChunk} is the absolute index of
+     * {@code chunks[0]}.
+     */
+    private record Directory(long firstChunk, StoredEvent[][] chunks) {
+
+        long firstSequence() {
+            return (firstChunk << CHUNK_BITS) + 1;
+        }
+
+        /**
+         * Add chunk {@code chunk}, dropping leading chunks past the retention cap
+         * that end before sequence number {@code keepFrom}.
+         */
+        Directory grow(long chunk, long maxRetainedEvents, long keepFrom) {
+            int drop = 0;
+            if (maxRetainedEvents > 0) {
+                // full chunks covering the cap, plus the chunk being filled
+                long keepChunks = ((maxRetainedEvents + CHUNK_SIZE - 1) >>> CHUNK_BITS) + 1;
+                long keepFromChunk = (keepFrom - 1) >>> CHUNK_BITS;
+                drop = (int) Math.max(0, Math.min(chunks.length + 1 - keepChunks, keepFromChunk - firstChunk));
+            }
+            StoredEvent[][] next = new StoredEvent[chunks.length - drop + 1][];
+            System.arraycopy(chunks, drop, next, 0, chunks.length - drop);
+            next[next.length - 1] = new StoredEvent[CHUNK_SIZE];
+            return new Directory(firstChunk + drop, next);
+        }
+    }
+
+    /**
+     * Read-only list over a published range of sequence numbers.
+     */
+    private static final class Slice extends AbstractList<StoredEvent> implements RandomAccess {
+        private final Directory dir;
+        private final long fromSequence;
+        private final int size;
+
+        Slice(Directory dir, long fromSequence, int size) {
+            this.dir = dir;
+            this.fromSequence = fromSequence;
+            this.size = size;
+        }
+
+        @Override
+        public StoredEvent get(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+            }
+            long index = fromSequence - 1 + i;
+            return dir.chunks[(int) ((index >>> CHUNK_BITS) - dir.firstChunk)][(int) (index & CHUNK_MASK)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -35,34 +35,77 @@
 package com.donohoedigital.games.poker.gameserver;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.donohoedigital.games.poker.engine.Card;
+import com.donohoedigital.games.poker.engine.HandRange;
 import com.donohoedigital.games.poker.engine.HandScoreConstants;
+import com.donohoedigital.games.poker.engine.PreflopEquity;
 import com.donohoedigital.games.poker.protocol.dto.SimulationResult;
 
+import jakarta.annotation.PreDestroy;
+
 /**
  * Poker equity simulation service. Supports Monte Carlo and exhaustive
- * simulation for a single player vs opponents.
+ * simulation for a single player vs opponents, with exact hands or weighted
+ * ranges. The work itself runs on a
+ * {@link SimulationEngine} whose parallelism is set by
+ * {@code game.server.simulation-parallelism} (0 = number of processors).
  */
 @Service
 public class PokerSimulationService implements HandScoreConstants {
 
-    /** Maximum number of board+opponent combos allowed for exhaustive mode. */
-    static final long EXHAUSTIVE_COMBO_LIMIT = 10_000;
+    /**
+     * Maximum number of board+opponent combos allowed for exhaustive mode. Large
+     * enough for a full preflop river enumeration heads-up against a known hand
+     * (C(48,5) = 1,712,304) or a flop against one random opponent.
+     */
+    static final long EXHAUSTIVE_COMBO_LIMIT = 2_000_000;
 
     private static final String[] HAND_TYPE_NAMES = {null, // index 0 unused
             "HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "TRIPS", "STRAIGHT", "FLUSH", "FULL_HOUSE", "FOUR_OF_A_KIND",
             "STRAIGHT_FLUSH", "ROYAL_FLUSH"};
 
+    private final SimulationEngine engine;
+
+    /**
+     * Create a service using one worker per available processor.
+     */
+    public PokerSimulationService() {
+        this(0);
+    }
+
+    /**
+     * @param parallelism
+     *            number of simulation worker threads (0 or less = number of
+     *            available processors)
+     */
+    @Autowired
+    public PokerSimulationService(@Value("${game.server.simulation-parallelism:0}") int parallelism) {
+        this.engine = new SimulationEngine(parallelism);
+    }
+
+    /**
+     * @return number of worker threads used for simulations
+     */
+    public int getParallelism() {
+        return engine.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        engine.shutdown();
+    }
+
     /**
      * Run a poker equity simulation for one player vs opponents.
      *
@@ -80,7 +123,9 @@ public class PokerSimulationService implements HandScoreConstants {
      * @param exhaustive
      *            when true, enumerate all possible board completions instead of
      *            Monte Carlo; iterations is ignored
-     * @return simulation result with win/tie/loss percentages
+     * @return simulation result with win/tie/loss percentages; preflop Monte Carlo
+     *         requests against random opponents only are answered from
+     *         {@link PreflopEquity} without simulating
      * @throws IllegalArgumentException
      *             if inputs are invalid or exhaustive combo count exceeds
      *             {@link #EXHAUSTIVE_COMBO_LIMIT}
@@ -116,218 +161,239 @@ public class PokerSimulationService implements HandScoreConstants {
             throw new IllegalArgumentException("iterations must be provided for Monte Carlo mode");
         }
 
+        if (community.isEmpty() && knownOppHands.isEmpty() && hole.size() == 2 && !Boolean.TRUE.equals(exhaustive)
+                && numOpponents >= 1 && numOpponents <= PreflopEquity.MAX_OPPONENTS) {
+            return preflopResult(hole, numOpponents, iterations);
+        }
+
+        SimulationEngine.Spot spot = toSpot(hole, community, knownOppHands, remainingDeck, randomOpponents);
+
         if (Boolean.TRUE.equals(exhaustive)) {
-            return runExhaustive(hole, community, knownOppHands, remainingDeck, numOpponents, communityNeeded,
-                    randomOpponents);
+            long comboCount = countExhaustiveCombos(remainingDeck.size(), communityNeeded, randomOpponents);
+            if (comboCount > EXHAUSTIVE_COMBO_LIMIT) {
+                throw new IllegalArgumentException("Exhaustive mode would require " + comboCount
+                        + " combinations, which exceeds the limit of " + EXHAUSTIVE_COMBO_LIMIT);
+            }
+            return buildResult(engine.exhaustive(spot), numOpponents, knownOppHands.isEmpty());
         } else {
-            return runMonteCarlo(hole, community, knownOppHands, remainingDeck, numOpponents, communityNeeded,
-                    randomOpponents, iterations);
+            SimulationEngine.Tally tally = engine.monteCarlo(spot, iterations, ThreadLocalRandom.current().nextLong());
+            return buildResult(tally, numOpponents, knownOppHands.isEmpty());
         }
     }
 
-    private SimulationResult runExhaustive(List<Card> hole, List<Card> community, List<List<Card>> knownOppHands,
-            List<Card> remainingDeck, int numOpponents, int communityNeeded, int randomOpponents) {
+    /**
+     * Run a range-vs-range equity simulation. The hero is given either exact
+     * {@code holeCards} or a {@code heroRange}; opponents are the known hands,
+     * then the {@code opponentRanges}, then random hands up to
+     * {@code numOpponents}. Range syntax is described in {@link HandRange}.
+     *
+     * <p>
+     * Combos that share a card with the board or with another player's hand are
+     * never dealt together, so card removal is reflected in the result. Results
+     * are weighted by combo weights; {@code iterations} in the result is the
+     * number of deals evaluated.
+     *
+     * @param holeCards
+     *            hero's exact hole cards, or null when {@code heroRange} is given
+     * @param heroRange
+     *            hero's range, or null when {@code holeCards} is given
+     * @param communityCards
+     *            community cards (0-5), may be null or empty
+     * @param numOpponents
+     *            total number of opponents (1-9)
+     * @param iterations
+     *            number of Monte Carlo deals; required unless exhaustive
+     * @param knownOpponentHands
+     *            optional exact opponent hands, may be null
+     * @param opponentRanges
+     *            optional opponent ranges, may be null
+     * @param exhaustive
+     *            when true, enumerate every board and combo assignment
+     * @return simulation result; per-opponent results are included whenever any
+     *         opponent hand or range was given
+     * @throws IllegalArgumentException
+     *             if inputs are invalid, a range is empty once the board is
+     *             removed, or the exhaustive combo count exceeds
+     *             {@link #EXHAUSTIVE_COMBO_LIMIT}
+     */
+    public SimulationResult simulateRange(List<String> holeCards, String heroRange, List<String> communityCards,
+            int numOpponents, Integer iterations, List<List<String>> knownOpponentHands, List<String> opponentRanges,
+            Boolean exhaustive) {
 
-        long comboCount = countExhaustiveCombos(remainingDeck.size(), communityNeeded, randomOpponents);
-        if (comboCount > EXHAUSTIVE_COMBO_LIMIT) {
-            throw new IllegalArgumentException("Exhaustive mode would require " + comboCount
-                    + " combinations, which exceeds the limit of " + EXHAUSTIVE_COMBO_LIMIT);
+        if ((holeCards == null) == (heroRange == null)) {
+            throw new IllegalArgumentException("Provide exactly one of holeCards or heroRange");
+        }
+        List<Card> hole = holeCards != null ? parseCards(holeCards) : List.of();
+        if (holeCards != null && hole.size() != 2) {
+            throw new IllegalArgumentException("holeCards must have exactly 2 cards, got " + hole.size());
         }
+        List<Card> community = communityCards != null ? parseCards(communityCards) : List.of();
+        List<List<Card>> knownOppHands = knownOpponentHands != null
+                ? knownOpponentHands.stream().map(this::parseCards).toList()
+                : List.of();
+        List<String> oppRanges = opponentRanges != null ? opponentRanges : List.of();
 
-        int wins = 0;
-        int ties = 0;
-        int losses = 0;
-        int[] oppWins = new int[numOpponents];
-        int[] oppTies = new int[numOpponents];
-        int[] oppLosses = new int[numOpponents];
-        Map<String, Integer> handTypeCounts = new HashMap<>();
+        validateNoDuplicates(hole, community, knownOppHands);
+        for (List<Card> oppHand : knownOppHands) {
+            if (oppHand.size() != 2) {
+                throw new IllegalArgumentException(
+                        "Each opponent hand must have exactly 2 cards, got " + oppHand.size());
+            }
+        }
 
-        ServerHandEvaluator evaluator = new ServerHandEvaluator();
+        int randomOpponents = numOpponents - knownOppHands.size() - oppRanges.size();
+        if (randomOpponents < 0) {
+            throw new IllegalArgumentException("Number of known opponent hands and ranges ("
+                    + (knownOppHands.size() + oppRanges.size()) + ") exceeds numOpponents (" + numOpponents + ")");
+        }
+        if (!Boolean.TRUE.equals(exhaustive) && iterations == null) {
+            throw new IllegalArgumentException("iterations must be provided for Monte Carlo mode");
+        }
 
-        // Generate all board completions
-        List<List<Card>> boardCompletions = new ArrayList<>();
-        generateCombinations(remainingDeck, communityNeeded, 0, new ArrayList<>(), boardCompletions);
+        List<HandRange> ranges = new ArrayList<>(numOpponents + 1);
+        ranges.add(holeCards != null ? HandRange.of(hole.get(0), hole.get(1)) : HandRange.parse(heroRange));
+        for (List<Card> oppHand : knownOppHands) {
+            ranges.add(HandRange.of(oppHand.get(0), oppHand.get(1)));
+        }
+        for (String range : oppRanges) {
+            ranges.add(HandRange.parse(range));
+        }
+        for (int i = 0; i < randomOpponents; i++) {
+            ranges.add(HandRange.all());
+        }
 
-        for (List<Card> boardCompletion : boardCompletions) {
-            List<Card> board = new ArrayList<>(community);
-            board.addAll(boardCompletion);
+        SimulationEngine.RangeSpot spot = toRangeSpot(ranges, community);
 
-            // Build the deck remaining after board cards
-            Set<Integer> usedOnBoard = new HashSet<>();
-            for (Card c : boardCompletion) {
-                usedOnBoard.add(c.getIndex());
-            }
-            List<Card> afterBoard = new ArrayList<>();
-            for (Card c : remainingDeck) {
-                if (!usedOnBoard.contains(c.getIndex())) {
-                    afterBoard.add(c);
-                }
+        SimulationEngine.Tally tally;
+        if (Boolean.TRUE.equals(exhaustive)) {
+            long comboCount = countRangeCombos(spot);
+            if (comboCount > EXHAUSTIVE_COMBO_LIMIT) {
+                throw new IllegalArgumentException("Exhaustive mode would require " + comboCount
+                        + " combinations, which exceeds the limit of " + EXHAUSTIVE_COMBO_LIMIT);
             }
+            tally = engine.rangeExhaustive(spot);
+        } else {
+            tally = engine.rangeMonteCarlo(spot, iterations, ThreadLocalRandom.current().nextLong());
+        }
+        if (tally.total() == 0) {
+            throw new IllegalArgumentException("Ranges leave no valid deals");
+        }
+        return buildResult(tally, numOpponents, knownOppHands.isEmpty() && oppRanges.isEmpty());
+    }
 
-            // Generate all random opponent combinations
-            List<List<List<Card>>> oppCombos = new ArrayList<>();
-            generateRandomOpponentCombos(afterBoard, randomOpponents, new ArrayList<>(), oppCombos);
-
-            if (oppCombos.isEmpty()) {
-                oppCombos.add(List.of()); // no random opponents
+    private static SimulationEngine.RangeSpot toRangeSpot(List<HandRange> ranges, List<Card> community) {
+        long board = mask(community);
+        long[][] combos = new long[ranges.size()][];
+        double[][] weights = new double[ranges.size()][];
+
+        // cards held in every combo of some range can never be on the board
+        long dead = board;
+        for (int p = 0; p < combos.length; p++) {
+            HandRange range = ranges.get(p);
+            range.removeCards(board);
+            if (range.isEmpty()) {
+                throw new IllegalArgumentException(
+                        p == 0 ? "Hero range is empty after removing board cards"
+                                : "Opponent " + p + " range is empty after removing board cards");
             }
-
-            for (List<List<Card>> randOppHands : oppCombos) {
-                int playerScore = evaluator.getScore(hole, board);
-
-                // Track hand type breakdown
-                int handTypeIdx = playerScore / SCORE_BASE;
-                if (handTypeIdx >= 1 && handTypeIdx < HAND_TYPE_NAMES.length) {
-                    String handName = HAND_TYPE_NAMES[handTypeIdx];
-                    handTypeCounts.merge(handName, 1, Integer::sum);
-                }
-
-                boolean playerWins = true;
-                boolean playerTied = false;
-                int oppIdx = 0;
-
-                for (List<Card> knownOppHand : knownOppHands) {
-                    int oppScore = evaluator.getScore(knownOppHand, board);
-                    if (oppScore > playerScore) {
-                        playerWins = false;
-                        oppWins[oppIdx]++;
-                    } else if (oppScore == playerScore) {
-                        playerTied = true;
-                        oppTies[oppIdx]++;
-                    } else {
-                        oppLosses[oppIdx]++;
-                    }
-                    oppIdx++;
-                }
-
-                for (List<Card> randOppHand : randOppHands) {
-                    int oppScore = evaluator.getScore(randOppHand, board);
-                    if (oppScore > playerScore) {
-                        playerWins = false;
-                        oppWins[oppIdx]++;
-                    } else if (oppScore == playerScore) {
-                        playerTied = true;
-                        oppTies[oppIdx]++;
-                    } else {
-                        oppLosses[oppIdx]++;
-                    }
-                    oppIdx++;
-                }
-
-                if (!playerWins) {
-                    losses++;
-                } else if (playerTied) {
-                    ties++;
-                } else {
-                    wins++;
-                }
+            combos[p] = range.getComboMasks();
+            weights[p] = range.getComboWeights();
+            long always = -1L;
+            for (long hand : combos[p]) {
+                always &= hand;
             }
+            dead |= always;
         }
 
-        int totalIters = wins + ties + losses;
-        return buildResult(wins, ties, losses, totalIters, numOpponents, knownOppHands, oppWins, oppTies, oppLosses,
-                handTypeCounts);
+        int[] deck = new int[52 - Long.bitCount(dead)];
+        int n = 0;
+        for (int i = 0; i < 52; i++) {
+            if ((dead & (1L << i)) == 0) {
+                deck[n++] = i;
+            }
+        }
+        return new SimulationEngine.RangeSpot(board, community.size(), combos, weights, deck);
     }
 
-    private SimulationResult runMonteCarlo(List<Card> hole, List<Card> community, List<List<Card>> knownOppHands,
-            List<Card> remainingDeck, int numOpponents, int communityNeeded, int randomOpponents, int iterations) {
-
-        int wins = 0;
-        int ties = 0;
-        int losses = 0;
-        int[] oppWins = new int[numOpponents];
-        int[] oppTies = new int[numOpponents];
-        int[] oppLosses = new int[numOpponents];
-        Map<String, Integer> handTypeCounts = new HashMap<>();
-
-        Random rng = new Random();
-        ServerHandEvaluator evaluator = new ServerHandEvaluator();
-        List<Card> shuffled = new ArrayList<>(remainingDeck);
-
-        for (int iter = 0; iter < iterations; iter++) {
-            Collections.shuffle(shuffled, rng);
-            int dealIndex = 0;
-
-            List<Card> board = new ArrayList<>(community);
-            for (int j = 0; j < communityNeeded; j++) {
-                board.add(shuffled.get(dealIndex++));
+    /**
+     * Upper bound on the deals a range exhaustive run evaluates: board completions
+     * times the product of range sizes.
+     */
+    private static long countRangeCombos(SimulationEngine.RangeSpot spot) {
+        long total = combinations(spot.deck().length, spot.communityNeeded());
+        for (long[] combos : spot.combos()) {
+            if (total == Long.MAX_VALUE || total > Long.MAX_VALUE / combos.length) {
+                return Long.MAX_VALUE;
             }
+            total *= combos.length;
+        }
+        return total;
+    }
 
-            int playerScore = evaluator.getScore(hole, board);
-
-            // Track hand type breakdown
-            int handTypeIdx = playerScore / SCORE_BASE;
-            if (handTypeIdx >= 1 && handTypeIdx < HAND_TYPE_NAMES.length) {
-                String handName = HAND_TYPE_NAMES[handTypeIdx];
-                handTypeCounts.merge(handName, 1, Integer::sum);
-            }
+    private SimulationEngine.Spot toSpot(List<Card> hole, List<Card> community, List<List<Card>> knownOppHands,
+            List<Card> remainingDeck, int randomOpponents) {
+        long[] known = new long[knownOppHands.size()];
+        for (int i = 0; i < known.length; i++) {
+            known[i] = mask(knownOppHands.get(i));
+        }
+        int[] deck = new int[remainingDeck.size()];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = remainingDeck.get(i).getIndex();
+        }
+        return new SimulationEngine.Spot(mask(hole), mask(community), community.size(), known, randomOpponents, deck);
+    }
 
-            boolean playerWins = true;
-            boolean playerTied = false;
-            int oppIdx = 0;
-
-            for (List<Card> knownOppHand : knownOppHands) {
-                int oppScore = evaluator.getScore(knownOppHand, board);
-                if (oppScore > playerScore) {
-                    playerWins = false;
-                    oppWins[oppIdx]++;
-                } else if (oppScore == playerScore) {
-                    playerTied = true;
-                    oppTies[oppIdx]++;
-                } else {
-                    oppLosses[oppIdx]++;
-                }
-                oppIdx++;
-            }
+    private static long mask(List<Card> cards) {
+        long mask = 0;
+        for (Card c : cards) {
+            mask |= c.fingerprint();
+        }
+        return mask;
+    }
 
-            for (int o = 0; o < randomOpponents; o++) {
-                List<Card> oppHand = List.of(shuffled.get(dealIndex++), shuffled.get(dealIndex++));
-                int oppScore = evaluator.getScore(oppHand, board);
-                if (oppScore > playerScore) {
-                    playerWins = false;
-                    oppWins[oppIdx]++;
-                } else if (oppScore == playerScore) {
-                    playerTied = true;
-                    oppTies[oppIdx]++;
-                } else {
-                    oppLosses[oppIdx]++;
-                }
-                oppIdx++;
-            }
+    /**
+     * Answer a preflop spot against random hands from {@link PreflopEquity}. The
+     * table is exact or sampled far beyond any request, so {@code iterations} is
+     * reported back as asked.
+     */
+    private static SimulationResult preflopResult(List<Card> hole, int numOpponents, int iterations) {
+        PreflopEquity table = PreflopEquity.getInstance();
+        int handClass = PreflopEquity.getHandClass(hole.get(0), hole.get(1));
+        double win = table.getWin(handClass, numOpponents) * 100.0;
+        double tie = table.getTie(handClass, numOpponents) * 100.0;
 
-            if (!playerWins) {
-                losses++;
-            } else if (playerTied) {
-                ties++;
-            } else {
-                wins++;
+        Map<String, Double> breakdown = new HashMap<>();
+        for (int type = HIGH_CARD; type < HAND_TYPE_NAMES.length; type++) {
+            double odds = table.getHandTypeOdds(handClass, type);
+            if (odds > 0) {
+                breakdown.put(HAND_TYPE_NAMES[type], odds * 100.0);
             }
         }
 
-        return buildResult(wins, ties, losses, iterations, numOpponents, knownOppHands, oppWins, oppTies, oppLosses,
-                handTypeCounts);
+        return new SimulationResult(win, tie, 100.0 - win - tie, iterations, null, breakdown);
     }
 
-    private SimulationResult buildResult(int wins, int ties, int losses, int iters, int numOpponents,
-            List<List<Card>> knownOppHands, int[] oppWins, int[] oppTies, int[] oppLosses,
-            Map<String, Integer> handTypeCounts) {
+    private SimulationResult buildResult(SimulationEngine.Tally tally, int numOpponents, boolean allRandom) {
+        double total = tally.total();
 
         List<SimulationResult.OpponentResult> opponentResults = null;
-        if (!knownOppHands.isEmpty()) {
+        if (!allRandom) {
             opponentResults = new ArrayList<>();
             for (int i = 0; i < numOpponents; i++) {
-                opponentResults.add(new SimulationResult.OpponentResult((double) oppWins[i] / iters * 100,
-                        (double) oppTies[i] / iters * 100, (double) oppLosses[i] / iters * 100));
+                opponentResults.add(new SimulationResult.OpponentResult(tally.oppWins[i] / total * 100,
+                        tally.oppTies[i] / total * 100, tally.oppLosses[i] / total * 100));
             }
         }
 
         Map<String, Double> breakdown = new HashMap<>();
-        for (Map.Entry<String, Integer> entry : handTypeCounts.entrySet()) {
-            breakdown.put(entry.getKey(), (double) entry.getValue() / iters * 100);
+        for (int type = HIGH_CARD; type < HAND_TYPE_NAMES.length; type++) {
+            if (tally.handTypes[type] > 0) {
+                breakdown.put(HAND_TYPE_NAMES[type], tally.handTypes[type] / total * 100);
+            }
         }
 
-        return new SimulationResult((double) wins / iters * 100, (double) ties / iters * 100,
-                (double) losses / iters * 100, iters, opponentResults, breakdown);
+        return new SimulationResult(tally.wins / total * 100, tally.ties / total * 100, tally.losses / total * 100,
+                (int) tally.samples(), opponentResults, breakdown);
     }
 
     /**
@@ -382,37 +448,6 @@ public class PokerSimulationService implements HandScoreConstants {
         return result;
     }
 
-    private void generateCombinations(List<Card> deck, int k, int start, List<Card> current, List<List<Card>> result) {
-        if (current.size() == k) {
-            result.add(new ArrayList<>(current));
-            return;
-        }
-        for (int i = start; i < deck.size(); i++) {
-            current.add(deck.get(i));
-            generateCombinations(deck, k, i + 1, current, result);
-            current.remove(current.size() - 1);
-        }
-    }
-
-    private void generateRandomOpponentCombos(List<Card> deck, int randomOpponents, List<List<Card>> current,
-            List<List<List<Card>>> result) {
-        if (randomOpponents == 0) {
-            result.add(new ArrayList<>(current));
-            return;
-        }
-        for (int i = 0; i < deck.size() - 1; i++) {
-            for (int j = i + 1; j < deck.size(); j++) {
-                List<Card> oppHand = List.of(deck.get(i), deck.get(j));
-                List<Card> remaining = new ArrayList<>(deck);
-                remaining.remove(j);
-                remaining.remove(i);
-                current.add(oppHand);
-                generateRandomOpponentCombos(remaining, randomOpponents - 1, current, result);
-                current.remove(current.size() - 1);
-            }
-        }
-    }
-
     /**
      * Parse string card representations to Card objects.
      *
@@ -22,6 +22,7 @@ package com.donohoedigital.games.poker.gameserver;
 import com.donohoedigital.games.poker.engine.event.GameEvent;
 import com.donohoedigital.games.poker.engine.event.GameEventBus;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -39,6 +40,7 @@ public class ServerGameEventBus extends GameEventBus {
 
     private final IGameEventStore eventStore;
     private volatile Consumer<GameEvent> broadcastCallback;
+    private final AtomicLong publishedCount = new AtomicLong();
 
     /**
      * Create a new server event bus.
@@ -79,6 +81,7 @@ public class ServerGameEventBus extends GameEventBus {
         // 1. Persist to event store (always — event store is the authoritative
         // log)
         eventStore.append(event);
+        publishedCount.incrementAndGet();
 
         // 2. Notify in-process listeners (same as base GameEventBus)
         super.publish(event);
@@ -94,6 +97,17 @@ public class ServerGameEventBus extends GameEventBus {
         }
     }
 
+    /**
+     * Total number of events published on this bus. The tournament director
+     * compares this across a loop iteration to tell whether any table made
+     * progress.
+     *
+     * @return events published since creation
+     */
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
     /**
      * Broadcast a table state change event.
      *
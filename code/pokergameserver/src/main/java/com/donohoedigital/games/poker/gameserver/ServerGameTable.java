@@ -34,6 +34,7 @@ package com.donohoedigital.games.poker.gameserver;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import com.donohoedigital.games.poker.core.GameHand;
 import com.donohoedigital.games.poker.engine.GamePlayerInfo;
@@ -87,6 +88,9 @@ public class ServerGameTable implements GameTable, ServerHand.MockTable {
     private boolean removed = false;
     private boolean coloringUp = false;
 
+    // Seed source for reproducible decks (null = SecureRandom shuffles)
+    private Random deckSeeds;
+
     // Color-up chip race results (set by colorUp(), cleared by colorUpFinish())
     private List<ColorUpPlayerResult> colorUpResults;
 
@@ -221,8 +225,7 @@ public class ServerGameTable implements GameTable, ServerHand.MockTable {
             return;
         }
 
-        ServerDeck deck = new ServerDeck();
-        deck.shuffle();
+        ServerDeck deck = newDeck();
 
         int highSeat = -1;
         int highRank = -1;
@@ -387,8 +390,7 @@ public class ServerGameTable implements GameTable, ServerHand.MockTable {
         // Step 2: deal cards to each participant (one card per odd chip) and sort
         // by highest card. Winners receive one new-min chip each.
         int chipsToAward = totalOdd / newMin; // whole new-min chips to give out
-        ServerDeck deck = new ServerDeck();
-        deck.shuffle();
+        ServerDeck deck = newDeck();
 
         // Assign each participant a single card (highest card wins a chip).
         // Ties are broken by dealing order (earlier seat wins — consistent with
@@ -496,9 +498,8 @@ public class ServerGameTable implements GameTable, ServerHand.MockTable {
         int ante = (tournament != null) ? tournament.getAnte(tournament.getLevel()) : anteAmount;
 
         ServerDeck injected = CardInjectionRegistry.takeDeck();
-        currentHand = (injected != null)
-                ? new ServerHand(this, handNum, sb, bb, ante, button, smallBlindSeat, bigBlindSeat, injected)
-                : new ServerHand(this, handNum, sb, bb, ante, button, smallBlindSeat, bigBlindSeat);
+        currentHand = new ServerHand(this, handNum, sb, bb, ante, button, smallBlindSeat, bigBlindSeat,
+                injected != null ? injected : newDeck());
 
         // Deal the hand
         currentHand.deal();
@@ -672,6 +673,23 @@ public class ServerGameTable implements GameTable, ServerHand.MockTable {
         this.autoDeal = autoDeal;
     }
 
+    /**
+     * Make every deck this table deals (hands, button draw, color-up) come from a
+     * seeded shuffle, so the same seed replays the same cards. Used by batch
+     * self-play runs; live games keep the default SecureRandom shuffle.
+     *
+     * @param seed
+     *            seed for the table's deck sequence
+     */
+    public void setDeckSeed(long seed) {
+        this.deckSeeds = new Random(seed);
+    }
+
+    /** Shuffled deck, seeded if {@link #setDeckSeed(long)} was called. */
+    private ServerDeck newDeck() {
+        return deckSeeds != null ? new ServerDeck(deckSeeds.nextLong()) : new ServerDeck();
+    }
+
     /**
      * Get the tournament context.
      *
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.donohoedigital.games.poker.engine.GamePlayerInfo;
@@ -77,8 +78,9 @@ public class ServerTournamentContext implements TournamentContext {
     private final LevelAdvanceMode levelAdvanceMode;
     private final int handsPerLevel;
 
-    // Level management
-    private int currentLevel;
+    // Level management. Mutators are synchronized: in parallel-table mode every
+    // table's thread advances the shared clock and level.
+    private volatile int currentLevel;
     private long levelStartTimeMillis;
     private long totalPauseTimeMillis;
     private int minChip;
@@ -288,7 +290,7 @@ public class ServerTournamentContext implements TournamentContext {
     }
 
     @Override
-    public void nextLevel() {
+    public synchronized void nextLevel() {
         lastMinChip = minChip;
         currentLevel++;
         levelStartTimeMillis = System.currentTimeMillis();
@@ -300,7 +302,7 @@ public class ServerTournamentContext implements TournamentContext {
     }
 
     @Override
-    public boolean isLevelExpired() {
+    public synchronized boolean isLevelExpired() {
         if (currentLevel >= levelMinutes.length) {
             return false; // Past last level
         }
@@ -325,13 +327,13 @@ public class ServerTournamentContext implements TournamentContext {
     }
 
     @Override
-    public void advanceClockBreak() {
+    public synchronized void advanceClockBreak() {
         // Advance clock during break
         clockAdvanceCount++;
     }
 
     @Override
-    public void startGameClock() {
+    public synchronized void startGameClock() {
         this.gameStartTimeMillis = System.currentTimeMillis();
         this.levelStartTimeMillis = System.currentTimeMillis();
     }
@@ -347,7 +349,7 @@ public class ServerTournamentContext implements TournamentContext {
     }
 
     @Override
-    public void advanceClock() {
+    public synchronized void advanceClock() {
         // Advance clock in practice mode
         clockAdvanceCount++;
     }
@@ -355,7 +357,7 @@ public class ServerTournamentContext implements TournamentContext {
     /**
      * Increment hands played this level (for hands-based level advancement).
      */
-    public void incrementHandsPlayed() {
+    public synchronized void incrementHandsPlayed() {
         handsPlayedThisLevel++;
     }
 
@@ -500,7 +502,7 @@ public class ServerTournamentContext implements TournamentContext {
      * @param level
      *            0-based level index to jump to
      */
-    public void setLevel(int level) {
+    public synchronized void setLevel(int level) {
         if (level < 0 || level >= smallBlinds.length)
             return;
         this.currentLevel = level;
@@ -529,6 +531,21 @@ public class ServerTournamentContext implements TournamentContext {
         this.minChip = minChip;
     }
 
+    /**
+     * Seed every table's deck sequence so the tournament deals reproducibly. Each
+     * table gets its own seed derived from the tournament seed.
+     *
+     * @param seed
+     *            tournament deck seed
+     * @see ServerGameTable#setDeckSeed(long)
+     */
+    public void setDeckSeed(long seed) {
+        Random seeds = new Random(seed);
+        for (ServerGameTable table : tables) {
+            table.setDeckSeed(seeds.nextLong());
+        }
+    }
+
     /**
      * Get all players in the tournament.
      *
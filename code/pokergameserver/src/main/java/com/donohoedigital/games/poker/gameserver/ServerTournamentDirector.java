@@ -31,10 +31,20 @@
  */
 package com.donohoedigital.games.poker.gameserver;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,8 +66,9 @@ import com.donohoedigital.games.poker.model.LevelAdvanceMode;
  *
  * <p>
  * This is the server equivalent of TournamentDirector.run(). It processes all
- * tables each cycle, handles multi-table consolidation, and manages game
- * lifecycle (pause/resume/shutdown).
+ * tables each cycle, balances and breaks tables in multi-table tournaments
+ * (see {@link TableBalancer}), and manages game lifecycle
+ * (pause/resume/shutdown).
  *
  * <p>
  * Follows the pattern proven by HeadlessGameRunnerTest, but with real
@@ -66,7 +77,10 @@ import com.donohoedigital.games.poker.model.LevelAdvanceMode;
  */
 public class ServerTournamentDirector implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(ServerTournamentDirector.class);
-    private static final int SLEEP_MILLIS = 10; // Short sleep to prevent CPU spinning
+    private static final int PAUSE_WAIT_MILLIS = 1000; // Safety bound; resume() signals the wait
+    private static final int MAX_IDLE_WAIT_MILLIS = 50; // Upper bound of the idle backoff
+    private static final int COORDINATE_INTERVAL_MILLIS = 100; // Parallel mode: balancing/game-over check
+    private static final int COORDINATE_LOCK_MILLIS = 5; // Parallel mode: longest wait for one table lock
     // How long to display the hand result before starting the next hand (ms).
     // Must be long enough for players to read pot amounts and winner highlights.
     private int handResultPauseMs = 3000;
@@ -84,6 +98,14 @@ public class ServerTournamentDirector implements Runnable {
     public void setAutoZipEnabled(boolean enabled) {
         this.autoZipEnabled = enabled;
     }
+    // Whether each table of a multi-table tournament advances on its own thread.
+    // Zip mode is one flag on the shared action provider, so parallel mode never
+    // sets or clears it.
+    private boolean parallelTables;
+
+    public void setParallelTables(boolean enabled) {
+        this.parallelTables = enabled;
+    }
 
     // Callback invoked when a human busts in practice mode; returns true if chips
     // should be transferred (Never Broke). Null means the feature is disabled.
@@ -129,6 +151,26 @@ public class ServerTournamentDirector implements Runnable {
     private volatile boolean paused;
     private volatile boolean shutdownRequested;
 
+    // Idle/pause parking. The loop waits here instead of spinning when nothing
+    // can progress; wake() cuts the wait short.
+    private final ReentrantLock wakeLock = new ReentrantLock();
+    private final Condition wakeCondition = wakeLock.newCondition();
+    private long wakeGeneration; // guarded by wakeLock
+    private long loopWakeSeen; // generation last consumed by awaitWake(int)
+    private int idleWaitMillis;
+
+    // Parallel mode: one lock per table, held for each engine step at that table
+    // and by the coordinator while it moves players to or from it or ends the game.
+    private ReentrantLock[] tableLocks;
+    // Parallel mode: tables the coordinator let deal one more hand because the
+    // table they were waiting to balance with was busy. Guarded by the table lock.
+    private boolean[] balanceDeferred;
+    private volatile boolean tablesStopped;
+
+    // Multi-table only: seat index used to keep tables balanced and break them
+    // as players bust out. Null for single-table games.
+    private TableBalancer tableBalancer;
+
     // Static accessor for the current game's director (practice mode only).
     // Set when run() starts, cleared when it exits.
     private static volatile ServerTournamentDirector currentDirector;
@@ -233,13 +275,36 @@ public class ServerTournamentDirector implements Runnable {
         lifecycleCallback.accept(GameLifecycleEvent.STARTED);
 
         try {
-            while (running && !shutdownRequested) {
+            if (tournament.getNumTables() > 1) {
+                List<ServerGameTable> tables = new ArrayList<>();
+                for (int i = 0; i < tournament.getNumTables(); i++) {
+                    tables.add((ServerGameTable) tournament.getTable(i));
+                }
+                tableBalancer = new TableBalancer(tables);
+            }
+            if (parallelTables && tournament.getNumTables() > 1) {
+                runTablesInParallel();
+            }
+            while (running && !shutdownRequested && !tablesStopped) {
                 if (paused) {
-                    sleepMillis(SLEEP_MILLIS);
+                    awaitWake(PAUSE_WAIT_MILLIS);
                     continue;
                 }
 
-                processAllTables();
+                long eventsBefore = eventBus.getPublishedCount();
+                long statesBefore = tableStateFingerprint();
+                boolean allSleep = processAllTables();
+
+                // Nothing published and no table moved: every table is waiting on a
+                // timer or on input from outside the loop. Park with a growing bound
+                // rather than spinning; wake() returns immediately on new input.
+                if (allSleep && eventBus.getPublishedCount() == eventsBefore
+                        && tableStateFingerprint() == statesBefore) {
+                    idleWaitMillis = Math.min(MAX_IDLE_WAIT_MILLIS, Math.max(1, idleWaitMillis * 2));
+                    awaitWake(idleWaitMillis);
+                } else {
+                    idleWaitMillis = 0;
+                }
 
                 // Don't end the game while chips are in the pot (all-in showdown in
                 // progress). isOnePlayerLeft() returns true as soon as one player's stack
@@ -249,8 +314,8 @@ public class ServerTournamentDirector implements Runnable {
                     break;
                 }
 
-                // No sleep - run full speed like HeadlessGameRunnerTest
-                // The engine handles its own timing internally
+                // No sleep while tables progress - run full speed like
+                // HeadlessGameRunnerTest. The engine handles its own timing internally
             }
         } catch (Throwable e) {
             fatalError = true;
@@ -264,6 +329,230 @@ public class ServerTournamentDirector implements Runnable {
         }
     }
 
+    /**
+     * Parallel mode: every table advances on its own virtual thread, so a slow AI
+     * decision or a human think at one table no longer holds up the others. This
+     * thread becomes the coordinator; it alone moves players between tables and
+     * ends the tournament, holding the locks of the tables it changes while it
+     * does. Level changes and clock advances are serialised on the tournament
+     * context.
+     */
+    private void runTablesInParallel() throws Throwable {
+        int numTables = tournament.getNumTables();
+        tableLocks = new ReentrantLock[numTables];
+        balanceDeferred = new boolean[numTables];
+        for (int i = 0; i < numTables; i++) {
+            tableLocks[i] = new ReentrantLock(true);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (ExecutorService tableThreads = Executors
+                .newThreadPerTaskExecutor(Thread.ofVirtual().name("table-", 0).factory())) {
+            for (int i = 0; i < numTables; i++) {
+                int index = i;
+                tableThreads.execute(() -> {
+                    try {
+                        runTable(index);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                        wake();
+                    }
+                });
+            }
+            try {
+                long seen = currentWakeGeneration();
+                while (running && !shutdownRequested && failure.get() == null) {
+                    if (!paused && coordinateTables()) {
+                        break;
+                    }
+                    seen = awaitWake(seen, paused ? PAUSE_WAIT_MILLIS : COORDINATE_INTERVAL_MILLIS);
+                }
+            } finally {
+                tablesStopped = true;
+                wake();
+                if (failure.get() != null) {
+                    tableThreads.shutdownNow();
+                }
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Parallel mode: the loop for one table. Mirrors one pass of
+     * {@link #processAllTables()} for a single table, parking when the table has
+     * nothing to do or is waiting between hands for the coordinator to balance
+     * the tables or end the tournament.
+     */
+    private void runTable(int index) {
+        GameTable table = tournament.getTable(index);
+        ReentrantLock lock = tableLocks[index];
+        long seen = currentWakeGeneration();
+        int idleMillis = 0;
+
+        while (!tablesStopped && !shutdownRequested) {
+            if (paused) {
+                seen = awaitWake(seen, PAUSE_WAIT_MILLIS);
+                continue;
+            }
+            boolean progressed;
+            boolean needsCoordinator;
+            lock.lock();
+            try {
+                if (table.getTableState() == TableState.GAME_OVER) {
+                    wake(); // let the coordinator re-check for game over
+                    return;
+                }
+                if (isWaitingForBalance(index, table)) {
+                    // Players to give up or too few to deal; wait for balanceTables()
+                    progressed = false;
+                    needsCoordinator = true;
+                } else {
+                    TableState stateBefore = table.getTableState();
+                    TableState pendingBefore = table.getPendingTableState();
+                    TableProcessResult result = table.getTableState() == TableState.BREAK
+                            ? processBreak(table)
+                            : engine.processTable(table, tournament, true, true);
+                    applyResult(table, result);
+                    if (table.getTableState() != TableState.BEGIN) {
+                        balanceDeferred[index] = false; // dealt the deferred hand
+                    }
+                    // No markGameOverIfDone() here: other tables are mid-step, so a
+                    // momentary all-in elsewhere could look like game over. The
+                    // coordinator decides that with every open table locked.
+                    progressed = result.nextState() != null || result.phaseToRun() != null
+                            || table.getTableState() != stateBefore || table.getPendingTableState() != pendingBefore;
+                    needsCoordinator = tournament.isGameOver() || isWaitingForBalance(index, table);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (needsCoordinator) {
+                wake();
+            }
+            if (progressed) {
+                idleMillis = 0;
+            } else {
+                idleMillis = Math.min(MAX_IDLE_WAIT_MILLIS, Math.max(1, idleMillis * 2));
+                seen = awaitWake(seen, idleMillis);
+            }
+        }
+    }
+
+    /**
+     * Parallel mode: the engine's BREAK handler checks and advances the shared
+     * level, so only one table may run it at a time.
+     */
+    private TableProcessResult processBreak(GameTable table) {
+        synchronized (tournament) {
+            return engine.processTable(table, tournament, true, true);
+        }
+    }
+
+    /**
+     * Parallel mode: one coordinator pass. Runs the same table balancing and
+     * game-over handling as the sequential loop, but only locks the tables the
+     * pass can change: those between hands (players may leave) and those with an
+     * empty seat (players may join), or every open table when the tournament
+     * looks finished. A table that stays busy, e.g. waiting on a human decision,
+     * is left out of this pass rather than holding up the rest of the field.
+     *
+     * @return true if the tournament is over
+     */
+    private boolean coordinateTables() {
+        if (!needsCoordination()) {
+            return false;
+        }
+        boolean gameOver = tournament.isGameOver();
+        boolean[] locked = new boolean[tableLocks.length];
+        boolean allLocked = true;
+        try {
+            for (int i = 0; i < tableLocks.length; i++) {
+                GameTable table = tournament.getTable(i);
+                if (table.getTableState() == TableState.GAME_OVER
+                        || !(gameOver || isBetweenHands(table) || tableBalancer.hasFreeSeat(i))) {
+                    continue;
+                }
+                locked[i] = tableLocks[i].tryLock(COORDINATE_LOCK_MILLIS, TimeUnit.MILLISECONDS);
+                allLocked &= locked[i];
+            }
+            if (balanceTables(i -> locked[i])) {
+                wake(); // release tables parked between hands
+            }
+            if (!allLocked && deferBlockedTables(locked)) {
+                wake();
+            }
+            if (gameOver && allLocked && !hasActivePot()) {
+                handleGameOver();
+                return true;
+            }
+            return false;
+        } catch (InterruptedException e) {
+            return false;
+        } finally {
+            for (int i = 0; i < locked.length; i++) {
+                if (locked[i]) {
+                    tableLocks[i].unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel mode: a table still waiting after a pass that skipped some busy
+     * table may be waiting on that table, which could be held up indefinitely by
+     * a human decision. Let it deal its next hand instead; it is balanced at a
+     * later hand boundary. Tables too short to deal keep waiting for players.
+     *
+     * @return true if any table was released
+     */
+    private boolean deferBlockedTables(boolean[] locked) {
+        boolean released = false;
+        for (int i = 0; i < locked.length; i++) {
+            if (locked[i] && isWaitingForBalance(i, tournament.getTable(i)) && tableBalancer.getNumSeated(i) >= 2) {
+                balanceDeferred[i] = true;
+                released = true;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Lock-free pre-check for {@link #coordinateTables()}: some table is waiting
+     * between hands for players to move, or the tournament looks finished.
+     */
+    private boolean needsCoordination() {
+        if (tournament.isGameOver()) {
+            return true;
+        }
+        for (int i = 0; i < tournament.getNumTables(); i++) {
+            if (isWaitingForBalance(i, tournament.getTable(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A multi-table table that finished its hand and must not deal the next one
+     * until the balancer has moved players to or from it.
+     */
+    private boolean isWaitingForBalance(int index, GameTable table) {
+        return tableBalancer != null && table.getTableState() == TableState.BEGIN
+                && !(balanceDeferred != null && balanceDeferred[index]) && tableBalancer.isWaitingForMoves(index);
+    }
+
+    private boolean isBetweenHands(GameTable table) {
+        return table.getTableState() == TableState.BEGIN && !hasPot(table);
+    }
+
+    private static boolean hasPot(GameTable table) {
+        return table.getHoldemHand() instanceof ServerHand serverHand && serverHand.getPotSize() > 0;
+    }
+
     /**
      * Process all tables in the tournament.
      *
@@ -277,7 +566,7 @@ public class ServerTournamentDirector implements Runnable {
         for (int i = 0; i < tournament.getNumTables(); i++) {
             GameTable table = tournament.getTable(i);
 
-            if (table.getTableState() == TableState.GAME_OVER) {
+            if (table.getTableState() == TableState.GAME_OVER || isWaitingForBalance(i, table)) {
                 continue;
             }
 
@@ -285,30 +574,50 @@ public class ServerTournamentDirector implements Runnable {
 
             applyResult(table, result);
             allSleep &= result.shouldSleep();
-
-            // Check for game over after each table is processed. Only fire when there
-            // are no chips in the pot: isOnePlayerLeft() returns true as soon as one
-            // player's stack hits 0 (e.g. BB posting all-in), but the hand must play
-            // out through SHOWDOWN so that hand.resolve() awards the pot correctly.
-            if (tournament.isGameOver() && table.getTableState() != TableState.GAME_OVER) {
-                GameHand hand = table.getHoldemHand();
-                if (hand instanceof ServerHand serverHand && serverHand.getPotSize() > 0) {
-                    // Chips still in pot — all-in showdown in progress. Let the hand
-                    // complete naturally via COMMUNITY/SHOWDOWN; do not force GAME_OVER.
-                    continue;
-                }
-                table.setTableState(TableState.GAME_OVER);
-            }
+            markGameOverIfDone(table);
         }
 
-        // Multi-table consolidation after processing all tables
-        if (tournament.getNumTables() > 1) {
-            consolidateTables();
+        // Multi-table balancing after processing all tables
+        if (tableBalancer != null) {
+            balanceTables(i -> true);
         }
 
         return allSleep;
     }
 
+    /**
+     * Check for game over after a table is processed. Only fire when there are no
+     * chips in the pot: isOnePlayerLeft() returns true as soon as one player's
+     * stack hits 0 (e.g. BB posting all-in), but the hand must play out through
+     * SHOWDOWN so that hand.resolve() awards the pot correctly. The pot may be at
+     * another table, so every table is checked.
+     */
+    private void markGameOverIfDone(GameTable table) {
+        if (tournament.isGameOver() && table.getTableState() != TableState.GAME_OVER) {
+            if (hasActivePot()) {
+                // Chips still in pot — all-in showdown in progress. Let the hand
+                // complete naturally via COMMUNITY/SHOWDOWN; do not force GAME_OVER.
+                return;
+            }
+            table.setTableState(TableState.GAME_OVER);
+        }
+    }
+
+    /**
+     * Hash of every table's state and pending state, so the idle check can tell
+     * whether a loop pass moved any table even when it published no events.
+     */
+    private long tableStateFingerprint() {
+        long fingerprint = 0;
+        for (int i = 0; i < tournament.getNumTables(); i++) {
+            GameTable table = tournament.getTable(i);
+            TableState pending = table.getPendingTableState();
+            fingerprint = fingerprint * 31 + table.getTableState().ordinal();
+            fingerprint = fingerprint * 31 + (pending == null ? -1 : pending.ordinal());
+        }
+        return fingerprint * 31 + tournament.getNumTables();
+    }
+
     /**
      * Returns {@code true} if any active table has chips in its pot, indicating an
      * all-in showdown hand is still in progress. Used to prevent premature
@@ -391,24 +700,29 @@ public class ServerTournamentDirector implements Runnable {
             // START_HAND, bypassing WaitForDeal and TD.CheckEndHand entirely — so this
             // is the only reliable hook for the inter-hand pause.
             if (result.nextState() == TableState.BEGIN && tournament instanceof ServerTournamentContext stc) {
-                // Always track hands for blind level advancement (shared counter across
-                // tables).
-                stc.incrementHandsPlayed();
-                // HANDS-mode level advancement: the engine's normal mechanism (BREAK state)
-                // requires break levels, which server tests don't use. Advance the level here
-                // instead. TIME-mode games use the engine's BREAK mechanism — skip to avoid
-                // conflicting with it. Guard against advancing past the last configured level,
-                // which would make getSmallBlind/getBigBlind/getAnte return 0 (no forced
-                // bets), causing an infinite game loop.
-                if (stc.getLevelAdvanceMode() == LevelAdvanceMode.HANDS && tournament.isLevelExpired()
-                        && tournament.getLevel() < stc.getNumLevels() - 1) {
-                    tournament.nextLevel();
-                    eventBus.publish(new GameEvent.LevelChanged(table.getNumber(), tournament.getLevel()));
+                // Tables may reach here concurrently in parallel mode; the count, the
+                // expiry check and the advance must happen as one step.
+                synchronized (stc) {
+                    // Always track hands for blind level advancement (shared counter across
+                    // tables).
+                    stc.incrementHandsPlayed();
+                    // HANDS-mode level advancement: the engine's normal mechanism (BREAK
+                    // state) requires break levels, which server tests don't use. Advance the
+                    // level here instead. TIME-mode games use the engine's BREAK mechanism —
+                    // skip to avoid conflicting with it. Guard against advancing past the last
+                    // configured level, which would make getSmallBlind/getBigBlind/getAnte
+                    // return 0 (no forced bets), causing an infinite game loop.
+                    if (stc.getLevelAdvanceMode() == LevelAdvanceMode.HANDS && tournament.isLevelExpired()
+                            && tournament.getLevel() < stc.getNumLevels() - 1) {
+                        tournament.nextLevel();
+                        eventBus.publish(new GameEvent.LevelChanged(table.getNumber(), tournament.getLevel()));
+                    }
                 }
-                // CLEAN phase: for single-table only. Multi-table relies on
-                // consolidateTables() which uses chip counts — marking 0-chip players as
-                // sittingOut there would produce empty playerOrder lists and hang.
-                if (tournament.getNumTables() == 1) {
+                // CLEAN phase. Multi-table games unseat busted players instead so the
+                // balancer can refill or break the table before its next hand.
+                if (tableBalancer != null) {
+                    removeBustedPlayers(table.getNumber() - 1, false);
+                } else {
                     eliminateZeroChipPlayers(table, false);
                 }
                 if (!tournament.isGameOver() && properties.aiActionDelayMs() > 0 && !actionProvider.isZipMode()) {
@@ -426,7 +740,9 @@ public class ServerTournamentDirector implements Runnable {
             // ACTION_REQUIRED arrives.
             if ("TD.DealDisplayHand".equals(result.phaseToRun())) {
                 // New hand starting — exit zip mode so delays resume for the next hand.
-                actionProvider.setZipMode(false);
+                if (!parallelTables) {
+                    actionProvider.setZipMode(false);
+                }
                 // Notify AI provider of the new hand so it can update its state
                 // before any action requests arrive.
                 if (newHandCallback != null) {
@@ -541,7 +857,8 @@ public class ServerTournamentDirector implements Runnable {
      * multiplayer, delays are always preserved so all connected players can watch
      * the hand play out. Also only activates when there is at least one human
      * player at the table (so all-AI games are unaffected). Zip mode is reset at
-     * the start of each new hand in the {@code TD.DealDisplayHand} handler.
+     * the start of each new hand in the {@code TD.DealDisplayHand} handler. Never
+     * activates in parallel mode, where one table's hand would zip every table.
      *
      * @param table
      *            the table to inspect
@@ -550,7 +867,7 @@ public class ServerTournamentDirector implements Runnable {
         if (actionProvider.isZipMode()) {
             return; // Already in zip mode — no need to re-check
         }
-        if (!autoZipEnabled)
+        if (!autoZipEnabled || parallelTables)
             return;
         // Zip mode is a practice-only feature — never skip delays in online games.
         if (!(tournament instanceof ServerTournamentContext stc) || !stc.isPractice()) {
@@ -583,11 +900,9 @@ public class ServerTournamentDirector implements Runnable {
      * busted players between hands before starting the next deal.
      *
      * <p>
-     * Multi-table tournaments must NOT use this — marking all 0-chip players as
-     * sitting-out on a table with all busted players would produce an empty
-     * playerOrder on the next deal attempt, causing an infinite loop.
-     * {@link #consolidateTables()} handles multi-table elimination using chip
-     * counts instead.
+     * Multi-table tournaments use {@link #removeBustedPlayers} instead: finish
+     * positions there depend on every table, and the freed seats feed the
+     * {@link TableBalancer}.
      *
      * @param table
      *            the table whose players to check
@@ -605,34 +920,8 @@ public class ServerTournamentDirector implements Runnable {
         for (int seat = 0; seat < table.getSeats(); seat++) {
             ServerPlayer player = (ServerPlayer) table.getPlayer(seat);
             if (player != null && player.getChipCount() == 0 && !player.isSittingOut()) {
-                // Offer rebuy if in the rebuy period and callback is wired
-                if (rebuyOfferCallback != null && tournament instanceof ServerTournamentContext stc
-                        && stc.isRebuyPeriodActive(player)) {
-                    boolean accepted = rebuyOfferCallback.test(player.getID(), table.getNumber());
-                    if (accepted) {
-                        player.addChips(stc.getRebuyChips());
-                        player.incrementRebuys();
-                        eventBus.publish(
-                                new GameEvent.PlayerRebuy(table.getNumber(), player.getID(), stc.getRebuyChips()));
-                        continue; // Player stays in the tournament
-                    }
-                }
-                // Never Broke: offer to transfer chips from chip leader to keep human
-                // playing. Skip when called from handleGameOver context — rescuing the
-                // human there would undo a legitimate game-over condition.
-                if (!inHandleGameOverContext && neverBrokeCallback != null && player.isHuman()) {
-                    boolean accept = neverBrokeCallback.test(player.getID(), table.getNumber());
-                    if (accept) {
-                        ServerPlayer leader = findChipLeader(table, player.getID());
-                        if (leader != null && leader.getChipCount() > 1) {
-                            int transferAmount = leader.getChipCount() / 2;
-                            leader.setChipCount(leader.getChipCount() - transferAmount);
-                            player.addChips(transferAmount);
-                            eventBus.publish(new GameEvent.ChipsTransferred(table.getNumber(), leader.getID(),
-                                    player.getID(), transferAmount));
-                            continue; // Player stays in
-                        }
-                    }
+                if (rescueBustedPlayer(table, player, inHandleGameOverContext)) {
+                    continue; // Player stays in the tournament
                 }
                 player.setSittingOut(true);
                 logger.debug("[CLEAN] eliminated player={} seat={} (0 chips)", player.getName(), seat);
@@ -645,6 +934,83 @@ public class ServerTournamentDirector implements Runnable {
         eventBus.publish(new GameEvent.CleaningDone(table.getNumber()));
     }
 
+    /**
+     * CLEAN phase for multi-table tournaments: busted players leave their seats so
+     * the {@link TableBalancer} can refill or break the table before its next
+     * hand. Players busting together share the finish position after everyone
+     * still seated at any table.
+     *
+     * @param tableIndex
+     *            index of the table whose hand just finished
+     * @param inHandleGameOverContext
+     *            true when called from {@link #handleGameOver()}
+     */
+    private void removeBustedPlayers(int tableIndex, boolean inHandleGameOverContext) {
+        GameTable table = tournament.getTable(tableIndex);
+        List<Integer> seats = new ArrayList<>();
+        for (int seat = 0; seat < table.getSeats(); seat++) {
+            ServerPlayer player = (ServerPlayer) table.getPlayer(seat);
+            if (player != null && player.getChipCount() == 0
+                    && !rescueBustedPlayer(table, player, inHandleGameOverContext)) {
+                seats.add(seat);
+            }
+        }
+        if (!seats.isEmpty()) {
+            List<ServerPlayer> busted = new ArrayList<>(seats.size());
+            for (int seat : seats) {
+                busted.add((ServerPlayer) table.getPlayer(seat));
+            }
+            int finishPosition = tableBalancer.removePlayers(tableIndex, seats);
+            for (int i = 0; i < busted.size(); i++) {
+                ServerPlayer player = busted.get(i);
+                player.setSittingOut(true);
+                player.setFinishPosition(finishPosition);
+                logger.debug("[CLEAN] eliminated player={} table={} (0 chips)", player.getName(), table.getNumber());
+                eventBus.publish(new GameEvent.PlayerEliminated(table.getNumber(), player.getID(), finishPosition));
+                eventBus.publish(new GameEvent.PlayerRemoved(table.getNumber(), player.getID(), seats.get(i)));
+            }
+        }
+        eventBus.publish(new GameEvent.CleaningDone(table.getNumber()));
+    }
+
+    /**
+     * Offer a busted player a rebuy, or (human players, outside game over) Never
+     * Broke.
+     *
+     * @return true if the player got chips and stays in the tournament
+     */
+    private boolean rescueBustedPlayer(GameTable table, ServerPlayer player, boolean inHandleGameOverContext) {
+        // Offer rebuy if in the rebuy period and callback is wired
+        if (rebuyOfferCallback != null && tournament instanceof ServerTournamentContext stc
+                && stc.isRebuyPeriodActive(player)) {
+            boolean accepted = rebuyOfferCallback.test(player.getID(), table.getNumber());
+            if (accepted) {
+                player.addChips(stc.getRebuyChips());
+                player.incrementRebuys();
+                eventBus.publish(new GameEvent.PlayerRebuy(table.getNumber(), player.getID(), stc.getRebuyChips()));
+                return true;
+            }
+        }
+        // Never Broke: offer to transfer chips from chip leader to keep human
+        // playing. Skip when called from handleGameOver context — rescuing the
+        // human there would undo a legitimate game-over condition.
+        if (!inHandleGameOverContext && neverBrokeCallback != null && player.isHuman()) {
+            boolean accept = neverBrokeCallback.test(player.getID(), table.getNumber());
+            if (accept) {
+                ServerPlayer leader = findChipLeader(table, player.getID());
+                if (leader != null && leader.getChipCount() > 1) {
+                    int transferAmount = leader.getChipCount() / 2;
+                    leader.setChipCount(leader.getChipCount() - transferAmount);
+                    player.addChips(transferAmount);
+                    eventBus.publish(new GameEvent.ChipsTransferred(table.getNumber(), leader.getID(), player.getID(),
+                            transferAmount));
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Finds the player with the most chips at the table, excluding the given player
      * ID. Used by the Never Broke feature to find the chip leader to transfer from.
@@ -705,146 +1071,40 @@ public class ServerTournamentDirector implements Runnable {
     }
 
     /**
-     * Consolidate tables in multi-table tournaments. Moves players from tables with
-     * too few players to other active tables.
-     */
-    private void consolidateTables() {
-        for (int i = 0; i < tournament.getNumTables(); i++) {
-            GameTable sourceTable = tournament.getTable(i);
-
-            if (sourceTable.getTableState() == TableState.GAME_OVER) {
-                continue;
-            }
-
-            // Count players with chips at this table
-            int playersWithChips = 0;
-            for (int seat = 0; seat < sourceTable.getSeats(); seat++) {
-                if (sourceTable.getPlayer(seat) != null && sourceTable.getPlayer(seat).getChipCount() > 0) {
-                    playersWithChips++;
-                }
-            }
-
-            // If only 1 player left at this table, consolidate
-            if (playersWithChips == 1) {
-                // Find a target table with 2+ players
-                GameTable targetTable = findConsolidationTarget(i);
-
-                if (targetTable != null && sourceTable instanceof ServerGameTable
-                        && targetTable instanceof ServerGameTable) {
-                    consolidateTable((ServerGameTable) sourceTable, (ServerGameTable) targetTable);
-                }
-            }
-
-            // If no players with chips, mark table as game over — but ONLY when
-            // the pot is empty. If chips are in the pot the chip-holder went all-in
-            // during this hand: the engine must resolve the hand first so chips
-            // return to the winner's stack. Marking GAME_OVER now would abandon
-            // those chips, making isOnePlayerLeft() never return true.
-            if (playersWithChips == 0) {
-                int potSize = 0;
-                GameHand potHand = sourceTable.getHoldemHand();
-                if (potHand instanceof ServerHand sh) {
-                    potSize = sh.getPotSize();
-                }
-                if (potSize == 0) {
-                    sourceTable.setTableState(TableState.GAME_OVER);
-                }
-            }
-        }
-    }
-
-    /**
-     * Find a target table for consolidation.
+     * Multi-table balancing pass. Moves players off tables that are between hands
+     * (see {@link TableBalancer}), retires tables that were broken, and publishes
+     * the whole pass as one {@link GameEvent.PlayersMoved}.
      *
-     * @param excludeTableIndex
-     *            the table index to exclude (the source table)
-     * @return target table with 2+ players, or null if none found
+     * @param available
+     *            true for table indexes this pass may change
+     * @return true if any player moved
      */
-    private GameTable findConsolidationTarget(int excludeTableIndex) {
-        for (int i = 0; i < tournament.getNumTables(); i++) {
-            if (i == excludeTableIndex) {
-                continue;
-            }
-
-            GameTable table = tournament.getTable(i);
-            if (table.getTableState() == TableState.GAME_OVER) {
-                continue;
-            }
-
-            int playersWithChips = 0;
-            for (int seat = 0; seat < table.getSeats(); seat++) {
-                if (table.getPlayer(seat) != null && table.getPlayer(seat).getChipCount() > 0) {
-                    playersWithChips++;
-                }
-            }
-
-            if (playersWithChips >= 2) {
-                return table;
-            }
+    private boolean balanceTables(IntPredicate available) {
+        List<TableBalancer.Move> moves = tableBalancer
+                .balance(i -> available.test(i) && isBetweenHands(tournament.getTable(i)), available);
+        if (moves.isEmpty()) {
+            return false;
+        }
+        List<GameEvent.PlayerMove> batch = new ArrayList<>(moves.size());
+        Set<ServerGameTable> changed = new LinkedHashSet<>();
+        for (TableBalancer.Move move : moves) {
+            batch.add(new GameEvent.PlayerMove(move.player().getID(), move.from().getNumber(), move.fromSeat(),
+                    move.to().getNumber(), move.toSeat()));
+            changed.add(move.from());
+            changed.add(move.to());
         }
-
-        // If no table with 2+ players, return any active table
         for (int i = 0; i < tournament.getNumTables(); i++) {
-            if (i == excludeTableIndex) {
-                continue;
-            }
-
             GameTable table = tournament.getTable(i);
-            if (table.getTableState() != TableState.GAME_OVER) {
-                return table;
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Consolidate a source table into a target table by moving the remaining
-     * player.
-     *
-     * @param sourceTable
-     *            the table to consolidate from
-     * @param targetTable
-     *            the table to consolidate to
-     */
-    private void consolidateTable(ServerGameTable sourceTable, ServerGameTable targetTable) {
-        // Find the remaining player
-        ServerPlayer playerToMove = null;
-        int sourceSeat = -1;
-        for (int seat = 0; seat < sourceTable.getSeats(); seat++) {
-            ServerPlayer player = (ServerPlayer) sourceTable.getPlayer(seat);
-            if (player != null && player.getChipCount() > 0) {
-                playerToMove = player;
-                sourceSeat = seat;
-                break;
+            if (tableBalancer.isClosed(i) && table.getTableState() != TableState.GAME_OVER) {
+                table.setTableState(TableState.GAME_OVER);
             }
         }
-
-        if (playerToMove == null) {
-            return;
-        }
-
-        // Award any pot chips to the player being moved
-        GameHand hand = sourceTable.getHoldemHand();
-        if (hand instanceof ServerHand currentHand && currentHand.getPotSize() > 0) {
-            playerToMove.setChipCount(playerToMove.getChipCount() + currentHand.getPotSize());
-        }
-
-        // Remove player from source table
-        sourceTable.removePlayer(sourceSeat);
-        eventBus.publish(new GameEvent.PlayerRemoved(sourceTable.getNumber(), playerToMove.getID(), sourceSeat));
-
-        // Move player to target table (find empty seat)
-        for (int seat = 0; seat < targetTable.getSeats(); seat++) {
-            if (targetTable.getPlayer(seat) == null) {
-                targetTable.addPlayer(playerToMove, seat);
-                eventBus.publish(new GameEvent.PlayerAdded(targetTable.getNumber(), playerToMove.getID(), seat));
-                break;
-            }
+        logger.debug("[BALANCE] moved {} player(s), {} seated", moves.size(), tableBalancer.getNumPlayers());
+        eventBus.publish(new GameEvent.PlayersMoved(batch));
+        for (ServerGameTable table : changed) {
+            eventBus.broadcastTableState(table);
         }
-
-        // Mark source table as game over
-        sourceTable.setTableState(TableState.GAME_OVER);
+        return true;
     }
 
     /**
@@ -866,7 +1126,11 @@ public class ServerTournamentDirector implements Runnable {
         // eliminated players are skipped (isSittingOut==true), and the tournament
         // winner (chips > 0) is skipped by the chip check in eliminateZeroChipPlayers.
         for (int i = 0; i < tournament.getNumTables(); i++) {
-            eliminateZeroChipPlayers(tournament.getTable(i), true);
+            if (tableBalancer == null) {
+                eliminateZeroChipPlayers(tournament.getTable(i), true);
+            } else if (!tableBalancer.isClosed(i)) {
+                removeBustedPlayers(i, true);
+            }
         }
 
         // All tables should be marked as GAME_OVER
@@ -938,6 +1202,7 @@ public class ServerTournamentDirector implements Runnable {
     public void resume() {
         this.paused = false;
         lifecycleCallback.accept(GameLifecycleEvent.RESUMED);
+        wake();
     }
 
     /**
@@ -946,6 +1211,57 @@ public class ServerTournamentDirector implements Runnable {
      */
     public void shutdown() {
         this.shutdownRequested = true;
+        wake();
+    }
+
+    /**
+     * Wake the game loop if it is parked waiting for input (paused, or every table
+     * idle). Call after any outside change that may let a table progress. Cheap
+     * and safe to call from any thread; a wake with no waiter is remembered for
+     * the next wait.
+     */
+    public void wake() {
+        wakeLock.lock();
+        try {
+            wakeGeneration++;
+            wakeCondition.signalAll();
+        } finally {
+            wakeLock.unlock();
+        }
+    }
+
+    /**
+     * Park the game loop until {@link #wake()} is called or the timeout elapses.
+     * Unlike {@link #sleepMillis(int)} this returns as soon as input arrives.
+     *
+     * @param millis
+     *            maximum milliseconds to wait
+     */
+    void awaitWake(int millis) {
+        loopWakeSeen = awaitWake(loopWakeSeen, millis);
+    }
+
+    /**
+     * Wait until the wake generation moves past {@code seen}, shutdown is
+     * requested, or the timeout elapses. Each waiting thread tracks its own last
+     * seen generation, so one wake() releases every table loop in parallel mode.
+     *
+     * @return the generation to pass on the next call
+     */
+    private long awaitWake(long seen, int millis) {
+        wakeLock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+            while (wakeGeneration == seen && !shutdownRequested && nanos > 0) {
+                nanos = wakeCondition.awaitNanos(nanos);
+            }
+        } catch (InterruptedException e) {
+            // Ignore, as sleepMillis does; the loop re-checks its flags
+        } finally {
+            seen = wakeGeneration;
+            wakeLock.unlock();
+        }
+        return seen;
     }
 
     /**
@@ -966,6 +1282,15 @@ public class ServerTournamentDirector implements Runnable {
         return paused;
     }
 
+    private long currentWakeGeneration() {
+        wakeLock.lock();
+        try {
+            return wakeGeneration;
+        } finally {
+            wakeLock.unlock();
+        }
+    }
+
     /**
      * Sleep for the specified number of milliseconds, ignoring interrupts. The
      * interrupt flag is cleared (not re-set) so that a single interrupt does not
@@ -0,0 +1,640 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.donohoedigital.games.poker.engine.HandScoreConstants;
+import com.donohoedigital.games.poker.engine.LookupHandEvaluator;
+
+/**
+ * Multi-core equity engine used by {@link PokerSimulationService}.
+ *
+ * <p>
+ * Cards are handled as {@code Card.getIndex()} ints and 52-bit masks so the
+ * inner loops don't allocate. Monte Carlo work is split into chunks with
+ * independent {@link SplittableRandom} streams; exhaustive work is split by
+ * the lowest deck position used by the board completion. Chunks run on a
+ * dedicated work-stealing pool and their tallies are merged at the end.
+ *
+ * <p>
+ * Range-vs-range spots ({@link RangeSpot}) use the same chunking, but score
+ * each combo of each range at most once per board and carry combo weights
+ * through the tally.
+ */
+public class SimulationEngine implements HandScoreConstants {
+
+    /** Minimum Monte Carlo iterations per task, so small requests stay cheap. */
+    static final int MIN_ITERATIONS_PER_TASK = 2_000;
+
+    /** Deal attempts made on each sampled board before drawing a new one. */
+    static final int DEALS_PER_BOARD = 16;
+
+    /** Give up when fewer than one in this many deal attempts is valid. */
+    static final int MAX_ATTEMPTS_PER_DEAL = 1_000;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    /**
+     * @param parallelism
+     *            number of worker threads; 0 or less uses the number of
+     *            available processors
+     */
+    public SimulationEngine(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Stop the worker pool. Running simulations are allowed to finish.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Describes a spot to evaluate. All masks use bit {@code Card.getIndex()}.
+     *
+     * @param hero
+     *            hero hole cards
+     * @param board
+     *            known community cards
+     * @param boardSize
+     *            number of known community cards
+     * @param knownOpponents
+     *            hole card masks of opponents with known hands
+     * @param randomOpponents
+     *            number of opponents dealt random hands
+     * @param deck
+     *            indices of cards still available to deal
+     */
+    public record Spot(long hero, long board, int boardSize, long[] knownOpponents, int randomOpponents, int[] deck) {
+
+        int communityNeeded() {
+            return 5 - boardSize;
+        }
+
+        int numOpponents() {
+            return knownOpponents.length + randomOpponents;
+        }
+    }
+
+    /**
+     * Run {@code iterations} random deals, split across the pool.
+     */
+    public Tally monteCarlo(Spot spot, int iterations, long seed) {
+        int tasks = Math.max(1, Math.min(parallelism, iterations / MIN_ITERATIONS_PER_TASK));
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<Tally>> work = new ArrayList<>(tasks);
+        int remaining = iterations;
+        for (int t = 0; t < tasks; t++) {
+            int chunk = remaining / (tasks - t);
+            remaining -= chunk;
+            SplittableRandom rng = root.split();
+            work.add(() -> monteCarloChunk(spot, chunk, rng));
+        }
+        return runAll(spot.numOpponents(), work);
+    }
+
+    /**
+     * Enumerate every board completion and, for each, every ordered assignment of
+     * hole cards to the random opponents.
+     */
+    public Tally exhaustive(Spot spot) {
+        int needed = spot.communityNeeded();
+        List<Callable<Tally>> work = new ArrayList<>();
+        if (needed == 0) {
+            work.add(() -> exhaustiveChunk(spot, -1));
+        } else {
+            for (int first = 0; first <= spot.deck().length - needed; first++) {
+                int start = first;
+                work.add(() -> exhaustiveChunk(spot, start));
+            }
+        }
+        return runAll(spot.numOpponents(), work);
+    }
+
+    private Tally runAll(int numOpponents, List<Callable<Tally>> work) {
+        Tally total = new Tally(numOpponents);
+        try {
+            for (Future<Tally> future : pool.invokeAll(work)) {
+                total.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException iae) {
+                throw iae;
+            }
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+        return total;
+    }
+
+    private static Tally monteCarloChunk(Spot spot, int iterations, SplittableRandom rng) {
+        Tally tally = new Tally(spot.numOpponents());
+        int[] deck = spot.deck().clone();
+        int communityNeeded = spot.communityNeeded();
+        int randomOpponents = spot.randomOpponents();
+        int dealt = communityNeeded + 2 * randomOpponents;
+        long[] known = spot.knownOpponents();
+
+        for (int iter = 0; iter < iterations; iter++) {
+            // partial Fisher-Yates - only shuffle the cards we deal
+            for (int k = 0; k < dealt; k++) {
+                int j = k + rng.nextInt(deck.length - k);
+                int tmp = deck[k];
+                deck[k] = deck[j];
+                deck[j] = tmp;
+            }
+
+            long board = spot.board();
+            int d = 0;
+            for (; d < communityNeeded; d++) {
+                board |= 1L << deck[d];
+            }
+
+            int heroScore = LookupHandEvaluator.getScore(spot.hero() | board);
+            tally.handTypes[heroScore / SCORE_BASE]++;
+
+            int outcome = Tally.WIN;
+            int opp = 0;
+            for (long hand : known) {
+                outcome = tally.recordOpponent(opp++, LookupHandEvaluator.getScore(hand | board), heroScore, outcome,
+                        1);
+            }
+            for (int o = 0; o < randomOpponents; o++) {
+                long hand = (1L << deck[d++]) | (1L << deck[d++]);
+                outcome = tally.recordOpponent(opp++, LookupHandEvaluator.getScore(hand | board), heroScore, outcome,
+                        1);
+            }
+            tally.recordHero(outcome, 1, 1);
+        }
+        return tally;
+    }
+
+    /**
+     * Enumerate board completions whose lowest deck position is {@code first}
+     * (or just the known board when {@code first} is -1).
+     */
+    private static Tally exhaustiveChunk(Spot spot, int first) {
+        Tally tally = new Tally(spot.numOpponents());
+        int[] deck = spot.deck();
+        int needed = spot.communityNeeded();
+
+        // number of ordered random-opponent assignments remaining below each depth
+        int afterBoard = deck.length - needed;
+        long[] suffix = new long[spot.randomOpponents() + 1];
+        suffix[spot.randomOpponents()] = 1;
+        for (int o = spot.randomOpponents() - 1; o >= 0; o--) {
+            int left = afterBoard - 2 * o;
+            suffix[o] = suffix[o + 1] * ((long) left * (left - 1) / 2);
+        }
+
+        if (first < 0) {
+            scoreBoard(spot, spot.board(), tally, suffix);
+        } else {
+            enumerateBoards(spot, needed - 1, first + 1, spot.board() | (1L << deck[first]), tally, suffix);
+        }
+        return tally;
+    }
+
+    private static void enumerateBoards(Spot spot, int remaining, int start, long board, Tally tally, long[] suffix) {
+        if (remaining == 0) {
+            scoreBoard(spot, board, tally, suffix);
+            return;
+        }
+        int[] deck = spot.deck();
+        for (int i = start; i <= deck.length - remaining; i++) {
+            enumerateBoards(spot, remaining - 1, i + 1, board | (1L << deck[i]), tally, suffix);
+        }
+    }
+
+    private static void scoreBoard(Spot spot, long board, Tally tally, long[] suffix) {
+        long combos = suffix[0];
+        int heroScore = LookupHandEvaluator.getScore(spot.hero() | board);
+        tally.handTypes[heroScore / SCORE_BASE] += combos;
+
+        int outcome = Tally.WIN;
+        int opp = 0;
+        for (long hand : spot.knownOpponents()) {
+            outcome = tally.recordOpponent(opp++, LookupHandEvaluator.getScore(hand | board), heroScore, outcome,
+                    combos);
+        }
+
+        if (spot.randomOpponents() == 0) {
+            tally.recordHero(outcome, combos, combos);
+        } else {
+            enumerateOpponents(spot, 0, opp, board, board, heroScore, outcome, tally, suffix);
+        }
+    }
+
+    private static void enumerateOpponents(Spot spot, int depth, int opp, long board, long used, int heroScore,
+            int outcome, Tally tally, long[] suffix) {
+        int[] deck = spot.deck();
+        long weight = suffix[depth + 1];
+        boolean last = depth == spot.randomOpponents() - 1;
+        for (int i = 0; i < deck.length - 1; i++) {
+            long a = 1L << deck[i];
+            if ((used & a) != 0)
+                continue;
+            for (int j = i + 1; j < deck.length; j++) {
+                long b = 1L << deck[j];
+                if ((used & b) != 0)
+                    continue;
+                int oppScore = LookupHandEvaluator.getScore(a | b | board);
+                int next = tally.recordOpponent(opp, oppScore, heroScore, outcome, weight);
+                if (last) {
+                    tally.recordHero(next, 1, 1);
+                } else {
+                    enumerateOpponents(spot, depth + 1, opp + 1, board, used | a | b, heroScore, next, tally, suffix);
+                }
+            }
+        }
+    }
+
+    ////
+    //// Range vs range
+    ////
+
+    /**
+     * Describes a range-vs-range spot. Player 0 is the hero; an exact hand is a
+     * range with one combo. Combos that conflict with the known board must
+     * already be removed.
+     *
+     * @param board
+     *            known community cards
+     * @param boardSize
+     *            number of known community cards
+     * @param combos
+     *            per player, hole card masks of the combos in the range
+     * @param weights
+     *            per player, weight of each combo (parallel to {@code combos})
+     * @param deck
+     *            indices of cards the board can be completed from
+     */
+    public record RangeSpot(long board, int boardSize, long[][] combos, double[][] weights, int[] deck) {
+
+        int communityNeeded() {
+            return 5 - boardSize;
+        }
+
+        int numOpponents() {
+            return combos.length - 1;
+        }
+    }
+
+    /**
+     * Sample {@code iterations} valid range deals, split across the pool. Each
+     * board is reused for {@link #DEALS_PER_BOARD} attempts so combos that come
+     * up again on the same board are scored once. Deals whose combos collide
+     * with each other or the board are rejected, which gives card removal the
+     * correct effect on the joint distribution.
+     *
+     * @throws IllegalArgumentException
+     *             if the ranges are so mutually exclusive that valid deals can't
+     *             be found
+     */
+    public Tally rangeMonteCarlo(RangeSpot spot, int iterations, long seed) {
+        int tasks = Math.max(1, Math.min(parallelism, iterations / MIN_ITERATIONS_PER_TASK));
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<Tally>> work = new ArrayList<>(tasks);
+        int remaining = iterations;
+        for (int t = 0; t < tasks; t++) {
+            int chunk = remaining / (tasks - t);
+            remaining -= chunk;
+            SplittableRandom rng = root.split();
+            work.add(() -> rangeMonteCarloChunk(spot, chunk, rng));
+        }
+        return runAll(spot.numOpponents(), work);
+    }
+
+    /**
+     * Enumerate every board completion and, for each, every non-conflicting
+     * assignment of range combos, weighted by the product of combo weights.
+     */
+    public Tally rangeExhaustive(RangeSpot spot) {
+        int needed = spot.communityNeeded();
+        List<Callable<Tally>> work = new ArrayList<>();
+        if (needed == 0) {
+            work.add(() -> rangeExhaustiveChunk(spot, -1));
+        } else {
+            for (int first = 0; first <= spot.deck().length - needed; first++) {
+                int start = first;
+                work.add(() -> rangeExhaustiveChunk(spot, start));
+            }
+        }
+        return runAll(spot.numOpponents(), work);
+    }
+
+    private static Tally rangeMonteCarloChunk(RangeSpot spot, int iterations, SplittableRandom rng) {
+        int players = spot.combos().length;
+        Tally tally = new Tally(players - 1);
+        int[] deck = spot.deck().clone();
+        int communityNeeded = spot.communityNeeded();
+
+        double[][] cumulative = new double[players][];
+        int[][] scores = new int[players][];
+        int[][] stamps = new int[players][];
+        for (int p = 0; p < players; p++) {
+            double[] weights = spot.weights()[p];
+            cumulative[p] = new double[weights.length];
+            double sum = 0;
+            for (int k = 0; k < weights.length; k++) {
+                sum += weights[k];
+                cumulative[p][k] = sum;
+            }
+            scores[p] = new int[weights.length];
+            stamps[p] = new int[weights.length];
+        }
+
+        int[] chosen = new int[players];
+        long maxAttempts = (long) iterations * MAX_ATTEMPTS_PER_DEAL;
+        long attempts = 0;
+        int accepted = 0;
+        int stamp = 0;
+        while (accepted < iterations) {
+            if (attempts >= maxAttempts) {
+                throw new IllegalArgumentException("Ranges conflict too much to deal valid hands");
+            }
+
+            for (int k = 0; k < communityNeeded; k++) {
+                int j = k + rng.nextInt(deck.length - k);
+                int tmp = deck[k];
+                deck[k] = deck[j];
+                deck[j] = tmp;
+            }
+            long board = spot.board();
+            for (int d = 0; d < communityNeeded; d++) {
+                board |= 1L << deck[d];
+            }
+            stamp++;
+
+            for (int a = 0; a < DEALS_PER_BOARD && accepted < iterations; a++) {
+                attempts++;
+                if (!dealRanges(spot.combos(), cumulative, board, chosen, rng)) {
+                    continue;
+                }
+                accepted++;
+
+                int heroScore = cachedScore(spot.combos()[0], scores[0], stamps[0], chosen[0], board, stamp);
+                tally.handTypes[heroScore / SCORE_BASE]++;
+                int outcome = Tally.WIN;
+                for (int p = 1; p < players; p++) {
+                    int oppScore = cachedScore(spot.combos()[p], scores[p], stamps[p], chosen[p], board, stamp);
+                    outcome = tally.recordOpponent(p - 1, oppScore, heroScore, outcome, 1);
+                }
+                tally.recordHero(outcome, 1, 1);
+            }
+        }
+        return tally;
+    }
+
+    /**
+     * Draw one weighted combo per player; false if any two collide.
+     */
+    private static boolean dealRanges(long[][] combos, double[][] cumulative, long board, int[] chosen,
+            SplittableRandom rng) {
+        long used = board;
+        for (int p = 0; p < combos.length; p++) {
+            double[] cum = cumulative[p];
+            double target = rng.nextDouble() * cum[cum.length - 1];
+            int lo = 0;
+            int hi = cum.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cum[mid] > target)
+                    hi = mid;
+                else
+                    lo = mid + 1;
+            }
+            long hand = combos[p][lo];
+            if ((used & hand) != 0) {
+                return false;
+            }
+            used |= hand;
+            chosen[p] = lo;
+        }
+        return true;
+    }
+
+    private static int cachedScore(long[] combos, int[] scores, int[] stamps, int k, long board, int stamp) {
+        if (stamps[k] != stamp) {
+            scores[k] = LookupHandEvaluator.getScore(combos[k] | board);
+            stamps[k] = stamp;
+        }
+        return scores[k];
+    }
+
+    private static Tally rangeExhaustiveChunk(RangeSpot spot, int first) {
+        int players = spot.combos().length;
+        Tally tally = new Tally(players - 1);
+        int[][] scores = new int[players][];
+        for (int p = 0; p < players; p++) {
+            scores[p] = new int[spot.combos()[p].length];
+        }
+        RangeEnumeration state = new RangeEnumeration(spot, tally, scores, new int[players]);
+
+        if (first < 0) {
+            state.scoreBoard(spot.board());
+        } else {
+            state.enumerateBoards(spot.communityNeeded() - 1, first + 1, spot.board() | (1L << spot.deck()[first]));
+        }
+        return tally;
+    }
+
+    /**
+     * Per-task state for {@link #rangeExhaustive}: every combo of every range is
+     * scored once per board, then all assignments reuse those scores.
+     */
+    private record RangeEnumeration(RangeSpot spot, Tally tally, int[][] scores, int[] chosenScores) {
+
+        void enumerateBoards(int remaining, int start, long board) {
+            if (remaining == 0) {
+                scoreBoard(board);
+                return;
+            }
+            int[] deck = spot.deck();
+            for (int i = start; i <= deck.length - remaining; i++) {
+                enumerateBoards(remaining - 1, i + 1, board | (1L << deck[i]));
+            }
+        }
+
+        void scoreBoard(long board) {
+            long[][] combos = spot.combos();
+            for (int p = 0; p < combos.length; p++) {
+                long[] hands = combos[p];
+                int[] out = scores[p];
+                for (int k = 0; k < hands.length; k++) {
+                    out[k] = (hands[k] & board) != 0 ? -1 : LookupHandEvaluator.getScore(hands[k] | board);
+                }
+            }
+            enumeratePlayers(0, board, 1.0d);
+        }
+
+        private void enumeratePlayers(int p, long used, double weight) {
+            long[] hands = spot.combos()[p];
+            double[] weights = spot.weights()[p];
+            int[] playerScores = scores[p];
+            for (int k = 0; k < hands.length; k++) {
+                if (playerScores[k] < 0 || (used & hands[k]) != 0) {
+                    continue;
+                }
+                chosenScores[p] = playerScores[k];
+                double w = weight * weights[k];
+                if (p < chosenScores.length - 1) {
+                    enumeratePlayers(p + 1, used | hands[k], w);
+                } else {
+                    recordDeal(w);
+                }
+            }
+        }
+
+        private void recordDeal(double weight) {
+            int heroScore = chosenScores[0];
+            tally.handTypes[heroScore / SCORE_BASE] += weight;
+            int outcome = Tally.WIN;
+            for (int p = 1; p < chosenScores.length; p++) {
+                outcome = tally.recordOpponent(p - 1, chosenScores[p], heroScore, outcome, weight);
+            }
+            tally.recordHero(outcome, weight, 1);
+        }
+    }
+
+    /**
+     * Accumulated outcome weights for one task (or merged across tasks). Exact
+     * hands count each deal with weight 1; range deals carry the product of the
+     * combo weights. {@link #samples()} is the number of deals evaluated.
+     */
+    public static final class Tally {
+        static final int WIN = 0;
+        static final int TIE = 1;
+        static final int LOSS = 2;
+
+        long samples;
+        double wins;
+        double ties;
+        double losses;
+        final double[] oppWins;
+        final double[] oppTies;
+        final double[] oppLosses;
+        final double[] handTypes = new double[ROYAL_FLUSH + 1];
+
+        Tally(int numOpponents) {
+            oppWins = new double[numOpponents];
+            oppTies = new double[numOpponents];
+            oppLosses = new double[numOpponents];
+        }
+
+        /**
+         * Record one opponent's result against the hero and return the hero's
+         * updated outcome (a loss to any opponent is final; otherwise a tie
+         * downgrades a win).
+         */
+        int recordOpponent(int opp, int oppScore, int heroScore, int outcome, double weight) {
+            if (oppScore > heroScore) {
+                oppWins[opp] += weight;
+                return LOSS;
+            } else if (oppScore == heroScore) {
+                oppTies[opp] += weight;
+                return outcome == LOSS ? LOSS : TIE;
+            }
+            oppLosses[opp] += weight;
+            return outcome;
+        }
+
+        void recordHero(int outcome, double weight, long count) {
+            samples += count;
+            switch (outcome) {
+                case WIN -> wins += weight;
+                case TIE -> ties += weight;
+                default -> losses += weight;
+            }
+        }
+
+        void add(Tally other) {
+            samples += other.samples;
+            wins += other.wins;
+            ties += other.ties;
+            losses += other.losses;
+            for (int i = 0; i < oppWins.length; i++) {
+                oppWins[i] += other.oppWins[i];
+                oppTies[i] += other.oppTies[i];
+                oppLosses[i] += other.oppLosses[i];
+            }
+            for (int i = 0; i < handTypes.length; i++) {
+                handTypes[i] += other.handTypes[i];
+            }
+        }
+
+        /**
+         * Number of deals evaluated.
+         */
+        public long samples() {
+            return samples;
+        }
+
+        /**
+         * Total weight of all deals (equals {@link #samples()} for exact hands).
+         */
+        public double total() {
+            return wins + ties + losses;
+        }
+
+        public double wins() {
+            return wins;
+        }
+
+        public double ties() {
+            return ties;
+        }
+
+        public double losses() {
+            return losses;
+        }
+    }
+}
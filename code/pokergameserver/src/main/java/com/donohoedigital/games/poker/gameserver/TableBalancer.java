@@ -0,0 +1,338 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Keeps the tables of a multi-table tournament within one player of each other
+ * and breaks tables as the field shrinks.
+ *
+ * <p>
+ * The balancer owns an index of each table's seated count and free seats (one
+ * bit per seat), updated as players bust out or move. Deciding whether a table
+ * must give up players, and where they go, reads only that index: O(tables)
+ * per move instead of a scan of every seat in the tournament.
+ *
+ * <p>
+ * Players only leave a table between hands (the caller says which tables are
+ * there); they may join a table mid-hand and are dealt in from the next hand.
+ * Standard tournament rules apply: when the remaining players fit at one table
+ * fewer, one of the smallest tables (the highest-numbered that is between hands)
+ * is broken and its players go to the currently shortest tables; otherwise the player due the big blind
+ * moves from the largest table to the shortest until no two tables differ by
+ * more than one.
+ *
+ * <p>
+ * All methods are synchronized: in parallel mode table threads report busted
+ * players while the coordinator plans moves.
+ */
+public class TableBalancer {
+
+    /** A player moved from one table to another. */
+    public record Move(ServerPlayer player, ServerGameTable from, int fromSeat, ServerGameTable to, int toSeat) {
+    }
+
+    private final List<ServerGameTable> tables;
+    private final int[] seated;
+    private final int[] freeSeats; // bit n set = seat n empty
+    private final boolean[] closed;
+    private int openTables;
+    private int players;
+
+    /**
+     * Index the tables as currently seated.
+     *
+     * @param tables
+     *            the tournament's tables, in table order
+     */
+    public TableBalancer(List<ServerGameTable> tables) {
+        this.tables = List.copyOf(tables);
+        int numTables = this.tables.size();
+        seated = new int[numTables];
+        freeSeats = new int[numTables];
+        closed = new boolean[numTables];
+        for (int i = 0; i < numTables; i++) {
+            ServerGameTable table = this.tables.get(i);
+            if (table.getSeats() > Integer.SIZE) {
+                throw new IllegalArgumentException("Too many seats: " + table.getSeats());
+            }
+            for (int seat = 0; seat < table.getSeats(); seat++) {
+                if (table.getPlayer(seat) == null) {
+                    freeSeats[i] |= 1 << seat;
+                } else {
+                    seated[i]++;
+                }
+            }
+            players += seated[i];
+        }
+        openTables = numTables;
+    }
+
+    /**
+     * Unseat players who busted out at a table.
+     *
+     * @param tableIndex
+     *            index of the table
+     * @param seats
+     *            seats of the busted players
+     * @return the finish position they share: one more than the players still
+     *         seated anywhere
+     */
+    public synchronized int removePlayers(int tableIndex, List<Integer> seats) {
+        ServerGameTable table = tables.get(tableIndex);
+        for (int seat : seats) {
+            if (table.getPlayer(seat) != null) {
+                table.removePlayer(seat);
+                freeSeats[tableIndex] |= 1 << seat;
+                seated[tableIndex]--;
+                players--;
+            }
+        }
+        return players + 1;
+    }
+
+    /**
+     * @return players still seated across all tables
+     */
+    public synchronized int getNumPlayers() {
+        return players;
+    }
+
+    /**
+     * @return players seated at a table
+     */
+    public synchronized int getNumSeated(int tableIndex) {
+        return seated[tableIndex];
+    }
+
+    /**
+     * @return true if the table is open and has an empty seat, so it could be
+     *         given a player
+     */
+    public synchronized boolean hasFreeSeat(int tableIndex) {
+        return !closed[tableIndex] && freeSeats[tableIndex] != 0;
+    }
+
+    /**
+     * @return true if the table has been broken and no longer seats anyone
+     */
+    public synchronized boolean isClosed(int tableIndex) {
+        return closed[tableIndex];
+    }
+
+    /**
+     * Whether a table that has reached a hand boundary should wait there for
+     * {@link #balance} instead of dealing: it is one of the smallest tables when
+     * the field fits at one table fewer, it is more than one player above the
+     * shortest table, or it is too short to deal.
+     *
+     * @param tableIndex
+     *            index of the table
+     * @return true if the table has players to give up or needs players
+     */
+    public synchronized boolean isWaitingForMoves(int tableIndex) {
+        if (closed[tableIndex] || openTables <= 1) {
+            return false;
+        }
+        if (seated[tableIndex] < 2) {
+            return true;
+        }
+        if (canBreakTable() && seated[tableIndex] == fewestSeated()) {
+            return true;
+        }
+        int shortest = shortestTable(-1);
+        return shortest >= 0 && seated[tableIndex] > seated[shortest] + 1;
+    }
+
+    /**
+     * Move players until the tables are balanced or every remaining move would
+     * take a player out of a hand in progress.
+     *
+     * @param betweenHands
+     *            true for table indexes whose players may be moved now
+     * @return the moves made, in order; empty if none
+     */
+    public synchronized List<Move> balance(IntPredicate betweenHands) {
+        return balance(betweenHands, i -> true);
+    }
+
+    /**
+     * Like {@link #balance(IntPredicate)}, but only seats players at tables the
+     * caller can change now. Players go to the shortest such table; moves that
+     * would need a table outside it wait for a later call.
+     *
+     * @param betweenHands
+     *            true for table indexes whose players may be moved now
+     * @param canReceive
+     *            true for table indexes that may be given players now
+     * @return the moves made, in order; empty if none
+     */
+    public synchronized List<Move> balance(IntPredicate betweenHands, IntPredicate canReceive) {
+        List<Move> moves = new ArrayList<>();
+        while (canBreakTable()) {
+            int victim = tableToBreak(betweenHands);
+            if (victim < 0 || freeSeats(victim, canReceive) < seated[victim]) {
+                break;
+            }
+            closed[victim] = true;
+            openTables--;
+            int occupied = ~freeSeats[victim] & seatMask(victim);
+            while (occupied != 0) {
+                int seat = Integer.numberOfTrailingZeros(occupied);
+                occupied &= occupied - 1;
+                move(victim, seat, shortestTable(victim, canReceive), moves);
+            }
+        }
+        while (openTables > 1) {
+            int shortest = shortestTable(-1, canReceive);
+            if (shortest < 0) {
+                break;
+            }
+            int source = -1;
+            for (int i = 0; i < tables.size(); i++) {
+                if (!closed[i] && seated[i] > seated[shortest] + 1 && betweenHands.test(i)
+                        && (source < 0 || seated[i] > seated[source])) {
+                    source = i;
+                }
+            }
+            if (source < 0) {
+                break;
+            }
+            move(source, seatDueBigBlind(source), shortest, moves);
+        }
+        return moves;
+    }
+
+    private boolean canBreakTable() {
+        if (openTables <= 1) {
+            return false;
+        }
+        int seatsLeft = 0;
+        int largest = 0;
+        for (int i = 0; i < tables.size(); i++) {
+            if (!closed[i]) {
+                seatsLeft += tables.get(i).getSeats();
+                largest = Math.max(largest, tables.get(i).getSeats());
+            }
+        }
+        return players <= seatsLeft - largest;
+    }
+
+    // Highest-numbered of the smallest open tables, if the filter allows it now.
+    private int tableToBreak(IntPredicate allowed) {
+        int fewest = fewestSeated();
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            if (!closed[i] && seated[i] == fewest && allowed.test(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int fewestSeated() {
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < tables.size(); i++) {
+            if (!closed[i]) {
+                fewest = Math.min(fewest, seated[i]);
+            }
+        }
+        return fewest;
+    }
+
+    // Empty seats at open tables other than exclude that the filter allows.
+    private int freeSeats(int exclude, IntPredicate allowed) {
+        int free = 0;
+        for (int i = 0; i < tables.size(); i++) {
+            if (i != exclude && !closed[i] && allowed.test(i)) {
+                free += Integer.bitCount(freeSeats[i]);
+            }
+        }
+        return free;
+    }
+
+    // Open table with the fewest players and a free seat; lowest index wins ties.
+    private int shortestTable(int exclude) {
+        return shortestTable(exclude, i -> true);
+    }
+
+    private int shortestTable(int exclude, IntPredicate allowed) {
+        int shortest = -1;
+        for (int i = 0; i < tables.size(); i++) {
+            if (i != exclude && !closed[i] && freeSeats[i] != 0 && allowed.test(i)
+                    && (shortest < 0 || seated[i] < seated[shortest])) {
+                shortest = i;
+            }
+        }
+        return shortest;
+    }
+
+    // The player who would post the big blind next hand, so the move costs
+    // nobody a missed or doubled blind; any seated player if there is no button.
+    private int seatDueBigBlind(int tableIndex) {
+        ServerGameTable table = tables.get(tableIndex);
+        int seat = table.getButton();
+        if (seat >= 0) {
+            for (int i = 0; i < 3 && seat >= 0; i++) {
+                seat = table.getNextSeat(seat);
+            }
+        }
+        if (seat < 0 || table.getPlayer(seat) == null) {
+            seat = Integer.numberOfTrailingZeros(~freeSeats[tableIndex] & seatMask(tableIndex));
+        }
+        return seat;
+    }
+
+    private void move(int fromIndex, int fromSeat, int toIndex, List<Move> moves) {
+        ServerGameTable from = tables.get(fromIndex);
+        ServerGameTable to = tables.get(toIndex);
+        int toSeat = Integer.numberOfTrailingZeros(freeSeats[toIndex]);
+        ServerPlayer player = from.getPlayer(fromSeat);
+        from.removePlayer(fromSeat);
+        to.addPlayer(player, toSeat);
+        freeSeats[fromIndex] |= 1 << fromSeat;
+        freeSeats[toIndex] &= ~(1 << toSeat);
+        seated[fromIndex]--;
+        seated[toIndex]++;
+        moves.add(new Move(player, from, fromSeat, to, toSeat));
+    }
+
+    private int seatMask(int tableIndex) {
+        int seats = tables.get(tableIndex).getSeats();
+        return seats == Integer.SIZE ? -1 : (1 << seats) - 1;
+    }
+}
@@ -53,7 +53,7 @@ public class GameServerSecurityAutoConfiguration {
         Path publicKeyPath = Paths.get(properties.getPublicKeyPath());
 
         return new JwtTokenProvider(privateKeyPath, publicKeyPath, properties.getExpiration(),
-                properties.getRememberMeExpiration());
+                properties.getRememberMeExpiration(), properties.getClaimsCacheSize());
     }
 
     @Bean
@@ -27,6 +27,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -56,10 +58,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractToken(request);
 
-        if (token != null && tokenProvider.validateToken(token)) {
-            String username = tokenProvider.getUsernameFromToken(token);
-            Long profileId = tokenProvider.getProfileIdFromToken(token);
-            boolean emailVerified = tokenProvider.getEmailVerifiedFromToken(token);
+        // Validate and read claims in one pass; repeat tokens hit the provider's cache
+        Claims claims = (token != null) ? tokenProvider.parseClaims(token) : null;
+        if (claims != null) {
+            String username = claims.getSubject();
+            Long profileId = claims.get("profileId", Long.class);
+            boolean emailVerified = Boolean.TRUE.equals(claims.get("emailVerified", Boolean.class));
 
             // Create authentication object with profileId as principal
             JwtAuthenticationToken authentication = new JwtAuthenticationToken(username, profileId, emailVerified);
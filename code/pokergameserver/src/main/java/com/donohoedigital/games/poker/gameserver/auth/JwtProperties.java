@@ -52,6 +52,12 @@ public class JwtProperties {
      */
     private String cookieName = "DDPoker-JWT";
 
+    /**
+     * Maximum number of verified tokens whose claims are cached until expiry.
+     * Zero disables the cache. Default: 10000.
+     */
+    private int claimsCacheSize = JwtTokenProvider.DEFAULT_CLAIMS_CACHE_SIZE;
+
     public String getPrivateKeyPath() {
         return privateKeyPath;
     }
@@ -91,4 +97,12 @@ public class JwtProperties {
     public void setCookieName(String cookieName) {
         this.cookieName = cookieName;
     }
+
+    public int getClaimsCacheSize() {
+        return claimsCacheSize;
+    }
+
+    public void setClaimsCacheSize(int claimsCacheSize) {
+        this.claimsCacheSize = claimsCacheSize;
+    }
 }
@@ -19,14 +19,22 @@
  */
 package com.donohoedigital.games.poker.gameserver.auth;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 /**
@@ -40,12 +48,28 @@ import io.jsonwebtoken.Jwts;
  * <li><b>Validation-only mode</b>: Has public key only. Can validate tokens but
  * not generate them.</li>
  * </ul>
+ *
+ * <p>
+ * Verified claims are cached by a SHA-256 hash of the token until the token's
+ * own expiration, so a client presenting the same bearer token on every
+ * request pays for the RSA signature check only once. The cache is bounded;
+ * when full, expired entries are purged first and then arbitrary entries are
+ * dropped (they are simply re-verified on next use).
  */
 public class JwtTokenProvider {
+    /** Default maximum number of verified tokens kept in the claims cache. */
+    public static final int DEFAULT_CLAIMS_CACHE_SIZE = 10_000;
+
     private final PrivateKey privateKey; // Null in validation-only mode
-    private final PublicKey publicKey; // Always present
+    private final JwtParser parser; // Verifies with the public key; thread-safe
     private final long expiration;
     private final long rememberMeExpiration;
+    private final int claimsCacheSize;
+    private final Map<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();
+
+    /** Verified claims and the time (epoch millis) after which they are stale. */
+    private record CachedClaims(Claims claims, long expiresAt) {
+    }
 
     /**
      * Create a JWT token provider.
@@ -60,11 +84,33 @@ public class JwtTokenProvider {
      *            token expiration in milliseconds (remember me)
      */
     public JwtTokenProvider(Path privateKeyPath, Path publicKeyPath, long expiration, long rememberMeExpiration) {
+        this(privateKeyPath, publicKeyPath, expiration, rememberMeExpiration, DEFAULT_CLAIMS_CACHE_SIZE);
+    }
+
+    /**
+     * Create a JWT token provider.
+     *
+     * @param privateKeyPath
+     *            path to private key PEM file (null for validation-only mode)
+     * @param publicKeyPath
+     *            path to public key PEM file (required)
+     * @param expiration
+     *            token expiration in milliseconds (regular)
+     * @param rememberMeExpiration
+     *            token expiration in milliseconds (remember me)
+     * @param claimsCacheSize
+     *            maximum number of verified tokens to cache (0 disables the
+     *            cache)
+     */
+    public JwtTokenProvider(Path privateKeyPath, Path publicKeyPath, long expiration, long rememberMeExpiration,
+            int claimsCacheSize) {
         try {
             this.privateKey = (privateKeyPath != null) ? JwtKeyManager.loadPrivateKey(privateKeyPath) : null;
-            this.publicKey = JwtKeyManager.loadPublicKey(publicKeyPath);
+            PublicKey publicKey = JwtKeyManager.loadPublicKey(publicKeyPath);
+            this.parser = Jwts.parser().verifyWith(publicKey).build();
             this.expiration = expiration;
             this.rememberMeExpiration = rememberMeExpiration;
+            this.claimsCacheSize = Math.max(0, claimsCacheSize);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to load JWT keys", e);
         }
@@ -123,11 +169,21 @@ public class JwtTokenProvider {
      * @return true if valid, false otherwise
      */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * Validate a JWT token and return its claims in a single step.
+     *
+     * @param token
+     *            the token to validate
+     * @return the verified claims, or null if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token);
-            return true;
+            return getClaims(token);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
@@ -246,9 +302,71 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Parse and validate claims from token.
+     * Parse and validate claims from token. Tokens verified earlier are served
+     * from the claims cache until they expire.
+     *
+     * @throws JwtException
+     *             if the token is invalid or expired
+     * @throws IllegalArgumentException
+     *             if the token is null or empty
      */
     public Claims getClaims(String token) {
-        return Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getPayload();
+        if (claimsCacheSize == 0 || token == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+
+        String key = hash(token);
+        CachedClaims cached = claimsCache.get(key);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAt()) {
+                return cached.claims();
+            }
+            claimsCache.remove(key, cached);
+        }
+
+        // Throws if the signature is bad or the token has expired
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Date exp = claims.getExpiration();
+        if (exp != null) {
+            if (claimsCache.size() >= claimsCacheSize) {
+                evict();
+            }
+            claimsCache.put(key, new CachedClaims(claims, exp.getTime()));
+        }
+        return claims;
+    }
+
+    /**
+     * Number of verified tokens currently cached (for tests and metrics).
+     */
+    int getClaimsCacheSize() {
+        return claimsCache.size();
+    }
+
+    /**
+     * Make room in the claims cache: drop expired entries, and if that is not
+     * enough, drop arbitrary entries until there is space for one more.
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        claimsCache.values().removeIf(c -> now >= c.expiresAt());
+
+        Iterator<String> it = claimsCache.keySet().iterator();
+        while (claimsCache.size() >= claimsCacheSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /**
+     * SHA-256 of the token, so the cache does not hold bearer tokens in memory.
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -67,19 +67,29 @@ public class SimulationController {
      * <p>
      * Provide either {@code iterations} (100-100000) for Monte Carlo mode, or
      * {@code exhaustive=true} to enumerate all possible board completions.
+     * Requests with a {@code heroRange} or {@code opponentRanges} run a
+     * range-vs-range simulation.
      */
     @PostMapping("/simulate")
     public ResponseEntity<?> simulate(@Valid @RequestBody SimulationRequest request) {
-        if (request.holeCards() == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "holeCards must be provided"));
+        if (request.holeCards() == null && request.heroRange() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "holeCards or heroRange must be provided"));
         }
         if (!Boolean.TRUE.equals(request.exhaustive()) && request.iterations() == null) {
             return ResponseEntity.badRequest().body(Map.of("error", "iterations (100-100000) must be provided"));
         }
 
         try {
-            SimulationResult result = simulationService.simulate(request.holeCards(), request.communityCards(),
-                    request.numOpponents(), request.iterations(), request.knownOpponentHands(), request.exhaustive());
+            SimulationResult result;
+            if (request.hasRanges()) {
+                result = simulationService.simulateRange(request.holeCards(), request.heroRange(),
+                        request.communityCards(), request.numOpponents(), request.iterations(),
+                        request.knownOpponentHands(), request.opponentRanges(), request.exhaustive());
+            } else {
+                result = simulationService.simulate(request.holeCards(), request.communityCards(),
+                        request.numOpponents(), request.iterations(), request.knownOpponentHands(),
+                        request.exhaustive());
+            }
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
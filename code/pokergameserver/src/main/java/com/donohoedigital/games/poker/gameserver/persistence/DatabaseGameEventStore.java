@@ -20,7 +20,9 @@
 package com.donohoedigital.games.poker.gameserver.persistence;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.donohoedigital.games.poker.engine.event.GameEvent;
 import com.donohoedigital.games.poker.gameserver.IGameEventStore;
@@ -37,20 +39,34 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  *
  * <p>
  * Events are persisted to the database via {@link GameEventRepository},
- * enabling crash recovery and game replay across server restarts.
+ * enabling crash recovery and game replay across server restarts. New events
+ * are written as JSON or, in binary mode, with {@link GameEventCodec}; reads
+ * accept both so a game log may mix the two.
  *
  * <p>
  * Thread-safety: This implementation is thread-safe for append operations
  * through database-level locking and atomic sequence number generation.
  */
 public class DatabaseGameEventStore implements IGameEventStore {
+
+    // JSON rows name their record by simple name; resolve once instead of
+    // Class.forName per row
+    private static final Map<String, Class<?>> EVENT_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> type : GameEvent.class.getPermittedSubclasses()) {
+            EVENT_TYPES.put(type.getSimpleName(), type);
+        }
+    }
+
     private final String gameId;
     private final GameEventRepository repository;
     private final ObjectMapper objectMapper;
+    private final boolean binary;
     private final Object sequenceLock = new Object();
 
     /**
-     * Create a new database-backed event store.
+     * Create a new database-backed event store that writes JSON.
      *
      * @param gameId
      *            unique identifier for the game
@@ -58,6 +74,20 @@ public class DatabaseGameEventStore implements IGameEventStore {
      *            the JPA repository for event persistence
      */
     public DatabaseGameEventStore(String gameId, GameEventRepository repository) {
+        this(gameId, repository, false);
+    }
+
+    /**
+     * Create a new database-backed event store.
+     *
+     * @param gameId
+     *            unique identifier for the game
+     * @param repository
+     *            the JPA repository for event persistence
+     * @param binary
+     *            true to write new events with {@link GameEventCodec}
+     */
+    public DatabaseGameEventStore(String gameId, GameEventRepository repository, boolean binary) {
         if (gameId == null || gameId.isBlank()) {
             throw new IllegalArgumentException("Game ID cannot be null or blank");
         }
@@ -66,6 +96,7 @@ public class DatabaseGameEventStore implements IGameEventStore {
         }
         this.gameId = gameId;
         this.repository = repository;
+        this.binary = binary;
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
     }
@@ -83,7 +114,12 @@ public class DatabaseGameEventStore implements IGameEventStore {
             entity.setGameId(gameId);
             entity.setSequenceNumber(nextSequence);
             entity.setEventType(event.getClass().getSimpleName());
-            entity.setEventData(serializeEvent(event));
+            if (binary) {
+                entity.setEventData("");
+                entity.setEventBinary(GameEventCodec.encode(event));
+            } else {
+                entity.setEventData(serializeEvent(event));
+            }
             entity.setTimestamp(Instant.now());
 
             repository.save(entity);
@@ -117,10 +153,35 @@ public class DatabaseGameEventStore implements IGameEventStore {
         return repository.countByGameId(gameId);
     }
 
+    /**
+     * Rewrite this game's JSON rows in the binary format. Sequence numbers and
+     * timestamps are unchanged.
+     *
+     * @return number of rows converted
+     */
+    public int migrateToBinary() {
+        synchronized (sequenceLock) {
+            List<GameEventEntity> rows = repository.findByGameIdAndEventBinaryIsNullOrderBySequenceNumberAsc(gameId);
+            for (GameEventEntity row : rows) {
+                row.setEventBinary(GameEventCodec.encode(deserializeEvent(row.getEventType(), row.getEventData())));
+                row.setEventData("");
+            }
+            repository.saveAll(rows);
+            return rows.size();
+        }
+    }
+
+    /**
+     * @return true if new events are written with {@link GameEventCodec}
+     */
+    boolean isBinary() {
+        return binary;
+    }
+
     /**
      * Serialize a GameEvent to JSON.
      */
-    private String serializeEvent(GameEvent event) {
+    String serializeEvent(GameEvent event) {
         try {
             return objectMapper.writeValueAsString(event);
         } catch (JsonProcessingException e) {
@@ -132,10 +193,11 @@ public class DatabaseGameEventStore implements IGameEventStore {
      * Deserialize JSON to a GameEvent.
      */
     private GameEvent deserializeEvent(String eventType, String eventData) {
+        Class<?> eventClass = EVENT_TYPES.get(eventType);
+        if (eventClass == null) {
+            throw new IllegalStateException("Unknown event type: " + eventType);
+        }
         try {
-            // Reconstruct full class name from simple name
-            String className = "com.donohoedigital.games.poker.engine.event.GameEvent$" + eventType;
-            Class<?> eventClass = Class.forName(className);
             return (GameEvent) objectMapper.readValue(eventData, eventClass);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to deserialize event: " + eventType, e);
@@ -146,7 +208,9 @@ public class DatabaseGameEventStore implements IGameEventStore {
      * Convert GameEventEntity to StoredEvent.
      */
     private StoredEvent toStoredEvent(GameEventEntity entity) {
-        GameEvent event = deserializeEvent(entity.getEventType(), entity.getEventData());
+        GameEvent event = entity.getEventBinary() != null
+                ? GameEventCodec.decode(entity.getEventBinary())
+                : deserializeEvent(entity.getEventType(), entity.getEventData());
         return new StoredEvent(entity.getGameId(), entity.getSequenceNumber(), entity.getEventType(), event,
                 entity.getTimestamp());
     }
@@ -0,0 +1,436 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.donohoedigital.games.poker.engine.event.GameEvent;
+import com.donohoedigital.games.poker.engine.event.GameEvent.*;
+import com.donohoedigital.games.poker.engine.state.ActionType;
+import com.donohoedigital.games.poker.engine.state.BettingRound;
+import com.donohoedigital.games.poker.engine.state.TableState;
+
+/**
+ * Compact binary encoding of {@link GameEvent} records for the
+ * {@code game_events} table.
+ *
+ * <p>
+ * Layout: one format version byte, one type tag byte, then the record
+ * components in declaration order. Integers are zigzag varints, enums are
+ * stored by their legacy code (which never changes), strings are UTF-8 with a
+ * varint length, and arrays/lists carry a varint count. Nullable values are
+ * written with a leading presence marker. A typical event is 3-8 bytes versus
+ * 40-120 bytes of JSON.
+ *
+ * <p>
+ * Type tags are part of the stored format: never renumber or reuse them. New
+ * event types get the next free tag; changes to an existing record's
+ * components need a new {@link #VERSION} and a decode branch for the old one.
+ */
+public final class GameEventCodec {
+
+    /** Current format version, written as the first byte. */
+    public static final int VERSION = 1;
+
+    private static final int HAND_STARTED = 1;
+    private static final int PLAYER_ACTED = 2;
+    private static final int COMMUNITY_CARDS_DEALT = 3;
+    private static final int HAND_COMPLETED = 4;
+    private static final int TABLE_STATE_CHANGED = 5;
+    private static final int PLAYER_ADDED = 6;
+    private static final int PLAYER_REMOVED = 7;
+    private static final int LEVEL_CHANGED = 8;
+    private static final int BUTTON_MOVED = 9;
+    private static final int SHOWDOWN_STARTED = 10;
+    private static final int POT_AWARDED = 11;
+    private static final int TOURNAMENT_COMPLETED = 12;
+    private static final int BREAK_STARTED = 13;
+    private static final int BREAK_ENDED = 14;
+    private static final int COLOR_UP_COMPLETED = 15;
+    private static final int CURRENT_PLAYER_CHANGED = 16;
+    private static final int PLAYER_REBUY = 17;
+    private static final int PLAYER_ADDON = 18;
+    private static final int OBSERVER_ADDED = 19;
+    private static final int OBSERVER_REMOVED = 20;
+    private static final int CLEANING_DONE = 21;
+    private static final int PLAYER_ELIMINATED = 22;
+    private static final int ACTION_TIMEOUT = 23;
+    private static final int REBUY_OFFERED = 24;
+    private static final int NEVER_BROKE_OFFERED = 25;
+    private static final int ADDON_OFFERED = 26;
+    private static final int CHIPS_TRANSFERRED = 27;
+    private static final int COLOR_UP_STARTED = 28;
+    private static final int ALL_IN_RUNOUT_PAUSED = 29;
+    private static final int PLAYERS_MOVED = 30;
+
+    private GameEventCodec() {
+    }
+
+    /**
+     * Encode an event.
+     *
+     * @param event
+     *            event to encode
+     * @return encoded bytes
+     */
+    public static byte[] encode(GameEvent event) {
+        Writer w = new Writer();
+        w.raw(VERSION);
+        switch (event) {
+            case HandStarted e -> w.tag(HAND_STARTED).i(e.tableId()).i(e.handNumber());
+            case PlayerActed e -> w.tag(PLAYER_ACTED).i(e.tableId()).i(e.playerId()).action(e.action()).i(e.amount());
+            case CommunityCardsDealt e -> w.tag(COMMUNITY_CARDS_DEALT).i(e.tableId()).round(e.round());
+            case HandCompleted e -> w.tag(HAND_COMPLETED).i(e.tableId());
+            case TableStateChanged e ->
+                w.tag(TABLE_STATE_CHANGED).i(e.tableId()).state(e.oldState()).state(e.newState());
+            case PlayerAdded e -> w.tag(PLAYER_ADDED).i(e.tableId()).i(e.playerId()).i(e.seat());
+            case PlayerRemoved e -> w.tag(PLAYER_REMOVED).i(e.tableId()).i(e.playerId()).i(e.seat());
+            case LevelChanged e -> w.tag(LEVEL_CHANGED).i(e.tableId()).i(e.newLevel());
+            case ButtonMoved e -> w.tag(BUTTON_MOVED).i(e.tableId()).i(e.newSeat());
+            case ShowdownStarted e -> w.tag(SHOWDOWN_STARTED).i(e.tableId());
+            case PotAwarded e -> w.tag(POT_AWARDED).i(e.tableId()).i(e.potIndex()).ints(e.winnerIds()).i(e.amount());
+            case TournamentCompleted e -> w.tag(TOURNAMENT_COMPLETED).i(e.winnerId());
+            case BreakStarted e -> w.tag(BREAK_STARTED).i(e.tableId());
+            case BreakEnded e -> w.tag(BREAK_ENDED).i(e.tableId());
+            case ColorUpCompleted e -> w.tag(COLOR_UP_COMPLETED).i(e.tableId());
+            case CurrentPlayerChanged e -> w.tag(CURRENT_PLAYER_CHANGED).i(e.tableId()).i(e.playerId());
+            case PlayerRebuy e -> w.tag(PLAYER_REBUY).i(e.tableId()).i(e.playerId()).i(e.amount());
+            case PlayerAddon e -> w.tag(PLAYER_ADDON).i(e.tableId()).i(e.playerId()).i(e.amount());
+            case ObserverAdded e -> w.tag(OBSERVER_ADDED).i(e.tableId()).i(e.observerId());
+            case ObserverRemoved e -> w.tag(OBSERVER_REMOVED).i(e.tableId()).i(e.observerId());
+            case CleaningDone e -> w.tag(CLEANING_DONE).i(e.tableId());
+            case PlayerEliminated e ->
+                w.tag(PLAYER_ELIMINATED).i(e.tableId()).i(e.playerId()).i(e.finishPosition());
+            case ActionTimeout e -> w.tag(ACTION_TIMEOUT).i(e.playerId()).action(e.autoAction());
+            case RebuyOffered e -> w.tag(REBUY_OFFERED).i(e.tableId()).i(e.playerId()).i(e.cost()).i(e.chips())
+                    .i(e.timeoutSeconds());
+            case NeverBrokeOffered e ->
+                w.tag(NEVER_BROKE_OFFERED).i(e.tableId()).i(e.playerId()).i(e.timeoutSeconds());
+            case AddonOffered e -> w.tag(ADDON_OFFERED).i(e.tableId()).i(e.playerId()).i(e.cost()).i(e.chips())
+                    .i(e.timeoutSeconds());
+            case ChipsTransferred e ->
+                w.tag(CHIPS_TRANSFERRED).i(e.tableId()).i(e.fromPlayerId()).i(e.toPlayerId()).i(e.amount());
+            case ColorUpStarted e -> {
+                w.tag(COLOR_UP_STARTED).i(e.tableId());
+                writePlayers(w, e.players());
+                w.i(e.newMinChip());
+            }
+            case AllInRunoutPaused e -> w.tag(ALL_IN_RUNOUT_PAUSED).i(e.tableId());
+            case PlayersMoved e -> {
+                w.tag(PLAYERS_MOVED);
+                writeMoves(w, e.moves());
+            }
+        }
+        return w.toByteArray();
+    }
+
+    /**
+     * Decode an event.
+     *
+     * @param data
+     *            bytes produced by {@link #encode}
+     * @return decoded event
+     * @throws IllegalStateException
+     *             if the data is truncated, has an unknown version or type tag
+     */
+    public static GameEvent decode(byte[] data) {
+        Reader r = new Reader(data);
+        try {
+            int version = r.raw();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported event format version: " + version);
+            }
+            int tag = r.raw();
+            GameEvent event = switch (tag) {
+                case HAND_STARTED -> new HandStarted(r.i(), r.i());
+                case PLAYER_ACTED -> new PlayerActed(r.i(), r.i(), r.action(), r.i());
+                case COMMUNITY_CARDS_DEALT -> new CommunityCardsDealt(r.i(), r.round());
+                case HAND_COMPLETED -> new HandCompleted(r.i());
+                case TABLE_STATE_CHANGED -> new TableStateChanged(r.i(), r.state(), r.state());
+                case PLAYER_ADDED -> new PlayerAdded(r.i(), r.i(), r.i());
+                case PLAYER_REMOVED -> new PlayerRemoved(r.i(), r.i(), r.i());
+                case LEVEL_CHANGED -> new LevelChanged(r.i(), r.i());
+                case BUTTON_MOVED -> new ButtonMoved(r.i(), r.i());
+                case SHOWDOWN_STARTED -> new ShowdownStarted(r.i());
+                case POT_AWARDED -> new PotAwarded(r.i(), r.i(), r.ints(), r.i());
+                case TOURNAMENT_COMPLETED -> new TournamentCompleted(r.i());
+                case BREAK_STARTED -> new BreakStarted(r.i());
+                case BREAK_ENDED -> new BreakEnded(r.i());
+                case COLOR_UP_COMPLETED -> new ColorUpCompleted(r.i());
+                case CURRENT_PLAYER_CHANGED -> new CurrentPlayerChanged(r.i(), r.i());
+                case PLAYER_REBUY -> new PlayerRebuy(r.i(), r.i(), r.i());
+                case PLAYER_ADDON -> new PlayerAddon(r.i(), r.i(), r.i());
+                case OBSERVER_ADDED -> new ObserverAdded(r.i(), r.i());
+                case OBSERVER_REMOVED -> new ObserverRemoved(r.i(), r.i());
+                case CLEANING_DONE -> new CleaningDone(r.i());
+                case PLAYER_ELIMINATED -> new PlayerEliminated(r.i(), r.i(), r.i());
+                case ACTION_TIMEOUT -> new ActionTimeout(r.i(), r.action());
+                case REBUY_OFFERED -> new RebuyOffered(r.i(), r.i(), r.i(), r.i(), r.i());
+                case NEVER_BROKE_OFFERED -> new NeverBrokeOffered(r.i(), r.i(), r.i());
+                case ADDON_OFFERED -> new AddonOffered(r.i(), r.i(), r.i(), r.i(), r.i());
+                case CHIPS_TRANSFERRED -> new ChipsTransferred(r.i(), r.i(), r.i(), r.i());
+                case COLOR_UP_STARTED -> new ColorUpStarted(r.i(), readPlayers(r), r.i());
+                case ALL_IN_RUNOUT_PAUSED -> new AllInRunoutPaused(r.i());
+                case PLAYERS_MOVED -> new PlayersMoved(readMoves(r));
+                default -> throw new IllegalStateException("Unknown event type tag: " + tag);
+            };
+            if (r.pos != data.length) {
+                throw new IllegalStateException("Trailing bytes after event: " + event.getClass().getSimpleName());
+            }
+            return event;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Truncated event data", e);
+        }
+    }
+
+    private static void writePlayers(Writer w, List<ColorUpPlayerData> players) {
+        if (players == null) {
+            w.u(0);
+            return;
+        }
+        w.u(players.size() + 1);
+        for (ColorUpPlayerData p : players) {
+            w.i(p.playerId());
+            if (p.cards() == null) {
+                w.u(0);
+            } else {
+                w.u(p.cards().size() + 1);
+                for (String card : p.cards()) {
+                    w.str(card);
+                }
+            }
+            w.raw((p.won() ? 1 : 0) | (p.broke() ? 2 : 0));
+            w.i(p.finalChips());
+        }
+    }
+
+    private static List<ColorUpPlayerData> readPlayers(Reader r) {
+        int count = r.u() - 1;
+        if (count < 0) {
+            return null;
+        }
+        List<ColorUpPlayerData> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int playerId = r.i();
+            int cardCount = r.u() - 1;
+            List<String> cards = null;
+            if (cardCount >= 0) {
+                cards = new ArrayList<>(cardCount);
+                for (int c = 0; c < cardCount; c++) {
+                    cards.add(r.str());
+                }
+            }
+            int flags = r.raw();
+            players.add(new ColorUpPlayerData(playerId, cards, (flags & 1) != 0, (flags & 2) != 0, r.i()));
+        }
+        return players;
+    }
+
+    private static void writeMoves(Writer w, List<PlayerMove> moves) {
+        if (moves == null) {
+            w.u(0);
+            return;
+        }
+        w.u(moves.size() + 1);
+        for (PlayerMove m : moves) {
+            w.i(m.playerId()).i(m.fromTableId()).i(m.fromSeat()).i(m.toTableId()).i(m.toSeat());
+        }
+    }
+
+    private static List<PlayerMove> readMoves(Reader r) {
+        int count = r.u() - 1;
+        if (count < 0) {
+            return null;
+        }
+        List<PlayerMove> moves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            moves.add(new PlayerMove(r.i(), r.i(), r.i(), r.i(), r.i()));
+        }
+        return moves;
+    }
+
+    ////
+    //// Primitive encoding
+    ////
+
+    private static final class Writer {
+        private byte[] buf = new byte[16];
+        private int pos;
+
+        Writer raw(int b) {
+            if (pos == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            buf[pos++] = (byte) b;
+            return this;
+        }
+
+        Writer tag(int tag) {
+            return raw(tag);
+        }
+
+        Writer u(int value) {
+            while ((value & ~0x7F) != 0) {
+                raw((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            return raw(value);
+        }
+
+        Writer i(int value) {
+            return u(zigzag(value));
+        }
+
+        Writer ints(int[] values) {
+            if (values == null) {
+                return u(0);
+            }
+            u(values.length + 1);
+            for (int v : values) {
+                i(v);
+            }
+            return this;
+        }
+
+        Writer str(String s) {
+            if (s == null) {
+                return u(0);
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            u(bytes.length + 1);
+            for (byte b : bytes) {
+                raw(b);
+            }
+            return this;
+        }
+
+        // enums: 0 = null, otherwise zigzag(legacy code) + 1
+        Writer action(ActionType a) {
+            return a == null ? u(0) : u(zigzag(a.toLegacy()) + 1);
+        }
+
+        Writer round(BettingRound r) {
+            return r == null ? u(0) : u(zigzag(r.toLegacy()) + 1);
+        }
+
+        Writer state(TableState s) {
+            return s == null ? u(0) : u(zigzag(s.toLegacy()) + 1);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int raw() {
+            return buf[pos++] & 0xFF;
+        }
+
+        int u() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = raw();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint");
+        }
+
+        int i() {
+            return unzigzag(u());
+        }
+
+        int[] ints() {
+            int count = u() - 1;
+            if (count < 0) {
+                return null;
+            }
+            int[] values = new int[count];
+            for (int k = 0; k < count; k++) {
+                values[k] = i();
+            }
+            return values;
+        }
+
+        String str() {
+            int len = u() - 1;
+            if (len < 0) {
+                return null;
+            }
+            if (pos + len > buf.length) {
+                throw new ArrayIndexOutOfBoundsException(pos + len);
+            }
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+
+        ActionType action() {
+            int v = u();
+            return v == 0 ? null : ActionType.fromLegacy(unzigzag(v - 1));
+        }
+
+        BettingRound round() {
+            int v = u();
+            return v == 0 ? null : BettingRound.fromLegacy(unzigzag(v - 1));
+        }
+
+        TableState state() {
+            int v = u();
+            return v == 0 ? null : TableState.fromLegacy(unzigzag(v - 1));
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -33,10 +33,18 @@ package com.donohoedigital.games.poker.gameserver.persistence;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.donohoedigital.games.poker.gameserver.GameEventStoreFactory;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.GameEventRepository;
 
 /**
  * Spring Boot auto-configuration for poker game server persistence features
@@ -48,7 +56,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  * </p>
  * <ul>
  * <li>JPA repositories for game instances, events, profiles, and bans</li>
- * <li>Database-backed event store implementation</li>
+ * <li>Database-backed event store factory (opt-in via
+ * {@code game.server.event-store.type=database})</li>
+ * <li>Asynchronous batched hand history writer (opt-in via
+ * {@code game.server.hand-history.async=true})</li>
  * <li>Entity scanning for game server and shared entities</li>
  * </ul>
  *
@@ -65,6 +76,65 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         "com.donohoedigital.games.poker.model" // OnlineProfile for auth
 })
 public class GameServerPersistenceAutoConfiguration {
-    // Bean definitions for persistence components will be added here
-    // (GameEventStoreFactory, etc.)
+
+    /**
+     * Database event store factory, enabled with
+     * {@code game.server.event-store.type=database}. Each game gets a
+     * {@link WriteBehindGameEventStore} that batches inserts off the game thread;
+     * the inserts of all games share the factory's writer threads, which stop
+     * when the context closes.
+     *
+     * @param repository
+     *            event repository used for reads
+     * @param dataSource
+     *            data source used for batch inserts
+     * @param writerThreads
+     *            threads writing the events of all games
+     * @param capacity
+     *            events buffered per game before appends wait
+     * @param batchSize
+     *            maximum events per batch insert
+     * @param maxLatencyMillis
+     *            longest an event stays buffered before it is written
+     * @param format
+     *            {@code json} (default) or {@code binary} for new rows
+     * @return factory creating a write-behind store per game
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(GameEventStoreFactory.class)
+    @ConditionalOnProperty(name = "game.server.event-store.type", havingValue = "database")
+    public WriteBehindGameEventStoreFactory gameEventStoreFactory(GameEventRepository repository,
+            DataSource dataSource, @Value("${game.server.event-store.writer-threads:2}") int writerThreads,
+            @Value("${game.server.event-store.buffer-capacity:8192}") int capacity,
+            @Value("${game.server.event-store.batch-size:256}") int batchSize,
+            @Value("${game.server.event-store.max-latency-ms:200}") long maxLatencyMillis,
+            @Value("${game.server.event-store.format:json}") String format) {
+        return new WriteBehindGameEventStoreFactory(repository, new JdbcTemplate(dataSource), writerThreads,
+                capacity, batchSize, maxLatencyMillis, "binary".equalsIgnoreCase(format));
+    }
+
+    /**
+     * Hand history writer, enabled with {@code game.server.hand-history.async=true}.
+     * Completed hands from all games are queued and written in batches off the
+     * game threads; the buffer is drained when the context closes.
+     *
+     * @param dataSource
+     *            data source the hand tables live in
+     * @param capacity
+     *            hands buffered before submitting waits
+     * @param batchSize
+     *            maximum hands per batch
+     * @param maxLatencyMillis
+     *            longest a hand stays buffered before it is written
+     * @return the shared writer
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "game.server.hand-history.async", havingValue = "true")
+    public HandHistoryBatchWriter handHistoryBatchWriter(DataSource dataSource,
+            @Value("${game.server.hand-history.buffer-capacity:1024}") int capacity,
+            @Value("${game.server.hand-history.batch-size:64}") int batchSize,
+            @Value("${game.server.hand-history.max-latency-ms:500}") long maxLatencyMillis) {
+        return new HandHistoryBatchWriter(dataSource, capacity, batchSize, maxLatencyMillis);
+    }
 }
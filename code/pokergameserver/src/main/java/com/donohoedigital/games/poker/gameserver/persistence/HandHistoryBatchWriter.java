@@ -0,0 +1,596 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandActionEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandHistoryEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandPlayerEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
+
+/**
+ * Asynchronous, batched writer for completed hands.
+ *
+ * <p>
+ * {@link #submit} only puts the hand in a bounded buffer shared by all games,
+ * so the game thread never waits for the database. A background writer takes
+ * up to a batch of hands at a time, as soon as a full batch is ready or the
+ * oldest hand reaches the maximum latency, and writes them in one transaction
+ * with one multi-row {@code INSERT} per table. Hand IDs are handed out from an
+ * in-memory counter seeded once from {@code hand_history}, a batch-sized range
+ * at a time, so player and action rows can reference their hand without an
+ * IDENTITY round trip per hand. This relies on the database accepting explicit
+ * values in the identity column and advancing it past them, as MySQL and H2 in
+ * MySQL mode do. The counter is only re-seeded after a failed batch, so while
+ * the writer is enabled it must be the only writer of {@code hand_history}: a
+ * second server on the same database, or hands inserted through JPA, collide
+ * with its IDs and cost retries or dropped batches. A hand's contribution to the per-game running stats is
+ * merged across the batch and applied in the same transaction, one
+ * {@code UPDATE} per stats row touched.
+ *
+ * <p>
+ * {@link #flush} blocks until every hand submitted so far has been written.
+ * {@link #close} drains the buffer and stops the writer; it runs when the
+ * server shuts down, and any hand submitted after that is written inline. If
+ * the buffer fills up (the database is slower than the games), {@code submit}
+ * waits for space rather than dropping hands. A batch that still fails after
+ * repeated attempts is dropped; the next {@code flush} or {@code close} throws
+ * {@link IllegalStateException} to report it.
+ */
+public class HandHistoryBatchWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HandHistoryBatchWriter.class);
+
+    /** Default number of hands the buffer holds. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Default number of hands per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /** Default maximum time a hand waits in the buffer. */
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 500;
+
+    static final String MAX_HAND_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM hand_history";
+
+    static final String HAND_COLUMNS = "id, game_id, table_id, hand_number, game_style, game_type, start_date,"
+            + " end_date, ante, small_blind, big_blind, community_cards, community_cards_dealt";
+
+    static final String PLAYER_COLUMNS = "hand_id, player_id, player_name, seat_number, start_chips, end_chips,"
+            + " hole_cards, preflop_actions, flop_actions, turn_actions, river_actions, cards_exposed";
+
+    static final String ACTION_COLUMNS = "hand_id, player_id, sequence, round, action_type, amount, sub_amount,"
+            + " all_in";
+
+    static final String UPDATE_CLASS_STATS_SQL = "UPDATE hand_class_stats SET hands = hands + ?, wins = wins + ?,"
+            + " losses = losses + ?, passes = passes + ?, total_bet = total_bet + ?, total_chips = total_chips + ?,"
+            + " saw_flop = saw_flop + ?, saw_turn = saw_turn + ?, saw_river = saw_river + ?,"
+            + " showdowns = showdowns + ? WHERE game_id = ? AND hand_class = ?";
+
+    static final String CLASS_STATS_COLUMNS = "hands, wins, losses, passes, total_bet, total_chips, saw_flop,"
+            + " saw_turn, saw_river, showdowns, game_id, hand_class";
+
+    static final String UPDATE_ROUND_STATS_SQL = "UPDATE hand_round_stats SET hands = hands + ?,"
+            + " checked = checked + ?, check_raised = check_raised + ?, called = called + ?, bet = bet + ?,"
+            + " raised = raised + ?, reraised = reraised + ?, folded = folded + ?, won = won + ?"
+            + " WHERE game_id = ? AND hand_class = ? AND round = ?";
+
+    static final String ROUND_STATS_COLUMNS = "hands, checked, check_raised, called, bet, raised, reraised, folded,"
+            + " won, game_id, hand_class, round";
+
+    /** Rows per INSERT statement, keeping bind parameters well under driver limits. */
+    static final int MAX_ROWS_PER_INSERT = 500;
+
+    /** Attempts per batch before the batch is logged and dropped. */
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+
+    // ring buffer of submitted but not yet written hands, guarded by lock
+    private final Pending[] ring;
+    private int head;
+    private int size;
+    private long submitted;
+    private long written;
+    private long flushTarget;
+    private boolean closed;
+    private long droppedHands;
+    private long reportedDrops;
+
+    // last hand ID handed out; -1 until seeded from the table (writer thread,
+    // then inline writes under directLock once it has stopped)
+    private long lastHandId = -1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock directLock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final Condition space = lock.newCondition();
+    private final Condition durable = lock.newCondition();
+
+    private final Thread writer;
+
+    /**
+     * Create a writer with default buffer size, batch size and latency.
+     */
+    public HandHistoryBatchWriter(DataSource dataSource) {
+        this(dataSource, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_MAX_LATENCY_MILLIS);
+    }
+
+    /**
+     * @param dataSource
+     *            data source the hand tables live in
+     * @param capacity
+     *            hands buffered before {@link #submit} waits
+     * @param batchSize
+     *            maximum hands per batch
+     * @param maxLatencyMillis
+     *            longest a hand stays buffered before it is written
+     */
+    public HandHistoryBatchWriter(DataSource dataSource, int capacity, int batchSize, long maxLatencyMillis) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("DataSource cannot be null");
+        }
+        if (capacity <= 0 || batchSize <= 0 || maxLatencyMillis < 0) {
+            throw new IllegalArgumentException("Invalid buffer settings");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.ring = new Pending[capacity];
+        this.batchSize = Math.min(batchSize, capacity);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+
+        this.writer = new Thread(this::writeLoop, "hand-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queue a completed hand for writing. The entities belong to the writer from
+     * here on; it sets their IDs when the hand is written.
+     *
+     * @param hand
+     *            the hand, with its game ID set
+     * @param players
+     *            the hand's players
+     * @param actions
+     *            the hand's actions
+     */
+    public void submit(HandHistoryEntity hand, List<HandPlayerEntity> players, List<HandActionEntity> actions) {
+        submit(hand, players, actions, null, List.of());
+    }
+
+    /**
+     * Queue a completed hand for writing, together with its contribution to the
+     * game's running stats.
+     *
+     * @param hand
+     *            the hand, with its game ID set
+     * @param players
+     *            the hand's players
+     * @param actions
+     *            the hand's actions
+     * @param classStats
+     *            amounts to add to the hand class totals, or null if the hand
+     *            does not count towards stats
+     * @param roundStats
+     *            amounts to add to the per-round totals
+     */
+    public void submit(HandHistoryEntity hand, List<HandPlayerEntity> players, List<HandActionEntity> actions,
+            HandClassStatsEntity classStats, List<HandRoundStatsEntity> roundStats) {
+        if (hand == null || hand.getGameId() == null) {
+            throw new IllegalArgumentException("Hand and its game ID cannot be null");
+        }
+
+        Pending entry = new Pending(hand, players, actions, classStats, roundStats, System.nanoTime());
+        boolean direct = false;
+        lock.lock();
+        try {
+            submitted++;
+            if (closed) {
+                // writer is gone; late hands (e.g. finished during shutdown) are written inline
+                direct = true;
+                return;
+            }
+            while (size == ring.length) {
+                // database is behind - make the writer go now and wait for room
+                flushTarget = Math.max(flushTarget, submitted);
+                pending.signal();
+                space.awaitUninterruptibly();
+            }
+            ring[(head + size) % ring.length] = entry;
+            size++;
+            if (size == 1 || size >= batchSize) {
+                pending.signal();
+            }
+        } finally {
+            lock.unlock();
+            if (direct) {
+                writeDirect(entry);
+            }
+        }
+    }
+
+    private void writeDirect(Pending entry) {
+        try {
+            writer.join(); // let it finish draining; it owns the ID counter until then
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean ok;
+        directLock.lock();
+        try {
+            // inline writes share the ID counter, so they go one at a time
+            ok = writeBatch(List.of(entry));
+        } finally {
+            directLock.unlock();
+        }
+        lock.lock();
+        try {
+            if (!ok) {
+                droppedHands++;
+            }
+            written++;
+            durable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Block until every hand submitted so far has been written or dropped after
+     * repeated failures.
+     *
+     * @throws IllegalStateException
+     *             if hands were dropped since the last flush or close reported it
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            long target = submitted;
+            if (written < target) {
+                flushTarget = Math.max(flushTarget, target);
+                pending.signal();
+                // once closed, everything submitted is still written: drained by the
+                // writer or inline by the submitting thread
+                while (written < target && (writer.isAlive() || closed)) {
+                    durable.awaitUninterruptibly();
+                }
+            }
+            throwIfDropped();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write everything still buffered and stop the writer thread.
+     *
+     * @throws IllegalStateException
+     *             if hands were dropped since the last flush or close reported it
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            throwIfDropped();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Report hands dropped since the last report. Caller holds lock.
+    private void throwIfDropped() {
+        if (droppedHands > reportedDrops) {
+            long dropped = droppedHands - reportedDrops;
+            reportedDrops = droppedHands;
+            throw new IllegalStateException(dropped + " hands could not be written");
+        }
+    }
+
+    /**
+     * @return hands submitted but not yet written
+     */
+    public long getPendingHands() {
+        lock.lock();
+        try {
+            return submitted - written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return hands written (or dropped) so far
+     */
+    public long getWrittenHands() {
+        lock.lock();
+        try {
+            return written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return hands that could not be written after repeated attempts
+     */
+    public long getDroppedHands() {
+        lock.lock();
+        try {
+            return droppedHands;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ////
+    //// Writer thread
+    ////
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (true) {
+            lock.lock();
+            try {
+                while (size == 0 && !closed) {
+                    pending.awaitUninterruptibly();
+                }
+                if (size == 0) {
+                    return; // closed and drained
+                }
+                // hold back until the batch is full, the oldest hand is due, or
+                // someone is waiting on a flush
+                long due = ring[head].submittedNanos() + maxLatencyNanos;
+                while (size < batchSize && !closed && flushTarget <= written) {
+                    long wait = due - System.nanoTime();
+                    if (wait <= 0) {
+                        break;
+                    }
+                    pending.awaitNanos(wait);
+                }
+                int n = Math.min(size, batchSize);
+                for (int i = 0; i < n; i++) {
+                    batch.add(ring[head]);
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                }
+                size -= n;
+                space.signalAll();
+            } catch (InterruptedException e) {
+                // not interrupted by this class; keep draining
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            boolean ok = writeBatch(batch);
+
+            lock.lock();
+            try {
+                if (!ok) {
+                    droppedHands += batch.size();
+                }
+                written += batch.size();
+                durable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            batch.clear();
+        }
+    }
+
+    private boolean writeBatch(List<Pending> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                if (lastHandId < 0) {
+                    Long max = jdbcTemplate.queryForObject(MAX_HAND_ID_SQL, Long.class);
+                    lastHandId = max != null ? max : 0;
+                }
+                long firstId = lastHandId + 1;
+                transactionTemplate.executeWithoutResult(status -> insertBatch(batch, firstId));
+                lastHandId = firstId + batch.size() - 1;
+                return true;
+            } catch (DataAccessException | TransactionException e) {
+                logger.warn("[HAND-HISTORY] batch of {} hands failed (attempt {}/{})", batch.size(), attempt,
+                        MAX_WRITE_ATTEMPTS, e);
+                lastHandId = -1; // someone else may have inserted hands; re-seed
+                try {
+                    Thread.sleep(100L * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        logger.error("[HAND-HISTORY] dropped {} hands (first gameId={} hand={})", batch.size(),
+                batch.get(0).hand().getGameId(), batch.get(0).hand().getHandNumber());
+        return false;
+    }
+
+    private void insertBatch(List<Pending> batch, long firstId) {
+        List<Object[]> hands = new ArrayList<>(batch.size());
+        List<Object[]> players = new ArrayList<>();
+        List<Object[]> actions = new ArrayList<>();
+        long handId = firstId;
+        for (Pending p : batch) {
+            HandHistoryEntity h = p.hand();
+            h.setId(handId);
+            hands.add(new Object[]{handId, h.getGameId(), h.getTableId(), h.getHandNumber(), h.getGameStyle(),
+                    h.getGameType(), timestamp(h.getStartDate()), timestamp(h.getEndDate()), h.getAnte(),
+                    h.getSmallBlind(), h.getBigBlind(), h.getCommunityCards(), h.getCommunityCardsDealt()});
+            for (HandPlayerEntity pe : p.players()) {
+                pe.setHandId(handId);
+                players.add(new Object[]{handId, pe.getPlayerId(), pe.getPlayerName(), pe.getSeatNumber(),
+                        pe.getStartChips(), pe.getEndChips(), pe.getHoleCards(), pe.getPreflopActions(),
+                        pe.getFlopActions(), pe.getTurnActions(), pe.getRiverActions(), pe.isCardsExposed()});
+            }
+            for (HandActionEntity ae : p.actions()) {
+                ae.setHandId(handId);
+                actions.add(new Object[]{handId, ae.getPlayerId(), ae.getSequence(), ae.getRound(),
+                        ae.getActionType(), ae.getAmount(), ae.getSubAmount(), ae.isAllIn()});
+            }
+            handId++;
+        }
+        insertRows("hand_history", HAND_COLUMNS, hands);
+        insertRows("hand_players", PLAYER_COLUMNS, players);
+        insertRows("hand_actions", ACTION_COLUMNS, actions);
+        addStats(batch);
+    }
+
+    private void addStats(List<Pending> batch) {
+        // merge the batch so each stats row is updated once
+        Map<String, HandClassStatsEntity> classStats = new LinkedHashMap<>();
+        Map<String, HandRoundStatsEntity> roundStats = new LinkedHashMap<>();
+        for (Pending p : batch) {
+            HandClassStatsEntity cs = p.classStats();
+            if (cs != null) {
+                classStats.computeIfAbsent(cs.getGameId() + '/' + cs.getHandClass(), k -> {
+                    HandClassStatsEntity total = new HandClassStatsEntity();
+                    total.setGameId(cs.getGameId());
+                    total.setHandClass(cs.getHandClass());
+                    return total;
+                }).add(cs);
+            }
+            for (HandRoundStatsEntity rs : p.roundStats()) {
+                roundStats.computeIfAbsent(rs.getGameId() + '/' + rs.getHandClass() + '/' + rs.getRound(), k -> {
+                    HandRoundStatsEntity total = new HandRoundStatsEntity();
+                    total.setGameId(rs.getGameId());
+                    total.setHandClass(rs.getHandClass());
+                    total.setRound(rs.getRound());
+                    return total;
+                }).add(rs);
+            }
+        }
+
+        List<Object[]> newRows = new ArrayList<>();
+        for (HandClassStatsEntity s : classStats.values()) {
+            Object[] row = {s.getHands(), s.getWins(), s.getLosses(), s.getPasses(), s.getTotalBet(),
+                    s.getTotalChips(), s.getSawFlop(), s.getSawTurn(), s.getSawRiver(), s.getShowdowns(),
+                    s.getGameId(), s.getHandClass()};
+            if (jdbcTemplate.update(UPDATE_CLASS_STATS_SQL, row) == 0) {
+                newRows.add(row);
+            }
+        }
+        insertRows("hand_class_stats", CLASS_STATS_COLUMNS, newRows);
+
+        newRows = new ArrayList<>();
+        for (HandRoundStatsEntity s : roundStats.values()) {
+            Object[] row = {s.getHands(), s.getChecked(), s.getCheckRaised(), s.getCalled(), s.getBet(),
+                    s.getRaised(), s.getReraised(), s.getFolded(), s.getWon(), s.getGameId(), s.getHandClass(),
+                    s.getRound()};
+            if (jdbcTemplate.update(UPDATE_ROUND_STATS_SQL, row) == 0) {
+                newRows.add(row);
+            }
+        }
+        insertRows("hand_round_stats", ROUND_STATS_COLUMNS, newRows);
+    }
+
+    private void insertRows(String table, String columns, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_INSERT) {
+            int to = Math.min(rows.size(), from + MAX_ROWS_PER_INSERT);
+            int width = rows.get(from).length;
+            Object[] args = new Object[(to - from) * width];
+            for (int i = from; i < to; i++) {
+                System.arraycopy(rows.get(i), 0, args, (i - from) * width, width);
+            }
+            jdbcTemplate.update(insertSql(table, columns, width, to - from), args);
+        }
+    }
+
+    /**
+     * Build {@code INSERT INTO table (columns) VALUES (?, ...), (?, ...)} for
+     * {@code rowCount} rows.
+     */
+    static String insertSql(String table, String columns, int columnCount, int rowCount) {
+        String row = "(" + "?, ".repeat(columnCount - 1) + "?)";
+        StringBuilder sql = new StringBuilder(32 + columns.length() + rowCount * (row.length() + 2));
+        sql.append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    /**
+     * A submitted hand waiting to be written.
+     */
+    private record Pending(HandHistoryEntity hand, List<HandPlayerEntity> players, List<HandActionEntity> actions,
+            HandClassStatsEntity classStats, List<HandRoundStatsEntity> roundStats, long submittedNanos) {
+    }
+}
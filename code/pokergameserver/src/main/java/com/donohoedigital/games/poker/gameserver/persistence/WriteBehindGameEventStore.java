@@ -0,0 +1,558 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.donohoedigital.games.poker.engine.event.GameEvent;
+import com.donohoedigital.games.poker.gameserver.IGameEventStore;
+import com.donohoedigital.games.poker.gameserver.StoredEvent;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.GameEventRepository;
+
+/**
+ * Write-behind database implementation of {@link IGameEventStore}.
+ *
+ * <p>
+ * {@link #append} only assigns the next sequence number and puts the event in a
+ * bounded ring buffer, so the game thread never waits for the database. A write
+ * task on the shared writer scheduler serializes buffered events and inserts
+ * them into {@code game_events} with a JDBC batch insert per transaction, as
+ * soon as a full batch is ready or the oldest buffered event reaches the
+ * maximum latency. Each store runs at most one write task at a time, so events
+ * of a game are written in order while all games share a few threads. Sequence
+ * numbers come from an in-memory counter seeded once from the table, instead of
+ * a count query per event.
+ *
+ * <p>
+ * {@link #flush} blocks until everything appended so far has been written;
+ * reads flush first so they always see the full log. {@link #close} flushes
+ * and marks the store closed; it is called when the game is cleaned up or the
+ * server shuts down, and any event appended after that is written inline. If
+ * the buffer fills up (the database is slower than the game), {@code append}
+ * waits for space rather than dropping events.
+ *
+ * <p>
+ * A batch that fails stays in the buffer and is retried with a growing delay.
+ * Once it has failed {@value #MAX_WRITE_ATTEMPTS} times, {@code flush},
+ * {@code close} and an {@code append} waiting for space throw
+ * {@link IllegalStateException} until a retry succeeds. Only a closed store
+ * gives up on such a batch; its events are counted in
+ * {@link #getDroppedEvents()} and the store keeps failing flushes from then on.
+ */
+public class WriteBehindGameEventStore implements IGameEventStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindGameEventStore.class);
+
+    /** Default number of events the ring buffer holds. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Default number of events per JDBC batch. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Default maximum time an event waits in the buffer. */
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 200;
+
+    static final String INSERT_SQL = "INSERT INTO game_events"
+            + " (game_id, sequence_number, event_type, event_data, event_binary, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
+
+    static final String MAX_SEQUENCE_SQL = "SELECT COALESCE(MAX(sequence_number), 0) FROM game_events WHERE game_id = ?";
+
+    /** Failed attempts at a batch before the failure is reported to callers. */
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    /** Delay before retrying a failed batch, per failed attempt so far. */
+    private static final long RETRY_DELAY_MILLIS = 100;
+
+    /** Longest delay between retries of a failed batch. */
+    private static final long MAX_RETRY_DELAY_MILLIS = 5000;
+
+    private final String gameId;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseGameEventStore reader;
+    private final ScheduledExecutorService writer;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+
+    // ring buffer of appended but not yet written events, guarded by lock
+    private final Pending[] ring;
+    private int head;
+    private int size;
+    private long sequence;
+    private long written;
+    private long flushTarget;
+    private boolean closed;
+    private long droppedEvents;
+
+    // write task state, guarded by lock: a task is queued or running, the
+    // delayed run if it is waiting, and failures of the batch at the head
+    private boolean scheduled;
+    private ScheduledFuture<?> timer;
+    private int failedAttempts;
+    private RuntimeException failure;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition space = lock.newCondition();
+    private final Condition durable = lock.newCondition();
+
+    /**
+     * Create a store with default buffer size, batch size and latency.
+     */
+    public WriteBehindGameEventStore(String gameId, GameEventRepository repository, JdbcTemplate jdbcTemplate,
+            ScheduledExecutorService writer) {
+        this(gameId, repository, jdbcTemplate, writer, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE,
+                DEFAULT_MAX_LATENCY_MILLIS);
+    }
+
+    /**
+     * @param gameId
+     *            unique identifier for the game
+     * @param repository
+     *            repository used for reads
+     * @param jdbcTemplate
+     *            JDBC access used for batch inserts
+     * @param writer
+     *            scheduler shared by all stores that runs the batch inserts
+     * @param capacity
+     *            events buffered before {@link #append} waits
+     * @param batchSize
+     *            maximum events per batch insert
+     * @param maxLatencyMillis
+     *            longest an event stays buffered before it is written
+     */
+    public WriteBehindGameEventStore(String gameId, GameEventRepository repository, JdbcTemplate jdbcTemplate,
+            ScheduledExecutorService writer, int capacity, int batchSize, long maxLatencyMillis) {
+        this(gameId, repository, jdbcTemplate, writer, capacity, batchSize, maxLatencyMillis, false);
+    }
+
+    /**
+     * @param gameId
+     *            unique identifier for the game
+     * @param repository
+     *            repository used for reads
+     * @param jdbcTemplate
+     *            JDBC access used for batch inserts
+     * @param writer
+     *            scheduler shared by all stores that runs the batch inserts
+     * @param capacity
+     *            events buffered before {@link #append} waits
+     * @param batchSize
+     *            maximum events per batch insert
+     * @param maxLatencyMillis
+     *            longest an event stays buffered before it is written
+     * @param binary
+     *            true to store events with {@link GameEventCodec} instead of JSON
+     */
+    public WriteBehindGameEventStore(String gameId, GameEventRepository repository, JdbcTemplate jdbcTemplate,
+            ScheduledExecutorService writer, int capacity, int batchSize, long maxLatencyMillis, boolean binary) {
+        if (jdbcTemplate == null || writer == null) {
+            throw new IllegalArgumentException("JdbcTemplate and writer cannot be null");
+        }
+        if (capacity <= 0 || batchSize <= 0 || maxLatencyMillis < 0) {
+            throw new IllegalArgumentException("Invalid buffer settings");
+        }
+        this.reader = new DatabaseGameEventStore(gameId, repository, binary);
+        this.gameId = gameId;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        this.writer = writer;
+        this.ring = new Pending[capacity];
+        this.batchSize = Math.min(batchSize, capacity);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+
+        Long max = jdbcTemplate.queryForObject(MAX_SEQUENCE_SQL, Long.class, gameId);
+        this.sequence = max != null ? max : 0;
+        this.written = sequence;
+    }
+
+    @Override
+    public void append(GameEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+
+        Pending direct = null;
+        lock.lock();
+        try {
+            if (closed) {
+                // nothing drains a closed store; late events (e.g. emitted during
+                // shutdown) are written inline
+                direct = new Pending(++sequence, event, Instant.now(), System.nanoTime());
+                return;
+            }
+            while (size == ring.length) {
+                // database is behind - make the writer go now and wait for room
+                throwIfFailed();
+                flushTarget = Math.max(flushTarget, sequence);
+                writeNow();
+                space.awaitUninterruptibly();
+            }
+            Pending entry = new Pending(++sequence, event, Instant.now(), System.nanoTime());
+            ring[(head + size) % ring.length] = entry;
+            size++;
+            if (!scheduled) {
+                schedule(maxLatencyNanos);
+            } else if (size == batchSize) {
+                writeNow();
+            }
+        } finally {
+            lock.unlock();
+            if (direct != null) {
+                writeDirect(direct);
+            }
+        }
+    }
+
+    private void writeDirect(Pending entry) {
+        RuntimeException error = null;
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            error = writeBatch(List.of(entry), attempt);
+            if (error == null) {
+                break;
+            }
+            try {
+                Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        lock.lock();
+        try {
+            if (error == null) {
+                written = Math.max(written, entry.sequenceNumber());
+                durable.signalAll();
+                return;
+            }
+            droppedEvents++;
+            failure = error;
+        } finally {
+            lock.unlock();
+        }
+        logger.error("[EVENT-STORE] gameId={} dropped event {}", gameId, entry.sequenceNumber());
+        throw new IllegalStateException("Event " + entry.sequenceNumber() + " of game " + gameId
+                + " could not be written", error);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException
+     *             if buffered events could not be written
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            long target = sequence;
+            if (written < target) {
+                flushTarget = Math.max(flushTarget, target);
+                writeNow();
+            }
+            while (true) {
+                throwIfFailed();
+                if (written >= target) {
+                    return;
+                }
+                durable.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException
+     *             if buffered events could not be written; they are dropped
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (size > 0) {
+                writeNow();
+            }
+            while (size > 0) {
+                throwIfFailed();
+                durable.awaitUninterruptibly();
+            }
+            throwIfFailed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<StoredEvent> getEvents() {
+        flush();
+        return reader.getEvents();
+    }
+
+    @Override
+    public List<StoredEvent> getEventsSince(long afterSequence) {
+        flush();
+        return reader.getEventsSince(afterSequence);
+    }
+
+    @Override
+    public String getGameId() {
+        return gameId;
+    }
+
+    @Override
+    public void clear() {
+        flush();
+        lock.lock();
+        try {
+            reader.clear();
+            sequence = 0;
+            written = 0;
+            flushTarget = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getCurrentSequenceNumber() {
+        lock.lock();
+        try {
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return events given up on after the store was closed
+     */
+    public long getDroppedEvents() {
+        lock.lock();
+        try {
+            return droppedEvents;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void throwIfFailed() {
+        if (failure != null) {
+            throw new IllegalStateException("Events of game " + gameId + " after " + written
+                    + " could not be written", failure);
+        }
+    }
+
+    ////
+    //// Write task
+    ////
+
+    // Run the write task as soon as possible. Caller holds lock.
+    private void writeNow() {
+        if (!scheduled) {
+            schedule(0);
+        } else if (timer != null && timer.cancel(false)) {
+            schedule(0);
+        }
+        // otherwise the task is running and sees the new state when it finishes
+    }
+
+    // Caller holds lock.
+    private void schedule(long delayNanos) {
+        try {
+            timer = writer.schedule(this::write, delayNanos, TimeUnit.NANOSECONDS);
+            scheduled = true;
+        } catch (RejectedExecutionException e) {
+            // writer shut down with events still buffered
+            timer = null;
+            scheduled = false;
+            failure = e;
+            durable.signalAll();
+            space.signalAll();
+        }
+    }
+
+    // Schedule the next run for the rest of the buffer, if any. Caller holds lock.
+    private void scheduleNext() {
+        if (size == 0) {
+            scheduled = false;
+            return;
+        }
+        long wait = ring[head].appendedNanos() + maxLatencyNanos - System.nanoTime();
+        schedule(isDue(wait) ? 0 : wait);
+    }
+
+    // Write now rather than wait for more events: the batch is full, the oldest
+    // event is due, or someone is waiting on a flush or close. Caller holds lock.
+    private boolean isDue(long wait) {
+        return wait <= 0 || size >= batchSize || closed || flushTarget > written;
+    }
+
+    /**
+     * Write one batch from the head of the buffer. Runs on the shared writer and
+     * yields after each batch, so a busy game does not hold a thread other games
+     * need.
+     */
+    private void write() {
+        List<Pending> batch;
+        int attempt;
+        lock.lock();
+        try {
+            timer = null;
+            if (size == 0) {
+                scheduled = false;
+                return;
+            }
+            long wait = ring[head].appendedNanos() + maxLatencyNanos - System.nanoTime();
+            if (!isDue(wait)) {
+                schedule(wait);
+                return;
+            }
+            int n = Math.min(size, batchSize);
+            batch = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                batch.add(ring[(head + i) % ring.length]);
+            }
+            attempt = failedAttempts + 1;
+        } finally {
+            lock.unlock();
+        }
+
+        // the batch stays in the buffer until it is written
+        RuntimeException error = writeBatch(batch, attempt);
+
+        lock.lock();
+        try {
+            if (error == null) {
+                remove(batch.size());
+                written = Math.max(written, batch.get(batch.size() - 1).sequenceNumber());
+                failedAttempts = 0;
+                if (droppedEvents == 0) {
+                    failure = null;
+                }
+                durable.signalAll();
+                scheduleNext();
+                return;
+            }
+            failedAttempts = attempt;
+            if (failedAttempts < MAX_WRITE_ATTEMPTS) {
+                schedule(TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MILLIS * failedAttempts));
+                return;
+            }
+            failure = error;
+            durable.signalAll();
+            space.signalAll();
+            if (!closed) {
+                logger.error("[EVENT-STORE] gameId={} events {}..{} not written after {} attempts; still retrying",
+                        gameId, batch.get(0).sequenceNumber(), batch.get(batch.size() - 1).sequenceNumber(),
+                        failedAttempts);
+                schedule(TimeUnit.MILLISECONDS.toNanos(
+                        Math.min(RETRY_DELAY_MILLIS * failedAttempts, MAX_RETRY_DELAY_MILLIS)));
+                return;
+            }
+            // closed: nobody will flush this store again, so give up on the batch
+            logger.error("[EVENT-STORE] gameId={} dropped events {}..{}", gameId, batch.get(0).sequenceNumber(),
+                    batch.get(batch.size() - 1).sequenceNumber());
+            remove(batch.size());
+            droppedEvents += batch.size();
+            scheduleNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Drop n written events from the head of the buffer. Caller holds lock.
+    private void remove(int n) {
+        for (int i = 0; i < n; i++) {
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+        }
+        size -= n;
+        space.signalAll();
+    }
+
+    /**
+     * Insert a batch in one transaction, so a failed attempt leaves none of it
+     * behind and the retry does not collide with its own rows.
+     *
+     * @return the failure, or null once the batch is committed
+     */
+    private RuntimeException writeBatch(List<Pending> batch, int attempt) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        boolean binary = reader.isBinary();
+        for (Pending p : batch) {
+            rows.add(new Object[]{gameId, p.sequenceNumber(), p.event().getClass().getSimpleName(),
+                    binary ? "" : reader.serializeEvent(p.event()), binary ? GameEventCodec.encode(p.event()) : null,
+                    Timestamp.from(p.timestamp())});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+            return null;
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("[EVENT-STORE] gameId={} batch of {} failed (attempt {})", gameId, rows.size(), attempt, e);
+            return e;
+        }
+    }
+
+    /**
+     * An appended event waiting to be written.
+     */
+    private record Pending(long sequenceNumber, GameEvent event, Instant timestamp, long appendedNanos) {
+    }
+}
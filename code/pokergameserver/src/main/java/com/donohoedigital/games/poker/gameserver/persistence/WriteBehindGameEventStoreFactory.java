@@ -0,0 +1,107 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.donohoedigital.games.poker.gameserver.GameEventStoreFactory;
+import com.donohoedigital.games.poker.gameserver.IGameEventStore;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.GameEventRepository;
+
+/**
+ * Creates a {@link WriteBehindGameEventStore} per game. Every store buffers its
+ * own events; the batch inserts of all games run on one small scheduler owned
+ * by this factory, instead of a writer thread per game. {@link #close()} stops
+ * the scheduler once the games' stores have been closed.
+ */
+public class WriteBehindGameEventStoreFactory implements GameEventStoreFactory, AutoCloseable {
+
+    private final GameEventRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService writer;
+    private final int capacity;
+    private final int batchSize;
+    private final long maxLatencyMillis;
+    private final boolean binary;
+
+    /**
+     * @param repository
+     *            event repository used for reads
+     * @param jdbcTemplate
+     *            JDBC access used for batch inserts
+     * @param writerThreads
+     *            threads writing the events of all games
+     * @param capacity
+     *            events buffered per game before appends wait
+     * @param batchSize
+     *            maximum events per batch insert
+     * @param maxLatencyMillis
+     *            longest an event stays buffered before it is written
+     * @param binary
+     *            true to store events with {@link GameEventCodec} instead of JSON
+     */
+    public WriteBehindGameEventStoreFactory(GameEventRepository repository, JdbcTemplate jdbcTemplate,
+            int writerThreads, int capacity, int batchSize, long maxLatencyMillis, boolean binary) {
+        if (writerThreads <= 0) {
+            throw new IllegalArgumentException("writerThreads must be positive");
+        }
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writer = Executors.newScheduledThreadPool(writerThreads,
+                Thread.ofPlatform().name("event-writer-", 0).daemon().factory());
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.binary = binary;
+    }
+
+    @Override
+    public IGameEventStore create(String gameId) {
+        return new WriteBehindGameEventStore(gameId, repository, jdbcTemplate, writer, capacity, batchSize,
+                maxLatencyMillis, binary);
+    }
+
+    /**
+     * Stop the writer. Writes already queued still run; stores that buffer
+     * events afterwards fail their next flush.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+    }
+}
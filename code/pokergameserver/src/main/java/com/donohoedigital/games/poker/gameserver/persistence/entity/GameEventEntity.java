@@ -45,8 +45,10 @@ import jakarta.persistence.Table;
  * JPA entity for game events. Stores the append-only event log for each game.
  *
  * <p>
- * Events are stored as JSON in the eventData column and can be deserialized
- * back to GameEvent subclasses.
+ * Events are stored either as JSON in the eventData column or, when the
+ * binary format is enabled, as {@code GameEventCodec} bytes in the eventBinary
+ * column (eventData is then empty). Rows with eventBinary set are binary; all
+ * others are JSON.
  * </p>
  */
 @Entity
@@ -70,6 +72,9 @@ public class GameEventEntity {
     @Column(name = "event_data", nullable = false, columnDefinition = "TEXT")
     private String eventData;
 
+    @Column(name = "event_binary", columnDefinition = "BLOB")
+    private byte[] eventBinary;
+
     @Column(name = "timestamp", nullable = false)
     private Instant timestamp;
 
@@ -115,6 +120,14 @@ public class GameEventEntity {
         this.eventData = eventData;
     }
 
+    public byte[] getEventBinary() {
+        return eventBinary;
+    }
+
+    public void setEventBinary(byte[] eventBinary) {
+        this.eventBinary = eventBinary;
+    }
+
     public Instant getTimestamp() {
         return timestamp;
     }
@@ -0,0 +1,201 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * JPA entity for per-game hand statistics by starting hand class (e.g. "AKs").
+ * Rows are running totals, updated as each hand is stored, so stats are served
+ * without rescanning the hand history.
+ */
+@Entity
+@Table(name = "hand_class_stats", uniqueConstraints = @UniqueConstraint(name = "uk_hand_class_stats", columnNames = {
+        "game_id", "hand_class"}))
+public class HandClassStatsEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false, length = 64)
+    private String gameId;
+
+    @Column(name = "hand_class", nullable = false, length = 8)
+    private String handClass;
+
+    @Column(name = "hands", nullable = false)
+    private int hands;
+
+    @Column(name = "wins", nullable = false)
+    private int wins;
+
+    @Column(name = "losses", nullable = false)
+    private int losses;
+
+    @Column(name = "passes", nullable = false)
+    private int passes;
+
+    @Column(name = "total_bet", nullable = false)
+    private long totalBet;
+
+    @Column(name = "total_chips", nullable = false)
+    private long totalChips;
+
+    @Column(name = "saw_flop", nullable = false)
+    private int sawFlop;
+
+    @Column(name = "saw_turn", nullable = false)
+    private int sawTurn;
+
+    @Column(name = "saw_river", nullable = false)
+    private int sawRiver;
+
+    @Column(name = "showdowns", nullable = false)
+    private int showdowns;
+
+    /**
+     * Add another aggregate's counters to this one (the keys are not compared).
+     */
+    public void add(HandClassStatsEntity other) {
+        hands += other.hands;
+        wins += other.wins;
+        losses += other.losses;
+        passes += other.passes;
+        totalBet += other.totalBet;
+        totalChips += other.totalChips;
+        sawFlop += other.sawFlop;
+        sawTurn += other.sawTurn;
+        sawRiver += other.sawRiver;
+        showdowns += other.showdowns;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public String getHandClass() {
+        return handClass;
+    }
+
+    public void setHandClass(String handClass) {
+        this.handClass = handClass;
+    }
+
+    public int getHands() {
+        return hands;
+    }
+
+    public void setHands(int hands) {
+        this.hands = hands;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void setLosses(int losses) {
+        this.losses = losses;
+    }
+
+    public int getPasses() {
+        return passes;
+    }
+
+    public void setPasses(int passes) {
+        this.passes = passes;
+    }
+
+    public long getTotalBet() {
+        return totalBet;
+    }
+
+    public void setTotalBet(long totalBet) {
+        this.totalBet = totalBet;
+    }
+
+    public long getTotalChips() {
+        return totalChips;
+    }
+
+    public void setTotalChips(long totalChips) {
+        this.totalChips = totalChips;
+    }
+
+    public int getSawFlop() {
+        return sawFlop;
+    }
+
+    public void setSawFlop(int sawFlop) {
+        this.sawFlop = sawFlop;
+    }
+
+    public int getSawTurn() {
+        return sawTurn;
+    }
+
+    public void setSawTurn(int sawTurn) {
+        this.sawTurn = sawTurn;
+    }
+
+    public int getSawRiver() {
+        return sawRiver;
+    }
+
+    public void setSawRiver(int sawRiver) {
+        this.sawRiver = sawRiver;
+    }
+
+    public int getShowdowns() {
+        return showdowns;
+    }
+
+    public void setShowdowns(int showdowns) {
+        this.showdowns = showdowns;
+    }
+}
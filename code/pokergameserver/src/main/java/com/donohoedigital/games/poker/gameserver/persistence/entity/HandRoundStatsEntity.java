@@ -0,0 +1,200 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * JPA entity for per-game betting round statistics by starting hand class.
+ * Like {@link HandClassStatsEntity}, rows are running totals; {@code round} is
+ * 0=preflop, 1=flop, 2=turn, 3=river.
+ */
+@Entity
+@Table(name = "hand_round_stats", uniqueConstraints = @UniqueConstraint(name = "uk_hand_round_stats", columnNames = {
+        "game_id", "hand_class", "round"}))
+public class HandRoundStatsEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false, length = 64)
+    private String gameId;
+
+    @Column(name = "hand_class", nullable = false, length = 8)
+    private String handClass;
+
+    @Column(name = "round", nullable = false)
+    private int round;
+
+    @Column(name = "hands", nullable = false)
+    private int hands;
+
+    @Column(name = "checked", nullable = false)
+    private int checked;
+
+    @Column(name = "check_raised", nullable = false)
+    private int checkRaised;
+
+    @Column(name = "called", nullable = false)
+    private int called;
+
+    @Column(name = "bet", nullable = false)
+    private int bet;
+
+    @Column(name = "raised", nullable = false)
+    private int raised;
+
+    @Column(name = "reraised", nullable = false)
+    private int reraised;
+
+    @Column(name = "folded", nullable = false)
+    private int folded;
+
+    @Column(name = "won", nullable = false)
+    private int won;
+
+    /**
+     * Add another aggregate's counters to this one (the keys are not compared).
+     */
+    public void add(HandRoundStatsEntity other) {
+        hands += other.hands;
+        checked += other.checked;
+        checkRaised += other.checkRaised;
+        called += other.called;
+        bet += other.bet;
+        raised += other.raised;
+        reraised += other.reraised;
+        folded += other.folded;
+        won += other.won;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public String getHandClass() {
+        return handClass;
+    }
+
+    public void setHandClass(String handClass) {
+        this.handClass = handClass;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public void setRound(int round) {
+        this.round = round;
+    }
+
+    public int getHands() {
+        return hands;
+    }
+
+    public void setHands(int hands) {
+        this.hands = hands;
+    }
+
+    public int getChecked() {
+        return checked;
+    }
+
+    public void setChecked(int checked) {
+        this.checked = checked;
+    }
+
+    public int getCheckRaised() {
+        return checkRaised;
+    }
+
+    public void setCheckRaised(int checkRaised) {
+        this.checkRaised = checkRaised;
+    }
+
+    public int getCalled() {
+        return called;
+    }
+
+    public void setCalled(int called) {
+        this.called = called;
+    }
+
+    public int getBet() {
+        return bet;
+    }
+
+    public void setBet(int bet) {
+        this.bet = bet;
+    }
+
+    public int getRaised() {
+        return raised;
+    }
+
+    public void setRaised(int raised) {
+        this.raised = raised;
+    }
+
+    public int getReraised() {
+        return reraised;
+    }
+
+    public void setReraised(int reraised) {
+        this.reraised = reraised;
+    }
+
+    public int getFolded() {
+        return folded;
+    }
+
+    public void setFolded(int folded) {
+        this.folded = folded;
+    }
+
+    public int getWon() {
+        return won;
+    }
+
+    public void setWon(int won) {
+        this.won = won;
+    }
+}
@@ -71,4 +71,14 @@ public interface GameEventRepository extends JpaRepository<GameEventEntity, Long
      * @return number of events
      */
     long countByGameId(String gameId);
+
+    /**
+     * Find events for a game still stored as JSON (no binary payload), ordered
+     * by sequence number.
+     *
+     * @param gameId
+     *            the game ID
+     * @return JSON-encoded events in order
+     */
+    List<GameEventEntity> findByGameIdAndEventBinaryIsNullOrderBySequenceNumberAsc(String gameId);
 }
@@ -0,0 +1,35 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.repository;
+
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
+
+/**
+ * Running-total updates of {@link HandClassStatsRepository}.
+ */
+public interface HandClassStatsRepositoryCustom {
+
+    /**
+     * Add the counters to the row for their game and hand class, creating it on
+     * the class's first hand. The first hands of a class finishing concurrently
+     * both count instead of one hitting {@code uk_hand_class_stats}.
+     */
+    void addStats(HandClassStatsEntity stats);
+}
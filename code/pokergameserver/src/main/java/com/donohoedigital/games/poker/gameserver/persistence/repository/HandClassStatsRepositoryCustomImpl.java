@@ -0,0 +1,73 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.repository;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
+
+/**
+ * Adds to {@code hand_class_stats} with plain SQL that every supported database
+ * accepts: UPDATE the row, INSERT it if there was none, and UPDATE again if
+ * another hand inserted it in the meantime. Runs on the JDBC connection of the
+ * caller's transaction; a failed INSERT only fails that statement, so the retry
+ * can go ahead where a JPA query would mark the transaction rollback-only.
+ */
+class HandClassStatsRepositoryCustomImpl implements HandClassStatsRepositoryCustom {
+
+    static final String UPDATE_SQL = "UPDATE hand_class_stats SET hands = hands + ?, wins = wins + ?,"
+            + " losses = losses + ?, passes = passes + ?, total_bet = total_bet + ?, total_chips = total_chips + ?,"
+            + " saw_flop = saw_flop + ?, saw_turn = saw_turn + ?, saw_river = saw_river + ?,"
+            + " showdowns = showdowns + ? WHERE game_id = ? AND hand_class = ?";
+
+    static final String INSERT_SQL = "INSERT INTO hand_class_stats (hands, wins, losses, passes, total_bet,"
+            + " total_chips, saw_flop, saw_turn, saw_river, showdowns, game_id, hand_class)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    HandClassStatsRepositoryCustomImpl(DataSource dataSource) {
+        this(new JdbcTemplate(dataSource));
+    }
+
+    HandClassStatsRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addStats(HandClassStatsEntity s) {
+        Object[] row = {s.getHands(), s.getWins(), s.getLosses(), s.getPasses(), s.getTotalBet(), s.getTotalChips(),
+                s.getSawFlop(), s.getSawTurn(), s.getSawRiver(), s.getShowdowns(), s.getGameId(), s.getHandClass()};
+        if (jdbcTemplate.update(UPDATE_SQL, row) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, row);
+        } catch (DuplicateKeyException e) {
+            // another hand of this class created the row first
+            jdbcTemplate.update(UPDATE_SQL, row);
+        }
+    }
+}
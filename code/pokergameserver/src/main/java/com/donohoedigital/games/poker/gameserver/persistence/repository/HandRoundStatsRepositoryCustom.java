@@ -0,0 +1,34 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.repository;
+
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
+
+/**
+ * Running-total updates of {@link HandRoundStatsRepository}.
+ */
+public interface HandRoundStatsRepositoryCustom {
+
+    /**
+     * Add the counters to the row for their game, hand class and round, creating
+     * it if needed, like {@link HandClassStatsRepositoryCustom#addStats}.
+     */
+    void addStats(HandRoundStatsEntity stats);
+}
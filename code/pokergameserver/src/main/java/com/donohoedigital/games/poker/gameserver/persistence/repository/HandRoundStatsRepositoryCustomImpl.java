@@ -0,0 +1,64 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.repository;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
+
+/**
+ * Adds to {@code hand_round_stats} the same way
+ * {@link HandClassStatsRepositoryCustomImpl} adds to {@code hand_class_stats}.
+ */
+class HandRoundStatsRepositoryCustomImpl implements HandRoundStatsRepositoryCustom {
+
+    static final String UPDATE_SQL = "UPDATE hand_round_stats SET hands = hands + ?, checked = checked + ?,"
+            + " check_raised = check_raised + ?, called = called + ?, bet = bet + ?, raised = raised + ?,"
+            + " reraised = reraised + ?, folded = folded + ?, won = won + ?"
+            + " WHERE game_id = ? AND hand_class = ? AND round = ?";
+
+    static final String INSERT_SQL = "INSERT INTO hand_round_stats (hands, checked, check_raised, called, bet,"
+            + " raised, reraised, folded, won, game_id, hand_class, round)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    HandRoundStatsRepositoryCustomImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void addStats(HandRoundStatsEntity s) {
+        Object[] row = {s.getHands(), s.getChecked(), s.getCheckRaised(), s.getCalled(), s.getBet(), s.getRaised(),
+                s.getReraised(), s.getFolded(), s.getWon(), s.getGameId(), s.getHandClass(), s.getRound()};
+        if (jdbcTemplate.update(UPDATE_SQL, row) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, row);
+        } catch (DuplicateKeyException e) {
+            // another hand created the row first
+            jdbcTemplate.update(UPDATE_SQL, row);
+        }
+    }
+}
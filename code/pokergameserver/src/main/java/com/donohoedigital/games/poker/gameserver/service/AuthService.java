@@ -25,13 +25,13 @@ import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.donohoedigital.games.poker.gameserver.auth.JwtTokenProvider;
@@ -79,6 +79,9 @@ public class AuthService {
     static final int WS_TOKEN_RATE_LIMIT = 5;
     static final long WS_TOKEN_RATE_WINDOW_MS = 60_000L;
 
+    /** Default cap on used WS connect jtis tracked at once. */
+    static final int DEFAULT_MAX_USED_JTIS = 100_000;
+
     private final OnlineProfileRepository profileRepository;
     private final PasswordResetTokenRepository resetTokenRepository;
     private final BanService banService;
@@ -96,18 +99,27 @@ public class AuthService {
     private final ConcurrentHashMap<Long, ArrayList<Long>> wsTokenRateLimits = new ConcurrentHashMap<>();
 
     /**
-     * Used jti set for single-use WS connect tokens: jti → expiry epoch ms. Entries
-     * are TTL-evicted lazily on each access.
+     * Used jti set for single-use WS connect tokens. Entries expire with their
+     * token and are swept incrementally by a timing wheel.
      */
-    private final ConcurrentHashMap<String, Long> usedJtis = new ConcurrentHashMap<>();
+    private final JtiExpirySet usedJtis;
 
     public AuthService(OnlineProfileRepository profileRepository, PasswordResetTokenRepository resetTokenRepository,
             BanService banService, JwtTokenProvider tokenProvider, EmailService emailService) {
+        this(profileRepository, resetTokenRepository, banService, tokenProvider, emailService,
+                DEFAULT_MAX_USED_JTIS);
+    }
+
+    @Autowired
+    public AuthService(OnlineProfileRepository profileRepository, PasswordResetTokenRepository resetTokenRepository,
+            BanService banService, JwtTokenProvider tokenProvider, EmailService emailService,
+            @Value("${game.server.ws.max-used-jtis:" + DEFAULT_MAX_USED_JTIS + "}") int maxUsedJtis) {
         this.profileRepository = profileRepository;
         this.resetTokenRepository = resetTokenRepository;
         this.banService = banService;
         this.tokenProvider = tokenProvider;
         this.emailService = emailService;
+        this.usedJtis = new JtiExpirySet(maxUsedJtis);
     }
 
     /**
@@ -452,22 +464,18 @@ public class AuthService {
      * Mark a WS connect token's {@code jti} as used.
      *
      * <p>
-     * Lazily evicts expired entries before recording the new jti.
+     * Expired entries are swept incrementally (amortised O(1) per call). Unexpired
+     * entries are never dropped, so if the set is at its configured maximum the
+     * jti can't be recorded and the token must be refused.
      *
      * @param jti
      *            JWT ID claim from the token
      * @param expiryMs
      *            token expiry as epoch milliseconds
+     * @return false if the used-jti set is full and the token must not be honoured
      */
-    public void markJtiUsed(String jti, long expiryMs) {
-        // Lazy eviction of expired jtis
-        long now = System.currentTimeMillis();
-        for (Iterator<Map.Entry<String, Long>> it = usedJtis.entrySet().iterator(); it.hasNext();) {
-            if (it.next().getValue() < now) {
-                it.remove();
-            }
-        }
-        usedJtis.put(jti, expiryMs);
+    public boolean markJtiUsed(String jti, long expiryMs) {
+        return usedJtis.add(jti, expiryMs, System.currentTimeMillis());
     }
 
     /**
@@ -478,15 +486,14 @@ public class AuthService {
      * @return true if already used or expired
      */
     public boolean isJtiUsed(String jti) {
-        Long expiry = usedJtis.get(jti);
-        if (expiry == null) {
-            return false;
-        }
-        if (expiry < System.currentTimeMillis()) {
-            usedJtis.remove(jti);
-            return false;
-        }
-        return true;
+        return usedJtis.contains(jti, System.currentTimeMillis());
+    }
+
+    /**
+     * @return live-jti count and rejection counters for single-use WS tokens
+     */
+    public JtiExpirySet.Stats getUsedJtiStats() {
+        return usedJtis.getStats();
     }
 
     /** Verification token TTL: 7 days in milliseconds. */
@@ -25,17 +25,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.donohoedigital.games.poker.gameserver.persistence.HandHistoryBatchWriter;
 import com.donohoedigital.games.poker.gameserver.persistence.entity.HandActionEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
 import com.donohoedigital.games.poker.gameserver.persistence.entity.HandHistoryEntity;
 import com.donohoedigital.games.poker.gameserver.persistence.entity.HandPlayerEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
 import com.donohoedigital.games.poker.gameserver.persistence.repository.HandActionRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandClassStatsRepository;
 import com.donohoedigital.games.poker.gameserver.persistence.repository.HandHistoryRepository;
 import com.donohoedigital.games.poker.gameserver.persistence.repository.HandPlayerRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandRoundStatsRepository;
 import com.donohoedigital.games.poker.protocol.dto.HandActionDetailData;
 import com.donohoedigital.games.poker.protocol.dto.HandDetailData;
 import com.donohoedigital.games.poker.protocol.dto.HandExportData;
@@ -51,19 +59,45 @@ import com.donohoedigital.games.poker.protocol.dto.HandSummaryData;
 @Transactional
 public class HandHistoryService {
 
+    private static final Logger logger = LoggerFactory.getLogger(HandHistoryService.class);
+
     private final HandHistoryRepository handHistoryRepository;
     private final HandPlayerRepository handPlayerRepository;
     private final HandActionRepository handActionRepository;
+    private final HandClassStatsRepository handClassStatsRepository;
+    private final HandRoundStatsRepository handRoundStatsRepository;
+
+    /**
+     * Set when asynchronous hand history writes are enabled
+     * ({@code game.server.hand-history.async=true}); null otherwise.
+     */
+    private HandHistoryBatchWriter batchWriter;
 
     public HandHistoryService(HandHistoryRepository handHistoryRepository, HandPlayerRepository handPlayerRepository,
-            HandActionRepository handActionRepository) {
+            HandActionRepository handActionRepository, HandClassStatsRepository handClassStatsRepository,
+            HandRoundStatsRepository handRoundStatsRepository) {
         this.handHistoryRepository = handHistoryRepository;
         this.handPlayerRepository = handPlayerRepository;
         this.handActionRepository = handActionRepository;
+        this.handClassStatsRepository = handClassStatsRepository;
+        this.handRoundStatsRepository = handRoundStatsRepository;
+    }
+
+    /**
+     * Write hands through the given batch writer instead of saving them inline.
+     *
+     * @param batchWriter
+     *            the writer, or null to save inline
+     */
+    @Autowired(required = false)
+    public void setBatchWriter(HandHistoryBatchWriter batchWriter) {
+        this.batchWriter = batchWriter;
     }
 
     /**
-     * Store a complete hand with players and actions.
+     * Store a complete hand with players and actions, and add it to the game's
+     * running stats. With a batch writer the hand is only queued, and the
+     * entities belong to the writer from then on.
      *
      * @param gameId
      *            the game ID
@@ -77,6 +111,18 @@ public class HandHistoryService {
     public void storeHand(String gameId, HandHistoryEntity hand, List<HandPlayerEntity> players,
             List<HandActionEntity> actions) {
         hand.setGameId(gameId);
+        String handClass = statsHandClass(players);
+        HandClassStatsEntity classStats = null;
+        List<HandRoundStatsEntity> roundStats = List.of();
+        if (handClass != null) {
+            classStats = toClassStats(gameId, handClass, hand, players.get(0));
+            roundStats = toRoundStats(gameId, handClass, players.get(0));
+        }
+
+        if (batchWriter != null) {
+            batchWriter.submit(hand, players, actions, classStats, roundStats);
+            return;
+        }
         HandHistoryEntity saved = handHistoryRepository.save(hand);
         Long handId = saved.getId();
 
@@ -89,6 +135,8 @@ public class HandHistoryService {
             action.setHandId(handId);
         }
         handActionRepository.saveAll(actions);
+
+        addStats(classStats, roundStats);
     }
 
     /**
@@ -96,6 +144,7 @@ public class HandHistoryService {
      */
     @Transactional(readOnly = true)
     public long getHandCount(String gameId) {
+        awaitQueuedHands();
         return handHistoryRepository.countByGameId(gameId);
     }
 
@@ -104,6 +153,7 @@ public class HandHistoryService {
      */
     @Transactional(readOnly = true)
     public Page<HandSummaryData> getHandSummaries(String gameId, Pageable pageable) {
+        awaitQueuedHands();
         Page<HandHistoryEntity> page = handHistoryRepository.findByGameIdOrderByHandNumberDesc(gameId, pageable);
         List<Long> handIds = page.getContent().stream().map(HandHistoryEntity::getId).toList();
         Map<Long, List<HandPlayerEntity>> playersByHand = groupPlayersByHand(handIds);
@@ -118,6 +168,7 @@ public class HandHistoryService {
      */
     @Transactional(readOnly = true)
     public Optional<HandDetailData> getHandDetail(String gameId, Long handId) {
+        awaitQueuedHands();
         return handHistoryRepository.findByGameIdAndId(gameId, handId).map(hand -> {
             List<HandPlayerEntity> players = handPlayerRepository.findByHandId(handId);
             List<HandActionEntity> actions = handActionRepository.findByHandIdOrderBySequenceAsc(handId);
@@ -130,6 +181,7 @@ public class HandHistoryService {
      */
     @Transactional(readOnly = true)
     public List<HandExportData> getHandsForExport(String gameId) {
+        awaitQueuedHands();
         List<HandHistoryEntity> hands = handHistoryRepository.findByGameId(gameId);
         if (hands.isEmpty()) {
             return List.of();
@@ -148,69 +200,26 @@ public class HandHistoryService {
     }
 
     /**
-     * Compute aggregated hand stats for a game, grouped by hand class.
+     * Compute aggregated hand stats for a game, grouped by hand class. Served
+     * from the running totals kept as hands are stored when they cover every
+     * stored hand; otherwise (games stored before the totals existed, or in
+     * progress when they were introduced) aggregated from the hand history.
      */
     @Transactional(readOnly = true)
     public List<HandStatsData> getHandStats(String gameId) {
-        List<HandHistoryEntity> hands = handHistoryRepository.findByGameId(gameId);
-        if (hands.isEmpty()) {
-            return List.of();
-        }
-
-        List<Long> handIds = hands.stream().map(HandHistoryEntity::getId).toList();
-        Map<Long, List<HandPlayerEntity>> playersByHand = groupPlayersByHand(handIds);
-
-        // Aggregate stats by hand class using the first player's (human's) hole cards
-        Map<String, StatsAccumulator> accumulators = new HashMap<>();
-
-        for (HandHistoryEntity hand : hands) {
-            List<HandPlayerEntity> players = playersByHand.getOrDefault(hand.getId(), List.of());
-            if (players.isEmpty()) {
-                continue;
-            }
-
-            // First player is typically the human player
-            HandPlayerEntity humanPlayer = players.get(0);
-            List<String> holeCards = parseCardJson(humanPlayer.getHoleCards());
-            if (holeCards.size() < 2) {
-                continue;
-            }
-
-            String handClass = getHandClass(holeCards.get(0), holeCards.get(1));
-            StatsAccumulator acc = accumulators.computeIfAbsent(handClass, k -> new StatsAccumulator());
-            acc.count++;
-
-            int chipDiff = humanPlayer.getEndChips() - humanPlayer.getStartChips();
-            if (chipDiff > 0) {
-                acc.wins++;
-            } else if (chipDiff < 0) {
-                acc.losses++;
-            } else {
-                acc.passes++;
-            }
-
-            acc.totalBet += Math.max(0, humanPlayer.getStartChips() - humanPlayer.getEndChips());
-            acc.totalChips += humanPlayer.getEndChips();
-
-            int cardsDealt = hand.getCommunityCardsDealt();
-            if (cardsDealt >= 3)
-                acc.sawFlop++;
-            if (cardsDealt >= 4)
-                acc.sawTurn++;
-            if (cardsDealt >= 5)
-                acc.sawRiver++;
-            if (humanPlayer.isCardsExposed())
-                acc.showdowns++;
+        awaitQueuedHands();
+        List<HandClassStatsEntity> rows = handClassStatsRepository.findByGameId(gameId);
+        if (!coversAllHands(gameId, rows)) {
+            rows = scanClassStats(gameId);
         }
 
-        List<HandStatsData> results = new ArrayList<>();
-        for (Map.Entry<String, StatsAccumulator> entry : accumulators.entrySet()) {
-            StatsAccumulator acc = entry.getValue();
-            double count = acc.count;
-            results.add(new HandStatsData(entry.getKey(), acc.count, acc.wins / count * 100.0,
-                    acc.losses / count * 100.0, acc.passes / count * 100.0, acc.totalBet / count,
-                    acc.totalChips / count, acc.sawFlop / count * 100.0, acc.sawTurn / count * 100.0,
-                    acc.sawRiver / count * 100.0, acc.showdowns / count * 100.0));
+        List<HandStatsData> results = new ArrayList<>(rows.size());
+        for (HandClassStatsEntity row : rows) {
+            double count = row.getHands();
+            results.add(new HandStatsData(row.getHandClass(), row.getHands(), row.getWins() / count * 100.0,
+                    row.getLosses() / count * 100.0, row.getPasses() / count * 100.0, row.getTotalBet() / count,
+                    row.getTotalChips() / count, row.getSawFlop() / count * 100.0, row.getSawTurn() / count * 100.0,
+                    row.getSawRiver() / count * 100.0, row.getShowdowns() / count * 100.0));
         }
 
         results.sort((a, b) -> Integer.compare(b.count(), a.count()));
@@ -227,73 +236,209 @@ public class HandHistoryService {
     private static final int BIT_WIN = 64;
 
     /**
-     * Compute per-round aggregated stats grouped by hand class.
+     * Compute per-round aggregated stats grouped by hand class, from running
+     * totals like {@link #getHandStats}.
      *
      * @param round
      *            0=preflop, 1=flop, 2=turn, 3=river
      */
     @Transactional(readOnly = true)
     public List<HandRoundStatsData> getRoundStats(String gameId, int round) {
-        List<HandHistoryEntity> hands = handHistoryRepository.findByGameId(gameId);
-        if (hands.isEmpty()) {
-            return List.of();
+        awaitQueuedHands();
+        List<HandRoundStatsEntity> rows;
+        if (coversAllHands(gameId, handClassStatsRepository.findByGameId(gameId))) {
+            rows = handRoundStatsRepository.findByGameIdAndRound(gameId, round);
+        } else {
+            rows = scanRoundStats(gameId, round);
         }
 
-        List<Long> handIds = hands.stream().map(HandHistoryEntity::getId).toList();
-        Map<Long, List<HandPlayerEntity>> playersByHand = groupPlayersByHand(handIds);
+        List<HandRoundStatsData> results = new ArrayList<>(rows.size());
+        for (HandRoundStatsEntity row : rows) {
+            double count = row.getHands();
+            results.add(new HandRoundStatsData(row.getHandClass(), row.getHands(), row.getChecked() / count * 100.0,
+                    row.getCheckRaised() / count * 100.0, row.getCalled() / count * 100.0,
+                    row.getBet() / count * 100.0, row.getRaised() / count * 100.0, row.getReraised() / count * 100.0,
+                    row.getFolded() / count * 100.0, row.getWon() / count * 100.0));
+        }
 
-        Map<String, RoundStatsAccumulator> accumulators = new HashMap<>();
+        results.sort((a, b) -> Integer.compare(b.count(), a.count()));
+        return results;
+    }
 
-        for (HandHistoryEntity hand : hands) {
-            List<HandPlayerEntity> players = playersByHand.getOrDefault(hand.getId(), List.of());
-            if (players.isEmpty()) {
-                continue;
-            }
+    // ---- Running stats ----
 
-            HandPlayerEntity humanPlayer = players.get(0);
-            List<String> holeCards = parseCardJson(humanPlayer.getHoleCards());
-            if (holeCards.size() < 2) {
-                continue;
-            }
+    /**
+     * Hand class the stats of a hand are filed under: that of the first player's
+     * (typically the human's) hole cards.
+     *
+     * @return the hand class, or null if the hand does not count towards stats
+     */
+    static String statsHandClass(List<HandPlayerEntity> players) {
+        if (players.isEmpty()) {
+            return null;
+        }
+        List<String> holeCards = parseCardJson(players.get(0).getHoleCards());
+        return holeCards.size() < 2 ? null : getHandClass(holeCards.get(0), holeCards.get(1));
+    }
 
-            int actions = getRoundActions(humanPlayer, round);
+    /**
+     * One hand's contribution to the per-class totals.
+     */
+    static HandClassStatsEntity toClassStats(String gameId, String handClass, HandHistoryEntity hand,
+            HandPlayerEntity player) {
+        HandClassStatsEntity stats = new HandClassStatsEntity();
+        stats.setGameId(gameId);
+        stats.setHandClass(handClass);
+        stats.setHands(1);
+
+        int chipDiff = player.getEndChips() - player.getStartChips();
+        if (chipDiff > 0) {
+            stats.setWins(1);
+        } else if (chipDiff < 0) {
+            stats.setLosses(1);
+        } else {
+            stats.setPasses(1);
+        }
+        stats.setTotalBet(Math.max(0, -chipDiff));
+        stats.setTotalChips(player.getEndChips());
+
+        int cardsDealt = hand.getCommunityCardsDealt();
+        stats.setSawFlop(cardsDealt >= 3 ? 1 : 0);
+        stats.setSawTurn(cardsDealt >= 4 ? 1 : 0);
+        stats.setSawRiver(cardsDealt >= 5 ? 1 : 0);
+        stats.setShowdowns(player.isCardsExposed() ? 1 : 0);
+        return stats;
+    }
+
+    /**
+     * One hand's contribution to the per-round totals: a row for each round the
+     * player acted in.
+     */
+    static List<HandRoundStatsEntity> toRoundStats(String gameId, String handClass, HandPlayerEntity player) {
+        List<HandRoundStatsEntity> rows = new ArrayList<>(4);
+        for (int round = 0; round < 4; round++) {
+            int actions = getRoundActions(player, round);
             if (actions == 0) {
                 continue; // player did not participate in this round
             }
+            HandRoundStatsEntity stats = new HandRoundStatsEntity();
+            stats.setGameId(gameId);
+            stats.setHandClass(handClass);
+            stats.setRound(round);
+            stats.setHands(1);
+            stats.setChecked(bit(actions, BIT_CHECK));
+            stats.setCheckRaised((actions & BIT_CHECK) != 0 ? bit(actions, BIT_RAISE) : 0);
+            stats.setCalled(bit(actions, BIT_CALL));
+            stats.setBet(bit(actions, BIT_BET));
+            stats.setRaised(bit(actions, BIT_RAISE));
+            stats.setReraised(bit(actions, BIT_RERAISE));
+            stats.setFolded(bit(actions, BIT_FOLD));
+            stats.setWon(bit(actions, BIT_WIN));
+            rows.add(stats);
+        }
+        return rows;
+    }
+
+    private static int bit(int actions, int bit) {
+        return (actions & bit) != 0 ? 1 : 0;
+    }
 
-            String handClass = getHandClass(holeCards.get(0), holeCards.get(1));
-            RoundStatsAccumulator acc = accumulators.computeIfAbsent(handClass, k -> new RoundStatsAccumulator());
-            acc.count++;
-            if ((actions & BIT_CHECK) != 0)
-                acc.checked++;
-            if ((actions & BIT_CHECK) != 0 && (actions & BIT_RAISE) != 0)
-                acc.checkRaised++;
-            if ((actions & BIT_CALL) != 0)
-                acc.called++;
-            if ((actions & BIT_BET) != 0)
-                acc.bet++;
-            if ((actions & BIT_RAISE) != 0)
-                acc.raised++;
-            if ((actions & BIT_RERAISE) != 0)
-                acc.reraised++;
-            if ((actions & BIT_FOLD) != 0)
-                acc.folded++;
-            if ((actions & BIT_WIN) != 0)
-                acc.won++;
+    /**
+     * Add one hand's contribution to the stored totals. Hands finishing
+     * concurrently both count, including the first hands of a class.
+     */
+    private void addStats(HandClassStatsEntity classStats, List<HandRoundStatsEntity> roundStats) {
+        if (classStats == null) {
+            return;
         }
+        handClassStatsRepository.addStats(classStats);
+        for (HandRoundStatsEntity stats : roundStats) {
+            handRoundStatsRepository.addStats(stats);
+        }
+    }
 
-        List<HandRoundStatsData> results = new ArrayList<>();
-        for (Map.Entry<String, RoundStatsAccumulator> entry : accumulators.entrySet()) {
-            RoundStatsAccumulator acc = entry.getValue();
-            double count = acc.count;
-            results.add(new HandRoundStatsData(entry.getKey(), acc.count, acc.checked / count * 100.0,
-                    acc.checkRaised / count * 100.0, acc.called / count * 100.0, acc.bet / count * 100.0,
-                    acc.raised / count * 100.0, acc.reraised / count * 100.0, acc.folded / count * 100.0,
-                    acc.won / count * 100.0));
+    /**
+     * Whether the stored per-class totals of a game count every hand in its
+     * history. Hands without the first player's hole cards never count, so a
+     * game with such hands is always scanned.
+     */
+    private boolean coversAllHands(String gameId, List<HandClassStatsEntity> rows) {
+        if (rows.isEmpty()) {
+            return false;
+        }
+        long hands = 0;
+        for (HandClassStatsEntity row : rows) {
+            hands += row.getHands();
         }
+        return hands >= handHistoryRepository.countByGameId(gameId);
+    }
 
-        results.sort((a, b) -> Integer.compare(b.count(), a.count()));
-        return results;
+    /**
+     * Per-class totals aggregated from the hand history (full scan).
+     */
+    private List<HandClassStatsEntity> scanClassStats(String gameId) {
+        Map<String, HandClassStatsEntity> totals = new HashMap<>();
+        forEachStatsHand(gameId, (hand, players, handClass) -> {
+            HandClassStatsEntity stats = toClassStats(gameId, handClass, hand, players.get(0));
+            totals.merge(handClass, stats, (a, b) -> {
+                a.add(b);
+                return a;
+            });
+        });
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * Per-round totals aggregated from the hand history (full scan).
+     */
+    private List<HandRoundStatsEntity> scanRoundStats(String gameId, int round) {
+        Map<String, HandRoundStatsEntity> totals = new HashMap<>();
+        forEachStatsHand(gameId, (hand, players, handClass) -> {
+            for (HandRoundStatsEntity stats : toRoundStats(gameId, handClass, players.get(0))) {
+                if (stats.getRound() == round) {
+                    totals.merge(handClass, stats, (a, b) -> {
+                        a.add(b);
+                        return a;
+                    });
+                }
+            }
+        });
+        return new ArrayList<>(totals.values());
+    }
+
+    private void forEachStatsHand(String gameId, StatsHandVisitor visitor) {
+        List<HandHistoryEntity> hands = handHistoryRepository.findByGameId(gameId);
+        if (hands.isEmpty()) {
+            return;
+        }
+        List<Long> handIds = hands.stream().map(HandHistoryEntity::getId).toList();
+        Map<Long, List<HandPlayerEntity>> playersByHand = groupPlayersByHand(handIds);
+        for (HandHistoryEntity hand : hands) {
+            List<HandPlayerEntity> players = playersByHand.getOrDefault(hand.getId(), List.of());
+            String handClass = statsHandClass(players);
+            if (handClass != null) {
+                visitor.visit(hand, players, handClass);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatsHandVisitor {
+        void visit(HandHistoryEntity hand, List<HandPlayerEntity> players, String handClass);
+    }
+
+    /**
+     * Reads see every hand stored so far, including hands still queued. Hands
+     * the writer had to drop are logged and left out.
+     */
+    private void awaitQueuedHands() {
+        if (batchWriter != null) {
+            try {
+                batchWriter.flush();
+            } catch (IllegalStateException e) {
+                logger.error("[HAND-HISTORY] {}", e.getMessage());
+            }
+        }
     }
 
     private static int getRoundActions(HandPlayerEntity player, int round) {
@@ -489,35 +634,4 @@ public class HandHistoryService {
         }
         return map;
     }
-
-    /**
-     * Accumulator for computing hand statistics.
-     */
-    private static class StatsAccumulator {
-        int count;
-        int wins;
-        int losses;
-        int passes;
-        long totalBet;
-        long totalChips;
-        int sawFlop;
-        int sawTurn;
-        int sawRiver;
-        int showdowns;
-    }
-
-    /**
-     * Accumulator for computing per-round action statistics.
-     */
-    private static class RoundStatsAccumulator {
-        int count;
-        int checked;
-        int checkRaised;
-        int called;
-        int bet;
-        int raised;
-        int reraised;
-        int folded;
-        int won;
-    }
 }
@@ -0,0 +1,204 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.service;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Set of used single-use token ids ({@code jti}) that forgets each id once its
+ * token has expired.
+ *
+ * <p>
+ * Ids are hashed into a timing wheel of fixed-width time buckets by expiry
+ * time. Each {@link #add} first sweeps only the buckets whose time has passed
+ * since the previous call, so eviction is amortised O(1) per id rather than a
+ * scan of every live id. Ids expiring more than one revolution ahead stay in
+ * their bucket until their own revolution comes round.
+ *
+ * <p>
+ * The set is bounded but never forgets an id before its token expires: if it
+ * is still full after sweeping, {@link #add} refuses the new id (counted as
+ * {@link Stats#rejected()}) so the caller can refuse the token rather than let
+ * an earlier one be replayed.
+ *
+ * <p>
+ * {@link #contains} is lock-free; {@link #add} and {@link #getStats} serialise
+ * on the wheel.
+ */
+public final class JtiExpirySet {
+
+    private static final Logger log = LogManager.getLogger(JtiExpirySet.class);
+
+    /** Default bucket width: one second. */
+    static final long DEFAULT_TICK_MS = 1000L;
+
+    /** Default bucket count; comfortably covers the 60 second ws-connect TTL. */
+    static final int DEFAULT_WHEEL_SIZE = 128;
+
+    /**
+     * Point-in-time counters.
+     *
+     * @param live
+     *            ids currently held (some may have expired but not yet been swept)
+     * @param maxSize
+     *            configured capacity
+     * @param added
+     *            ids recorded since startup
+     * @param expired
+     *            ids swept after their token expired
+     * @param rejected
+     *            ids refused because the set was full of unexpired ids
+     */
+    public record Stats(int live, int maxSize, long added, long expired, long rejected) {
+    }
+
+    private final long tickMs;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Long> expiries = new ConcurrentHashMap<>();
+    private final LongAdder added = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // guarded by this
+    private final ArrayDeque<String>[] wheel;
+    private long sweptTick = -1; // last tick whose bucket has been swept
+
+    /**
+     * Create a set with the default wheel geometry.
+     *
+     * @param maxSize
+     *            maximum number of ids held at once
+     */
+    public JtiExpirySet(int maxSize) {
+        this(maxSize, DEFAULT_WHEEL_SIZE, DEFAULT_TICK_MS);
+    }
+
+    @SuppressWarnings("unchecked")
+    JtiExpirySet(int maxSize, int wheelSize, long tickMs) {
+        if (maxSize < 1 || wheelSize < 1 || tickMs < 1) {
+            throw new IllegalArgumentException("maxSize, wheelSize and tickMs must be positive");
+        }
+        this.maxSize = maxSize;
+        this.tickMs = tickMs;
+        this.wheel = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Record an id as used until {@code expiryMs}. Ids whose expiry has already
+     * passed are not stored, since {@link #contains} would ignore them anyway.
+     * When the set is full of unexpired ids the new id is not stored either, and
+     * the caller must not honour its token.
+     *
+     * @param jti
+     *            the token id
+     * @param expiryMs
+     *            token expiry as epoch milliseconds
+     * @param now
+     *            current time as epoch milliseconds
+     * @return false if the set was full and the id was not recorded
+     */
+    public synchronized boolean add(String jti, long expiryMs, long now) {
+        sweep(now);
+        if (expiryMs < now) {
+            return true;
+        }
+        if (expiries.size() >= maxSize && !expiries.containsKey(jti)) {
+            if (rejected.sum() == 0) {
+                log.warn("Used jti set reached its limit of {} unexpired ids; refusing new connect tokens", maxSize);
+            }
+            rejected.increment();
+            return false;
+        }
+        expiries.put(jti, expiryMs);
+        wheel[bucket(expiryMs / tickMs)].add(jti);
+        added.increment();
+        return true;
+    }
+
+    /**
+     * @param jti
+     *            the token id
+     * @param now
+     *            current time as epoch milliseconds
+     * @return true if the id was recorded and its token has not yet expired
+     */
+    public boolean contains(String jti, long now) {
+        Long expiry = expiries.get(jti);
+        return expiry != null && expiry >= now;
+    }
+
+    /**
+     * @return number of ids currently held
+     */
+    public int size() {
+        return expiries.size();
+    }
+
+    /**
+     * @return current counters
+     */
+    public synchronized Stats getStats() {
+        return new Stats(expiries.size(), maxSize, added.sum(), expired.sum(), rejected.sum());
+    }
+
+    /**
+     * Sweep every bucket whose tick ended before {@code now}. A bucket's ids all
+     * expire within its tick, except those belonging to a later revolution (or
+     * re-added with a different expiry), which are kept or dropped accordingly.
+     */
+    private void sweep(long now) {
+        long nowTick = now / tickMs;
+        if (sweptTick < 0) {
+            sweptTick = nowTick - 1;
+            return;
+        }
+        // after a long idle gap one full revolution covers every bucket
+        long from = Math.max(sweptTick + 1, nowTick - wheel.length);
+        for (long tick = from; tick < nowTick; tick++) {
+            ArrayDeque<String> bucket = wheel[bucket(tick)];
+            for (int i = bucket.size(); i > 0; i--) {
+                String jti = bucket.poll();
+                Long expiry = expiries.get(jti);
+                if (expiry == null || bucket(expiry / tickMs) != bucket(tick)) {
+                    continue; // stale reference: re-added elsewhere
+                }
+                if (expiry < now) {
+                    expiries.remove(jti, expiry);
+                    expired.increment();
+                } else {
+                    bucket.add(jti); // later revolution
+                }
+            }
+        }
+        sweptTick = Math.max(sweptTick, nowTick - 1);
+    }
+
+    private int bucket(long tick) {
+        return (int) Math.floorMod(tick, (long) wheel.length);
+    }
+}
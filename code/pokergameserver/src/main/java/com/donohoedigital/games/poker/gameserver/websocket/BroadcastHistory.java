@@ -0,0 +1,118 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.gameserver.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+
+/**
+ * Sequence counter and bounded history of the sequenced broadcasts of one game,
+ * used to resume a reconnecting client by replaying only what it missed.
+ *
+ * Broadcasts are stamped with consecutive sequence numbers and kept in a ring
+ * of fixed capacity. A client that presents the last sequence number it saw
+ * can be resumed if every later broadcast is still in the ring and nothing it
+ * missed was sent outside the sequence. Per-player messages (hole cards,
+ * per-player GAME_STATE) are unsequenced, so whoever sends them calls
+ * {@link #markResyncPoint()} first; clients that had not seen a broadcast after
+ * that point get a full snapshot instead.
+ *
+ * All methods are synchronized; {@link GameConnectionManager} also holds the
+ * lock while delivering a broadcast so that registering a resumed connection
+ * and replaying to it cannot interleave with a live broadcast.
+ */
+final class BroadcastHistory {
+
+    private final ServerMessage[] ring;
+    private long lastSequence;
+    private long resumeFloor;
+
+    /**
+     * @param capacity
+     *            broadcasts retained for replay
+     */
+    BroadcastHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("History capacity must be positive");
+        }
+        this.ring = new ServerMessage[capacity];
+    }
+
+    /**
+     * Stamps a message with the next sequence number and retains it.
+     *
+     * @return the stamped message
+     */
+    synchronized ServerMessage append(ServerMessage message) {
+        ServerMessage stamped = message.withSequence(++lastSequence);
+        ring[slot(lastSequence)] = stamped;
+        return stamped;
+    }
+
+    /**
+     * Takes the next sequence number without retaining a message. Clients that
+     * missed it cannot be resumed across it.
+     */
+    synchronized long reserve() {
+        return ++lastSequence;
+    }
+
+    /**
+     * Records that an unsequenced message is about to be sent, so clients that
+     * have not seen a broadcast after this point must get a snapshot.
+     */
+    synchronized void markResyncPoint() {
+        resumeFloor = lastSequence + 1;
+    }
+
+    /**
+     * Returns the broadcasts after {@code sequence}, or null if they can no
+     * longer be replayed (too old, across a resync point, or a sequence this
+     * history never issued).
+     *
+     * @param sequence
+     *            last sequence number the client received
+     */
+    synchronized List<ServerMessage> since(long sequence) {
+        if (sequence < resumeFloor || sequence > lastSequence || lastSequence - sequence > ring.length) {
+            return null;
+        }
+        List<ServerMessage> missed = new ArrayList<>((int) (lastSequence - sequence));
+        for (long seq = sequence + 1; seq <= lastSequence; seq++) {
+            ServerMessage message = ring[slot(seq)];
+            if (message == null || message.sequenceNumber() != seq) {
+                return null; // reserved number with no retained message
+            }
+            missed.add(message);
+        }
+        return missed;
+    }
+
+    /**
+     * @return the most recently issued sequence number (0 if none)
+     */
+    synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
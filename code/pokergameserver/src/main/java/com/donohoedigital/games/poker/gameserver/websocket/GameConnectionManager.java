@@ -18,26 +18,142 @@
 package com.donohoedigital.games.poker.gameserver.websocket;
 
 import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.WebSocketMessage;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Manages WebSocket connections for all active games.
  *
  * Thread-safe connection tracking with support for per-game connection
  * management, message routing, and reconnection handling.
+ *
+ * Broadcasts serialize a message once and send the same encoded payload to
+ * every recipient. Snapshot messages whose data is often unchanged between
+ * sends (e.g. LOBBY_STATE) can go through {@link #sendSnapshot}, which reuses
+ * the previous encoding while the data is equal.
+ *
+ * When created with an executor, every connection gets a bounded
+ * {@link OutboundQueue} so slow clients are handled off the game thread (see
+ * {@link OutboundQueue} for the slow consumer policy). The no-argument
+ * constructor sends on the calling thread.
+ *
+ * Sequenced broadcasts ({@link #broadcastSequenced}) are numbered per game and
+ * the most recent ones kept in a bounded {@link BroadcastHistory}, so a
+ * reconnecting client that presents its last sequence number can be resumed
+ * with just the messages it missed ({@link #resumeConnection}) instead of a
+ * full snapshot.
  */
 public class GameConnectionManager {
 
     private static final Logger logger = LoggerFactory.getLogger(GameConnectionManager.class);
 
+    /** Default number of sequenced broadcasts kept per game for resume. */
+    public static final int DEFAULT_HISTORY_SIZE = 256;
+
     /** Map of gameId -> (profileId -> PlayerConnection) */
     private final ConcurrentHashMap<String, ConcurrentHashMap<Long, PlayerConnection>> connections = new ConcurrentHashMap<>();
 
+    /** Map of gameId -> (message type -> last snapshot encoding) */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ServerMessageType, CachedEncoding>> snapshots = new ConcurrentHashMap<>();
+
+    /** Map of gameId -> sequence counter and recent sequenced broadcasts */
+    private final ConcurrentHashMap<String, BroadcastHistory> histories = new ConcurrentHashMap<>();
+
+    private final ExecutorService outboundExecutor;
+    private final OutboundQueue.Policy outboundPolicy;
+    private final OutboundQueue.Metrics outboundMetrics = new OutboundQueue.Metrics();
+    private final int historySize;
+
+    private final LongAdder serializations = new LongAdder();
+    private final LongAdder serializationsSaved = new LongAdder();
+    private final LongAdder resumes = new LongAdder();
+    private final LongAdder resumeFallbacks = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    /** Last encoding of a snapshot message, keyed by its data. */
+    private record CachedEncoding(Object data, ObjectMapper mapper, WebSocketMessage<?> encoded) {
+    }
+
+    /**
+     * Outbound queue counters.
+     *
+     * @param sent
+     *            messages written to sessions through queues
+     * @param coalesced
+     *            GAME_STATE messages replaced by a newer one before sending
+     * @param dropped
+     *            messages discarded because a resync snapshot covers them
+     * @param resyncs
+     *            queue overflows answered with a fresh snapshot
+     * @param disconnects
+     *            connections closed as too slow
+     * @param queuedNow
+     *            messages currently queued across all connections
+     * @param maxQueueDepth
+     *            deepest any queue has been
+     * @param avgSendLatencyMillis
+     *            average time from enqueue to written
+     * @param maxSendLatencyMillis
+     *            longest time from enqueue to written
+     */
+    public record OutboundStats(long sent, long coalesced, long dropped, long resyncs, long disconnects,
+            long queuedNow, long maxQueueDepth, double avgSendLatencyMillis, double maxSendLatencyMillis) {
+    }
+
+    /**
+     * Creates a manager that sends on the calling thread.
+     */
+    public GameConnectionManager() {
+        this(null, OutboundQueue.Policy.DEFAULT);
+    }
+
+    /**
+     * Creates a manager that queues outbound messages per connection.
+     *
+     * @param outboundExecutor
+     *            runs the per-connection writer tasks (null to send on the
+     *            calling thread)
+     * @param outboundPolicy
+     *            slow consumer limits
+     */
+    public GameConnectionManager(ExecutorService outboundExecutor, OutboundQueue.Policy outboundPolicy) {
+        this(outboundExecutor, outboundPolicy, DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates a manager that queues outbound messages per connection.
+     *
+     * @param outboundExecutor
+     *            runs the per-connection writer tasks (null to send on the
+     *            calling thread)
+     * @param outboundPolicy
+     *            slow consumer limits
+     * @param historySize
+     *            sequenced broadcasts kept per game for resuming clients
+     */
+    public GameConnectionManager(ExecutorService outboundExecutor, OutboundQueue.Policy outboundPolicy,
+            int historySize) {
+        if (historySize < 1) {
+            throw new IllegalArgumentException("historySize must be positive");
+        }
+        this.outboundExecutor = outboundExecutor;
+        this.outboundPolicy = outboundPolicy;
+        this.historySize = historySize;
+    }
+
     /**
      * Adds a player connection to a game.
      *
@@ -52,6 +168,9 @@ public class GameConnectionManager {
      *            Player connection
      */
     public void addConnection(String gameId, long profileId, PlayerConnection connection) {
+        if (outboundExecutor != null && !connection.hasOutboundQueue()) {
+            connection.attachOutbound(outboundExecutor, outboundPolicy, outboundMetrics);
+        }
         connections.computeIfAbsent(gameId, k -> new ConcurrentHashMap<>()).put(profileId, connection);
     }
 
@@ -67,6 +186,9 @@ public class GameConnectionManager {
         ConcurrentHashMap<Long, PlayerConnection> gameConnections = connections.get(gameId);
         if (gameConnections != null) {
             gameConnections.remove(profileId);
+            if (gameConnections.isEmpty()) {
+                snapshots.remove(gameId);
+            }
         }
     }
 
@@ -117,17 +239,256 @@ public class GameConnectionManager {
      */
     public void broadcastToGame(String gameId, ServerMessage message, Long excludeProfileId) {
         ConcurrentHashMap<Long, PlayerConnection> gameConnections = connections.get(gameId);
-        if (gameConnections != null) {
-            gameConnections.values().stream()
-                    .filter(conn -> excludeProfileId == null || conn.getProfileId() != excludeProfileId)
-                    .forEach(conn -> {
-                        try {
-                            conn.sendMessage(message);
-                        } catch (Exception e) {
-                            logger.warn("Failed to send message to player={} in game={}: {}", conn.getProfileId(),
-                                    gameId, e.getMessage());
+        if (gameConnections == null) {
+            return;
+        }
+
+        // encode once per object mapper: one shared JSON mapper, plus one per
+        // binary encoding in use
+        ObjectMapper mapper = null;
+        WebSocketMessage<?> encoded = null;
+        Map<ObjectMapper, WebSocketMessage<?>> otherEncodings = null;
+        for (PlayerConnection conn : gameConnections.values()) {
+            if (excludeProfileId != null && conn.getProfileId() == excludeProfileId) {
+                continue;
+            }
+            try {
+                if (!conn.isOpen()) {
+                    continue;
+                }
+                ObjectMapper connMapper = conn.getObjectMapper();
+                WebSocketMessage<?> payload;
+                if (encoded != null && connMapper == mapper) {
+                    payload = encoded;
+                    serializationsSaved.increment();
+                } else if (otherEncodings != null && otherEncodings.containsKey(connMapper)) {
+                    payload = otherEncodings.get(connMapper);
+                    serializationsSaved.increment();
+                } else {
+                    payload = conn.encode(message);
+                    serializations.increment();
+                    if (payload == null) {
+                        return; // serialization failure already logged
+                    }
+                    if (encoded == null) {
+                        mapper = connMapper;
+                        encoded = payload;
+                    } else {
+                        if (otherEncodings == null) {
+                            otherEncodings = new IdentityHashMap<>(2);
                         }
-                    });
+                        otherEncodings.put(connMapper, payload);
+                    }
+                }
+                conn.sendEncoded(payload, message.type());
+            } catch (Exception e) {
+                logger.warn("Failed to send message to player={} in game={}: {}", conn.getProfileId(), gameId,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stamps a message with the game's next sequence number, keeps it for
+     * resume and broadcasts it to all players in the game. The history lock is
+     * held while sending so sequence order equals delivery order and a
+     * connection being resumed sees each message exactly once.
+     *
+     * @param gameId
+     *            Game ID
+     * @param message
+     *            Message to broadcast (its sequence number is replaced)
+     */
+    public void broadcastSequenced(String gameId, ServerMessage message) {
+        BroadcastHistory history = history(gameId);
+        synchronized (history) {
+            broadcastToGame(gameId, history.append(message), null);
+        }
+    }
+
+    /**
+     * Takes the game's next sequence number without broadcasting anything.
+     *
+     * @param gameId
+     *            Game ID
+     * @return the reserved sequence number
+     */
+    public long reserveSequence(String gameId) {
+        return history(gameId).reserve();
+    }
+
+    /**
+     * Call before sending unsequenced per-player messages that carry game state
+     * (hole cards, per-player GAME_STATE). Clients that have not seen a later
+     * broadcast are then resumed with a snapshot rather than a replay.
+     *
+     * @param gameId
+     *            Game ID
+     */
+    public void markResyncPoint(String gameId) {
+        history(gameId).markResyncPoint();
+    }
+
+    /**
+     * @param gameId
+     *            Game ID
+     * @return the game's most recent sequence number (0 if none)
+     */
+    public long getLastSequence(String gameId) {
+        BroadcastHistory history = histories.get(gameId);
+        return history != null ? history.getLastSequence() : 0;
+    }
+
+    /**
+     * Registers a reconnecting connection and replays the broadcasts it missed,
+     * if they are all still available. Registration, {@code connected} and the
+     * replay happen atomically with respect to live broadcasts.
+     *
+     * @param gameId
+     *            Game ID
+     * @param profileId
+     *            Player's profile ID
+     * @param connection
+     *            new connection
+     * @param lastSequence
+     *            last sequence number the client received
+     * @param connected
+     *            sent before the replayed messages
+     * @return true if resumed; false if the caller must register the connection
+     *         and send a snapshot instead (nothing was sent)
+     */
+    public boolean resumeConnection(String gameId, long profileId, PlayerConnection connection, long lastSequence,
+            ServerMessage connected) {
+        BroadcastHistory history = histories.get(gameId);
+        if (history == null) {
+            resumeFallbacks.increment();
+            return false;
+        }
+        synchronized (history) {
+            List<ServerMessage> missed = history.since(lastSequence);
+            if (missed == null) {
+                resumeFallbacks.increment();
+                return false;
+            }
+            addConnection(gameId, profileId, connection);
+            connection.sendMessage(connected);
+            for (ServerMessage message : missed) {
+                connection.sendMessage(message);
+            }
+            resumes.increment();
+            replayed.add(missed.size());
+        }
+        return true;
+    }
+
+    /**
+     * Drops a game's broadcast history. Called once no client can resume the
+     * game any more (finished or gone, and nobody connected).
+     *
+     * @param gameId
+     *            Game ID
+     */
+    public void removeHistory(String gameId) {
+        histories.remove(gameId);
+    }
+
+    private BroadcastHistory history(String gameId) {
+        return histories.computeIfAbsent(gameId, k -> new BroadcastHistory(historySize));
+    }
+
+    /**
+     * Sends a snapshot message to one connection, reusing the encoding of the
+     * previous snapshot of the same type in the same game when its data is
+     * equal. The cached payload keeps the timestamp of when it was first
+     * encoded.
+     *
+     * @param connection
+     *            Recipient
+     * @param message
+     *            Snapshot message (no sequence number)
+     */
+    public void sendSnapshot(PlayerConnection connection, ServerMessage message) {
+        if (!connection.isOpen()) {
+            return;
+        }
+        ConcurrentHashMap<ServerMessageType, CachedEncoding> cache = snapshots
+                .computeIfAbsent(message.gameId(), k -> new ConcurrentHashMap<>());
+        CachedEncoding cached = cache.get(message.type());
+        if (cached != null && cached.mapper() == connection.getObjectMapper()
+                && Objects.equals(cached.data(), message.data())) {
+            serializationsSaved.increment();
+            connection.sendEncoded(cached.encoded(), message.type());
+            return;
+        }
+
+        WebSocketMessage<?> encoded = connection.encode(message);
+        serializations.increment();
+        if (encoded != null) {
+            cache.put(message.type(), new CachedEncoding(message.data(), connection.getObjectMapper(), encoded));
+            connection.sendEncoded(encoded, message.type());
+        }
+    }
+
+    /**
+     * @return number of messages serialized by broadcasts and snapshot sends
+     */
+    public long getSerializationCount() {
+        return serializations.sum();
+    }
+
+    /**
+     * @return number of sends that reused an existing encoding instead of
+     *         serializing again
+     */
+    public long getSerializationsSaved() {
+        return serializationsSaved.sum();
+    }
+
+    /**
+     * @return reconnects resumed by replaying missed broadcasts
+     */
+    public long getResumeCount() {
+        return resumes.sum();
+    }
+
+    /**
+     * @return resume requests that fell back to a full snapshot
+     */
+    public long getResumeFallbackCount() {
+        return resumeFallbacks.sum();
+    }
+
+    /**
+     * @return broadcasts replayed to resumed connections
+     */
+    public long getReplayedMessageCount() {
+        return replayed.sum();
+    }
+
+    /**
+     * @return outbound queue counters (all zero when sending on the calling
+     *         thread)
+     */
+    public OutboundStats getOutboundStats() {
+        long queued = 0;
+        for (ConcurrentHashMap<Long, PlayerConnection> game : connections.values()) {
+            for (PlayerConnection conn : game.values()) {
+                queued += conn.getQueueDepth();
+            }
+        }
+        OutboundQueue.Metrics m = outboundMetrics;
+        long sent = m.sent.sum();
+        return new OutboundStats(sent, m.coalesced.sum(), m.dropped.sum(), m.resyncs.sum(), m.disconnects.sum(),
+                queued, m.maxDepth.get(), sent == 0 ? 0 : m.latencyNanos.sum() / 1e6 / sent,
+                m.maxLatencyNanos.get() / 1e6);
+    }
+
+    /**
+     * Stops the outbound writer tasks. Called by Spring on shutdown.
+     */
+    public void shutdown() {
+        if (outboundExecutor != null) {
+            outboundExecutor.shutdown();
         }
     }
 
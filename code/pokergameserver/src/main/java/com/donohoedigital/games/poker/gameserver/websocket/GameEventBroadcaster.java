@@ -35,17 +35,18 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import com.donohoedigital.games.poker.engine.Card;
-import com.donohoedigital.games.poker.gameserver.AdvisorResult;
-import com.donohoedigital.games.poker.gameserver.AdvisorService;
+import com.donohoedigital.games.poker.gameserver.AdvisorPipeline;
 
 /**
  * Bridges the ServerGameEventBus to WebSocket connections.
@@ -68,13 +69,16 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(GameEventBroadcaster.class);
 
-    /** Monte Carlo iterations for advisor equity calculation. */
-    private static final int ADVISOR_ITERATIONS = 500;
-
     private final String gameId;
     private final GameConnectionManager connectionManager;
     private final OutboundMessageConverter converter;
-    private final AdvisorService advisorService = new AdvisorService();
+    private final AdvisorPipeline advisorPipeline;
+
+    /**
+     * Outstanding advisor request per player ID. Replaced (and the old one
+     * cancelled) whenever that player's table gets a new advisor pass.
+     */
+    private final Map<Integer, AdvisorPipeline.Request> pendingAdvice = new ConcurrentHashMap<>();
 
     /**
      * Optional game reference used to send per-player GAME_STATE snapshots before
@@ -84,11 +88,6 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
      */
     private final GameInstance game;
 
-    /**
-     * Monotonic per-game sequence counter for gap detection on reconnect.
-     */
-    private final AtomicLong sequenceCounter = new AtomicLong(0);
-
     /**
      * When true, broadcast AI hole cards after HAND_STARTED (aiFaceUp practice
      * option).
@@ -97,7 +96,9 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
 
     /** Scheduler for periodic TIMER_UPDATE broadcasts during action timeouts. */
     private final ScheduledExecutorService timerScheduler;
-    private ScheduledFuture<?> activeTimerTask;
+    // TIMER_UPDATE countdowns by the player they wait on; tables of a parallel
+    // tournament each wait on their own player
+    private final Map<Long, ScheduledFuture<?>> activeTimers = new HashMap<>();
 
     /**
      * Enable or disable AI face-up mode. When enabled, AI hole cards are broadcast
@@ -142,7 +143,28 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
      */
     public GameEventBroadcaster(String gameId, GameConnectionManager connectionManager,
             OutboundMessageConverter converter, GameInstance game) {
+        this(gameId, connectionManager, converter, game, null);
+    }
+
+    /**
+     * Creates a game event broadcaster with an explicit advisor pipeline.
+     *
+     * @param gameId
+     *            Game ID this broadcaster serves
+     * @param connectionManager
+     *            Connection manager for routing messages
+     * @param converter
+     *            Converter for game state to message payloads
+     * @param game
+     *            Game instance for snapshot generation (may be null)
+     * @param advisorPipeline
+     *            Pipeline computing ADVISOR_UPDATE payloads off the game thread
+     *            (null sends no advisor updates)
+     */
+    public GameEventBroadcaster(String gameId, GameConnectionManager connectionManager,
+            OutboundMessageConverter converter, GameInstance game, AdvisorPipeline advisorPipeline) {
         this.gameId = gameId;
+        this.advisorPipeline = advisorPipeline;
         this.connectionManager = connectionManager;
         this.converter = converter;
         this.game = game;
@@ -181,6 +203,8 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                     // Send GAME_STATE + HAND_STARTED only to players seated at this table.
                     // Sending HAND_STARTED for other tables would corrupt the client's
                     // hand model (onHandStarted always applies to currentTable).
+                    // Clients that miss these unsequenced sends cannot be resumed by replay
+                    connectionManager.markResyncPoint(gameId);
                     GameStateSnapshot observerSnapshot = null;
                     for (PlayerConnection conn : connectionManager.getConnections(gameId)) {
                         if (conn.isObserver()) {
@@ -191,7 +215,7 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                             if (observerSnapshot != null) {
                                 // No sequence: per-player sends must not advance the shared
                                 // broadcast counter (see player send comment below).
-                                conn.sendMessage(converter.createGameStateMessage(gameId, observerSnapshot));
+                                conn.sendGameState(converter.createGameStateMessage(gameId, observerSnapshot));
                                 conn.sendMessage(handStartedMsg);
                             }
                             continue;
@@ -201,12 +225,12 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                             logger.debug("[BROADCAST] sending GAME_STATE + HAND_STARTED to player={} for table={}",
                                     conn.getProfileId(), e.tableId());
                             // Per-player sends intentionally have no sequence number.
-                            // The shared sequenceCounter is for broadcast() calls that go to
+                            // The shared sequence counter is for broadcast() calls that go to
                             // all players simultaneously. If per-player sends also incremented
                             // it, every player except the last in this loop would see a gap
                             // on the next broadcast() (e.g. PLAYER_ACTED), triggering a
                             // spurious state resync on every hand for multi-player games.
-                            conn.sendMessage(converter.createGameStateMessage(gameId, snapshot));
+                            conn.sendGameState(converter.createGameStateMessage(gameId, snapshot));
                             conn.sendMessage(handStartedMsg);
                             // Send hole cards privately AFTER HAND_STARTED so they arrive
                             // after the client's TYPE_NEW_HAND fires (which resets card slots).
@@ -252,7 +276,7 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                 }
             }
             case GameEvent.PlayerActed e -> {
-                cancelActionTimer();
+                cancelActionTimer(e.playerId());
                 int chipCount = 0;
                 int totalBet = 0;
                 int potTotal = 0;
@@ -301,6 +325,7 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                 sendAdvisorUpdates(e.tableId());
             }
             case GameEvent.HandCompleted e -> {
+                cancelAdvisorUpdates(e.tableId());
                 int handNum = 0;
                 List<ServerMessageData.WinnerData> winners = List.of();
                 List<ServerMessageData.ShowdownPlayerData> showdownPlayers = List.of();
@@ -484,6 +509,19 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                         new ServerMessageData.PlayerMovedData(e.playerId(), movedName, e.tableId(), -1)));
                 }
             }
+            case GameEvent.PlayersMoved e -> {
+                // One balancing pass. Clients clear the origin seat on PLAYER_MOVED and
+                // take the destination seat from the PLAYER_JOINED that follows it.
+                for (GameEvent.PlayerMove move : e.moves()) {
+                    String movedName = lookupPlayerName(move.playerId());
+                    broadcast(ServerMessage.of(ServerMessageType.PLAYER_MOVED, gameId,
+                        new ServerMessageData.PlayerMovedData(move.playerId(), movedName, move.fromTableId(),
+                            move.toTableId())));
+                    broadcast(ServerMessage.of(ServerMessageType.PLAYER_JOINED, gameId,
+                        new ServerMessageData.PlayerJoinedData(move.playerId(), movedName, move.toSeat(),
+                            move.toTableId(), false)));
+                }
+            }
             case GameEvent.PlayerRebuy e -> {
                 Integer chipCount = lookupPlayerChips(e.playerId());
                 broadcast(ServerMessage.of(ServerMessageType.PLAYER_REBUY, gameId,
@@ -511,7 +549,7 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                         e.tableId(), elimHuman)));
             }
             case GameEvent.ActionTimeout e -> {
-                cancelActionTimer();
+                cancelActionTimer(e.playerId());
                 // ActionTimeout has no tableId on the event itself; derive it by
                 // finding which table the timing-out player is currently seated at.
                 int timeoutTableId = -1;
@@ -631,6 +669,7 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
     public void broadcastGameState() {
         if (game == null)
             return;
+        connectionManager.markResyncPoint(gameId);
         GameStateSnapshot observerSnap = null;
         for (PlayerConnection conn : connectionManager.getConnections(gameId)) {
             if (conn.isObserver()) {
@@ -638,12 +677,12 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
                     observerSnap = game.getObserverSnapshot();
                 }
                 if (observerSnap != null) {
-                    conn.sendMessage(converter.createGameStateMessage(gameId, observerSnap));
+                    conn.sendGameState(converter.createGameStateMessage(gameId, observerSnap));
                 }
             } else {
                 GameStateSnapshot snap = game.getGameStateSnapshot(conn.getProfileId());
                 if (snap != null)
-                    conn.sendMessage(converter.createGameStateMessage(gameId, snap));
+                    conn.sendGameState(converter.createGameStateMessage(gameId, snap));
             }
         }
     }
@@ -683,36 +722,51 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
     /**
      * Starts periodic TIMER_UPDATE broadcasts every 5 seconds for the given player
      * and timeout. Called by the WebSocket handler when ACTION_REQUIRED is sent.
-     * Cancels any previously running timer.
+     * Cancels any timer still running for that player; timers for players at
+     * other tables keep running.
      */
     public synchronized void startActionTimer(long playerId, int timeoutSeconds) {
-        cancelActionTimer();
+        cancelActionTimer(playerId);
         if (timeoutSeconds <= 0) {
             return;
         }
         final long startTime = System.currentTimeMillis();
         final int totalSeconds = timeoutSeconds;
-        activeTimerTask = timerScheduler.scheduleAtFixedRate(() -> {
+        activeTimers.put(playerId, timerScheduler.scheduleAtFixedRate(() -> {
             int elapsed = (int) ((System.currentTimeMillis() - startTime) / 1000);
             int remaining = totalSeconds - elapsed;
             if (remaining <= 0) {
-                cancelActionTimer();
+                cancelActionTimer(playerId);
                 return;
             }
             broadcast(ServerMessage.of(ServerMessageType.TIMER_UPDATE, gameId,
                     new ServerMessageData.TimerUpdateData(playerId, remaining)));
-        }, 5, 5, TimeUnit.SECONDS);
+        }, 5, 5, TimeUnit.SECONDS));
     }
 
-    /** Cancels the active TIMER_UPDATE broadcast task, if any. */
-    public synchronized void cancelActionTimer() {
-        ScheduledFuture<?> task = activeTimerTask;
+    /** Cancels the TIMER_UPDATE broadcast task for the given player, if any. */
+    public synchronized void cancelActionTimer(long playerId) {
+        ScheduledFuture<?> task = activeTimers.remove(playerId);
         if (task != null) {
             task.cancel(false);
-            activeTimerTask = null;
         }
     }
 
+    /** Cancels all active TIMER_UPDATE broadcast tasks. */
+    public synchronized void cancelActionTimer() {
+        for (ScheduledFuture<?> task : activeTimers.values()) {
+            task.cancel(false);
+        }
+        activeTimers.clear();
+    }
+
+    /**
+     * @return number of players with a TIMER_UPDATE countdown running
+     */
+    synchronized int getActiveTimerCount() {
+        return activeTimers.size();
+    }
+
     /**
      * Shuts down this broadcaster. Cancels any active timer task and terminates the
      * timer scheduler. Called by {@link GameWebSocketHandler} when the last player
@@ -722,20 +776,24 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
     public void shutdown() {
         cancelActionTimer();
         timerScheduler.shutdown();
+        pendingAdvice.values().forEach(AdvisorPipeline.Request::cancel);
+        pendingAdvice.clear();
     }
 
     /**
-     * Sends ADVISOR_UPDATE privately to each connected human player at the given
-     * table who is still in the hand (not folded, not sitting out). Requires a game
-     * reference with a valid tournament and table.
+     * Requests ADVISOR_UPDATE for each connected human player at the given table
+     * who is still in the hand (not folded, not sitting out). The advice is
+     * computed on the {@link AdvisorPipeline} and sent privately when ready; any
+     * request still pending from an earlier street or action at this table is
+     * cancelled so stale advice is never sent. Requires a game reference with a
+     * valid tournament and table.
      */
     private void sendAdvisorUpdates(int tableId) {
-        if (game == null || game.getTournament() == null || tableId <= 0
-                || (tableId - 1) >= game.getTournament().getNumTables()) {
+        if (advisorPipeline == null) {
             return;
         }
-        Object gt = game.getTournament().getTable(tableId - 1);
-        if (!(gt instanceof ServerGameTable sgt)) {
+        ServerGameTable sgt = advisorTable(tableId);
+        if (sgt == null) {
             return;
         }
         ServerHand hand = (ServerHand) sgt.getHoldemHand();
@@ -750,12 +808,20 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
         int potSize = hand.getPotSize();
 
         // Count active players (non-folded, non-sitting-out) and find human players to
-        // notify
+        // notify. Take over any requests still pending for this table.
         List<ServerPlayer> humanPlayers = new ArrayList<>();
+        List<AdvisorPipeline.Request> superseded = new ArrayList<>();
         int activePlayers = 0;
         for (int s = 0; s < sgt.getNumSeats(); s++) {
             ServerPlayer sp = sgt.getPlayer(s);
-            if (sp != null && !sp.isFolded() && !sp.isSittingOut()) {
+            if (sp == null) {
+                continue;
+            }
+            AdvisorPipeline.Request previous = pendingAdvice.remove(sp.getID());
+            if (previous != null) {
+                superseded.add(previous);
+            }
+            if (!sp.isFolded() && !sp.isSittingOut()) {
                 activePlayers++;
                 if (sp.isHuman()) {
                     humanPlayers.add(sp);
@@ -775,28 +841,64 @@ public class GameEventBroadcaster implements Consumer<GameEvent> {
             }
 
             Card[] holeCardsArray = holeCards.toArray(new Card[0]);
-            AdvisorResult result = advisorService.compute(holeCardsArray, communityCards, potSize, callAmount,
-                    numOpponents, ADVISOR_ITERATIONS);
+            Card[] board = communityCards;
+            int playerId = human.getID();
+            AdvisorPipeline.Request request = advisorPipeline.submit(holeCardsArray, board, numOpponents, potSize,
+                    callAmount, result -> {
+                        HandEvaluationData handEval = HandEvaluationHelper.evaluate(holeCardsArray, board);
+
+                        ServerMessage advisorMsg = ServerMessage.of(ServerMessageType.ADVISOR_UPDATE, gameId,
+                                new ServerMessageData.AdvisorData(result.handRank(), result.handDescription(),
+                                        result.equity(), result.potOdds(), result.recommendation(),
+                                        result.startingHandCategory(), result.startingHandNotation(),
+                                        result.improvementOdds(), result.positivePotential(),
+                                        result.negativePotential(), handEval));
+
+                        // Send privately to this human player
+                        connectionManager.sendToPlayer(gameId, playerId, advisorMsg);
+                    });
+            if (!request.isDone()) {
+                pendingAdvice.put(playerId, request);
+            }
+        }
 
-            HandEvaluationData handEval = HandEvaluationHelper.evaluate(holeCardsArray, communityCards);
+        // cancel after submitting so a spot that didn't change keeps its job alive
+        superseded.forEach(AdvisorPipeline.Request::cancel);
+    }
 
-            ServerMessage advisorMsg = ServerMessage.of(ServerMessageType.ADVISOR_UPDATE, gameId,
-                    new ServerMessageData.AdvisorData(result.handRank(), result.handDescription(), result.equity(),
-                            result.potOdds(), result.recommendation(), result.startingHandCategory(),
-                            result.startingHandNotation(), result.improvementOdds(), result.positivePotential(),
-                            result.negativePotential(), handEval));
+    /**
+     * Cancels pending advisor requests for everyone seated at the given table.
+     */
+    private void cancelAdvisorUpdates(int tableId) {
+        ServerGameTable sgt = advisorTable(tableId);
+        if (sgt == null) {
+            return;
+        }
+        for (int s = 0; s < sgt.getNumSeats(); s++) {
+            ServerPlayer sp = sgt.getPlayer(s);
+            if (sp != null) {
+                AdvisorPipeline.Request pending = pendingAdvice.remove(sp.getID());
+                if (pending != null) {
+                    pending.cancel();
+                }
+            }
+        }
+    }
 
-            // Send privately to this human player
-            connectionManager.sendToPlayer(gameId, human.getID(), advisorMsg);
+    private ServerGameTable advisorTable(int tableId) {
+        if (game == null || game.getTournament() == null || tableId <= 0
+                || (tableId - 1) >= game.getTournament().getNumTables()) {
+            return null;
         }
+        return game.getTournament().getTable(tableId - 1) instanceof ServerGameTable sgt ? sgt : null;
     }
 
     private void broadcast(ServerMessage message) {
-        connectionManager.broadcastToGame(gameId, message.withSequence(sequenceCounter.incrementAndGet()));
+        connectionManager.broadcastSequenced(gameId, message);
     }
 
     /** Returns the current sequence number (for stamping direct-send messages). */
     public long nextSequence() {
-        return sequenceCounter.incrementAndGet();
+        return connectionManager.reserveSequence(gameId);
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.gameserver.websocket;
+
+import com.donohoedigital.games.poker.protocol.message.GameStatePatch;
+import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Turns the GAME_STATE messages for one connection into GAME_STATE_DELTA
+ * messages carrying only what changed since the previous one.
+ *
+ * Every {@code keyframeInterval}-th message, and the first one after
+ * {@link #reset()}, is a keyframe holding the whole state. The connection
+ * resets the tracker whenever the client receives a state by some other route
+ * (a plain GAME_STATE or a slow-client resync), since the client's base is then
+ * no longer the one the tracker remembers.
+ */
+final class GameStateDeltaTracker {
+
+    private final ObjectMapper objectMapper;
+    private final int keyframeInterval;
+
+    // guarded by this
+    private ObjectNode lastSent;
+    private long version;
+    private int sinceKeyframe;
+
+    /**
+     * @param objectMapper
+     *            mapper used to serialize the state
+     * @param keyframeInterval
+     *            deltas between keyframes (at least 1)
+     */
+    GameStateDeltaTracker(ObjectMapper objectMapper, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Builds the delta that brings the client from the last state sent to the one
+     * in {@code gameState}, and records that state as sent.
+     *
+     * @param gameState
+     *            GAME_STATE message with a {@link ServerMessageData.GameStateData}
+     *            payload
+     * @return GAME_STATE_DELTA message
+     */
+    synchronized ServerMessage next(ServerMessage gameState) {
+        ObjectNode state = objectMapper.valueToTree(gameState.data());
+        long baseVersion;
+        ObjectNode patch;
+        if (lastSent == null || sinceKeyframe >= keyframeInterval) {
+            baseVersion = 0;
+            patch = GameStatePatch.diff(objectMapper.createObjectNode(), state);
+            sinceKeyframe = 0;
+        } else {
+            baseVersion = version;
+            patch = GameStatePatch.diff(lastSent, state);
+            sinceKeyframe++;
+        }
+        lastSent = state;
+        version++;
+        return ServerMessage.of(ServerMessageType.GAME_STATE_DELTA, gameState.gameId(),
+                new ServerMessageData.GameStateDeltaData(version, baseVersion, patch));
+    }
+
+    /**
+     * Forgets the last state sent, so the next message is a keyframe.
+     */
+    synchronized void reset() {
+        lastSent = null;
+    }
+}
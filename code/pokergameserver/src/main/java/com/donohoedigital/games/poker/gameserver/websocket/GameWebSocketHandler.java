@@ -19,18 +19,21 @@ package com.donohoedigital.games.poker.gameserver.websocket;
 
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import com.donohoedigital.games.poker.gameserver.ActionRequest;
+import com.donohoedigital.games.poker.gameserver.AdvisorPipeline;
 import com.donohoedigital.games.poker.gameserver.GameInstance;
 import com.donohoedigital.games.poker.gameserver.GameInstanceManager;
 import com.donohoedigital.games.poker.gameserver.GameInstanceState;
@@ -46,6 +49,7 @@ import com.donohoedigital.games.poker.protocol.message.ServerMessage;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageData;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageData.LobbyPlayerData;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 
@@ -72,15 +76,22 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
      */
     private static final int CLOSE_CONNECTION_REPLACED = 4409;
 
+    /** Game state deltas sent between full keyframes, by default. */
+    public static final int DEFAULT_STATE_KEYFRAME_INTERVAL = 20;
+
     private final JwtTokenProvider jwtTokenProvider;
     private final GameInstanceManager gameInstanceManager;
     private final GameConnectionManager connectionManager;
     private final InboundMessageRouter inboundMessageRouter;
     private final OutboundMessageConverter converter;
     private final ObjectMapper objectMapper;
+    /** Shared by all binary connections so broadcasts are encoded once. */
+    private final ObjectMapper cborMapper;
     private final GameService gameService;
     private final AuthService authService;
     private final int actionTimeoutSeconds;
+    private final int stateKeyframeInterval;
+    private final AdvisorPipeline advisorPipeline;
 
     /** Maps WebSocket session ID → PlayerConnection */
     private final ConcurrentHashMap<String, PlayerConnection> sessionConnections = new ConcurrentHashMap<>();
@@ -117,15 +128,56 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             GameConnectionManager connectionManager, InboundMessageRouter inboundMessageRouter,
             OutboundMessageConverter converter, ObjectMapper objectMapper, GameService gameService,
             AuthService authService, GameServerProperties properties) {
+        this(jwtTokenProvider, gameInstanceManager, connectionManager, inboundMessageRouter, converter, objectMapper,
+                gameService, authService, properties, DEFAULT_STATE_KEYFRAME_INTERVAL, null);
+    }
+
+    /**
+     * Creates the WebSocket handler.
+     *
+     * @param jwtTokenProvider
+     *            JWT token provider for authentication
+     * @param gameInstanceManager
+     *            manager for game instances
+     * @param connectionManager
+     *            manager for tracking player connections
+     * @param inboundMessageRouter
+     *            router for inbound client messages
+     * @param converter
+     *            converter for outbound server messages
+     * @param objectMapper
+     *            JSON object mapper
+     * @param gameService
+     *            game service for lobby state
+     * @param authService
+     *            auth service for jti tracking and reconnect token generation
+     * @param properties
+     *            server configuration properties
+     * @param stateKeyframeInterval
+     *            game state deltas between full keyframes for clients that ask
+     *            for deltas ({@code stateDeltas=1}); 0 always sends full
+     *            GAME_STATE
+     * @param advisorPipeline
+     *            pipeline computing ADVISOR_UPDATE for the games' broadcasters
+     *            (null sends no advisor updates)
+     */
+    public GameWebSocketHandler(JwtTokenProvider jwtTokenProvider, GameInstanceManager gameInstanceManager,
+            GameConnectionManager connectionManager, InboundMessageRouter inboundMessageRouter,
+            OutboundMessageConverter converter, ObjectMapper objectMapper, GameService gameService,
+            AuthService authService, GameServerProperties properties, int stateKeyframeInterval,
+            AdvisorPipeline advisorPipeline) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.gameInstanceManager = gameInstanceManager;
         this.connectionManager = connectionManager;
         this.inboundMessageRouter = inboundMessageRouter;
         this.converter = converter;
         this.objectMapper = objectMapper;
+        this.cborMapper = WireEncoding.CBOR.mapperFor(objectMapper);
         this.gameService = gameService;
         this.authService = authService;
         this.actionTimeoutSeconds = properties.actionTimeoutSeconds();
+        this.stateKeyframeInterval = stateKeyframeInterval;
+        this.advisorPipeline = advisorPipeline;
     }
 
     @Override
@@ -173,7 +225,11 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 session.close(new CloseStatus(4001, "Token already used"));
                 return;
             }
-            authService.markJtiUsed(jti, expiryMs);
+            if (!authService.markJtiUsed(jti, expiryMs)) {
+                // can't remember this token, so it can't be honoured single-use
+                session.close(CloseStatus.SERVICE_OVERLOAD.withReason("Too many connections, try again"));
+                return;
+            }
         } else if (isObserver) {
             // Observe tokens must be scoped to this specific game
             String tokenGameId = claims.get("gameId", String.class);
@@ -202,6 +258,10 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         log.debug("[WS-CONNECT] player={} profileId={} gameId={} state={} alreadyInGame={} observer={}", username,
                 profileId, gameId, state, alreadyInGame, isObserver);
 
+        // A reconnecting player that presents the last broadcast it saw may be
+        // resumed by replaying what it missed instead of a full snapshot
+        long resumeAfter = reconnecting && !isObserver ? extractLastSequence(uri.getQuery()) : 0;
+
         // Observers don't join the game — skip the player join/reconnect logic
         if (isObserver) {
             // Observers can watch games that are in progress or waiting for players
@@ -237,25 +297,41 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
 
         // Set session buffer size
         session.setTextMessageSizeLimit(SESSION_MAX_TEXT_BUFFER_SIZE);
-
-        // Create player connection
-        PlayerConnection playerConnection = new PlayerConnection(session, profileId, username, gameId, objectMapper,
-                isObserver);
+        session.setBinaryMessageSizeLimit(SESSION_MAX_TEXT_BUFFER_SIZE);
+
+        // Create player connection; clients may ask for binary frames
+        WireEncoding encoding = WireEncoding
+                .fromQueryValue(extractQueryParam(uri.getQuery(), WireEncoding.QUERY_PARAM));
+        PlayerConnection playerConnection = new PlayerConnection(session, profileId, username, gameId,
+                encoding.isBinary() ? cborMapper : objectMapper, isObserver);
+        // If this client falls too far behind, its queue is replaced by a fresh
+        // snapshot built when it can take it.
+        playerConnection.setResyncSource(() -> {
+            GameStateSnapshot snapshot = isObserver ? game.getObserverSnapshot() : game.getGameStateSnapshot(profileId);
+            return snapshot != null ? converter.createGameStateMessage(gameId, snapshot) : null;
+        });
+        if (stateKeyframeInterval > 0 && hasQueryFlag(uri.getQuery(), "stateDeltas")) {
+            playerConnection.enableStateDeltas(stateKeyframeInterval);
+        }
         sessionConnections.put(session.getId(), playerConnection);
 
         // Register connection (replaces any existing connection for this
-        // player/observer)
-        connectionManager.addConnection(gameId, profileId, playerConnection);
+        // player/observer). A resume registers it together with the replay below.
+        if (resumeAfter == 0) {
+            connectionManager.addConnection(gameId, profileId, playerConnection);
+        }
 
         if (isObserver) {
             // Observers: send CONNECTED (no reconnect token), then game state snapshot
-            ServerMessage connectedMsg = converter.createConnectedMessage(gameId, profileId, null, null);
+            ServerMessage connectedMsg = converter.createConnectedMessage(gameId, profileId, null, null, false,
+                    connectionManager.getLastSequence(gameId));
             playerConnection.sendMessage(connectedMsg);
 
             // Wire event bus broadcaster (same as non-observer path)
             if (game.getEventBus() != null) {
                 gameBroadcasters.computeIfAbsent(gameId, id -> {
-                    GameEventBroadcaster broadcaster = new GameEventBroadcaster(id, connectionManager, converter, game);
+                    GameEventBroadcaster broadcaster = new GameEventBroadcaster(id, connectionManager, converter, game,
+                            advisorPipeline);
                     if (game.getConfig() != null && game.getConfig().practiceConfig() != null
                             && Boolean.TRUE.equals(game.getConfig().practiceConfig().aiFaceUp())) {
                         broadcaster.setAiFaceUp(true);
@@ -309,9 +385,21 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         // Generate a reconnect token (24h, game-scoped) for this player
         String reconnectToken = authService.generateReconnectToken(profileId, username, gameId);
 
-        // Send CONNECTED message (with reconnect token)
-        ServerMessage connectedMsg = converter.createConnectedMessage(gameId, profileId, null, reconnectToken);
-        playerConnection.sendMessage(connectedMsg);
+        // Resume: register, send CONNECTED and replay missed broadcasts in one step.
+        // Falls back to CONNECTED + GAME_STATE when the gap is no longer replayable.
+        boolean resumed = resumeAfter > 0 && connectionManager.resumeConnection(gameId, profileId, playerConnection,
+                resumeAfter,
+                converter.createConnectedMessage(gameId, profileId, null, reconnectToken, true, resumeAfter));
+        if (!resumed) {
+            if (resumeAfter > 0) {
+                connectionManager.addConnection(gameId, profileId, playerConnection);
+            }
+            // Send CONNECTED message (with reconnect token)
+            ServerMessage connectedMsg = converter.createConnectedMessage(gameId, profileId, null, reconnectToken,
+                    false, connectionManager.getLastSequence(gameId));
+            playerConnection.sendMessage(connectedMsg);
+        }
+        log.debug("[WS-CONNECT] player={} resumeAfter={} resumed={}", username, resumeAfter, resumed);
 
         if (state == GameInstanceState.WAITING_FOR_PLAYERS) {
             // Lobby phase: send lobby state snapshot to the joining player...
@@ -330,7 +418,8 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             // is wired, and the client never receives GAME_STATE before ACTION_REQUIRED.
             ServerGameEventBus earlyEventBus = game.prepareStart();
             gameBroadcasters.computeIfAbsent(gameId, id -> {
-                GameEventBroadcaster broadcaster = new GameEventBroadcaster(id, connectionManager, converter, game);
+                GameEventBroadcaster broadcaster = new GameEventBroadcaster(id, connectionManager, converter, game,
+                        advisorPipeline);
                 if (game.getConfig() != null && game.getConfig().practiceConfig() != null
                         && Boolean.TRUE.equals(game.getConfig().practiceConfig().aiFaceUp())) {
                     broadcaster.setAiFaceUp(true);
@@ -363,7 +452,8 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             // already exists (game is IN_PROGRESS/PAUSED).
             if (game.getEventBus() != null) {
                 gameBroadcasters.computeIfAbsent(gameId, id -> {
-                    GameEventBroadcaster broadcaster = new GameEventBroadcaster(id, connectionManager, converter, game);
+                    GameEventBroadcaster broadcaster = new GameEventBroadcaster(id, connectionManager, converter, game,
+                            advisorPipeline);
                     if (game.getConfig() != null && game.getConfig().practiceConfig() != null
                             && Boolean.TRUE.equals(game.getConfig().practiceConfig().aiFaceUp())) {
                         broadcaster.setAiFaceUp(true);
@@ -387,7 +477,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                     reconnecting);
             connectionManager.broadcastToGame(gameId, joinedMsg, profileId);
 
-            if (snapshot != null) {
+            if (snapshot != null && !resumed) {
                 playerConnection.sendMessage(converter.createGameStateMessage(gameId, snapshot));
                 log.debug("[WS-CONNECT] sent GAME_STATE to player={}", username);
             }
@@ -405,6 +495,17 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        PlayerConnection connection = findConnection(session);
+        if (connection != null) {
+            ByteBuffer payload = message.getPayload();
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            inboundMessageRouter.handleMessage(connection, bytes);
+        }
+    }
+
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
         PlayerConnection connection = findConnection(session);
@@ -463,6 +564,12 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 if (removed != null) {
                     removed.shutdown();
                 }
+                // Keep the broadcast history while players can still come back to resume
+                GameInstance game = gameInstanceManager.getGame(connection.getGameId());
+                GameInstanceState state = game != null ? game.getState() : null;
+                if (state != GameInstanceState.IN_PROGRESS && state != GameInstanceState.PAUSED) {
+                    connectionManager.removeHistory(connection.getGameId());
+                }
             }
         }
     }
@@ -496,7 +603,8 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 summary.hostingType(), summary.ownerName(), ownerProfileId, summary.maxPlayers(), summary.isPrivate(),
                 players, blinds);
 
-        connection.sendMessage(ServerMessage.of(ServerMessageType.LOBBY_STATE, gameId, data));
+        // unchanged lobby -> reuse the last encoding
+        connectionManager.sendSnapshot(connection, ServerMessage.of(ServerMessageType.LOBBY_STATE, gameId, data));
     }
 
     /**
@@ -522,6 +630,76 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         return null;
     }
 
+    /**
+     * Extracts the last broadcast sequence number a reconnecting client saw from
+     * a URI query string.
+     *
+     * @param query
+     *            query string (e.g. "token=xxx&lastSeq=42")
+     * @return the sequence number, or 0 if absent or invalid
+     */
+    private long extractLastSequence(String query) {
+        if (query == null || query.isEmpty()) {
+            return 0;
+        }
+        for (String param : query.split("&")) {
+            if (param.startsWith("lastSeq=")) {
+                try {
+                    return Math.max(0, Long.parseLong(param.substring("lastSeq=".length())));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Extracts a raw query parameter value from a URI query string.
+     *
+     * @param query
+     *            query string (e.g. "token=xxx&encoding=cbor")
+     * @param name
+     *            parameter name
+     * @return the value, or null if absent
+     */
+    private String extractQueryParam(String query, String name) {
+        if (query == null || query.isEmpty()) {
+            return null;
+        }
+        String prefix = name + "=";
+        for (String param : query.split("&")) {
+            if (param.startsWith(prefix)) {
+                return param.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a boolean query parameter is set ({@code name=1} or
+     * {@code name=true}).
+     *
+     * @param query
+     *            query string (e.g. "token=xxx&stateDeltas=1")
+     * @param name
+     *            parameter name
+     * @return true if the parameter is present and set
+     */
+    private boolean hasQueryFlag(String query, String name) {
+        if (query == null || query.isEmpty()) {
+            return false;
+        }
+        String prefix = name + "=";
+        for (String param : query.split("&")) {
+            if (param.startsWith(prefix)) {
+                String value = param.substring(prefix.length());
+                return value.equals("1") || value.equalsIgnoreCase("true");
+            }
+        }
+        return false;
+    }
+
     /**
      * Extracts the game ID from a URI path like "/ws/games/{gameId}".
      *
@@ -95,9 +95,7 @@ public class InboundMessageRouter {
      *            raw JSON message text from the client
      */
     public void handleMessage(PlayerConnection connection, String rawJson) {
-        String gameId = connection.getGameId();
-
-        GameInstance game = gameInstanceManager.getGame(gameId);
+        GameInstance game = gameInstanceManager.getGame(connection.getGameId());
         if (game == null) {
             return;
         }
@@ -109,6 +107,37 @@ public class InboundMessageRouter {
             sendError(connection, "PARSE_ERROR", "Malformed JSON");
             return;
         }
+        handleMessage(connection, game, root);
+    }
+
+    /**
+     * Handles a binary message from the given player connection. The payload is
+     * decoded with the connection's own object mapper (e.g. CBOR) and then
+     * handled exactly like a JSON text message.
+     *
+     * @param connection
+     *            the player's connection (provides identity and game context)
+     * @param payload
+     *            raw binary message from the client
+     */
+    public void handleMessage(PlayerConnection connection, byte[] payload) {
+        GameInstance game = gameInstanceManager.getGame(connection.getGameId());
+        if (game == null) {
+            return;
+        }
+
+        JsonNode root;
+        try {
+            root = connection.getObjectMapper().readTree(payload);
+        } catch (Exception e) {
+            sendError(connection, "PARSE_ERROR", "Malformed binary message");
+            return;
+        }
+        handleMessage(connection, game, root);
+    }
+
+    private void handleMessage(PlayerConnection connection, GameInstance game, JsonNode root) {
+        String gameId = connection.getGameId();
 
         // Parse type
         JsonNode typeNode = root.get("type");
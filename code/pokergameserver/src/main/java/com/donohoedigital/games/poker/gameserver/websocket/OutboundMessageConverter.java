@@ -90,9 +90,32 @@ public class OutboundMessageConverter {
      */
     public ServerMessage createConnectedMessage(String gameId, long profileId, GameStateSnapshot snapshot,
             String reconnectToken) {
+        return createConnectedMessage(gameId, profileId, snapshot, reconnectToken, false, 0);
+    }
+
+    /**
+     * Creates a CONNECTED message carrying resume information.
+     *
+     * @param gameId
+     *            Game ID
+     * @param profileId
+     *            Player's profile ID
+     * @param snapshot
+     *            Game state snapshot (may be null)
+     * @param reconnectToken
+     *            Game-scoped reconnect JWT, or null
+     * @param resumed
+     *            true if missed broadcasts are replayed after this message
+     * @param lastSequence
+     *            broadcast sequence number the client should treat as last
+     *            received
+     * @return CONNECTED message
+     */
+    public ServerMessage createConnectedMessage(String gameId, long profileId, GameStateSnapshot snapshot,
+            String reconnectToken, boolean resumed, long lastSequence) {
         ServerMessageData.GameStateData gameStateData = snapshot != null ? convertSnapshot(snapshot) : null;
         return ServerMessage.of(ServerMessageType.CONNECTED, gameId,
-                new ServerMessageData.ConnectedData(profileId, gameStateData, reconnectToken));
+                new ServerMessageData.ConnectedData(profileId, gameStateData, reconnectToken, resumed, lastSequence));
     }
 
     /**
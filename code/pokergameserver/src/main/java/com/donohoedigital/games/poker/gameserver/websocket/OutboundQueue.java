@@ -0,0 +1,315 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.gameserver.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+
+/**
+ * Bounded outbound message queue for one WebSocket connection.
+ *
+ * Producers (usually the tournament director thread) only enqueue; a single
+ * writer task on the supplied executor drains the queue to the session, so a
+ * slow client never blocks game progress. Slow consumers are handled in three
+ * steps:
+ * <ol>
+ * <li>A queued GAME_STATE that has not been sent yet is replaced by a newer
+ * one.</li>
+ * <li>When the queue is full, everything queued is discarded and replaced by a
+ * resync marker. At send time the marker becomes a fresh GAME_STATE built from
+ * the current game, so the client catches up in one message. Until then only
+ * prompts the snapshot does not carry (action requests, offers, errors, ...)
+ * are queued.</li>
+ * <li>The connection is closed when it overflows more than
+ * {@link Policy#maxResyncs()} times, overflows again before a resync was sent,
+ * has no way to resync, or a single write takes longer than
+ * {@link Policy#sendTimeLimitMillis()}. The client reconnects and receives a
+ * full snapshot.</li>
+ * </ol>
+ */
+public class OutboundQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundQueue.class);
+
+    /** Messages kept while a resync is pending: the snapshot does not carry them. */
+    private static final Set<ServerMessageType> KEEP_DURING_RESYNC = EnumSet.of(ServerMessageType.ACTION_REQUIRED,
+            ServerMessageType.REBUY_OFFERED, ServerMessageType.ADDON_OFFERED, ServerMessageType.NEVER_BROKE_OFFERED,
+            ServerMessageType.CONTINUE_RUNOUT, ServerMessageType.GAME_COMPLETE, ServerMessageType.GAME_CANCELLED,
+            ServerMessageType.PLAYER_KICKED, ServerMessageType.CHAT_MESSAGE, ServerMessageType.ERROR);
+
+    /**
+     * Slow consumer limits.
+     *
+     * @param maxQueued
+     *            messages queued before the queue overflows
+     * @param maxResyncs
+     *            overflows tolerated (each answered with a resync) before
+     *            disconnecting
+     * @param sendTimeLimitMillis
+     *            longest a single write may take before disconnecting
+     */
+    public record Policy(int maxQueued, int maxResyncs, long sendTimeLimitMillis) {
+
+        /** 512 messages, 3 resyncs, 10 second writes. */
+        public static final Policy DEFAULT = new Policy(512, 3, 10_000);
+
+        public Policy {
+            if (maxQueued <= 0 || maxResyncs < 0 || sendTimeLimitMillis <= 0) {
+                throw new IllegalArgumentException("Invalid outbound queue policy");
+            }
+        }
+    }
+
+    /**
+     * Counters shared by all queues of a connection manager.
+     */
+    public static class Metrics {
+        final LongAdder sent = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder resyncs = new LongAdder();
+        final LongAdder disconnects = new LongAdder();
+        final LongAdder latencyNanos = new LongAdder();
+        final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+        final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    }
+
+    private record Entry(WebSocketMessage<?> message, ServerMessageType type, long enqueuedNanos) {
+    }
+
+    private static final Entry RESYNC = new Entry(null, ServerMessageType.GAME_STATE, 0);
+
+    private final WebSocketSession session;
+    private final Executor executor;
+    private final Policy policy;
+    private final Metrics metrics;
+    private final Supplier<WebSocketMessage<?>> resyncSource;
+
+    // guarded by this
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean resyncPending;
+    private boolean closed;
+    private int overflows;
+
+    /**
+     * @param session
+     *            session written to by the drain task only
+     * @param executor
+     *            runs the drain task
+     * @param policy
+     *            slow consumer limits
+     * @param metrics
+     *            shared counters
+     * @param resyncSource
+     *            builds a current GAME_STATE for this connection, or returns
+     *            null if none is available
+     */
+    public OutboundQueue(WebSocketSession session, Executor executor, Policy policy, Metrics metrics,
+            Supplier<WebSocketMessage<?>> resyncSource) {
+        this.session = session;
+        this.executor = executor;
+        this.policy = policy;
+        this.metrics = metrics;
+        this.resyncSource = resyncSource;
+    }
+
+    /**
+     * Queue a message for sending. Never blocks on the network.
+     *
+     * @param message
+     *            encoded message (may be shared with other connections)
+     * @param type
+     *            message type, or null if unknown
+     */
+    public void offer(WebSocketMessage<?> message, ServerMessageType type) {
+        boolean disconnect = false;
+        boolean startDrain = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (resyncPending && !keepDuringResync(type)) {
+                metrics.dropped.increment(); // covered by the pending snapshot
+                return;
+            }
+            if (type == ServerMessageType.GAME_STATE && removeQueuedGameState()) {
+                metrics.coalesced.increment();
+            }
+            if (queue.size() >= policy.maxQueued() && !overflow()) {
+                disconnect = true;
+            } else if (resyncPending && !keepDuringResync(type)) {
+                metrics.dropped.increment();
+            } else {
+                queue.add(new Entry(message, type, System.nanoTime()));
+                metrics.maxDepth.accumulate(queue.size());
+            }
+            if (!disconnect && !draining) {
+                draining = true;
+                startDrain = true;
+            }
+        }
+
+        if (disconnect) {
+            disconnect(CloseStatus.SESSION_NOT_RELIABLE.withReason("Client too slow"));
+        } else if (startDrain) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // executor shutting down - send on this thread
+                drain();
+            }
+        }
+    }
+
+    /**
+     * @return messages waiting to be sent
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Discard anything queued and stop sending.
+     */
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private static boolean keepDuringResync(ServerMessageType type) {
+        return type != null && KEEP_DURING_RESYNC.contains(type);
+    }
+
+    // caller holds lock
+    private boolean removeQueuedGameState() {
+        for (Iterator<Entry> it = queue.iterator(); it.hasNext();) {
+            Entry e = it.next();
+            if (e != RESYNC && e.type() == ServerMessageType.GAME_STATE) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // caller holds lock; returns false if the connection should be dropped
+    private boolean overflow() {
+        overflows++;
+        if (resyncPending || overflows > policy.maxResyncs() || resyncSource == null) {
+            closed = true;
+            queue.clear();
+            return false;
+        }
+        int before = queue.size();
+        queue.removeIf(e -> !keepDuringResync(e.type()));
+        metrics.dropped.add(before - queue.size());
+        queue.addFirst(RESYNC);
+        resyncPending = true;
+        metrics.resyncs.increment();
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            Entry entry;
+            synchronized (this) {
+                entry = closed ? null : queue.poll();
+                if (entry == null) {
+                    draining = false;
+                    return;
+                }
+                if (entry == RESYNC) {
+                    resyncPending = false;
+                }
+            }
+
+            WebSocketMessage<?> message = entry.message();
+            if (entry == RESYNC) {
+                message = resyncSource.get();
+                if (message == null) {
+                    abort(CloseStatus.SESSION_NOT_RELIABLE.withReason("Resync unavailable"));
+                    return;
+                }
+            }
+            if (!session.isOpen()) {
+                abort(null);
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                session.sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Send failed on session {}: {}", session.getId(), e.getMessage());
+                abort(null);
+                return;
+            }
+            long end = System.nanoTime();
+
+            metrics.sent.increment();
+            if (entry != RESYNC) {
+                long latency = end - entry.enqueuedNanos();
+                metrics.latencyNanos.add(latency);
+                metrics.maxLatencyNanos.accumulate(latency);
+            }
+            if (end - start > TimeUnit.MILLISECONDS.toNanos(policy.sendTimeLimitMillis())) {
+                abort(CloseStatus.SESSION_NOT_RELIABLE.withReason("Client too slow"));
+                return;
+            }
+        }
+    }
+
+    private void abort(CloseStatus status) {
+        synchronized (this) {
+            closed = true;
+            draining = false;
+            queue.clear();
+        }
+        if (status != null) {
+            disconnect(status);
+        }
+    }
+
+    private void disconnect(CloseStatus status) {
+        metrics.disconnects.increment();
+        logger.debug("Disconnecting slow client on session {}: {}", session.getId(), status.getReason());
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            // already closed
+        }
+    }
+}
@@ -18,20 +18,32 @@
 package com.donohoedigital.games.poker.gameserver.websocket;
 
 import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Represents a single player's WebSocket connection.
  *
  * Wraps a WebSocketSession with player identity and tracking for rate limiting
  * and anti-replay protection.
+ *
+ * Without an outbound queue, messages are written to the session on the
+ * calling thread. Once {@link #attachOutbound} is called they go through a
+ * bounded {@link OutboundQueue} drained by a writer task instead.
+ *
+ * Clients that opted in receive game state through {@link #sendGameState} as
+ * GAME_STATE_DELTA messages relative to the previous state sent to them.
  */
 public class PlayerConnection {
 
@@ -44,6 +56,10 @@ public class PlayerConnection {
     private final ObjectMapper objectMapper;
     private final boolean observer;
 
+    private volatile OutboundQueue outbound;
+    private volatile Supplier<ServerMessage> resyncSource;
+    private volatile GameStateDeltaTracker stateDeltas;
+
     private volatile long lastActionTimestamp = 0;
     private volatile long lastSequenceNumber = 0;
 
@@ -59,7 +75,8 @@ public class PlayerConnection {
      * @param gameId
      *            Game ID
      * @param objectMapper
-     *            JSON object mapper
+     *            object mapper of the negotiated encoding (JSON, or CBOR for
+     *            binary frames)
      */
     public PlayerConnection(WebSocketSession session, long profileId, String username, String gameId,
             ObjectMapper objectMapper) {
@@ -82,22 +99,185 @@ public class PlayerConnection {
      * @param message
      *            Server message to send
      */
-    public synchronized void sendMessage(ServerMessage message) {
+    public void sendMessage(ServerMessage message) {
+        if (!session.isOpen()) {
+            return;
+        }
+
+        if (message.type() == ServerMessageType.GAME_STATE) {
+            resetStateDeltas(); // client replaces its state; next delta is a keyframe
+        }
+        WebSocketMessage<?> encoded = encode(message);
+        if (encoded != null) {
+            sendEncoded(encoded, message.type());
+        }
+    }
+
+    /**
+     * Sends a game state update: as a GAME_STATE_DELTA if delta updates are
+     * enabled for this connection, otherwise as the full GAME_STATE.
+     *
+     * @param gameState
+     *            GAME_STATE message
+     */
+    public void sendGameState(ServerMessage gameState) {
+        GameStateDeltaTracker deltas = stateDeltas;
+        if (deltas == null) {
+            sendMessage(gameState);
+        } else if (session.isOpen()) {
+            WebSocketMessage<?> encoded = encode(deltas.next(gameState));
+            if (encoded != null) {
+                sendEncoded(encoded, ServerMessageType.GAME_STATE_DELTA);
+            }
+        }
+    }
+
+    /**
+     * Sends further {@link #sendGameState} updates as deltas, with a full keyframe
+     * every {@code keyframeInterval} updates.
+     *
+     * @param keyframeInterval
+     *            deltas between keyframes
+     */
+    public void enableStateDeltas(int keyframeInterval) {
+        stateDeltas = new GameStateDeltaTracker(objectMapper, keyframeInterval);
+    }
+
+    /**
+     * @return true if game state updates are sent as deltas
+     */
+    public boolean hasStateDeltas() {
+        return stateDeltas != null;
+    }
+
+    private void resetStateDeltas() {
+        GameStateDeltaTracker deltas = stateDeltas;
+        if (deltas != null) {
+            deltas.reset();
+        }
+    }
+
+    /**
+     * Sends an already-encoded message to the client. Used by broadcasts so a
+     * message is serialized once and the same payload is shared by every
+     * recipient.
+     *
+     * @param encoded
+     *            message produced by {@link #encode}
+     */
+    public void sendEncoded(WebSocketMessage<?> encoded) {
+        sendEncoded(encoded, null);
+    }
+
+    /**
+     * Sends an already-encoded message of a known type. The type lets the
+     * outbound queue coalesce superseded GAME_STATE snapshots.
+     *
+     * @param encoded
+     *            message produced by {@link #encode}
+     * @param type
+     *            message type, or null if unknown
+     */
+    public void sendEncoded(WebSocketMessage<?> encoded, ServerMessageType type) {
+        OutboundQueue queue = outbound;
+        if (queue != null) {
+            queue.offer(encoded, type);
+        } else {
+            sendNow(encoded);
+        }
+    }
+
+    private synchronized void sendNow(WebSocketMessage<?> encoded) {
         if (!session.isOpen()) {
             return;
         }
 
         try {
-            String json = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(json));
-        } catch (JsonProcessingException e) {
-            logger.error("Failed to serialize message: {}", message, e);
+            session.sendMessage(encoded);
         } catch (IOException e) {
             // Session closed mid-send — not an error, just discard
             return;
         }
     }
 
+    /**
+     * Serializes a message with this connection's object mapper: a text frame
+     * for JSON, a binary frame for a binary format such as CBOR.
+     *
+     * @param message
+     *            Server message to encode
+     * @return encoded message, or null if serialization failed (logged)
+     */
+    public WebSocketMessage<?> encode(ServerMessage message) {
+        try {
+            if (objectMapper.getFactory().canHandleBinaryNatively()) {
+                return new BinaryMessage(objectMapper.writeValueAsBytes(message));
+            }
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize message: {}", message, e);
+            return null;
+        }
+    }
+
+    /**
+     * Routes all further sends through a bounded queue drained on the given
+     * executor.
+     *
+     * @param executor
+     *            runs the writer task
+     * @param policy
+     *            slow consumer limits
+     * @param metrics
+     *            counters shared with other connections
+     */
+    public void attachOutbound(Executor executor, OutboundQueue.Policy policy, OutboundQueue.Metrics metrics) {
+        outbound = new OutboundQueue(session, executor, policy, metrics, () -> {
+            Supplier<ServerMessage> source = resyncSource;
+            ServerMessage snapshot = source != null ? source.get() : null;
+            if (snapshot == null) {
+                return null;
+            }
+            resetStateDeltas();
+            return encode(snapshot);
+        });
+    }
+
+    /**
+     * Sets how to build a current GAME_STATE for this connection when a slow
+     * client has to be resynchronized. Without one, a slow client is
+     * disconnected instead.
+     *
+     * @param resyncSource
+     *            supplies a fresh snapshot message, or null if unavailable
+     */
+    public void setResyncSource(Supplier<ServerMessage> resyncSource) {
+        this.resyncSource = resyncSource;
+    }
+
+    /**
+     * @return true if sends go through an outbound queue
+     */
+    public boolean hasOutboundQueue() {
+        return outbound != null;
+    }
+
+    /**
+     * @return messages waiting in the outbound queue (0 when sending directly)
+     */
+    public int getQueueDepth() {
+        OutboundQueue queue = outbound;
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * Object mapper used by {@link #encode}; connections sharing a mapper can
+     * share encodings.
+     */
+    ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
     /**
      * Checks if the WebSocket session is open.
      *
@@ -111,6 +291,10 @@ public class PlayerConnection {
      * Closes the WebSocket session.
      */
     public void close() {
+        OutboundQueue queue = outbound;
+        if (queue != null) {
+            queue.close();
+        }
         try {
             session.close();
         } catch (IOException e) {
@@ -19,6 +19,8 @@
  */
 package com.donohoedigital.games.poker.gameserver.websocket;
 
+import com.donohoedigital.games.poker.gameserver.AdvisorPipeline;
+import com.donohoedigital.games.poker.gameserver.AdvisorService;
 import com.donohoedigital.games.poker.gameserver.GameInstanceManager;
 import com.donohoedigital.games.poker.gameserver.GameServerAutoConfiguration;
 import com.donohoedigital.games.poker.gameserver.GameServerProperties;
@@ -28,12 +30,15 @@ import com.donohoedigital.games.poker.gameserver.service.BanService;
 import com.donohoedigital.games.poker.gameserver.service.GameService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 
+import java.util.concurrent.Executors;
+
 /**
  * Auto-configuration for WebSocket support. Creates all WebSocket-layer beans
  * after GameServerAutoConfiguration.
@@ -48,9 +53,18 @@ import org.springframework.web.socket.config.annotation.EnableWebSocket;
 @EnableWebSocket
 public class WebSocketAutoConfiguration {
 
+    /**
+     * Connection manager with a bounded outbound queue per connection, drained on
+     * virtual threads so a slow client never blocks the game thread.
+     */
     @Bean
-    public GameConnectionManager gameConnectionManager() {
-        return new GameConnectionManager();
+    public GameConnectionManager gameConnectionManager(
+            @Value("${game.server.ws.outbound-queue-size:512}") int outboundQueueSize,
+            @Value("${game.server.ws.max-resyncs:3}") int maxResyncs,
+            @Value("${game.server.ws.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+            @Value("${game.server.ws.replay-history-size:256}") int replayHistorySize) {
+        return new GameConnectionManager(Executors.newVirtualThreadPerTaskExecutor(),
+                new OutboundQueue.Policy(outboundQueueSize, maxResyncs, sendTimeLimitMillis), replayHistorySize);
     }
 
     @Bean
@@ -87,9 +101,21 @@ public class WebSocketAutoConfiguration {
             GameInstanceManager gameInstanceManager, GameConnectionManager gameConnectionManager,
             InboundMessageRouter inboundMessageRouter, OutboundMessageConverter outboundMessageConverter,
             ObjectMapper objectMapper, GameService gameService, AuthService authService,
-            GameServerProperties properties) {
+            GameServerProperties properties,
+            @Value("${game.server.ws.state-keyframe-interval:20}") int stateKeyframeInterval,
+            AdvisorPipeline advisorPipeline) {
         return new GameWebSocketHandler(jwtTokenProvider, gameInstanceManager, gameConnectionManager,
-                inboundMessageRouter, outboundMessageConverter, objectMapper, gameService, authService, properties);
+                inboundMessageRouter, outboundMessageConverter, objectMapper, gameService, authService, properties,
+                stateKeyframeInterval, advisorPipeline);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public AdvisorPipeline advisorPipeline(@Value("${game.server.advisor.threads:0}") int threads,
+            @Value("${game.server.advisor.queue-capacity:256}") int queueCapacity,
+            @Value("${game.server.advisor.cache-size:4096}") int cacheSize) {
+        int workers = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new AdvisorPipeline(new AdvisorService(), workers, queueCapacity, cacheSize,
+                AdvisorPipeline.DEFAULT_ITERATIONS);
     }
 
     @Bean
@@ -0,0 +1,176 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This file is part of DD Poker, originally created by Doug Donohoe.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.donohoedigital.games.poker.engine.Card;
+
+/**
+ * Tests for AdvisorPipeline caching, job sharing and cancellation.
+ */
+class AdvisorPipelineTest {
+
+    private static final Card[] HOLE = {Card.SPADES_A, Card.HEARTS_A};
+    private static final Card[] OTHER_HOLE = {Card.SPADES_K, Card.HEARTS_K};
+    private static final Card[] NO_BOARD = {};
+
+    private AdvisorPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    /**
+     * Counts analyses and optionally blocks each one until released.
+     */
+    private static class CountingAdvisor extends AdvisorService {
+        final AtomicInteger analyses = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        CountingAdvisor(boolean block) {
+            release = new CountDownLatch(block ? 1 : 0);
+        }
+
+        @Override
+        public Analysis analyze(Card[] holeCards, Card[] communityCards, int numOpponents, int iterations,
+                Random random) {
+            analyses.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.analyze(holeCards, communityCards, numOpponents, iterations, random);
+        }
+    }
+
+    @Test
+    void sameSpot_computedOnce_andServedFromCache() throws Exception {
+        CountingAdvisor advisor = new CountingAdvisor(false);
+        pipeline = new AdvisorPipeline(advisor, 2, 16, 64, 200);
+
+        CountDownLatch delivered = new CountDownLatch(1);
+        pipeline.submit(HOLE, NO_BOARD, 1, 100, 50, r -> delivered.countDown());
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+
+        // cached: delivered synchronously with this request's pot odds
+        List<AdvisorResult> results = new CopyOnWriteArrayList<>();
+        AdvisorPipeline.Request request = pipeline.submit(HOLE, NO_BOARD, 1, 300, 100, results::add);
+
+        assertTrue(request.isDone());
+        assertEquals(1, results.size());
+        assertEquals(25.0, results.get(0).potOdds(), 0.001);
+        assertEquals(1, advisor.analyses.get());
+        assertEquals(1, pipeline.getCacheStats().hits());
+    }
+
+    @Test
+    void concurrentRequests_forPendingSpot_shareOneJob() throws Exception {
+        CountingAdvisor advisor = new CountingAdvisor(true);
+        pipeline = new AdvisorPipeline(advisor, 2, 16, 64, 200);
+
+        List<AdvisorResult> results = new CopyOnWriteArrayList<>();
+        pipeline.submit(HOLE, NO_BOARD, 2, 100, 0, results::add);
+        assertTrue(advisor.started.await(5, TimeUnit.SECONDS));
+        pipeline.submit(HOLE, NO_BOARD, 2, 100, 50, results::add);
+        advisor.release.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (results.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, results.size());
+        assertEquals(1, advisor.analyses.get());
+    }
+
+    @Test
+    void cancelledRequest_queuedJobIsSkipped() throws Exception {
+        CountingAdvisor advisor = new CountingAdvisor(true);
+        pipeline = new AdvisorPipeline(advisor, 1, 16, 64, 200);
+
+        CountDownLatch firstDone = new CountDownLatch(1);
+        pipeline.submit(HOLE, NO_BOARD, 1, 100, 0, r -> firstDone.countDown());
+        assertTrue(advisor.started.await(5, TimeUnit.SECONDS));
+
+        // queued behind the blocked job, then the street "advances"
+        List<AdvisorResult> stale = new CopyOnWriteArrayList<>();
+        AdvisorPipeline.Request request = pipeline.submit(OTHER_HOLE, NO_BOARD, 1, 100, 0, stale::add);
+        request.cancel();
+        advisor.release.countDown();
+
+        assertTrue(firstDone.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pipeline.getQueuedJobs() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertTrue(stale.isEmpty());
+        assertEquals(1, advisor.analyses.get());
+        assertTrue(request.isDone());
+    }
+
+    @Test
+    void fullQueue_dropsNewWork() throws Exception {
+        CountingAdvisor advisor = new CountingAdvisor(true);
+        pipeline = new AdvisorPipeline(advisor, 1, 1, 64, 200);
+
+        pipeline.submit(HOLE, NO_BOARD, 1, 100, 0, r -> {
+        });
+        assertTrue(advisor.started.await(5, TimeUnit.SECONDS));
+        pipeline.submit(HOLE, NO_BOARD, 2, 100, 0, r -> {
+        });
+        AdvisorPipeline.Request dropped = pipeline.submit(HOLE, NO_BOARD, 3, 100, 0, r -> {
+        });
+
+        assertTrue(dropped.isDone());
+        advisor.release.countDown();
+    }
+}
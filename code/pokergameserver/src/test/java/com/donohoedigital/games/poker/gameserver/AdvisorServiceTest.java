@@ -383,6 +383,19 @@ class AdvisorServiceTest {
                 "Equity should be between 0 and 100, got: " + result.equity());
     }
 
+    @Test
+    void equity_preFlopIsExactWhateverTheSampling() {
+        Card[] hole = {Card.SPADES_A, Card.HEARTS_A};
+        Card[] community = {};
+
+        AdvisorResult few = service.compute(hole, community, 100, 50, 1, 10, new Random(1));
+        AdvisorResult many = service.compute(hole, community, 100, 50, 1, 5000, new Random(2));
+
+        // AA is 85.2% against one random hand
+        assertEquals(85.2, few.equity(), 0.2);
+        assertEquals(few.equity(), many.equity());
+    }
+
     @Test
     void equity_moreOpponentsReducesEquity() {
         Card[] hole = {Card.SPADES_A, Card.HEARTS_K};
@@ -222,4 +222,99 @@ class InMemoryGameEventStoreTest {
         eventStore.clear();
         assertEquals(0L, eventStore.getCurrentSequenceNumber());
     }
+
+    @Test
+    void testAppendAcrossChunkBoundaries() {
+        for (int i = 1; i <= 5000; i++) {
+            eventStore.append(new GameEvent.HandStarted(0, i));
+        }
+
+        List<StoredEvent> events = eventStore.getEvents();
+        assertEquals(5000, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1, events.get(i).sequenceNumber());
+            assertEquals(new GameEvent.HandStarted(0, i + 1), events.get(i).event());
+        }
+
+        List<StoredEvent> tail = eventStore.getEventsSince(1023L);
+        assertEquals(3977, tail.size());
+        assertEquals(1024L, tail.get(0).sequenceNumber());
+        assertEquals(5000L, tail.get(tail.size() - 1).sequenceNumber());
+        assertTrue(eventStore.getEventsSince(5000L).isEmpty());
+    }
+
+    @Test
+    void testReturnedListIsSnapshot() {
+        eventStore.append(new GameEvent.HandStarted(0, 1));
+        List<StoredEvent> before = eventStore.getEvents();
+
+        eventStore.append(new GameEvent.HandStarted(0, 2));
+
+        assertEquals(1, before.size());
+        assertEquals(2, eventStore.getEvents().size());
+    }
+
+    @Test
+    void testRetentionDropsOldestEvents() {
+        InMemoryGameEventStore capped = new InMemoryGameEventStore(TEST_GAME_ID, 2000);
+        for (int i = 1; i <= 10_000; i++) {
+            capped.append(new GameEvent.HandStarted(0, i));
+        }
+
+        assertEquals(10_000L, capped.getCurrentSequenceNumber());
+        List<StoredEvent> retained = capped.getEvents();
+        assertTrue(retained.size() >= 2000 && retained.size() < 2000 + 1024, "retained " + retained.size());
+        assertEquals(capped.getFirstRetainedSequenceNumber(), retained.get(0).sequenceNumber());
+        assertEquals(10_000L, retained.get(retained.size() - 1).sequenceNumber());
+
+        // asking for evicted events starts at the oldest retained one
+        assertEquals(retained.size(), capped.getEventsSince(0L).size());
+        assertEquals(100, capped.getEventsSince(9900L).size());
+    }
+
+    @Test
+    void testRetentionKeepsHandInProgress() {
+        InMemoryGameEventStore capped = new InMemoryGameEventStore(TEST_GAME_ID, 100);
+        capped.append(new GameEvent.HandStarted(1, 1)); // long hand at table 1
+        for (int i = 1; i <= 2500; i++) {
+            capped.append(new GameEvent.HandStarted(0, i));
+            capped.append(new GameEvent.HandCompleted(0));
+        }
+
+        // table 1's hand started at sequence 1, so nothing is released yet
+        assertEquals(1L, capped.getFirstRetainedSequenceNumber());
+
+        capped.append(new GameEvent.HandCompleted(1));
+        for (int i = 0; i < 2048; i++) {
+            capped.append(new GameEvent.HandStarted(0, 2501));
+        }
+        assertTrue(capped.getFirstRetainedSequenceNumber() > 1L);
+        assertTrue(capped.getEvents().size() < 100 + 2 * 1024, "retained " + capped.getEvents().size());
+    }
+
+    @Test
+    void testNegativeRetentionThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryGameEventStore(TEST_GAME_ID, -1));
+    }
+
+    @Test
+    void testConcurrentReadersSeeContiguousPrefix() throws Exception {
+        int total = 20_000;
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= total; i++) {
+                eventStore.append(new GameEvent.HandStarted(0, i));
+            }
+        });
+        writer.start();
+
+        long seen = 0;
+        while (seen < total) {
+            List<StoredEvent> batch = eventStore.getEventsSince(seen);
+            for (StoredEvent e : batch) {
+                assertEquals(++seen, e.sequenceNumber());
+            }
+        }
+        writer.join();
+        assertEquals(total, eventStore.getCurrentSequenceNumber());
+    }
 }
@@ -227,6 +227,26 @@ class GameInstanceManagerTest {
                 "Expected IN_PROGRESS or COMPLETED but was " + state);
     }
 
+    @Test
+    void testStartGamePooledDirectorThreads() {
+        GameInstanceManager pooledManager = new GameInstanceManager(properties, null, null,
+                GameInstanceManager.DirectorThreads.POOLED);
+        try {
+            GameInstance game = pooledManager.createGame(100L, config);
+            game.transitionToWaitingForPlayers();
+            game.addPlayer(1, "AI-1", true, 50);
+            game.addPlayer(2, "AI-2", true, 50);
+
+            pooledManager.startGame(game.getGameId(), 100L);
+
+            GameInstanceState state = game.getState();
+            assertTrue(state == GameInstanceState.IN_PROGRESS || state == GameInstanceState.COMPLETED,
+                    "Expected IN_PROGRESS or COMPLETED but was " + state);
+        } finally {
+            pooledManager.shutdown();
+        }
+    }
+
     @Test
     void testStartGameRequiresOwner() {
         GameInstance game = manager.createGame(100L, config);
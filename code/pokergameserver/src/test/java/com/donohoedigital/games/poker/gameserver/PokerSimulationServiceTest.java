@@ -41,6 +41,7 @@ import java.util.Map;
 
 import com.donohoedigital.games.poker.protocol.dto.SimulationResult;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +58,11 @@ class PokerSimulationServiceTest {
         service = new PokerSimulationService();
     }
 
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
     // -------------------------------------------------------------------------
     // Monte Carlo simulate() tests
     // -------------------------------------------------------------------------
@@ -126,6 +132,26 @@ class PokerSimulationServiceTest {
         assertTrue(result.loss() > 0);
     }
 
+    @Test
+    void preFlopVsRandomOpponents_exactForEveryHandInClass() {
+        SimulationResult first = service.simulate(List.of("Ah", "Kd"), List.of(), 3, 1000, null, null);
+        SimulationResult second = service.simulate(List.of("Kc", "As"), List.of(), 3, 1000, null, null);
+
+        // a sampled answer would differ between two runs
+        assertEquals(first.win(), second.win());
+        assertEquals(first.tie(), second.tie());
+        assertEquals(first.playerHandTypeBreakdown(), second.playerHandTypeBreakdown());
+        assertEquals(1000, first.iterations());
+        assertPercentagesSumTo100(first);
+        assertNull(first.opponentResults());
+
+        SimulationResult sampled = service.simulate(List.of("Ah", "Kd"), List.of(), 3, 20000,
+                List.of(List.of("2c", "3d")), null);
+        assertTrue(first.win() > 35 && first.win() < 40, "AKo should win about 38% vs 3 random hands, got "
+                + first.win());
+        assertTrue(sampled.win() > first.win(), "A known weak hand should be easier to beat than a random one");
+    }
+
     @Test
     void fiveCommunityCards_fullBoard() {
         SimulationResult result = service.simulate(List.of("Ah", "Kh"), List.of("Qh", "Jh", "Th", "2c", "3d"), 1, 1000,
@@ -289,11 +315,49 @@ class PokerSimulationServiceTest {
     }
 
     @Test
-    void exhaustive_flopWithRandomOpponent_rejectsOverLimit() {
-        // Flop (3 community cards) + 1 random opponent produces too many combinations.
+    void exhaustive_preFlopWithRandomOpponent_rejectsOverLimit() {
+        // Pre-flop + 1 random opponent: C(50,5) * C(45,2) combinations, far over the
+        // limit.
         assertThrows(IllegalArgumentException.class,
-                () -> service.simulate(List.of("Ah", "As"), List.of("Qh", "Jd", "9c"), 1, null, null, true),
-                "Exhaustive on flop with random opponent should throw due to combo limit");
+                () -> service.simulate(List.of("Ah", "As"), List.of(), 1, null, null, true),
+                "Exhaustive pre-flop with random opponent should throw due to combo limit");
+    }
+
+    @Test
+    void exhaustive_flopWithRandomOpponent_enumeratesAllCombos() {
+        // Flop + 1 random opponent: C(47,2) boards * C(45,2) opponent hands
+        SimulationResult result = service.simulate(List.of("Ah", "As"), List.of("Qh", "Jd", "9c"), 1, null, null,
+                true);
+
+        assertEquals(1081 * 990, result.iterations());
+        assertPercentagesSumTo100(result);
+        assertTrue(result.win() > 70, "AA on a Q-J-9 flop should win > 70% vs random, got " + result.win());
+    }
+
+    @Test
+    void exhaustive_preFlopHeadsUpKnownOpponent_fullRiverEnumeration() {
+        // AA vs KK pre-flop: every C(48,5) board, known equity ~82.4% / tie ~0.5%
+        SimulationResult result = service.simulate(List.of("Ah", "As"), List.of(), 1, null,
+                List.of(List.of("Kh", "Ks")), true);
+
+        assertEquals(1_712_304, result.iterations());
+        assertEquals(82.36, result.win(), 0.01);
+        assertEquals(0.54, result.tie(), 0.01);
+    }
+
+    @Test
+    void parallelism_singleThreadMatchesDefault() {
+        PokerSimulationService serial = new PokerSimulationService(1);
+        try {
+            assertEquals(1, serial.getParallelism());
+            SimulationResult a = serial.simulate(List.of("2s", "3c"), List.of("Ts", "Jc", "Qd"), 1, null,
+                    List.of(List.of("4s", "5c")), true);
+            SimulationResult b = service.simulate(List.of("2s", "3c"), List.of("Ts", "Jc", "Qd"), 1, null,
+                    List.of(List.of("4s", "5c")), true);
+            assertEquals(a, b);
+        } finally {
+            serial.shutdown();
+        }
     }
 
     @Test
@@ -365,6 +429,85 @@ class PokerSimulationServiceTest {
         assertEquals(44 * 903L, PokerSimulationService.countExhaustiveCombos(44, 1, 1));
     }
 
+    // -------------------------------------------------------------------------
+    // simulateRange() tests
+    // -------------------------------------------------------------------------
+
+    @Test
+    void range_exactHandsExhaustive_matchesHandVsHand() {
+        SimulationResult range = service.simulateRange(List.of("Ah", "As"), null, List.of(), 1, null,
+                List.of(List.of("Kh", "Ks")), null, true);
+
+        assertEquals(1_712_304, range.iterations());
+        assertEquals(82.36, range.win(), 0.01);
+        assertEquals(0.54, range.tie(), 0.01);
+        assertNotNull(range.opponentResults());
+    }
+
+    @Test
+    void range_aaVsKkOnFlop_exhaustiveUsesCardRemoval() {
+        // 36 AA/KK combos, minus the boards each combo conflicts with
+        SimulationResult result = service.simulateRange(null, "AA", List.of("2c", "7d", "9h"), 1, null, null,
+                List.of("KK"), true);
+
+        assertEquals(35_640, result.iterations());
+        assertEquals(91.62, result.win(), 0.01);
+        assertEquals(1, result.opponentResults().size());
+        assertEquals(result.win(), result.opponentResults().get(0).loss(), 0.0001);
+    }
+
+    @Test
+    void range_monteCarloAgreesWithExhaustive() {
+        List<String> flop = List.of("Qh", "Jd", "9c");
+        SimulationResult exhaustive = service.simulateRange(null, "AA:0.2,KK", flop, 1, null, null,
+                List.of("AK,QQ"), true);
+        SimulationResult monteCarlo = service.simulateRange(null, "AA:0.2,KK", flop, 1, 100000, null,
+                List.of("AK,QQ"), false);
+
+        assertEquals(57.90, exhaustive.win(), 0.01);
+        assertEquals(exhaustive.win(), monteCarlo.win(), 1.0);
+        assertEquals(100000, monteCarlo.iterations());
+        assertPercentagesSumTo100(monteCarlo);
+    }
+
+    @Test
+    void range_randomOpponentsFillRemainingSeats() {
+        SimulationResult result = service.simulateRange(List.of("Ah", "As"), null, List.of(), 3, 10000, null,
+                List.of("KK"), false);
+
+        assertEquals(3, result.opponentResults().size());
+        assertTrue(result.win() > 50, "AA vs KK and two random hands should win > 50%, got " + result.win());
+        for (SimulationResult.OpponentResult opp : result.opponentResults()) {
+            assertPercentagesSumTo100(opp);
+        }
+    }
+
+    @Test
+    void range_requiresExactlyOneHeroSpec() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.simulateRange(null, null, List.of(), 1, 1000, null, List.of("KK"), false));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.simulateRange(List.of("Ah", "As"), "KK", List.of(), 1, 1000, null, null, false));
+    }
+
+    @Test
+    void range_rejectsBadSyntaxAndEmptyRanges() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.simulateRange(null, "AX", List.of(), 1, 1000, null, null, false));
+        // every AhAs combo is blocked by the board
+        assertThrows(IllegalArgumentException.class,
+                () -> service.simulateRange(null, "AhAs", List.of("Ah", "7d", "2c"), 1, 1000, null, null, false));
+        // the only opponent combo always collides with the hero
+        assertThrows(IllegalArgumentException.class, () -> service.simulateRange(List.of("Ah", "As"), null,
+                List.of(), 1, 1000, null, List.of("AhKd"), false));
+    }
+
+    @Test
+    void range_tooManyOpponentSpecs_throws() {
+        assertThrows(IllegalArgumentException.class, () -> service.simulateRange(List.of("Ah", "As"), null,
+                List.of(), 1, 1000, List.of(List.of("Kh", "Ks")), List.of("QQ"), false));
+    }
+
     private void assertPercentagesSumTo100(SimulationResult result) {
         double sum = result.win() + result.tie() + result.loss();
         assertEquals(100.0, sum, 0.1, "Win + Tie + Loss should sum to ~100, got " + sum);
@@ -275,6 +275,27 @@ class ServerGameTableTest {
         assertEquals(0, table.getButton(), "Button wraps around");
     }
 
+    @Test
+    void testDeckSeedReplaysSameDeals() {
+        ServerGameTable other = new ServerGameTable(TABLE_NUMBER, NUM_SEATS, null, 0, 0, 0);
+        for (ServerGameTable t : List.of(table, other)) {
+            t.addPlayer(createPlayer(1, "Alice"), 0);
+            t.addPlayer(createPlayer(2, "Bob"), 5);
+            t.setButton(0);
+            t.setDeckSeed(99L);
+        }
+
+        for (int hand = 0; hand < 3; hand++) {
+            table.startNewHand();
+            other.startNewHand();
+            ServerHand expected = (ServerHand) table.getHoldemHand();
+            ServerHand actual = (ServerHand) other.getHoldemHand();
+            assertEquals(2, expected.getPlayerCards(1).size());
+            assertEquals(expected.getPlayerCards(1), actual.getPlayerCards(1));
+            assertEquals(expected.getPlayerCards(2), actual.getPlayerCards(2));
+        }
+    }
+
     @Test
     void testSetHoldemHand() {
         assertNull(table.getHoldemHand());
@@ -134,6 +134,94 @@ class ServerTournamentDirectorTest {
         assertThat(activeTables).isLessThanOrEqualTo(1);
     }
 
+    /**
+     * Parallel mode: each table advances on its own thread, and consolidation
+     * still leaves a single winner holding every chip.
+     */
+    @Test
+    void multiTableParallelTournamentCompletes() throws Exception {
+        List<ServerPlayer> players = createPlayers(18, 500);
+        ServerTournamentContext tournament = createTournament(players, 3);
+
+        InMemoryGameEventStore eventStore = new InMemoryGameEventStore("test-game-parallel");
+        ServerGameEventBus eventBus = new ServerGameEventBus(eventStore);
+        ServerPlayerActionProvider actionProvider = new ServerPlayerActionProvider(createSimpleAI(321), request -> {
+        }, 0, 2, new java.util.concurrent.ConcurrentHashMap<>());
+
+        List<String> lifecycleEvents = new CopyOnWriteArrayList<>();
+        ServerTournamentDirector director = new ServerTournamentDirector(new TournamentEngine(eventBus, actionProvider),
+                tournament, eventBus, actionProvider,
+                new GameServerProperties(50, 30, 120, 10, 1000, 3, 2, 5, 5, 24, 7, "ws://localhost", 0),
+                event -> lifecycleEvents.add(event.toString()));
+        director.setParallelTables(true);
+        // Zip mode is shared by all tables, so parallel mode must leave it alone
+        actionProvider.setZipMode(true);
+
+        Thread thread = new Thread(director);
+        thread.start();
+        thread.join(120000);
+
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(lifecycleEvents).contains("COMPLETED").doesNotContain("ERROR");
+        assertThat(actionProvider.isZipMode()).isTrue();
+        assertThat(tournament.isGameOver()).isTrue();
+        assertThat(players.stream().mapToInt(ServerPlayer::getChipCount).sum()).isEqualTo(9000);
+        assertThat(players.stream().filter(p -> p.getChipCount() > 0).count()).isEqualTo(1);
+    }
+
+    /**
+     * Tables are balanced and broken as players bust: moves arrive in batches,
+     * busted players leave their seats, and finish positions span the whole field.
+     */
+    @Test
+    void multiTableTournamentBalancesAndBreaksTables() throws Exception {
+        List<ServerPlayer> players = createPlayers(60, 500);
+        ServerTournamentContext tournament = createTournament(players, 10);
+
+        InMemoryGameEventStore eventStore = new InMemoryGameEventStore("test-game-balance");
+        ServerGameEventBus eventBus = new ServerGameEventBus(eventStore);
+        ServerPlayerActionProvider actionProvider = new ServerPlayerActionProvider(createSimpleAI(77), request -> {
+        }, 0, 2, new java.util.concurrent.ConcurrentHashMap<>());
+
+        List<GameEvent.PlayersMoved> moveBatches = new CopyOnWriteArrayList<>();
+        eventBus.subscribe(event -> {
+            if (event instanceof GameEvent.PlayersMoved e)
+                moveBatches.add(e);
+        });
+
+        List<String> lifecycleEvents = new CopyOnWriteArrayList<>();
+        ServerTournamentDirector director = new ServerTournamentDirector(new TournamentEngine(eventBus, actionProvider),
+                tournament, eventBus, actionProvider,
+                new GameServerProperties(50, 30, 120, 10, 1000, 3, 2, 5, 5, 24, 7, "ws://localhost", 0),
+                event -> lifecycleEvents.add(event.toString()));
+
+        Thread thread = new Thread(director);
+        thread.start();
+        thread.join(120000);
+
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(lifecycleEvents).contains("COMPLETED").doesNotContain("ERROR");
+        assertThat(players.stream().mapToInt(ServerPlayer::getChipCount).sum()).isEqualTo(30000);
+        ServerPlayer winner = players.stream().filter(p -> p.getChipCount() > 0).findFirst().orElseThrow();
+
+        // Every move names a real destination seat at another table
+        assertThat(moveBatches).isNotEmpty();
+        for (GameEvent.PlayersMoved batch : moveBatches) {
+            assertThat(batch.moves()).isNotEmpty().allSatisfy(m -> {
+                assertThat(m.toTableId()).isNotEqualTo(m.fromTableId());
+                assertThat(m.toSeat()).isBetween(0, 9);
+            });
+        }
+
+        // Every loser was unseated with a finish position behind the winner
+        for (ServerPlayer player : players) {
+            if (player != winner) {
+                assertThat(player.getFinishPosition()).isBetween(2, 60);
+                assertThat(player.getSeat()).isEqualTo(-1);
+            }
+        }
+    }
+
     /**
      * Test pause and resume functionality.
      */
@@ -216,6 +304,62 @@ class ServerTournamentDirectorTest {
         assertThat(thread.isAlive()).isFalse();
     }
 
+    /**
+     * A paused director parked on a virtual thread exits promptly on shutdown
+     * rather than polling.
+     */
+    @Test
+    void shutdownWhilePausedOnVirtualThread() throws Exception {
+        List<ServerPlayer> players = createPlayers(4, 500);
+        ServerTournamentContext tournament = createTournament(players, 1);
+
+        InMemoryGameEventStore eventStore = new InMemoryGameEventStore("test-virtual");
+        ServerGameEventBus eventBus = new ServerGameEventBus(eventStore);
+        ServerPlayerActionProvider actionProvider = new ServerPlayerActionProvider(createSimpleAI(42), request -> {
+        }, 0, 2, new java.util.concurrent.ConcurrentHashMap<>());
+
+        CountDownLatch completed = new CountDownLatch(1);
+        ServerTournamentDirector director = new ServerTournamentDirector(new TournamentEngine(eventBus, actionProvider),
+                tournament, eventBus, actionProvider,
+                new GameServerProperties(50, 30, 120, 10, 1000, 3, 2, 5, 5, 24, 7, "ws://localhost", 0), event -> {
+                    if (event == GameLifecycleEvent.COMPLETED) {
+                        completed.countDown();
+                    }
+                });
+
+        director.pause();
+        Thread thread = Thread.ofVirtual().start(director);
+        Thread.sleep(50);
+        assertThat(thread.isAlive()).isTrue();
+
+        director.shutdown();
+
+        assertThat(completed.await(500, TimeUnit.MILLISECONDS)).isTrue();
+        thread.join(5000);
+        assertThat(thread.isAlive()).isFalse();
+    }
+
+    /**
+     * A wake() that arrives before the loop parks is not lost.
+     */
+    @Test
+    void wakeBeforeWaitIsRemembered() {
+        InMemoryGameEventStore eventStore = new InMemoryGameEventStore("test-wake");
+        ServerGameEventBus eventBus = new ServerGameEventBus(eventStore);
+        ServerPlayerActionProvider actionProvider = new ServerPlayerActionProvider(createSimpleAI(42), request -> {
+        }, 0, 2, new java.util.concurrent.ConcurrentHashMap<>());
+        ServerTournamentDirector director = new ServerTournamentDirector(new TournamentEngine(eventBus, actionProvider),
+                createTournament(createPlayers(2, 500), 1), eventBus, actionProvider,
+                new GameServerProperties(50, 30, 120, 10, 1000, 3, 2, 5, 5, 24, 7, "ws://localhost", 0), event -> {
+                });
+
+        director.wake();
+        long start = System.nanoTime();
+        director.awaitWake(10_000);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
     /**
      * Test that chips are conserved throughout the tournament.
      */
@@ -0,0 +1,208 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Source Code
+ * Copyright (c) 2003-2026  Doug Donohoe, DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file in the root directory
+ * of this project.
+ *
+ * The "DD Poker" and "Donohoe Digital" names and logos, as well as any images,
+ * graphics, text, and documentation found in this repository (including but not
+ * limited to written documentation, website content, and marketing materials)
+ * are licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives
+ * 4.0 International License (CC BY-NC-ND 4.0). You may not use these assets
+ * without explicit written permission for any uses not covered by this License.
+ * For the full License text, please see the LICENSE-CREATIVE-COMMONS.txt file
+ * in the root directory of this project.
+ *
+ * For inquiries regarding commercial licensing of this source code or
+ * the use of names, logos, images, text, or other assets, please contact
+ * doug [at] donohoe [dot] info.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TableBalancer - balancing, table breaking, move selection and
+ * finish positions.
+ */
+class TableBalancerTest {
+
+    private int nextPlayerId = 1;
+
+    /** Tables numbered from 1, each seated from seat 0 with the given counts. */
+    private List<ServerGameTable> createTables(int... counts) {
+        List<ServerGameTable> tables = new ArrayList<>();
+        for (int t = 0; t < counts.length; t++) {
+            ServerGameTable table = new ServerGameTable(t + 1, 10, null, 0, 0, 0);
+            for (int seat = 0; seat < counts[t]; seat++) {
+                int id = nextPlayerId++;
+                table.addPlayer(new ServerPlayer(id, "P" + id, false, 0, 1000), seat);
+            }
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    private static int[] occupied(List<ServerGameTable> tables) {
+        int[] counts = new int[tables.size()];
+        for (int i = 0; i < tables.size(); i++) {
+            counts[i] = tables.get(i).getNumOccupiedSeats();
+        }
+        return counts;
+    }
+
+    @Test
+    void testBalancedTablesNeedNoMoves() {
+        List<ServerGameTable> tables = createTables(9, 8, 9);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        assertTrue(balancer.balance(i -> true).isEmpty());
+        for (int i = 0; i < tables.size(); i++) {
+            assertFalse(balancer.isWaitingForMoves(i));
+        }
+    }
+
+    @Test
+    void testBalanceKeepsTablesWithinOne() {
+        List<ServerGameTable> tables = createTables(10, 10, 4);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        List<TableBalancer.Move> moves = balancer.balance(i -> true);
+
+        assertEquals(4, moves.size());
+        assertArrayEquals(new int[]{8, 8, 8}, occupied(tables));
+        for (TableBalancer.Move move : moves) {
+            assertSame(tables.get(2), move.to());
+            assertSame(move.player(), move.to().getPlayer(move.toSeat()));
+            assertNull(move.from().getPlayer(move.fromSeat()));
+        }
+    }
+
+    @Test
+    void testBreaksSmallestTableWhenPlayersFit() {
+        List<ServerGameTable> tables = createTables(7, 6, 6);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        List<TableBalancer.Move> moves = balancer.balance(i -> true);
+
+        // 19 players fit at two tables; of the two smallest, the higher-numbered breaks
+        assertEquals(6, moves.size());
+        assertTrue(balancer.isClosed(2));
+        assertArrayEquals(new int[]{10, 9, 0}, occupied(tables));
+        assertEquals(19, balancer.getNumPlayers());
+    }
+
+    @Test
+    void testDoesNotMovePlayersOutOfHandInProgress() {
+        List<ServerGameTable> tables = createTables(10, 10, 4);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        // Table 1 is mid-hand; only table 2 may give up players
+        List<TableBalancer.Move> moves = balancer.balance(i -> i != 0);
+
+        assertEquals(3, moves.size());
+        assertArrayEquals(new int[]{10, 7, 7}, occupied(tables));
+        assertTrue(balancer.isWaitingForMoves(0));
+        assertFalse(balancer.isWaitingForMoves(1));
+
+        assertEquals(2, balancer.balance(i -> true).size());
+        assertArrayEquals(new int[]{8, 8, 8}, occupied(tables));
+    }
+
+    @Test
+    void testWaitsForTableToBreakToReachHandBoundary() {
+        List<ServerGameTable> tables = createTables(5, 4);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        assertTrue(balancer.isWaitingForMoves(1));
+        assertFalse(balancer.isWaitingForMoves(0));
+        assertTrue(balancer.balance(i -> i == 0).isEmpty());
+
+        assertEquals(4, balancer.balance(i -> i == 1).size());
+        assertTrue(balancer.isClosed(1));
+        assertArrayEquals(new int[]{9, 0}, occupied(tables));
+        assertFalse(balancer.isWaitingForMoves(0));
+    }
+
+    @Test
+    void testOnlySeatsPlayersAtTablesThatCanReceive() {
+        List<ServerGameTable> tables = createTables(10, 10, 4);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        // Table 2 is busy; nobody can be moved onto it yet
+        assertTrue(balancer.balance(i -> i != 2, i -> i != 2).isEmpty());
+        assertArrayEquals(new int[]{10, 10, 4}, occupied(tables));
+        assertTrue(balancer.isWaitingForMoves(0));
+
+        assertEquals(4, balancer.balance(i -> true, i -> true).size());
+        assertArrayEquals(new int[]{8, 8, 8}, occupied(tables));
+    }
+
+    @Test
+    void testDoesNotBreakTableWithoutRoomAtTablesThatCanReceive() {
+        List<ServerGameTable> tables = createTables(7, 6, 6);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        // Only table 0 can take players, and its 3 empty seats can't hold table 2
+        assertTrue(balancer.balance(i -> true, i -> i == 0).isEmpty());
+        assertFalse(balancer.isClosed(2));
+        assertArrayEquals(new int[]{7, 6, 6}, occupied(tables));
+
+        assertEquals(6, balancer.balance(i -> true, i -> true).size());
+        assertTrue(balancer.isClosed(2));
+    }
+
+    @Test
+    void testMovesPlayerDueBigBlind() {
+        List<ServerGameTable> tables = createTables(7, 4);
+        tables.get(0).setButton(1);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        List<TableBalancer.Move> moves = balancer.balance(i -> true);
+
+        // Next hand: button 2, small blind 3, big blind 4
+        assertEquals(1, moves.size());
+        assertEquals(4, moves.get(0).fromSeat());
+        assertEquals(4, moves.get(0).toSeat());
+    }
+
+    @Test
+    void testShortTableWaitsForPlayers() {
+        List<ServerGameTable> tables = createTables(10, 10, 10);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        int finish = balancer.removePlayers(2, List.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+        assertEquals(22, finish);
+        assertEquals(1, tables.get(2).getNumOccupiedSeats());
+        assertTrue(balancer.isWaitingForMoves(2));
+    }
+
+    @Test
+    void testRemovePlayersSharesFinishPosition() {
+        List<ServerGameTable> tables = createTables(3, 3);
+        TableBalancer balancer = new TableBalancer(tables);
+
+        assertEquals(6, balancer.removePlayers(0, List.of(2)));
+        assertEquals(4, balancer.removePlayers(1, List.of(0, 1)));
+        assertNull(tables.get(1).getPlayer(0));
+        assertEquals(3, balancer.getNumPlayers());
+    }
+}
@@ -21,6 +21,9 @@ package com.donohoedigital.games.poker.gameserver.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.AfterEach;
@@ -31,6 +34,9 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 import jakarta.servlet.http.Cookie;
 
 /**
@@ -63,12 +69,13 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.clearContext();
     }
 
+    private static Claims claims(String username, Long profileId, boolean emailVerified) {
+        return Jwts.claims().subject(username).add("profileId", profileId).add("emailVerified", emailVerified).build();
+    }
+
     @Test
     void should_setAuthentication_when_validBearerTokenPresent() throws Exception {
-        when(tokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-        when(tokenProvider.getProfileIdFromToken(VALID_TOKEN)).thenReturn(PROFILE_ID);
-        when(tokenProvider.getEmailVerifiedFromToken(VALID_TOKEN)).thenReturn(false);
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(claims(USERNAME, PROFILE_ID, false));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
@@ -84,12 +91,22 @@ class JwtAuthenticationFilterTest {
         assertThat(auth.getProfileId()).isEqualTo(PROFILE_ID);
     }
 
+    @Test
+    void should_parseTokenOnce_perRequest() throws Exception {
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(claims(USERNAME, PROFILE_ID, true));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(tokenProvider, times(1)).parseClaims(VALID_TOKEN);
+        verify(tokenProvider, never()).validateToken(VALID_TOKEN);
+        verify(tokenProvider, never()).getClaims(VALID_TOKEN);
+    }
+
     @Test
     void should_setAuthentication_when_validCookiePresent() throws Exception {
-        when(tokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-        when(tokenProvider.getProfileIdFromToken(VALID_TOKEN)).thenReturn(PROFILE_ID);
-        when(tokenProvider.getEmailVerifiedFromToken(VALID_TOKEN)).thenReturn(false);
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(claims(USERNAME, PROFILE_ID, false));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new Cookie(COOKIE_NAME, VALID_TOKEN));
@@ -114,7 +131,7 @@ class JwtAuthenticationFilterTest {
 
     @Test
     void should_notSetAuthentication_when_tokenInvalid() throws Exception {
-        when(tokenProvider.validateToken(VALID_TOKEN)).thenReturn(false);
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(null);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
@@ -140,9 +157,7 @@ class JwtAuthenticationFilterTest {
 
     @Test
     void should_skipNonJwtCookies_and_findCorrectOne() throws Exception {
-        when(tokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-        when(tokenProvider.getProfileIdFromToken(VALID_TOKEN)).thenReturn(PROFILE_ID);
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(claims(USERNAME, PROFILE_ID, false));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new Cookie("session", "other-value"), new Cookie(COOKIE_NAME, VALID_TOKEN),
@@ -158,9 +173,7 @@ class JwtAuthenticationFilterTest {
     @Test
     void should_preferBearerHeader_over_cookie() throws Exception {
         String headerToken = "header.token";
-        when(tokenProvider.validateToken(headerToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(headerToken)).thenReturn("headeruser");
-        when(tokenProvider.getProfileIdFromToken(headerToken)).thenReturn(1L);
+        when(tokenProvider.parseClaims(headerToken)).thenReturn(claims("headeruser", 1L, false));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer " + headerToken);
@@ -213,10 +226,7 @@ class JwtAuthenticationFilterTest {
 
     @Test
     void should_setEmailVerifiedTrue_when_tokenContainsEmailVerifiedTrue() throws Exception {
-        when(tokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-        when(tokenProvider.getProfileIdFromToken(VALID_TOKEN)).thenReturn(PROFILE_ID);
-        when(tokenProvider.getEmailVerifiedFromToken(VALID_TOKEN)).thenReturn(true);
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(claims(USERNAME, PROFILE_ID, true));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
@@ -232,10 +242,7 @@ class JwtAuthenticationFilterTest {
 
     @Test
     void should_setEmailVerifiedFalse_when_tokenContainsEmailVerifiedFalse() throws Exception {
-        when(tokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-        when(tokenProvider.getProfileIdFromToken(VALID_TOKEN)).thenReturn(PROFILE_ID);
-        when(tokenProvider.getEmailVerifiedFromToken(VALID_TOKEN)).thenReturn(false);
+        when(tokenProvider.parseClaims(VALID_TOKEN)).thenReturn(claims(USERNAME, PROFILE_ID, false));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
@@ -73,6 +73,12 @@ class JwtPropertiesTest {
         assertThat(props.getCookieName()).isEqualTo("DDPoker-JWT");
     }
 
+    @Test
+    void should_haveDefaultClaimsCacheSize() {
+        JwtProperties props = new JwtProperties();
+        assertThat(props.getClaimsCacheSize()).isEqualTo(10000);
+    }
+
     @Test
     void should_setPrivateKeyPath() {
         JwtProperties props = new JwtProperties();
@@ -197,4 +197,80 @@ class JwtTokenProviderTest {
 
         assertThat(provider.getEmailVerifiedFromToken(token)).isFalse();
     }
+
+    @Test
+    void testParseClaims_validToken_returnsClaims() {
+        String token = provider.generateToken("dana", 5L, false, true);
+
+        var claims = provider.parseClaims(token);
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo("dana");
+        assertThat(claims.get("profileId", Long.class)).isEqualTo(5L);
+        assertThat(claims.get("emailVerified", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void testParseClaims_invalidToken_returnsNull() {
+        assertThat(provider.parseClaims("invalid.token.here")).isNull();
+        assertThat(provider.parseClaims(null)).isNull();
+    }
+
+    @Test
+    void testClaimsCache_repeatTokenReusesVerifiedClaims() {
+        String token = provider.generateToken("testuser", 123L, false);
+
+        var first = provider.getClaims(token);
+        var second = provider.getClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(provider.getClaimsCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testClaimsCache_doesNotCacheInvalidTokens() {
+        String token = provider.generateToken("testuser", 123L, false);
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        assertThat(provider.validateToken(tampered)).isFalse();
+        assertThat(provider.getClaimsCacheSize()).isZero();
+    }
+
+    @Test
+    void testClaimsCache_cachedTokenInvalidAfterExpiry() throws Exception {
+        String token = provider.generateScopedToken("alice", 42L, "ws-connect", null, 1_000L);
+
+        assertThat(provider.validateToken(token)).isTrue();
+        long exp = provider.getClaims(token).getExpiration().getTime();
+
+        // Wait past the (second-granular) exp claim
+        Thread.sleep(Math.max(0, exp - System.currentTimeMillis()) + 50);
+
+        assertThat(provider.validateToken(token)).isFalse();
+        assertThat(provider.getClaimsCacheSize()).isZero();
+    }
+
+    @Test
+    void testClaimsCache_isBounded() throws Exception {
+        Path privateKeyPath = tempDir.resolve("jwt-private.pem");
+        Path publicKeyPath = tempDir.resolve("jwt-public.pem");
+        JwtTokenProvider smallCache = new JwtTokenProvider(privateKeyPath, publicKeyPath, 86400000L, 2592000000L, 2);
+
+        for (int i = 0; i < 5; i++) {
+            String token = smallCache.generateToken("user" + i, (long) i, false);
+            assertThat(smallCache.validateToken(token)).isTrue();
+            assertThat(smallCache.getClaimsCacheSize()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void testClaimsCache_zeroSizeDisablesCache() throws Exception {
+        Path privateKeyPath = tempDir.resolve("jwt-private.pem");
+        Path publicKeyPath = tempDir.resolve("jwt-public.pem");
+        JwtTokenProvider noCache = new JwtTokenProvider(privateKeyPath, publicKeyPath, 86400000L, 2592000000L, 0);
+
+        String token = noCache.generateToken("testuser", 123L, false);
+        assertThat(noCache.validateToken(token)).isTrue();
+        assertThat(noCache.getUsernameFromToken(token)).isEqualTo("testuser");
+        assertThat(noCache.getClaimsCacheSize()).isZero();
+    }
 }
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -92,6 +93,18 @@ class SimulationControllerTest {
                 .andExpect(status().isOk()).andExpect(jsonPath("$.win").value(60.0));
     }
 
+    @Test
+    void simulate_rangeRequest_routedToRangeSimulation() throws Exception {
+        SimulationResult result = new SimulationResult(81.0, 0.5, 18.5, 1000, null, Map.of());
+
+        when(simulationService.simulateRange(isNull(), eq("AA,KK"), isNull(), eq(1), eq(1000), isNull(),
+                eq(List.of("AKs,T9s+")), isNull())).thenReturn(result);
+
+        mockMvc.perform(post("/api/v1/poker/simulate").contentType(MediaType.APPLICATION_JSON).content(
+                "{\"heroRange\":\"AA,KK\",\"opponentRanges\":[\"AKs,T9s+\"],\"numOpponents\":1,\"iterations\":1000}"))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.win").value(81.0));
+    }
+
     @Test
     void simulate_serviceThrowsIllegalArgument_returns400() throws Exception {
         when(simulationService.simulate(anyList(), isNull(), eq(1), eq(1000), isNull(), isNull()))
@@ -179,4 +179,43 @@ class DatabaseGameEventStoreTest {
         DatabaseGameEventStore store = new DatabaseGameEventStore("game-id-test", repository);
         assertThat(store.getGameId()).isEqualTo("game-id-test");
     }
+
+    @Test
+    void testBinaryFormatRoundTrip() {
+        DatabaseGameEventStore store = new DatabaseGameEventStore("game-bin", repository, true);
+
+        store.append(new GameEvent.PlayerActed(0, 1, ActionType.RAISE, 300));
+        store.append(new GameEvent.PotAwarded(0, 0, new int[]{1, 2}, 600));
+
+        assertThat(repository.findByGameIdOrderBySequenceNumberAsc("game-bin"))
+                .allSatisfy(row -> assertThat(row.getEventBinary()).isNotNull());
+        List<StoredEvent> events = store.getEvents();
+        assertThat(events.get(0).event()).isEqualTo(new GameEvent.PlayerActed(0, 1, ActionType.RAISE, 300));
+        assertThat(((GameEvent.PotAwarded) events.get(1).event()).winnerIds()).containsExactly(1, 2);
+    }
+
+    @Test
+    void testMixedJsonAndBinaryRowsReadBack() {
+        new DatabaseGameEventStore("game-mixed", repository).append(new GameEvent.HandStarted(0, 1));
+        DatabaseGameEventStore binary = new DatabaseGameEventStore("game-mixed", repository, true);
+        binary.append(new GameEvent.HandCompleted(0));
+
+        assertThat(binary.getEvents()).extracting(StoredEvent::event)
+                .containsExactly(new GameEvent.HandStarted(0, 1), new GameEvent.HandCompleted(0));
+    }
+
+    @Test
+    void testMigrateToBinary() {
+        DatabaseGameEventStore json = new DatabaseGameEventStore("game-migrate", repository);
+        json.append(new GameEvent.HandStarted(0, 1));
+        json.append(new GameEvent.PlayerActed(0, 1, ActionType.CALL, 100));
+
+        DatabaseGameEventStore binary = new DatabaseGameEventStore("game-migrate", repository, true);
+        assertThat(binary.migrateToBinary()).isEqualTo(2);
+        assertThat(binary.migrateToBinary()).isZero();
+
+        assertThat(repository.findByGameIdAndEventBinaryIsNullOrderBySequenceNumberAsc("game-migrate")).isEmpty();
+        assertThat(json.getEvents()).extracting(StoredEvent::event).containsExactly(new GameEvent.HandStarted(0, 1),
+                new GameEvent.PlayerActed(0, 1, ActionType.CALL, 100));
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.donohoedigital.games.poker.engine.event.GameEvent;
+import com.donohoedigital.games.poker.engine.event.GameEvent.*;
+import com.donohoedigital.games.poker.engine.state.ActionType;
+import com.donohoedigital.games.poker.engine.state.BettingRound;
+import com.donohoedigital.games.poker.engine.state.TableState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link GameEventCodec}.
+ */
+class GameEventCodecTest {
+
+    /** One instance of every event type, with negative and large values mixed in. */
+    private static List<GameEvent> samples() {
+        return List.of(new HandStarted(0, 1), new PlayerActed(2, 7, ActionType.RAISE, 1_500_000),
+                new PlayerActed(2, 7, ActionType.NONE, 0), new CommunityCardsDealt(1, BettingRound.RIVER),
+                new CommunityCardsDealt(1, BettingRound.NONE), new HandCompleted(3),
+                new TableStateChanged(0, TableState.BETTING, TableState.PRE_SHOWDOWN), new PlayerAdded(0, 5, 9),
+                new PlayerRemoved(0, 5, 9), new LevelChanged(0, 12), new ButtonMoved(0, 4), new ShowdownStarted(0),
+                new PotAwarded(0, 1, new int[]{3, 8}, 4400), new PotAwarded(0, 0, null, 0),
+                new TournamentCompleted(-1), new BreakStarted(0), new BreakEnded(0), new ColorUpCompleted(0),
+                new CurrentPlayerChanged(0, Integer.MAX_VALUE), new PlayerRebuy(0, 2, 1000), new PlayerAddon(0, 2, 500),
+                new ObserverAdded(0, 99), new ObserverRemoved(0, 99), new CleaningDone(0),
+                new PlayerEliminated(0, 6, 17), new ActionTimeout(4, ActionType.FOLD), new ActionTimeout(4, null),
+                new RebuyOffered(0, 3, 100, 1000, 30), new NeverBrokeOffered(0, 3, 15),
+                new AddonOffered(0, 3, 100, 2000, 30), new ChipsTransferred(0, 1, 2, Integer.MIN_VALUE),
+                new ColorUpStarted(0, List.of(new ColorUpPlayerData(1, List.of("Ah", "Kd"), true, false, 25),
+                        new ColorUpPlayerData(2, null, false, true, 0)), 25),
+                new ColorUpStarted(1, null, 5), new AllInRunoutPaused(0),
+                new PlayersMoved(List.of(new PlayerMove(4, 3, 7, 1, 0), new PlayerMove(9, 3, 2, 2, 9))),
+                new PlayersMoved(null));
+    }
+
+    @Test
+    void testRoundTripEveryEventType() {
+        for (GameEvent event : samples()) {
+            GameEvent decoded = GameEventCodec.decode(GameEventCodec.encode(event));
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+            assertThat(decoded).isInstanceOf(event.getClass());
+        }
+    }
+
+    @Test
+    void testCoversAllPermittedSubclasses() {
+        Set<Class<?>> covered = new HashSet<>();
+        for (GameEvent event : samples()) {
+            covered.add(event.getClass());
+        }
+        assertThat(covered).containsExactlyInAnyOrder(GameEvent.class.getPermittedSubclasses());
+    }
+
+    @Test
+    void testEncodingIsSmallerThanJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        for (GameEvent event : samples()) {
+            assertThat(GameEventCodec.encode(event).length).as(event.getClass().getSimpleName())
+                    .isLessThan(mapper.writeValueAsBytes(event).length);
+        }
+        assertThat(GameEventCodec.encode(new HandStarted(0, 1))).hasSize(4);
+    }
+
+    @Test
+    void testRejectsUnknownVersion() {
+        byte[] data = GameEventCodec.encode(new HandStarted(0, 1));
+        data[0] = (byte) (GameEventCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> GameEventCodec.decode(data)).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void testRejectsUnknownTagAndTruncatedData() {
+        assertThatThrownBy(() -> GameEventCodec.decode(new byte[]{GameEventCodec.VERSION, (byte) 200}))
+                .isInstanceOf(IllegalStateException.class);
+
+        byte[] data = GameEventCodec.encode(new PlayerActed(0, 1, ActionType.CALL, 100));
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+        assertThatThrownBy(() -> GameEventCodec.decode(truncated)).isInstanceOf(IllegalStateException.class);
+    }
+}
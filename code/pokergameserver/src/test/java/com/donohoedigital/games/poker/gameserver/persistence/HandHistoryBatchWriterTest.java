@@ -0,0 +1,304 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandActionEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandHistoryEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandPlayerEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandActionRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandClassStatsRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandHistoryRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandPlayerRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandRoundStatsRepository;
+
+/**
+ * Tests for {@link HandHistoryBatchWriter}. The writer thread inserts in its
+ * own connection, so these tests run outside the test transaction and use a
+ * fresh game ID each.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestJpaConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HandHistoryBatchWriterTest {
+
+    @Autowired
+    private HandHistoryRepository handRepository;
+
+    @Autowired
+    private HandPlayerRepository playerRepository;
+
+    @Autowired
+    private HandActionRepository actionRepository;
+
+    @Autowired
+    private HandClassStatsRepository classStatsRepository;
+
+    @Autowired
+    private HandRoundStatsRepository roundStatsRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static String newGameId() {
+        return "hh-" + UUID.randomUUID();
+    }
+
+    @Test
+    void testFlushWritesHandsWithPlayersAndActions() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter writer = new HandHistoryBatchWriter(dataSource, 64, 4, 60_000);
+        try {
+            for (int i = 1; i <= 10; i++) {
+                submitHand(writer, gameId, i);
+            }
+            writer.flush();
+
+            assertThat(writer.getPendingHands()).isZero();
+            assertThat(writer.getWrittenHands()).isEqualTo(10L);
+            List<HandHistoryEntity> hands = handRepository.findByGameId(gameId);
+            assertThat(hands).hasSize(10);
+            for (HandHistoryEntity hand : hands) {
+                assertThat(playerRepository.findByHandId(hand.getId())).extracting(HandPlayerEntity::getSeatNumber)
+                        .containsExactlyInAnyOrder(0, 1, 2);
+                assertThat(actionRepository.findByHandIdOrderBySequenceAsc(hand.getId()))
+                        .extracting(HandActionEntity::getActionType)
+                        .containsExactly("CALL", "RAISE", "FOLD", "CALL");
+                assertThat(hand.getCommunityCards()).isEqualTo("[\"Ah\",\"Kd\",\"2c\"]");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void testHandIdsContinueFromExistingRows() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter first = new HandHistoryBatchWriter(dataSource, 64, 16, 60_000);
+        HandHistoryEntity existing = submitHand(first, gameId, 1);
+        first.close();
+
+        HandHistoryBatchWriter second = new HandHistoryBatchWriter(dataSource, 64, 16, 60_000);
+        try {
+            HandHistoryEntity next = submitHand(second, gameId, 2);
+            second.flush();
+
+            assertThat(next.getId()).isGreaterThan(existing.getId());
+            assertThat(handRepository.countByGameId(gameId)).isEqualTo(2L);
+        } finally {
+            second.close();
+        }
+    }
+
+    @Test
+    void testBackpressureWhenBufferFull() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter writer = new HandHistoryBatchWriter(dataSource, 2, 2, 60_000);
+        try {
+            for (int i = 1; i <= 50; i++) {
+                submitHand(writer, gameId, i);
+            }
+            writer.flush();
+
+            assertThat(handRepository.countByGameId(gameId)).isEqualTo(50L);
+            assertThat(writer.getDroppedHands()).isZero();
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void testCloseDrainsAndLaterHandsAreWrittenInline() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter writer = new HandHistoryBatchWriter(dataSource, 64, 16, 60_000);
+        submitHand(writer, gameId, 1);
+        submitHand(writer, gameId, 2);
+        writer.close();
+
+        assertThat(handRepository.countByGameId(gameId)).isEqualTo(2L);
+
+        submitHand(writer, gameId, 3);
+        assertThat(handRepository.countByGameId(gameId)).isEqualTo(3L);
+        assertThat(writer.getPendingHands()).isZero();
+    }
+
+    @Test
+    void testFlushReportsDroppedHands() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter writer = new HandHistoryBatchWriter(dataSource, 64, 16, 60_000);
+        try {
+            // game_type is 20 characters wide, so every attempt at this batch fails
+            HandHistoryEntity hand = new HandHistoryEntity();
+            hand.setGameId(gameId);
+            hand.setTableId(1);
+            hand.setHandNumber(1);
+            hand.setGameType("NOLIMIT-BUT-FAR-TOO-LONG");
+            writer.submit(hand, List.of(), List.of());
+
+            assertThatThrownBy(writer::flush).isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("1 hands");
+            assertThat(writer.getDroppedHands()).isEqualTo(1L);
+            assertThat(handRepository.countByGameId(gameId)).isZero();
+
+            // reported once; later hands flush normally
+            submitHand(writer, gameId, 2);
+            writer.flush();
+            assertThat(handRepository.countByGameId(gameId)).isEqualTo(1L);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void testRunningStatsAddUpAcrossBatches() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter writer = new HandHistoryBatchWriter(dataSource, 64, 4, 60_000);
+        try {
+            // 10 hands in batches of 4: the first batch inserts the rows, later ones update them
+            for (int i = 1; i <= 10; i++) {
+                submitHandWithStats(writer, gameId, i, i % 2 == 0 ? "99" : "AKo");
+            }
+            writer.flush();
+
+            assertThat(classStatsRepository.findByGameId(gameId))
+                    .extracting(HandClassStatsEntity::getHandClass, HandClassStatsEntity::getHands,
+                            HandClassStatsEntity::getWins, HandClassStatsEntity::getTotalChips)
+                    .containsExactlyInAnyOrder(tuple("99", 5, 5, 5500L), tuple("AKo", 5, 5, 5500L));
+            assertThat(roundStatsRepository.findByGameIdAndRound(gameId, 0))
+                    .extracting(HandRoundStatsEntity::getHandClass, HandRoundStatsEntity::getHands,
+                            HandRoundStatsEntity::getRaised)
+                    .containsExactlyInAnyOrder(tuple("99", 5, 5), tuple("AKo", 5, 5));
+            assertThat(roundStatsRepository.findByGameIdAndRound(gameId, 1)).isEmpty();
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void testInsertSqlHasOnePlaceholderGroupPerRow() {
+        assertThat(HandHistoryBatchWriter.insertSql("t", "a, b", 2, 3))
+                .isEqualTo("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?)");
+    }
+
+    @Test
+    void testLargeBatchIsSplitAcrossStatements() {
+        String gameId = newGameId();
+        HandHistoryBatchWriter writer = new HandHistoryBatchWriter(dataSource, 512, 256, 60_000);
+        try {
+            // 256 hands x 4 actions = 1024 action rows, more than one INSERT holds
+            for (int i = 1; i <= 256; i++) {
+                submitHand(writer, gameId, i);
+            }
+            writer.flush();
+
+            List<Long> ids = handRepository.findByGameId(gameId).stream().map(HandHistoryEntity::getId).toList();
+            assertThat(ids).hasSize(256);
+            assertThat(actionRepository.findByHandIdIn(ids)).hasSize(1024);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void submitHandWithStats(HandHistoryBatchWriter writer, String gameId, int handNumber,
+            String handClass) {
+        HandHistoryEntity hand = new HandHistoryEntity();
+        hand.setGameId(gameId);
+        hand.setTableId(1);
+        hand.setHandNumber(handNumber);
+        hand.setStartDate(Instant.now());
+        hand.setEndDate(Instant.now());
+
+        HandClassStatsEntity classStats = new HandClassStatsEntity();
+        classStats.setGameId(gameId);
+        classStats.setHandClass(handClass);
+        classStats.setHands(1);
+        classStats.setWins(1);
+        classStats.setTotalChips(1100);
+
+        HandRoundStatsEntity preflop = new HandRoundStatsEntity();
+        preflop.setGameId(gameId);
+        preflop.setHandClass(handClass);
+        preflop.setRound(0);
+        preflop.setHands(1);
+        preflop.setRaised(1);
+
+        writer.submit(hand, List.of(), List.of(), classStats, List.of(preflop));
+    }
+
+    private static HandHistoryEntity submitHand(HandHistoryBatchWriter writer, String gameId, int handNumber) {
+        HandHistoryEntity hand = new HandHistoryEntity();
+        hand.setGameId(gameId);
+        hand.setTableId(1);
+        hand.setHandNumber(handNumber);
+        hand.setGameStyle("HOLDEM");
+        hand.setGameType("NOLIMIT");
+        hand.setStartDate(Instant.now());
+        hand.setEndDate(Instant.now());
+        hand.setSmallBlind(50);
+        hand.setBigBlind(100);
+        hand.setCommunityCards("[\"Ah\",\"Kd\",\"2c\"]");
+        hand.setCommunityCardsDealt(3);
+
+        List<HandPlayerEntity> players = new ArrayList<>();
+        for (int seat = 0; seat < 3; seat++) {
+            HandPlayerEntity player = new HandPlayerEntity();
+            player.setPlayerId(100 + seat);
+            player.setPlayerName("Player " + seat);
+            player.setSeatNumber(seat);
+            player.setStartChips(1000);
+            player.setEndChips(1000 + (seat - 1) * 100);
+            player.setHoleCards("[\"9s\",\"9d\"]");
+            players.add(player);
+        }
+
+        List<HandActionEntity> actions = new ArrayList<>();
+        String[] types = {"CALL", "RAISE", "FOLD", "CALL"};
+        for (int i = 0; i < types.length; i++) {
+            HandActionEntity action = new HandActionEntity();
+            action.setPlayerId(100 + i % 3);
+            action.setSequence(i);
+            action.setActionType(types[i]);
+            action.setAmount(100);
+            actions.add(action);
+        }
+
+        writer.submit(hand, players, actions);
+        return hand;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.donohoedigital.games.poker.engine.event.GameEvent;
+import com.donohoedigital.games.poker.engine.state.ActionType;
+import com.donohoedigital.games.poker.gameserver.StoredEvent;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.GameEventRepository;
+
+/**
+ * Tests for {@link WriteBehindGameEventStore}. The writer threads insert in
+ * its own connection, so these tests run outside the test transaction and use
+ * a fresh game ID each.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestJpaConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindGameEventStoreTest {
+
+    @Autowired
+    private GameEventRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ScheduledExecutorService writer = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void stopWriter() {
+        writer.shutdownNow();
+    }
+
+    private WriteBehindGameEventStore newStore(String gameId, int capacity, int batchSize, long latencyMillis) {
+        return new WriteBehindGameEventStore(gameId, repository, new JdbcTemplate(dataSource), writer, capacity,
+                batchSize, latencyMillis);
+    }
+
+    private static String newGameId() {
+        return "wb-" + UUID.randomUUID();
+    }
+
+    @Test
+    void testReadsSeeBufferedEvents() {
+        WriteBehindGameEventStore store = newStore(newGameId(), 64, 16, 60_000);
+        try {
+            store.append(new GameEvent.HandStarted(0, 1));
+            store.append(new GameEvent.PlayerActed(0, 1, ActionType.CALL, 100));
+            store.append(new GameEvent.HandCompleted(0));
+
+            assertThat(store.getCurrentSequenceNumber()).isEqualTo(3L);
+
+            List<StoredEvent> events = store.getEvents();
+            assertThat(events).extracting(StoredEvent::sequenceNumber).containsExactly(1L, 2L, 3L);
+            assertThat(events).extracting(StoredEvent::eventType).containsExactly("HandStarted", "PlayerActed",
+                    "HandCompleted");
+            assertThat(store.getEventsSince(1L)).hasSize(2);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void testFlushWritesEverything() {
+        String gameId = newGameId();
+        WriteBehindGameEventStore store = newStore(gameId, 64, 8, 60_000);
+        try {
+            for (int i = 1; i <= 50; i++) {
+                store.append(new GameEvent.HandStarted(0, i));
+            }
+            store.flush();
+
+            assertThat(repository.countByGameId(gameId)).isEqualTo(50L);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void testBackpressureWhenBufferFull() {
+        String gameId = newGameId();
+        WriteBehindGameEventStore store = newStore(gameId, 4, 2, 60_000);
+        try {
+            for (int i = 1; i <= 100; i++) {
+                store.append(new GameEvent.HandStarted(0, i));
+            }
+            store.flush();
+
+            assertThat(repository.countByGameId(gameId)).isEqualTo(100L);
+            assertThat(store.getDroppedEvents()).isZero();
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void testCloseFlushesAndLaterAppendsAreWrittenInline() {
+        String gameId = newGameId();
+        WriteBehindGameEventStore store = newStore(gameId, 64, 16, 60_000);
+        store.append(new GameEvent.HandStarted(0, 1));
+        store.close();
+
+        assertThat(repository.countByGameId(gameId)).isEqualTo(1L);
+
+        store.append(new GameEvent.HandCompleted(0));
+        assertThat(repository.countByGameId(gameId)).isEqualTo(2L);
+        assertThat(store.getEvents()).extracting(StoredEvent::sequenceNumber).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testSequenceContinuesFromExistingRows() {
+        String gameId = newGameId();
+        WriteBehindGameEventStore first = newStore(gameId, 64, 16, 60_000);
+        first.append(new GameEvent.HandStarted(0, 1));
+        first.append(new GameEvent.HandStarted(0, 2));
+        first.close();
+
+        WriteBehindGameEventStore second = newStore(gameId, 64, 16, 60_000);
+        try {
+            assertThat(second.getCurrentSequenceNumber()).isEqualTo(2L);
+            second.append(new GameEvent.HandStarted(0, 3));
+            assertThat(second.getEvents()).extracting(StoredEvent::sequenceNumber).containsExactly(1L, 2L, 3L);
+        } finally {
+            second.close();
+        }
+    }
+
+    @Test
+    void testFailedBatchIsRetriedUntilWritten() {
+        String gameId = newGameId();
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        doThrow(new DataAccessResourceFailureException("down")).doThrow(new DataAccessResourceFailureException("down"))
+                .doCallRealMethod().when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        WriteBehindGameEventStore store = new WriteBehindGameEventStore(gameId, repository, jdbcTemplate, writer,
+                64, 16, 60_000);
+        try {
+            store.append(new GameEvent.HandStarted(0, 1));
+            store.append(new GameEvent.HandStarted(0, 2));
+            store.flush();
+
+            assertThat(repository.countByGameId(gameId)).isEqualTo(2L);
+            assertThat(store.getDroppedEvents()).isZero();
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void testBatchFailingAfterInsertIsRolledBackBeforeRetry() {
+        String gameId = newGameId();
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        doAnswer(inv -> {
+            inv.callRealMethod();
+            throw new DataAccessResourceFailureException("connection lost");
+        }).doCallRealMethod().when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        WriteBehindGameEventStore store = new WriteBehindGameEventStore(gameId, repository, jdbcTemplate, writer,
+                64, 16, 60_000);
+        try {
+            store.append(new GameEvent.HandStarted(0, 1));
+            store.append(new GameEvent.HandStarted(0, 2));
+            store.flush();
+
+            assertThat(repository.countByGameId(gameId)).isEqualTo(2L);
+            assertThat(store.getDroppedEvents()).isZero();
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void testFlushAndCloseFailWhenBatchCannotBeWritten() {
+        String gameId = newGameId();
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        doThrow(new DataAccessResourceFailureException("down")).when(jdbcTemplate).batchUpdate(anyString(),
+                anyList());
+        WriteBehindGameEventStore store = new WriteBehindGameEventStore(gameId, repository, jdbcTemplate, writer,
+                64, 16, 60_000);
+        store.append(new GameEvent.HandStarted(0, 1));
+
+        assertThatThrownBy(store::flush).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(repository.countByGameId(gameId)).isZero();
+        assertThatThrownBy(store::close).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testBinaryFormat() {
+        String gameId = newGameId();
+        WriteBehindGameEventStore store = new WriteBehindGameEventStore(gameId, repository,
+                new JdbcTemplate(dataSource), writer, 64, 16, 60_000, true);
+        try {
+            store.append(new GameEvent.PlayerActed(0, 1, ActionType.BET, 250));
+
+            assertThat(store.getEvents()).extracting(StoredEvent::event)
+                    .containsExactly(new GameEvent.PlayerActed(0, 1, ActionType.BET, 250));
+            assertThat(repository.findByGameIdAndEventBinaryIsNullOrderBySequenceNumberAsc(gameId)).isEmpty();
+        } finally {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.persistence.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.donohoedigital.games.poker.gameserver.persistence.TestJpaConfiguration;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
+
+/**
+ * Tests for the running stats updates of {@link HandClassStatsRepository} and
+ * {@link HandRoundStatsRepository}, on plain H2 like the embedded server.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestJpaConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HandClassStatsRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HandClassStatsRepository classStatsRepository;
+
+    @Autowired
+    private HandRoundStatsRepository roundStatsRepository;
+
+    @Test
+    void testAddStatsCreatesRowThenAddsToIt() {
+        classStatsRepository.addStats(classStats("game-1", "AKs", 1, 1400));
+        classStatsRepository.addStats(classStats("game-1", "AKs", 0, 600));
+        classStatsRepository.addStats(classStats("game-1", "72o", 0, 900));
+
+        assertThat(classStatsRepository.findByGameId("game-1"))
+                .extracting(HandClassStatsEntity::getHandClass, HandClassStatsEntity::getHands,
+                        HandClassStatsEntity::getWins, HandClassStatsEntity::getTotalChips)
+                .containsExactlyInAnyOrder(tuple("AKs", 2, 1, 2000L), tuple("72o", 1, 0, 900L));
+    }
+
+    @Test
+    void testAddStatsUpdatesRowInsertedByAnotherHand() {
+        classStatsRepository.addStats(classStats("game-3", "JJ", 1, 800));
+
+        // the row appears between this hand's UPDATE and INSERT
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        doReturn(0).doCallRealMethod().when(jdbcTemplate).update(eq(HandClassStatsRepositoryCustomImpl.UPDATE_SQL),
+                any(Object[].class));
+        new HandClassStatsRepositoryCustomImpl(jdbcTemplate).addStats(classStats("game-3", "JJ", 0, 200));
+
+        assertThat(classStatsRepository.findByGameId("game-3"))
+                .extracting(HandClassStatsEntity::getHands, HandClassStatsEntity::getTotalChips)
+                .containsExactly(tuple(2, 1000L));
+    }
+
+    @Test
+    void testAddRoundStatsKeepsRoundsApart() {
+        roundStatsRepository.addStats(roundStats("game-2", "QQ", 0));
+        roundStatsRepository.addStats(roundStats("game-2", "QQ", 0));
+        roundStatsRepository.addStats(roundStats("game-2", "QQ", 1));
+
+        assertThat(roundStatsRepository.findByGameIdAndRound("game-2", 0))
+                .extracting(HandRoundStatsEntity::getHands, HandRoundStatsEntity::getRaised)
+                .containsExactly(tuple(2, 2));
+        assertThat(roundStatsRepository.findByGameIdAndRound("game-2", 1))
+                .extracting(HandRoundStatsEntity::getHands).containsExactly(1);
+    }
+
+    private static HandClassStatsEntity classStats(String gameId, String handClass, int wins, long chips) {
+        HandClassStatsEntity stats = new HandClassStatsEntity();
+        stats.setGameId(gameId);
+        stats.setHandClass(handClass);
+        stats.setHands(1);
+        stats.setWins(wins);
+        stats.setTotalChips(chips);
+        return stats;
+    }
+
+    private static HandRoundStatsEntity roundStats(String gameId, String handClass, int round) {
+        HandRoundStatsEntity stats = new HandRoundStatsEntity();
+        stats.setGameId(gameId);
+        stats.setHandClass(handClass);
+        stats.setRound(round);
+        stats.setHands(1);
+        stats.setRaised(1);
+        return stats;
+    }
+}
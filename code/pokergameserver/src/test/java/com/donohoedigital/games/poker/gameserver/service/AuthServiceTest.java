@@ -969,4 +969,16 @@ class AuthServiceTest {
         assertThat(authService.isJtiUsed("jti-b")).isTrue();
         assertThat(authService.isJtiUsed("jti-c")).isFalse();
     }
+
+    @Test
+    void getUsedJtiStats_reportsLiveJtis() {
+        long futureExpiry = System.currentTimeMillis() + 60_000;
+        authService.markJtiUsed("jti-x", futureExpiry);
+        authService.markJtiUsed("jti-y", futureExpiry);
+
+        JtiExpirySet.Stats stats = authService.getUsedJtiStats();
+        assertThat(stats.live()).isEqualTo(2);
+        assertThat(stats.maxSize()).isEqualTo(AuthService.DEFAULT_MAX_USED_JTIS);
+        assertThat(stats.rejected()).isZero();
+    }
 }
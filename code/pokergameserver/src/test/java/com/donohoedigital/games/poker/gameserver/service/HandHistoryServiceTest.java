@@ -37,12 +37,17 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.donohoedigital.games.poker.gameserver.persistence.HandHistoryBatchWriter;
 import com.donohoedigital.games.poker.gameserver.persistence.entity.HandActionEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandClassStatsEntity;
 import com.donohoedigital.games.poker.gameserver.persistence.entity.HandHistoryEntity;
 import com.donohoedigital.games.poker.gameserver.persistence.entity.HandPlayerEntity;
+import com.donohoedigital.games.poker.gameserver.persistence.entity.HandRoundStatsEntity;
 import com.donohoedigital.games.poker.gameserver.persistence.repository.HandActionRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandClassStatsRepository;
 import com.donohoedigital.games.poker.gameserver.persistence.repository.HandHistoryRepository;
 import com.donohoedigital.games.poker.gameserver.persistence.repository.HandPlayerRepository;
+import com.donohoedigital.games.poker.gameserver.persistence.repository.HandRoundStatsRepository;
 import com.donohoedigital.games.poker.protocol.dto.HandDetailData;
 import com.donohoedigital.games.poker.protocol.dto.HandExportData;
 import com.donohoedigital.games.poker.protocol.dto.HandRoundStatsData;
@@ -61,11 +66,18 @@ class HandHistoryServiceTest {
     @Mock
     private HandActionRepository handActionRepository;
 
+    @Mock
+    private HandClassStatsRepository handClassStatsRepository;
+
+    @Mock
+    private HandRoundStatsRepository handRoundStatsRepository;
+
     private HandHistoryService service;
 
     @BeforeEach
     void setUp() {
-        service = new HandHistoryService(handHistoryRepository, handPlayerRepository, handActionRepository);
+        service = new HandHistoryService(handHistoryRepository, handPlayerRepository, handActionRepository,
+                handClassStatsRepository, handRoundStatsRepository);
     }
 
     @Test
@@ -116,6 +128,91 @@ class HandHistoryServiceTest {
         assertThat(savedActions).allSatisfy(a -> assertThat(a.getHandId()).isEqualTo(42L));
     }
 
+    @Test
+    void storeHand_queuesHandWhenBatchWriterSet() {
+        HandHistoryBatchWriter writer = mock(HandHistoryBatchWriter.class);
+        service.setBatchWriter(writer);
+        HandHistoryEntity hand = new HandHistoryEntity();
+        List<HandPlayerEntity> players = List.of(new HandPlayerEntity());
+        List<HandActionEntity> actions = List.of(new HandActionEntity());
+
+        service.storeHand("game-123", hand, players, actions);
+
+        verify(writer).submit(hand, players, actions, null, List.of());
+        assertThat(hand.getGameId()).isEqualTo("game-123");
+        verifyNoInteractions(handHistoryRepository, handPlayerRepository, handActionRepository,
+                handClassStatsRepository, handRoundStatsRepository);
+    }
+
+    @Test
+    void storeHand_addsHandToStatsTotals() {
+        when(handHistoryRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        HandHistoryEntity hand = new HandHistoryEntity();
+        hand.setCommunityCardsDealt(3);
+        HandPlayerEntity player = new HandPlayerEntity();
+        player.setHoleCards("[\"Ah\",\"Kh\"]");
+        player.setStartChips(1000);
+        player.setEndChips(1400);
+        player.setPreflopActions(8); // raised
+        player.setFlopActions(4 | 64); // bet, won
+
+        service.storeHand("game-1", hand, List.of(player), List.of());
+
+        ArgumentCaptor<HandClassStatsEntity> classCaptor = ArgumentCaptor.forClass(HandClassStatsEntity.class);
+        verify(handClassStatsRepository).addStats(classCaptor.capture());
+        HandClassStatsEntity classStats = classCaptor.getValue();
+        assertThat(classStats.getGameId()).isEqualTo("game-1");
+        assertThat(classStats.getHandClass()).isEqualTo("AKs");
+        assertThat(classStats.getHands()).isEqualTo(1);
+        assertThat(classStats.getWins()).isEqualTo(1);
+        assertThat(classStats.getTotalChips()).isEqualTo(1400);
+        assertThat(classStats.getSawFlop()).isEqualTo(1);
+        assertThat(classStats.getSawTurn()).isZero();
+
+        ArgumentCaptor<HandRoundStatsEntity> roundCaptor = ArgumentCaptor.forClass(HandRoundStatsEntity.class);
+        verify(handRoundStatsRepository, times(2)).addStats(roundCaptor.capture());
+        assertThat(roundCaptor.getAllValues()).extracting(HandRoundStatsEntity::getRound).containsExactly(0, 1);
+        assertThat(roundCaptor.getAllValues().get(0).getRaised()).isEqualTo(1);
+        assertThat(roundCaptor.getAllValues().get(1).getBet()).isEqualTo(1);
+        assertThat(roundCaptor.getAllValues().get(1).getWon()).isEqualTo(1);
+        verify(handClassStatsRepository, never()).save(any());
+        verify(handRoundStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void storeHand_passesStatsToBatchWriter() {
+        HandHistoryBatchWriter writer = mock(HandHistoryBatchWriter.class);
+        service.setBatchWriter(writer);
+        HandHistoryEntity hand = new HandHistoryEntity();
+        HandPlayerEntity player = new HandPlayerEntity();
+        player.setHoleCards("[\"Qs\",\"Qd\"]");
+        player.setPreflopActions(2);
+        List<HandPlayerEntity> players = List.of(player);
+
+        service.storeHand("game-1", hand, players, List.of());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HandRoundStatsEntity>> roundCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<HandClassStatsEntity> classCaptor = ArgumentCaptor.forClass(HandClassStatsEntity.class);
+        verify(writer).submit(eq(hand), eq(players), eq(List.of()), classCaptor.capture(), roundCaptor.capture());
+        assertThat(classCaptor.getValue().getHandClass()).isEqualTo("QQ");
+        assertThat(roundCaptor.getValue()).singleElement().satisfies(r -> assertThat(r.getCalled()).isEqualTo(1));
+        verifyNoInteractions(handClassStatsRepository, handRoundStatsRepository);
+    }
+
+    @Test
+    void getHandCount_flushesBatchWriterFirst() {
+        HandHistoryBatchWriter writer = mock(HandHistoryBatchWriter.class);
+        service.setBatchWriter(writer);
+        when(handHistoryRepository.countByGameId("game-123")).thenReturn(3L);
+
+        assertThat(service.getHandCount("game-123")).isEqualTo(3L);
+
+        var order = inOrder(writer, handHistoryRepository);
+        order.verify(writer).flush();
+        order.verify(handHistoryRepository).countByGameId("game-123");
+    }
+
     @Test
     void getHandCount_delegatesToRepository() {
         when(handHistoryRepository.countByGameId("game-1")).thenReturn(5L);
@@ -255,6 +352,64 @@ class HandHistoryServiceTest {
         assertThat(result.get(0).winPct()).isEqualTo(100.0);
     }
 
+    @Test
+    void getHandStats_servedFromRunningTotals() {
+        HandClassStatsEntity aks = new HandClassStatsEntity();
+        aks.setHandClass("AKs");
+        aks.setHands(4);
+        aks.setWins(3);
+        aks.setLosses(1);
+        aks.setTotalBet(200);
+        aks.setSawFlop(2);
+        HandClassStatsEntity pair = new HandClassStatsEntity();
+        pair.setHandClass("22");
+        pair.setHands(10);
+        pair.setPasses(10);
+        when(handClassStatsRepository.findByGameId("game-1")).thenReturn(List.of(aks, pair));
+        when(handHistoryRepository.countByGameId("game-1")).thenReturn(14L);
+
+        List<HandStatsData> result = service.getHandStats("game-1");
+
+        assertThat(result).extracting(HandStatsData::handClass).containsExactly("22", "AKs");
+        HandStatsData stats = result.get(1);
+        assertThat(stats.count()).isEqualTo(4);
+        assertThat(stats.winPct()).isEqualTo(75.0);
+        assertThat(stats.losePct()).isEqualTo(25.0);
+        assertThat(stats.avgBet()).isEqualTo(50.0);
+        assertThat(stats.flopPct()).isEqualTo(50.0);
+        verify(handHistoryRepository, never()).findByGameId(any());
+        verifyNoInteractions(handPlayerRepository);
+    }
+
+    @Test
+    void getHandStats_scansWhenTotalsMissHands() {
+        // totals started mid-game: 1 hand counted, 2 stored
+        HandClassStatsEntity partial = new HandClassStatsEntity();
+        partial.setHandClass("AKo");
+        partial.setHands(1);
+        when(handClassStatsRepository.findByGameId("game-1")).thenReturn(List.of(partial));
+        when(handHistoryRepository.countByGameId("game-1")).thenReturn(2L);
+        HandHistoryEntity hand1 = new HandHistoryEntity();
+        hand1.setId(1L);
+        HandHistoryEntity hand2 = new HandHistoryEntity();
+        hand2.setId(2L);
+        when(handHistoryRepository.findByGameId("game-1")).thenReturn(List.of(hand1, hand2));
+        HandPlayerEntity p1 = new HandPlayerEntity();
+        p1.setHandId(1L);
+        p1.setHoleCards("[\"Ac\",\"Kh\"]");
+        HandPlayerEntity p2 = new HandPlayerEntity();
+        p2.setHandId(2L);
+        p2.setHoleCards("[\"Ad\",\"Ks\"]");
+        when(handPlayerRepository.findByHandIdIn(List.of(1L, 2L))).thenReturn(List.of(p1, p2));
+
+        List<HandStatsData> result = service.getHandStats("game-1");
+
+        assertThat(result).singleElement().satisfies(stats -> {
+            assertThat(stats.handClass()).isEqualTo("AKo");
+            assertThat(stats.count()).isEqualTo(2);
+        });
+    }
+
     @Test
     void getHandStats_returnsEmptyForNoHands() {
         when(handHistoryRepository.findByGameId("game-empty")).thenReturn(List.of());
@@ -299,6 +454,49 @@ class HandHistoryServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getRoundStats_servedFromRunningTotals() {
+        HandRoundStatsEntity row = new HandRoundStatsEntity();
+        row.setHandClass("JTs");
+        row.setRound(1);
+        row.setHands(4);
+        row.setChecked(2);
+        row.setCheckRaised(1);
+        row.setFolded(1);
+        when(handRoundStatsRepository.findByGameIdAndRound("game-1", 1)).thenReturn(List.of(row));
+        when(handClassStatsRepository.findByGameId("game-1")).thenReturn(List.of(classTotals("JTs", 4)));
+        when(handHistoryRepository.countByGameId("game-1")).thenReturn(4L);
+
+        List<HandRoundStatsData> result = service.getRoundStats("game-1", 1);
+
+        assertThat(result).singleElement().satisfies(stats -> {
+            assertThat(stats.handClass()).isEqualTo("JTs");
+            assertThat(stats.count()).isEqualTo(4);
+            assertThat(stats.checkedPct()).isEqualTo(50.0);
+            assertThat(stats.checkRaisedPct()).isEqualTo(25.0);
+            assertThat(stats.foldedPct()).isEqualTo(25.0);
+        });
+        verify(handHistoryRepository, never()).findByGameId(any());
+        verifyNoInteractions(handPlayerRepository);
+    }
+
+    @Test
+    void getRoundStats_doesNotRescanWhenGameHasRunningTotals() {
+        when(handClassStatsRepository.findByGameId("game-1")).thenReturn(List.of(classTotals("72o", 3)));
+        when(handHistoryRepository.countByGameId("game-1")).thenReturn(3L);
+
+        assertThat(service.getRoundStats("game-1", 3)).isEmpty();
+        verify(handHistoryRepository, never()).findByGameId(any());
+        verifyNoInteractions(handPlayerRepository);
+    }
+
+    private static HandClassStatsEntity classTotals(String handClass, int hands) {
+        HandClassStatsEntity totals = new HandClassStatsEntity();
+        totals.setHandClass(handClass);
+        totals.setHands(hands);
+        return totals;
+    }
+
     @Test
     void getRoundStats_computesPreflopStats() {
         HandHistoryEntity hand = new HandHistoryEntity();
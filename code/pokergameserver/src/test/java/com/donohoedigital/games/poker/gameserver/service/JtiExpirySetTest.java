@@ -0,0 +1,131 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.gameserver.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class JtiExpirySetTest {
+
+    private static final long T0 = 1_000_000L;
+
+    @Test
+    void contains_untilExpiry() {
+        JtiExpirySet set = new JtiExpirySet(100, 8, 1000);
+        set.add("a", T0 + 5_000, T0);
+
+        assertThat(set.contains("a", T0)).isTrue();
+        assertThat(set.contains("a", T0 + 5_000)).isTrue();
+        assertThat(set.contains("a", T0 + 5_001)).isFalse();
+        assertThat(set.contains("b", T0)).isFalse();
+    }
+
+    @Test
+    void add_alreadyExpired_isNotStored() {
+        JtiExpirySet set = new JtiExpirySet(100, 8, 1000);
+        set.add("old", T0 - 1, T0);
+
+        assertThat(set.contains("old", T0)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void add_sweepsExpiredBucketsOnly() {
+        JtiExpirySet set = new JtiExpirySet(100, 8, 1000);
+        set.add("a", T0 + 1_500, T0);
+        set.add("b", T0 + 3_500, T0);
+
+        set.add("c", T0 + 6_000, T0 + 2_000);
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains("b", T0 + 2_000)).isTrue();
+        assertThat(set.getStats().expired()).isEqualTo(1);
+    }
+
+    @Test
+    void add_keepsIdsFromLaterRevolution() {
+        // 8 one-second buckets; "far" expires two revolutions ahead
+        JtiExpirySet set = new JtiExpirySet(100, 8, 1000);
+        set.add("far", T0 + 20_000, T0);
+
+        set.add("x", T0 + 30_000, T0 + 9_000);
+        set.add("y", T0 + 30_000, T0 + 18_000);
+        assertThat(set.contains("far", T0 + 18_000)).isTrue();
+
+        set.add("z", T0 + 30_000, T0 + 22_000);
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.getStats().expired()).isEqualTo(1);
+    }
+
+    @Test
+    void add_afterLongIdleGap_sweepsEverything() {
+        JtiExpirySet set = new JtiExpirySet(100, 8, 1000);
+        for (int i = 0; i < 20; i++) {
+            set.add("jti-" + i, T0 + i * 500L, T0);
+        }
+
+        set.add("late", T0 + 200_000, T0 + 100_000);
+
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.getStats().expired()).isEqualTo(20);
+    }
+
+    @Test
+    void add_whenFull_refusesNewIdsAndKeepsUnexpiredOnes() {
+        JtiExpirySet set = new JtiExpirySet(3, 8, 1000);
+        set.add("late", T0 + 5_000, T0);
+        set.add("soon", T0 + 1_000, T0);
+        set.add("mid", T0 + 3_000, T0);
+
+        assertThat(set.add("new", T0 + 4_000, T0)).isFalse();
+
+        // every used id stays used, so none can be replayed
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains("soon", T0)).isTrue();
+        assertThat(set.contains("mid", T0)).isTrue();
+        assertThat(set.contains("late", T0)).isTrue();
+        assertThat(set.contains("new", T0)).isFalse();
+        assertThat(set.getStats().rejected()).isEqualTo(1);
+
+        // once an id expires there is room again
+        assertThat(set.add("new", T0 + 4_000, T0 + 2_000)).isTrue();
+        assertThat(set.contains("new", T0 + 2_000)).isTrue();
+    }
+
+    @Test
+    void stats_reportLiveAndTotals() {
+        JtiExpirySet set = new JtiExpirySet(10, 8, 1000);
+        set.add("a", T0 + 1_000, T0);
+        set.add("b", T0 + 1_000, T0);
+
+        JtiExpirySet.Stats stats = set.getStats();
+        assertThat(stats.live()).isEqualTo(2);
+        assertThat(stats.maxSize()).isEqualTo(10);
+        assertThat(stats.added()).isEqualTo(2);
+        assertThat(stats.expired()).isZero();
+        assertThat(stats.rejected()).isZero();
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new JtiExpirySet(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.gameserver.websocket;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BroadcastHistory.
+ */
+class BroadcastHistoryTest {
+
+    private static ServerMessage msg() {
+        return ServerMessage.of(ServerMessageType.PLAYER_ACTED, "game-1", null);
+    }
+
+    @Test
+    void append_stampsConsecutiveSequenceNumbers() {
+        BroadcastHistory history = new BroadcastHistory(4);
+
+        assertEquals(1L, history.append(msg()).sequenceNumber());
+        assertEquals(2L, history.append(msg()).sequenceNumber());
+        assertEquals(2, history.getLastSequence());
+    }
+
+    @Test
+    void since_returnsOnlyLaterBroadcasts() {
+        BroadcastHistory history = new BroadcastHistory(4);
+        for (int i = 0; i < 4; i++) {
+            history.append(msg());
+        }
+
+        List<ServerMessage> missed = history.since(1);
+
+        assertEquals(List.of(2L, 3L, 4L), missed.stream().map(ServerMessage::sequenceNumber).toList());
+        assertTrue(history.since(4).isEmpty());
+    }
+
+    @Test
+    void since_returnsNullOnceBroadcastsAreOverwritten() {
+        BroadcastHistory history = new BroadcastHistory(3);
+        for (int i = 0; i < 5; i++) {
+            history.append(msg());
+        }
+
+        assertNull(history.since(1));
+        assertEquals(3, history.since(2).size());
+    }
+
+    @Test
+    void since_returnsNullAcrossResyncPoint() {
+        BroadcastHistory history = new BroadcastHistory(8);
+        history.append(msg());
+        history.markResyncPoint();
+        history.append(msg());
+
+        assertNull(history.since(0));
+        assertNull(history.since(1));
+        assertEquals(0, history.since(2).size());
+    }
+
+    @Test
+    void since_returnsNullAcrossReservedSequence() {
+        BroadcastHistory history = new BroadcastHistory(8);
+        history.append(msg());
+        assertEquals(2, history.reserve());
+        history.append(msg());
+
+        assertNull(history.since(1));
+        assertEquals(1, history.since(2).size());
+    }
+
+    @Test
+    void since_returnsNullForSequenceNeverIssued() {
+        BroadcastHistory history = new BroadcastHistory(8);
+        history.append(msg());
+
+        assertNull(history.since(5));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BroadcastHistory(0));
+    }
+}
@@ -19,12 +19,17 @@ package com.donohoedigital.games.poker.gameserver.websocket;
 
 import com.donohoedigital.games.poker.protocol.message.ServerMessage;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -232,4 +237,132 @@ class GameConnectionManagerTest {
         Collection<PlayerConnection> connections = manager.getConnections("game-1");
         assertEquals(successCount.get(), connections.size());
     }
+
+    @Test
+    void broadcastToGame_serializesOnceForAllRecipients() throws Exception {
+        WebSocketSession[] sessions = new WebSocketSession[5];
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i] = mock(WebSocketSession.class);
+            when(sessions[i].isOpen()).thenReturn(true);
+            manager.addConnection("game-1", i, new PlayerConnection(sessions[i], i, "player" + i, "game-1", objectMapper,
+                    i > 1));
+        }
+
+        manager.broadcastToGame("game-1", ServerMessage.of(ServerMessageType.HAND_STARTED, "game-1", null));
+
+        assertEquals(1, manager.getSerializationCount());
+        assertEquals(4, manager.getSerializationsSaved());
+        ArgumentCaptor<TextMessage> first = ArgumentCaptor.forClass(TextMessage.class);
+        verify(sessions[0]).sendMessage(first.capture());
+        for (WebSocketSession session : sessions) {
+            verify(session).sendMessage(same(first.getValue()));
+        }
+    }
+
+    @Test
+    void broadcastToGame_serializesOncePerEncoding() throws Exception {
+        ObjectMapper cbor = WireEncoding.CBOR.mapperFor(objectMapper);
+        WebSocketSession[] sessions = new WebSocketSession[4];
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i] = mock(WebSocketSession.class);
+            when(sessions[i].isOpen()).thenReturn(true);
+            manager.addConnection("game-1", i,
+                    new PlayerConnection(sessions[i], i, "player" + i, "game-1", i % 2 == 0 ? objectMapper : cbor));
+        }
+
+        manager.broadcastToGame("game-1", ServerMessage.of(ServerMessageType.HAND_STARTED, "game-1", null));
+
+        assertEquals(2, manager.getSerializationCount());
+        assertEquals(2, manager.getSerializationsSaved());
+        verify(sessions[0]).sendMessage(any(TextMessage.class));
+        verify(sessions[1]).sendMessage(any(BinaryMessage.class));
+        verify(sessions[2]).sendMessage(any(TextMessage.class));
+        verify(sessions[3]).sendMessage(any(BinaryMessage.class));
+    }
+
+    @Test
+    void sendSnapshot_reusesEncodingWhileDataUnchanged() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        PlayerConnection connection = new PlayerConnection(session, 1L, "player1", "game-1", objectMapper);
+        manager.addConnection("game-1", 1L, connection);
+
+        manager.sendSnapshot(connection, ServerMessage.of(ServerMessageType.LOBBY_STATE, "game-1", List.of("a")));
+        manager.sendSnapshot(connection, ServerMessage.of(ServerMessageType.LOBBY_STATE, "game-1", List.of("a")));
+        assertEquals(1, manager.getSerializationCount());
+        assertEquals(1, manager.getSerializationsSaved());
+
+        manager.sendSnapshot(connection, ServerMessage.of(ServerMessageType.LOBBY_STATE, "game-1", List.of("b")));
+        assertEquals(2, manager.getSerializationCount());
+
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(3)).sendMessage(sent.capture());
+        assertSame(sent.getAllValues().get(0), sent.getAllValues().get(1));
+        assertTrue(sent.getAllValues().get(2).getPayload().contains("\"b\""));
+    }
+
+    @Test
+    void broadcastSequenced_stampsConsecutiveSequenceNumbersPerGame() {
+        manager.broadcastSequenced("game-1", ServerMessage.of(ServerMessageType.HAND_STARTED, "game-1", null));
+        manager.broadcastSequenced("game-1", ServerMessage.of(ServerMessageType.PLAYER_ACTED, "game-1", null));
+        manager.broadcastSequenced("game-2", ServerMessage.of(ServerMessageType.HAND_STARTED, "game-2", null));
+
+        assertEquals(2, manager.getLastSequence("game-1"));
+        assertEquals(1, manager.getLastSequence("game-2"));
+        assertEquals(3, manager.reserveSequence("game-1"));
+    }
+
+    @Test
+    void resumeConnection_replaysOnlyMissedBroadcasts() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            manager.broadcastSequenced("game-1", ServerMessage.of(ServerMessageType.PLAYER_ACTED, "game-1", null));
+        }
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        PlayerConnection connection = new PlayerConnection(session, 1L, "player1", "game-1", objectMapper);
+
+        boolean resumed = manager.resumeConnection("game-1", 1L, connection, 3,
+                ServerMessage.of(ServerMessageType.CONNECTED, "game-1", null));
+
+        assertTrue(resumed);
+        assertTrue(manager.getConnections("game-1").contains(connection));
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(3)).sendMessage(sent.capture());
+        assertTrue(sent.getAllValues().get(0).getPayload().contains("CONNECTED"));
+        assertTrue(sent.getAllValues().get(1).getPayload().contains("\"sequenceNumber\":4"));
+        assertTrue(sent.getAllValues().get(2).getPayload().contains("\"sequenceNumber\":5"));
+        assertEquals(1, manager.getResumeCount());
+        assertEquals(2, manager.getReplayedMessageCount());
+    }
+
+    @Test
+    void resumeConnection_fallsBackWhenGapExceedsHistory() {
+        GameConnectionManager small = new GameConnectionManager(null, OutboundQueue.Policy.DEFAULT, 2);
+        for (int i = 0; i < 5; i++) {
+            small.broadcastSequenced("game-1", ServerMessage.of(ServerMessageType.PLAYER_ACTED, "game-1", null));
+        }
+        WebSocketSession session = mock(WebSocketSession.class);
+        PlayerConnection connection = new PlayerConnection(session, 1L, "player1", "game-1", objectMapper);
+
+        assertFalse(small.resumeConnection("game-1", 1L, connection, 2,
+                ServerMessage.of(ServerMessageType.CONNECTED, "game-1", null)));
+        assertTrue(small.getConnections("game-1").isEmpty());
+        verifyNoInteractions(session);
+        assertEquals(1, small.getResumeFallbackCount());
+    }
+
+    @Test
+    void resumeConnection_fallsBackAcrossResyncPoint() {
+        manager.broadcastSequenced("game-1", ServerMessage.of(ServerMessageType.PLAYER_ACTED, "game-1", null));
+        manager.markResyncPoint("game-1");
+        manager.broadcastSequenced("game-1", ServerMessage.of(ServerMessageType.HAND_STARTED, "game-1", null));
+        PlayerConnection connection = new PlayerConnection(mock(WebSocketSession.class), 1L, "player1", "game-1",
+                objectMapper);
+
+        assertFalse(manager.resumeConnection("game-1", 1L, connection, 1,
+                ServerMessage.of(ServerMessageType.CONNECTED, "game-1", null)));
+        assertFalse(manager.resumeConnection("game-2", 1L, connection, 1,
+                ServerMessage.of(ServerMessageType.CONNECTED, "game-2", null)));
+        assertEquals(2, manager.getResumeFallbackCount());
+    }
 }
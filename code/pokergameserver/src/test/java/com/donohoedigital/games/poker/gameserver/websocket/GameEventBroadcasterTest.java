@@ -24,6 +24,8 @@ import com.donohoedigital.games.poker.engine.state.ActionType;
 import com.donohoedigital.games.poker.engine.state.BettingRound;
 import com.donohoedigital.games.poker.engine.Card;
 import com.donohoedigital.games.poker.engine.CardSuit;
+import com.donohoedigital.games.poker.gameserver.AdvisorPipeline;
+import com.donohoedigital.games.poker.gameserver.AdvisorService;
 import com.donohoedigital.games.poker.gameserver.GameInstance;
 import com.donohoedigital.games.poker.gameserver.GameStateSnapshot;
 import com.donohoedigital.games.poker.gameserver.ServerGameTable;
@@ -32,12 +34,14 @@ import com.donohoedigital.games.poker.gameserver.ServerPlayer;
 import com.donohoedigital.games.poker.gameserver.ServerTournamentContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -53,6 +57,7 @@ class GameEventBroadcasterTest {
     private OutboundMessageConverter converter;
     private GameEventBroadcaster broadcaster;
     private ObjectMapper objectMapper;
+    private AdvisorPipeline advisorPipeline;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -62,6 +67,12 @@ class GameEventBroadcasterTest {
         connectionManager = new GameConnectionManager();
         converter = new OutboundMessageConverter();
         broadcaster = new GameEventBroadcaster("game-1", connectionManager, converter);
+        advisorPipeline = new AdvisorPipeline(new AdvisorService(), 2, 16, 64, AdvisorPipeline.DEFAULT_ITERATIONS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        advisorPipeline.shutdown();
     }
 
     private PlayerConnection makeConnectedPlayer(long profileId) throws Exception {
@@ -394,6 +405,29 @@ class GameEventBroadcasterTest {
         verify(p1.getSession()).sendMessage(any(TextMessage.class));
     }
 
+    @Test
+    void playersMoved_sendsMovedThenJoinedPerPlayer() throws Exception {
+        PlayerConnection p1 = makeConnectedPlayer(1L);
+
+        broadcaster.accept(new GameEvent.PlayersMoved(
+                List.of(new GameEvent.PlayerMove(42, 3, 7, 1, 0), new GameEvent.PlayerMove(43, 3, 2, 2, 9))));
+
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(p1.getSession(), times(4)).sendMessage(captor.capture());
+        List<JsonNode> messages = new ArrayList<>();
+        for (TextMessage message : captor.getAllValues()) {
+            messages.add(objectMapper.readTree(message.getPayload()));
+        }
+        assertEquals("PLAYER_MOVED", messages.get(0).get("type").asText());
+        assertEquals(3, messages.get(0).get("data").get("fromTableId").asInt());
+        assertEquals(1, messages.get(0).get("data").get("toTableId").asInt());
+        assertEquals("PLAYER_JOINED", messages.get(1).get("type").asText());
+        assertEquals(0, messages.get(1).get("data").get("seatIndex").asInt());
+        assertEquals("PLAYER_MOVED", messages.get(2).get("type").asText());
+        assertEquals(2, messages.get(3).get("data").get("tableId").asInt());
+        assertEquals(9, messages.get(3).get("data").get("seatIndex").asInt());
+    }
+
     // ====================================
     // Fix 6 server: PlayerAdded includes player name
     // ====================================
@@ -723,7 +757,16 @@ class GameEventBroadcasterTest {
                 "PRE_FLOP", 1, 25, 50, 0, 0, 0, 0, 0);
         when(mockGame.getGameStateSnapshot(1L)).thenReturn(snapshot);
 
-        return new GameEventBroadcaster("game-1", connectionManager, converter, mockGame);
+        return new GameEventBroadcaster("game-1", connectionManager, converter, mockGame, advisorPipeline);
+    }
+
+    /**
+     * Advisor updates are computed on the advisor pool; wait until one reaches the
+     * session.
+     */
+    private static void awaitAdvisorUpdate(WebSocketSession session) throws Exception {
+        verify(session, timeout(5000).atLeastOnce()).sendMessage(
+                argThat(msg -> msg instanceof TextMessage text && text.getPayload().contains("ADVISOR_UPDATE")));
     }
 
     @Test
@@ -738,6 +781,8 @@ class GameEventBroadcasterTest {
         b.accept(new GameEvent.HandStarted(1, 1));
 
         // Verify ADVISOR_UPDATE was sent to the human player
+        awaitAdvisorUpdate(humanSession);
+
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
         verify(humanSession, atLeast(1)).sendMessage(captor.capture());
 
@@ -784,6 +829,8 @@ class GameEventBroadcasterTest {
         GameEventBroadcaster b = createAdvisorTestBroadcaster(null);
         b.accept(new GameEvent.CommunityCardsDealt(1, BettingRound.FLOP));
 
+        awaitAdvisorUpdate(humanSession);
+
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
         verify(humanSession, atLeast(1)).sendMessage(captor.capture());
 
@@ -802,6 +849,8 @@ class GameEventBroadcasterTest {
         GameEventBroadcaster b = createAdvisorTestBroadcaster(null);
         b.accept(new GameEvent.PlayerActed(1, 2, ActionType.CALL, 50));
 
+        awaitAdvisorUpdate(humanSession);
+
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
         verify(humanSession, atLeast(1)).sendMessage(captor.capture());
 
@@ -843,7 +892,8 @@ class GameEventBroadcasterTest {
         connectionManager.addConnection("game-1", 1L,
                 new PlayerConnection(humanSession, 1L, "Folded", "game-1", objectMapper));
 
-        GameEventBroadcaster b = new GameEventBroadcaster("game-1", connectionManager, converter, mockGame);
+        GameEventBroadcaster b = new GameEventBroadcaster("game-1", connectionManager, converter, mockGame,
+                advisorPipeline);
         b.accept(new GameEvent.CommunityCardsDealt(1, BettingRound.FLOP));
 
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
@@ -864,6 +914,8 @@ class GameEventBroadcasterTest {
         GameEventBroadcaster b = createAdvisorTestBroadcaster(null);
         b.accept(new GameEvent.PlayerActed(1, 2, ActionType.CALL, 50));
 
+        awaitAdvisorUpdate(humanSession);
+
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
         verify(humanSession, atLeast(1)).sendMessage(captor.capture());
 
@@ -903,6 +955,8 @@ class GameEventBroadcasterTest {
         GameEventBroadcaster b = createAdvisorTestBroadcaster(flopCards);
         b.accept(new GameEvent.PlayerActed(1, 2, ActionType.CALL, 50));
 
+        awaitAdvisorUpdate(humanSession);
+
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
         verify(humanSession, atLeast(1)).sendMessage(captor.capture());
 
@@ -938,6 +992,8 @@ class GameEventBroadcasterTest {
         GameEventBroadcaster b = createAdvisorTestBroadcaster(null);
         b.accept(new GameEvent.PlayerActed(1, 2, ActionType.CALL, 50));
 
+        awaitAdvisorUpdate(humanSession);
+
         ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
         verify(humanSession, atLeast(1)).sendMessage(captor.capture());
 
@@ -969,6 +1025,20 @@ class GameEventBroadcasterTest {
         broadcaster.shutdown();
     }
 
+    @Test
+    void playerActed_cancelsOnlyThatPlayersTimer() {
+        // players 1 and 2 are on the clock at different tables
+        broadcaster.startActionTimer(1L, 60);
+        broadcaster.startActionTimer(2L, 60);
+
+        broadcaster.accept(new GameEvent.PlayerActed(1, 1, ActionType.CALL, 50));
+        assertEquals(1, broadcaster.getActiveTimerCount());
+
+        broadcaster.accept(new GameEvent.ActionTimeout(2, ActionType.FOLD));
+        assertEquals(0, broadcaster.getActiveTimerCount());
+        broadcaster.shutdown();
+    }
+
     @Test
     void setAiFaceUp_doesNotThrow() {
         // setAiFaceUp must be callable without throwing; the flag affects AI card
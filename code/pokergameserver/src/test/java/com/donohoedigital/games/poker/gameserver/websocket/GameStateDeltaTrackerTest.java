@@ -0,0 +1,105 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.gameserver.websocket;
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.BlindsData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.GameStateData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData.GameStateDeltaData;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for GameStateDeltaTracker.
+ */
+class GameStateDeltaTrackerTest {
+
+    private ObjectMapper objectMapper;
+    private GameStateDeltaTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        tracker = new GameStateDeltaTracker(objectMapper, 2);
+    }
+
+    @Test
+    void next_firstMessageIsKeyframe() {
+        ServerMessage message = tracker.next(gameState(1));
+
+        assertEquals(ServerMessageType.GAME_STATE_DELTA, message.type());
+        GameStateDeltaData delta = (GameStateDeltaData) message.data();
+        assertEquals(1, delta.version());
+        assertEquals(0, delta.baseVersion());
+        assertEquals(1, delta.patch().get("level").asInt());
+        assertEquals("IN_PROGRESS", delta.patch().get("status").asText());
+    }
+
+    @Test
+    void next_sendsOnlyChangesAgainstPreviousVersion() {
+        tracker.next(gameState(1));
+
+        GameStateDeltaData delta = (GameStateDeltaData) tracker.next(gameState(2)).data();
+
+        assertEquals(2, delta.version());
+        assertEquals(1, delta.baseVersion());
+        assertEquals(1, delta.patch().size());
+        assertEquals(2, delta.patch().get("level").asInt());
+    }
+
+    @Test
+    void next_sendsKeyframeAfterInterval() {
+        tracker.next(gameState(1));
+        tracker.next(gameState(2));
+        tracker.next(gameState(3));
+
+        GameStateDeltaData delta = (GameStateDeltaData) tracker.next(gameState(4)).data();
+
+        assertEquals(4, delta.version());
+        assertEquals(0, delta.baseVersion());
+    }
+
+    @Test
+    void reset_makesNextMessageKeyframe() {
+        tracker.next(gameState(1));
+        tracker.reset();
+
+        GameStateDeltaData delta = (GameStateDeltaData) tracker.next(gameState(1)).data();
+
+        assertEquals(2, delta.version());
+        assertEquals(0, delta.baseVersion());
+        assertTrue(delta.patch().has("blinds"));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new GameStateDeltaTracker(objectMapper, 0));
+    }
+
+    private static ServerMessage gameState(int level) {
+        return ServerMessage.of(ServerMessageType.GAME_STATE, "game-1",
+                new GameStateData("IN_PROGRESS", level, new BlindsData(50, 100, 0), null, List.of(), List.of(), 6, 6,
+                        1, 3));
+    }
+}
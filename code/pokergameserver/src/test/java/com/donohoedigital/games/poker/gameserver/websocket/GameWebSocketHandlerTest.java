@@ -219,6 +219,7 @@ class GameWebSocketHandlerTest {
         when(connectClaims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
         when(jwtTokenProvider.getClaims(VALID_TOKEN)).thenReturn(connectClaims);
         when(authService.isJtiUsed("unique-jti-123")).thenReturn(false);
+        when(authService.markJtiUsed(eq("unique-jti-123"), anyLong())).thenReturn(true);
 
         handler.afterConnectionEstablished(session);
 
@@ -227,6 +228,25 @@ class GameWebSocketHandlerTest {
         verify(session, never()).close(any(CloseStatus.class));
     }
 
+    @Test
+    void afterConnectionEstablished_wsConnectScope_rejectsWhenUsedJtisFull() throws Exception {
+        Claims connectClaims = mock(Claims.class);
+        when(connectClaims.get("profileId", Long.class)).thenReturn(PROFILE_ID);
+        when(connectClaims.getSubject()).thenReturn(USERNAME);
+        when(connectClaims.get("scope", String.class)).thenReturn("ws-connect");
+        when(connectClaims.getId()).thenReturn("unique-jti-789");
+        when(connectClaims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        when(jwtTokenProvider.getClaims(VALID_TOKEN)).thenReturn(connectClaims);
+        when(authService.isJtiUsed("unique-jti-789")).thenReturn(false);
+        when(authService.markJtiUsed(eq("unique-jti-789"), anyLong())).thenReturn(false);
+
+        handler.afterConnectionEstablished(session);
+
+        // a token that can't be remembered would be replayable, so refuse it
+        verify(session).close(argThat(status -> status.getCode() == CloseStatus.SERVICE_OVERLOAD.getCode()));
+        verify(session, never()).sendMessage(any());
+    }
+
     @Test
     void afterConnectionEstablished_wsConnectScope_rejectsReplayedToken() throws Exception {
         Claims connectClaims = mock(Claims.class);
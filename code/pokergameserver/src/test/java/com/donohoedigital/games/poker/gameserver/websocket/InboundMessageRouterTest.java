@@ -23,9 +23,11 @@ import com.donohoedigital.games.poker.gameserver.GameInstanceManager;
 import com.donohoedigital.games.poker.gameserver.GameInstanceState;
 import com.donohoedigital.games.poker.gameserver.GameStateSnapshot;
 import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
@@ -96,6 +98,30 @@ class InboundMessageRouterTest {
         verify(session, never()).sendMessage(argThat(msg -> isErrorMessage(msg)));
     }
 
+    @Test
+    void handleMessage_dispatchesBinaryPlayerAction() throws Exception {
+        ObjectMapper cbor = WireEncoding.CBOR.mapperFor(objectMapper);
+        PlayerConnection binary = new PlayerConnection(session, PLAYER_PROFILE_ID, "testuser", GAME_ID, cbor);
+        byte[] payload = cbor.writeValueAsBytes(objectMapper.readTree(
+                "{\"type\":\"PLAYER_ACTION\",\"sequenceNumber\":1,\"data\":{\"action\":\"FOLD\",\"amount\":0}}"));
+
+        router.handleMessage(binary, payload);
+
+        verify(gameInstance).onPlayerAction(eq(PLAYER_PROFILE_ID), any(PlayerAction.class));
+        verify(session, never()).sendMessage(any());
+    }
+
+    @Test
+    void handleMessage_rejectsMalformedBinaryMessage() throws Exception {
+        PlayerConnection binary = new PlayerConnection(session, PLAYER_PROFILE_ID, "testuser", GAME_ID,
+                WireEncoding.CBOR.mapperFor(objectMapper));
+
+        router.handleMessage(binary, new byte[]{(byte) 0xff, 0x00});
+
+        verify(session).sendMessage(any(BinaryMessage.class));
+        verify(gameInstance, never()).onPlayerAction(anyLong(), any(PlayerAction.class));
+    }
+
     @Test
     void handleMessage_rejectsOutOfOrderSequenceNumber() throws Exception {
         // First message with seq=5
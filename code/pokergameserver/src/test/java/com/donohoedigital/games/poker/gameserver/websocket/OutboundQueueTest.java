@@ -0,0 +1,163 @@
+/*
+ * ============================================================================================
+ * DD Poker - Source Code
+ * Copyright (c) 2026  DD Poker Community
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms
+ * of the GNU General Public License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ * ============================================================================================
+ */
+package com.donohoedigital.games.poker.gameserver.websocket;
+
+
+import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for OutboundQueue. The executor only collects the drain task so each
+ * test controls when the "network" catches up.
+ */
+class OutboundQueueTest {
+
+    private WebSocketSession session;
+    private final List<Runnable> tasks = new ArrayList<>();
+    private OutboundQueue.Metrics metrics;
+    private TextMessage snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn("s1");
+        metrics = new OutboundQueue.Metrics();
+        snapshot = new TextMessage("{\"type\":\"GAME_STATE\",\"fresh\":true}");
+    }
+
+    private OutboundQueue queue(int maxQueued, int maxResyncs) {
+        return new OutboundQueue(session, tasks::add, new OutboundQueue.Policy(maxQueued, maxResyncs, 10_000),
+                metrics, () -> snapshot);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private List<String> sentPayloads() throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, atLeast(0)).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(TextMessage::getPayload).toList();
+    }
+
+    @Test
+    void offer_doesNotSendOnCallerThread() throws Exception {
+        OutboundQueue queue = queue(8, 1);
+
+        queue.offer(new TextMessage("a"), ServerMessageType.HAND_STARTED);
+        queue.offer(new TextMessage("b"), ServerMessageType.PLAYER_ACTED);
+
+        verify(session, never()).sendMessage(any());
+        assertEquals(2, queue.size());
+        assertEquals(1, tasks.size()); // one writer task per burst
+
+        runTasks();
+        assertEquals(List.of("a", "b"), sentPayloads());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void gameState_replacesQueuedGameState() throws Exception {
+        OutboundQueue queue = queue(8, 1);
+
+        queue.offer(new TextMessage("state-1"), ServerMessageType.GAME_STATE);
+        queue.offer(new TextMessage("acted"), ServerMessageType.PLAYER_ACTED);
+        queue.offer(new TextMessage("state-2"), ServerMessageType.GAME_STATE);
+        runTasks();
+
+        assertEquals(List.of("acted", "state-2"), sentPayloads());
+        assertEquals(1, metrics.coalesced.sum());
+    }
+
+    @Test
+    void overflow_replacesBacklogWithFreshSnapshot() throws Exception {
+        OutboundQueue queue = queue(3, 1);
+
+        queue.offer(new TextMessage("e1"), ServerMessageType.PLAYER_ACTED);
+        queue.offer(new TextMessage("prompt"), ServerMessageType.ACTION_REQUIRED);
+        queue.offer(new TextMessage("e2"), ServerMessageType.PLAYER_ACTED);
+        queue.offer(new TextMessage("e3"), ServerMessageType.PLAYER_ACTED); // overflow
+        queue.offer(new TextMessage("e4"), ServerMessageType.PLAYER_ACTED); // covered by snapshot
+        runTasks();
+
+        assertEquals(List.of(snapshot.getPayload(), "prompt"), sentPayloads());
+        assertEquals(1, metrics.resyncs.sum());
+        verify(session, never()).close(any());
+
+        // caught up: later messages flow normally again
+        queue.offer(new TextMessage("e5"), ServerMessageType.PLAYER_ACTED);
+        runTasks();
+        assertEquals("e5", sentPayloads().get(2));
+    }
+
+    @Test
+    void repeatedOverflow_disconnects() throws Exception {
+        OutboundQueue queue = queue(2, 0);
+
+        for (int i = 0; i < 3; i++) {
+            queue.offer(new TextMessage("e" + i), ServerMessageType.PLAYER_ACTED);
+        }
+
+        verify(session).close(argThat((CloseStatus status) -> status.getCode() == CloseStatus.SESSION_NOT_RELIABLE
+                .getCode()));
+        assertEquals(1, metrics.disconnects.sum());
+        runTasks();
+        verify(session, never()).sendMessage(any());
+    }
+
+    @Test
+    void missingSnapshot_disconnectsInsteadOfResync() throws Exception {
+        snapshot = null;
+        OutboundQueue queue = new OutboundQueue(session, tasks::add, new OutboundQueue.Policy(1, 3, 10_000), metrics,
+                () -> snapshot);
+
+        queue.offer(new TextMessage("e1"), ServerMessageType.PLAYER_ACTED);
+        queue.offer(new TextMessage("e2"), ServerMessageType.PLAYER_ACTED);
+        runTasks();
+
+        verify(session, never()).sendMessage(any());
+        verify(session).close(any());
+    }
+
+    @Test
+    void metrics_recordSendLatencyAndDepth() throws Exception {
+        OutboundQueue queue = queue(8, 1);
+
+        queue.offer(new TextMessage("a"), ServerMessageType.HAND_STARTED);
+        queue.offer(new TextMessage("b"), ServerMessageType.HAND_STARTED);
+        runTasks();
+
+        assertEquals(2, metrics.sent.sum());
+        assertEquals(2, metrics.maxDepth.get());
+        assertTrue(metrics.latencyNanos.sum() > 0);
+    }
+}
@@ -18,14 +18,21 @@
 package com.donohoedigital.games.poker.gameserver.websocket;
 
 import com.donohoedigital.games.poker.protocol.message.ServerMessage;
+import com.donohoedigital.games.poker.protocol.message.ServerMessageData;
 import com.donohoedigital.games.poker.protocol.message.ServerMessageType;
+import com.donohoedigital.games.poker.protocol.message.WireEncoding;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -122,4 +129,70 @@ class PlayerConnectionTest {
         ServerMessage message = ServerMessage.of(ServerMessageType.CONNECTED, "g", null);
         assertDoesNotThrow(() -> brokenConn.sendMessage(message));
     }
+
+    @Test
+    void sendGameState_sendsFullStateWithoutDeltas() throws IOException {
+        when(mockSession.isOpen()).thenReturn(true);
+
+        connection.sendGameState(gameState(1));
+
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(mockSession).sendMessage(sent.capture());
+        assertTrue(sent.getValue().getPayload().contains("\"type\":\"GAME_STATE\""));
+    }
+
+    @Test
+    void sendGameState_sendsDeltaAfterKeyframe() throws IOException {
+        when(mockSession.isOpen()).thenReturn(true);
+        connection.enableStateDeltas(10);
+
+        connection.sendGameState(gameState(1));
+        connection.sendGameState(gameState(2));
+
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(mockSession, times(2)).sendMessage(sent.capture());
+        assertTrue(sent.getAllValues().get(0).getPayload().contains("\"baseVersion\":0"));
+        String delta = sent.getAllValues().get(1).getPayload();
+        assertTrue(delta.contains("\"type\":\"GAME_STATE_DELTA\""));
+        assertTrue(delta.contains("\"baseVersion\":1"));
+        assertTrue(delta.contains("\"patch\":{\"level\":2}"));
+    }
+
+    @Test
+    void sendMessage_fullGameStateRestartsDeltasWithKeyframe() throws IOException {
+        when(mockSession.isOpen()).thenReturn(true);
+        connection.enableStateDeltas(10);
+
+        connection.sendGameState(gameState(1));
+        connection.sendMessage(gameState(1));
+        connection.sendGameState(gameState(2));
+
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(mockSession, times(3)).sendMessage(sent.capture());
+        assertTrue(sent.getAllValues().get(2).getPayload().contains("\"baseVersion\":0"));
+    }
+
+    @Test
+    void sendMessage_binaryMapperSendsBinaryFrame() throws IOException {
+        when(mockSession.isOpen()).thenReturn(true);
+        ObjectMapper cbor = WireEncoding.CBOR.mapperFor(objectMapper);
+        PlayerConnection binary = new PlayerConnection(mockSession, 123L, "testuser", "game-1", cbor);
+
+        binary.sendMessage(gameState(4));
+
+        ArgumentCaptor<BinaryMessage> sent = ArgumentCaptor.forClass(BinaryMessage.class);
+        verify(mockSession).sendMessage(sent.capture());
+        ByteBuffer payload = sent.getValue().getPayload();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        JsonNode decoded = cbor.readTree(bytes);
+        assertEquals("GAME_STATE", decoded.get("type").asText());
+        assertEquals(4, decoded.get("data").get("level").asInt());
+    }
+
+    private static ServerMessage gameState(int level) {
+        return ServerMessage.of(ServerMessageType.GAME_STATE, "game-1",
+                new ServerMessageData.GameStateData("IN_PROGRESS", level, new ServerMessageData.BlindsData(50, 100, 0),
+                        null, List.of(), List.of(), 6, 6, 1, 3));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.server;
+
+import com.donohoedigital.base.*;
+import com.donohoedigital.config.*;
+import org.apache.logging.log4j.*;
+
+import java.util.*;
+
+/**
+ * Command line tool that plays a batch of AI-only tournaments with
+ * {@link SelfPlayRunner} and prints the {@link SelfPlayReport}. Needs no
+ * database or running server.
+ */
+public class SelfPlayBatch extends BaseCommandLineApp {
+    private static Logger logger = LogManager.getLogger(SelfPlayBatch.class);
+
+    private final SelfPlayRunner.Config config;
+
+    /**
+     * Run the batch.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        try {
+            SelfPlayBatch batch = new SelfPlayBatch("poker", args);
+            System.out.print(new SelfPlayRunner(batch.config).run().format());
+            return 0;
+        } catch (ApplicationError ae) {
+            logger.error("SelfPlayBatch ending due to ApplicationError: " + ae.toString(), ae);
+            return 1;
+        } catch (Exception e) {
+            logger.error("SelfPlayBatch ending due to unexpected error", e);
+            return 1;
+        }
+    }
+
+    /**
+     * Create the batch from command line options.
+     */
+    public SelfPlayBatch(String configName, String[] args) {
+        super(configName, args);
+
+        SelfPlayRunner.Config parsed = null;
+        try {
+            parsed = new SelfPlayRunner.Config(htOptions_.getInteger("tournaments"), htOptions_.getInteger("threads"),
+                    htOptions_.getInteger("players"), parseSkillLevels(htOptions_.getString("skills")),
+                    htOptions_.getInteger("seed"), htOptions_.getInteger("chips"),
+                    htOptions_.getInteger("handsperlevel"));
+        } catch (IllegalArgumentException e) {
+            CommandLine.exitWithError(e.getMessage());
+        }
+        config = parsed;
+    }
+
+    static List<Integer> parseSkillLevels(String skills) {
+        List<Integer> levels = new ArrayList<>();
+        for (String skill : skills.split(",")) {
+            try {
+                levels.add(Integer.parseInt(skill.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unable to parse skill level: " + skill, e);
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * Setup the command line options.
+     */
+    @Override
+    protected void setupApplicationCommandLineOptions() {
+        CommandLine.addIntegerOption("tournaments", 100);
+        CommandLine.setDescription("tournaments", "number of tournaments to play", "100");
+
+        CommandLine.addIntegerOption("threads", Runtime.getRuntime().availableProcessors());
+        CommandLine.setDescription("threads", "tournaments played at once", "8");
+
+        CommandLine.addIntegerOption("players", 10);
+        CommandLine.setDescription("players", "players per tournament (10 per table)", "10");
+
+        CommandLine.addStringOption("skills", "1,3,4,5");
+        CommandLine.setDescription("skills", "AI skill levels (1-7) dealt round-robin to seats", "1,3,4,5");
+
+        CommandLine.addIntegerOption("seed", 1);
+        CommandLine.setDescription("seed", "batch seed; the same seed replays the same deals", "42");
+
+        CommandLine.addIntegerOption("chips", 1500);
+        CommandLine.setDescription("chips", "starting chips per player", "1500");
+
+        CommandLine.addIntegerOption("handsperlevel", 10);
+        CommandLine.setDescription("handsperlevel", "hands played at each blind level", "10");
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.server;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Results of a {@link SelfPlayRunner} batch: overall throughput, plus decision
+ * latency and finishing positions for each AI class.
+ *
+ * @param tournaments
+ *            tournaments played
+ * @param playersPerTournament
+ *            field size of each tournament
+ * @param hands
+ *            hands dealt across all tournaments
+ * @param decisions
+ *            AI decisions made across all tournaments
+ * @param elapsedNanos
+ *            wall-clock time for the whole batch
+ * @param aiClasses
+ *            per-AI-class results, sorted by class name
+ */
+public record SelfPlayReport(int tournaments, int playersPerTournament, long hands, long decisions,
+        long elapsedNanos, List<AIClassStats> aiClasses) {
+
+    /**
+     * Results for one AI class (TournamentAI, V1Algorithm or V2Algorithm).
+     *
+     * @param aiClass
+     *            simple class name of the AI
+     * @param decisions
+     *            decisions made by this class
+     * @param p50Nanos
+     *            median decision time
+     * @param p99Nanos
+     *            99th percentile decision time
+     * @param entries
+     *            tournament seats played by this class
+     * @param wins
+     *            tournaments won
+     * @param averageFinish
+     *            mean finishing position (1 = winner)
+     */
+    public record AIClassStats(String aiClass, long decisions, long p50Nanos, long p99Nanos, int entries, int wins,
+            double averageFinish) {
+
+        /** @return share of entries that won their tournament */
+        public double winRate() {
+            return entries == 0 ? 0 : (double) wins / entries;
+        }
+    }
+
+    public SelfPlayReport {
+        aiClasses = List.copyOf(aiClasses);
+    }
+
+    /** @return hands dealt per second of wall-clock time */
+    public double handsPerSecond() {
+        return perSecond(hands);
+    }
+
+    /** @return AI decisions per second of wall-clock time */
+    public double decisionsPerSecond() {
+        return perSecond(decisions);
+    }
+
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Format the report as a plain-text table for the console.
+     *
+     * @return multi-line report
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.US, "%d tournaments x %d players in %.1f s%n", tournaments,
+                playersPerTournament, elapsedNanos / 1_000_000_000.0));
+        sb.append(String.format(Locale.US, "%,d hands (%,.0f/s), %,d decisions (%,.0f/s)%n", hands, handsPerSecond(),
+                decisions, decisionsPerSecond()));
+        sb.append(String.format(Locale.US, "%-14s %12s %10s %10s %8s %7s %8s%n", "AI", "decisions", "p50 us", "p99 us",
+                "entries", "win %", "avg fin"));
+        for (AIClassStats stats : aiClasses) {
+            sb.append(String.format(Locale.US, "%-14s %,12d %10.1f %10.1f %8d %6.1f%% %8.2f%n", stats.aiClass(),
+                    stats.decisions(), stats.p50Nanos() / 1000.0, stats.p99Nanos() / 1000.0, stats.entries(),
+                    stats.winRate() * 100, stats.averageFinish()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.server;
+
+import com.donohoedigital.games.poker.core.PlayerActionProvider;
+import com.donohoedigital.games.poker.core.TournamentEngine;
+import com.donohoedigital.games.poker.engine.PlayerAction;
+import com.donohoedigital.games.poker.engine.event.GameEvent;
+import com.donohoedigital.games.poker.gameserver.GameServerProperties;
+import com.donohoedigital.games.poker.gameserver.InMemoryGameEventStore;
+import com.donohoedigital.games.poker.gameserver.ServerGameEventBus;
+import com.donohoedigital.games.poker.gameserver.ServerPlayer;
+import com.donohoedigital.games.poker.gameserver.ServerPlayerActionProvider;
+import com.donohoedigital.games.poker.gameserver.ServerTournamentContext;
+import com.donohoedigital.games.poker.gameserver.ServerTournamentDirector;
+import com.donohoedigital.games.poker.model.LevelAdvanceMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plays batches of AI-only tournaments headless, for AI regression checks and
+ * server capacity planning.
+ * <p>
+ * Each tournament runs through the same {@link ServerTournamentDirector},
+ * {@link ServerPlayerActionProvider} and {@link ServerAIProvider} wiring as a
+ * hosted game, but with no AI delay, no database and an in-memory event store.
+ * Tournaments run in parallel, one per worker thread. Skill levels are rotated
+ * through the seats so every AI class gets every starting position.
+ * <p>
+ * Deals, TournamentAI and V1 decisions, and V2 strategy modifiers all come from
+ * the batch seed, so a batch can be replayed. V2's own action mixing still uses
+ * {@code Math.random}, so V2 tournaments only repeat in aggregate.
+ *
+ * @see SelfPlayReport
+ * @see SelfPlayBatch
+ */
+public class SelfPlayRunner {
+
+    /** Hosted-game defaults with the AI action delay turned off. */
+    private static final GameServerProperties PROPERTIES = new GameServerProperties(50, 30, 120, 10, 1000, 3, 2, 5, 5,
+            24, 7, "ws://localhost", 0);
+
+    /**
+     * Batch settings.
+     *
+     * @param tournaments
+     *            number of tournaments to play
+     * @param threads
+     *            tournaments played at once
+     * @param players
+     *            players per tournament (10 per table)
+     * @param skillLevels
+     *            ServerAIProvider skill levels (1-7) assigned round-robin to
+     *            seats
+     * @param seed
+     *            batch seed; the same seed replays the same deals
+     * @param startingChips
+     *            starting stack
+     * @param handsPerLevel
+     *            hands played at each blind level
+     */
+    public record Config(int tournaments, int threads, int players, List<Integer> skillLevels, long seed,
+            int startingChips, int handsPerLevel) {
+        public Config {
+            if (tournaments <= 0)
+                throw new IllegalArgumentException("tournaments must be positive: " + tournaments);
+            if (threads <= 0)
+                throw new IllegalArgumentException("threads must be positive: " + threads);
+            if (players < 2)
+                throw new IllegalArgumentException("need at least 2 players: " + players);
+            if (skillLevels == null || skillLevels.isEmpty())
+                throw new IllegalArgumentException("no skill levels given");
+            for (int skill : skillLevels) {
+                if (skill < 1 || skill > 7)
+                    throw new IllegalArgumentException("skill level must be 1-7: " + skill);
+            }
+            if (startingChips <= 0)
+                throw new IllegalArgumentException("startingChips must be positive: " + startingChips);
+            if ((long) players * startingChips > Integer.MAX_VALUE / 4)
+                throw new IllegalArgumentException("too many chips in play: " + players + " x " + startingChips);
+            if (handsPerLevel <= 0)
+                throw new IllegalArgumentException("handsPerLevel must be positive: " + handsPerLevel);
+            skillLevels = List.copyOf(skillLevels);
+        }
+    }
+
+    private final Config config;
+    private final int[] smallBlinds;
+    private final int[] bigBlinds;
+    private final int[] antes;
+
+    /**
+     * Create a runner for the given batch.
+     *
+     * @param config
+     *            batch settings
+     */
+    public SelfPlayRunner(Config config) {
+        this.config = config;
+
+        // Doubling blinds, advanced by hand count so tournament length does not
+        // depend on how fast the AIs decide. Blinds drop to zero past the last
+        // level, so keep doubling until the small blind alone covers every chip in
+        // play.
+        long totalChips = (long) config.players() * config.startingChips();
+        List<Integer> blinds = new ArrayList<>();
+        long sb = Math.max(1, config.startingChips() / 100);
+        do {
+            blinds.add((int) sb);
+            sb *= 2;
+        } while (blinds.get(blinds.size() - 1) < totalChips);
+        smallBlinds = blinds.stream().mapToInt(Integer::intValue).toArray();
+        bigBlinds = Arrays.stream(smallBlinds).map(blind -> blind * 2).toArray();
+        antes = new int[smallBlinds.length];
+        for (int level = 4; level < antes.length; level++) {
+            antes[level] = smallBlinds[level] / 4;
+        }
+    }
+
+    /**
+     * Play the whole batch, blocking until every tournament has finished.
+     *
+     * @return throughput, latency and finishing-position results
+     */
+    public SelfPlayReport run() {
+        // Draw every tournament's seed up front so results do not depend on which
+        // worker picks up which tournament.
+        Random seeds = new Random(config.seed());
+        long[] tournamentSeeds = new long[config.tournaments()];
+        for (int t = 0; t < tournamentSeeds.length; t++) {
+            tournamentSeeds[t] = seeds.nextLong();
+        }
+
+        LongAdder hands = new LongAdder();
+        List<TournamentResult> results = new ArrayList<>(config.tournaments());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(config.threads(), config.tournaments()));
+        long start = System.nanoTime();
+        try {
+            List<Future<TournamentResult>> futures = new ArrayList<>(config.tournaments());
+            for (int t = 0; t < config.tournaments(); t++) {
+                int tournament = t;
+                futures.add(executor.submit(() -> playTournament(tournament, tournamentSeeds[tournament], hands)));
+            }
+            for (Future<TournamentResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Self-play batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play tournament failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        return summarize(results, hands.sum(), elapsedNanos);
+    }
+
+    /**
+     * Play one tournament on the calling thread.
+     */
+    private TournamentResult playTournament(int index, long seed, LongAdder hands) {
+        int numPlayers = config.players();
+        List<Integer> skills = config.skillLevels();
+        List<ServerPlayer> players = new ArrayList<>(numPlayers);
+        Map<Integer, Integer> skillLevels = new HashMap<>();
+        for (int i = 0; i < numPlayers; i++) {
+            int skill = skills.get((i + index) % skills.size());
+            ServerPlayer player = new ServerPlayer(i + 1, "AI " + (i + 1), false, skill, config.startingChips());
+            players.add(player);
+            skillLevels.put(player.getID(), skill);
+        }
+
+        ServerTournamentContext tournament = new ServerTournamentContext(players, (numPlayers + 9) / 10,
+                config.startingChips(), smallBlinds, bigBlinds, antes, new int[smallBlinds.length],
+                new boolean[smallBlinds.length], true, 0, 0, false, 0, LevelAdvanceMode.HANDS,
+                config.handsPerLevel());
+        Random tournamentSeeds = new Random(seed);
+        tournament.setDeckSeed(tournamentSeeds.nextLong());
+
+        ServerAIProvider ai = new ServerAIProvider(new ArrayList<>(players), skillLevels, tournament.getTable(0),
+                tournament, tournamentSeeds.nextLong());
+        Map<Integer, String> aiClasses = new HashMap<>();
+        Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+        for (ServerPlayer player : players) {
+            String aiClass = ai.getAI(player.getID()).getClass().getSimpleName();
+            aiClasses.put(player.getID(), aiClass);
+            latencies.computeIfAbsent(aiClass, k -> new Latencies());
+        }
+        PlayerActionProvider timedAI = (player, options) -> {
+            long begin = System.nanoTime();
+            PlayerAction action = ai.getAction(player, options);
+            latencies.get(aiClasses.get(player.getID())).add(System.nanoTime() - begin);
+            return action;
+        };
+
+        ServerGameEventBus eventBus = new ServerGameEventBus(new InMemoryGameEventStore("self-play-" + index));
+        eventBus.subscribe(event -> {
+            if (event instanceof GameEvent.HandStarted) {
+                hands.increment();
+            }
+        });
+        ServerPlayerActionProvider actionProvider = new ServerPlayerActionProvider(timedAI, request -> {
+        }, 0, PROPERTIES.disconnectGraceTurns(), new ConcurrentHashMap<>(), 0);
+        ServerTournamentDirector director = new ServerTournamentDirector(new TournamentEngine(eventBus, actionProvider),
+                tournament, eventBus, actionProvider, PROPERTIES, event -> {
+                });
+        director.setNewHandCallback(ai::onNewHand);
+        director.run();
+
+        Map<String, List<Integer>> finishes = new HashMap<>();
+        for (ServerPlayer player : players) {
+            // The winner is never eliminated, so never gets a finish position
+            int finish = player.getFinishPosition() > 0 ? player.getFinishPosition() : 1;
+            finishes.computeIfAbsent(aiClasses.get(player.getID()), k -> new ArrayList<>()).add(finish);
+        }
+        return new TournamentResult(latencies, finishes);
+    }
+
+    private SelfPlayReport summarize(List<TournamentResult> results, long hands, long elapsedNanos) {
+        Map<String, Latencies> latencies = new TreeMap<>();
+        Map<String, List<Integer>> finishes = new TreeMap<>();
+        for (TournamentResult result : results) {
+            result.latencies().forEach((aiClass, l) -> latencies.computeIfAbsent(aiClass, k -> new Latencies()).addAll(l));
+            result.finishes().forEach((aiClass, f) -> finishes.computeIfAbsent(aiClass, k -> new ArrayList<>()).addAll(f));
+        }
+
+        long decisions = 0;
+        List<SelfPlayReport.AIClassStats> stats = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : finishes.entrySet()) {
+            String aiClass = entry.getKey();
+            long[] nanos = latencies.get(aiClass).sorted();
+            decisions += nanos.length;
+
+            List<Integer> places = entry.getValue();
+            int wins = 0;
+            long totalFinish = 0;
+            for (int place : places) {
+                if (place == 1)
+                    wins++;
+                totalFinish += place;
+            }
+            stats.add(new SelfPlayReport.AIClassStats(aiClass, nanos.length, percentile(nanos, 50),
+                    percentile(nanos, 99), places.size(), wins, (double) totalFinish / places.size()));
+        }
+        return new SelfPlayReport(results.size(), config.players(), hands, decisions, elapsedNanos, stats);
+    }
+
+    /** Nearest-rank percentile of sorted values, 0 if there are none. */
+    static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /** Per-class decision latencies and finishing positions of one tournament. */
+    private record TournamentResult(Map<String, Latencies> latencies, Map<String, List<Integer>> finishes) {
+    }
+
+    /** Growable list of decision times in nanoseconds. */
+    private static final class Latencies {
+        private long[] nanos = new long[256];
+        private int size;
+
+        synchronized void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+
+        synchronized void addAll(Latencies other) {
+            long[] values = other.sorted();
+            if (size + values.length > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + values.length));
+            }
+            System.arraycopy(values, 0, nanos, size, values.length);
+            size += values.length;
+        }
+
+        synchronized long[] sorted() {
+            long[] values = Arrays.copyOf(nanos, size);
+            Arrays.sort(values);
+            return values;
+        }
+    }
+}
@@ -45,6 +45,7 @@ import com.donohoedigital.games.poker.engine.GamePlayerInfo;
 import com.donohoedigital.games.poker.engine.PlayerAction;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -68,10 +69,12 @@ public class ServerAIProvider implements PlayerActionProvider {
 
     private final Map<Integer, PurePokerAI> playerAIs = new ConcurrentHashMap<>();
     private final Map<Integer, AIContext> playerContexts = new ConcurrentHashMap<>();
+    private final Map<Integer, GamePlayerInfo> aiPlayers = new ConcurrentHashMap<>();
     private final GameTable table;
     private final TournamentContext tournament;
     private final ServerOpponentTracker opponentTracker;
-    private GameHand currentHand;
+    private final BoardCache<Long, BoardScores> boardScores;
+    private final Random seeds; // null = time-seeded AIs
 
     /**
      * Create AI provider for server-hosted game with skill-based routing.
@@ -87,10 +90,39 @@ public class ServerAIProvider implements PlayerActionProvider {
      */
     public ServerAIProvider(List<GamePlayerInfo> players, Map<Integer, Integer> skillLevels, GameTable table,
             TournamentContext tournament) {
+        this(players, skillLevels, table, tournament, null);
+    }
+
+    /**
+     * Create AI provider whose AIs are seeded from a fixed seed, so repeated runs
+     * with the same seed and deck make the same TournamentAI and V1 decisions and
+     * draw the same V2 strategy modifiers.
+     *
+     * @param players
+     *            List of all players in the game
+     * @param skillLevels
+     *            Map of player ID to skill level (1-7)
+     * @param table
+     *            Game table
+     * @param tournament
+     *            Tournament context for blinds and structure
+     * @param seed
+     *            seed for all AI random sources
+     */
+    public ServerAIProvider(List<GamePlayerInfo> players, Map<Integer, Integer> skillLevels, GameTable table,
+            TournamentContext tournament, long seed) {
+        this(players, skillLevels, table, tournament, new Random(seed));
+    }
+
+    private ServerAIProvider(List<GamePlayerInfo> players, Map<Integer, Integer> skillLevels, GameTable table,
+            TournamentContext tournament, Random seeds) {
         this.table = table;
         this.tournament = tournament;
-        this.currentHand = null;
         this.opponentTracker = new ServerOpponentTracker();
+        // One current board per table; V2 players at a table share its scores
+        int numTables = tournament != null ? tournament.getNumTables() : 1;
+        this.boardScores = new BoardCache<>(Math.max(1, numTables));
+        this.seeds = seeds;
         initializeAIs(players, skillLevels);
     }
 
@@ -106,6 +138,7 @@ public class ServerAIProvider implements PlayerActionProvider {
                 AIContext ctx = createContext(skill, player);
                 playerAIs.put(player.getID(), ai);
                 playerContexts.put(player.getID(), ctx);
+                aiPlayers.put(player.getID(), player);
             }
         }
     }
@@ -120,9 +153,9 @@ public class ServerAIProvider implements PlayerActionProvider {
      * @return AI instance
      */
     private PurePokerAI createAI(int skillLevel, GamePlayerInfo player) {
-        long seed = player.getID() * 31L + System.nanoTime();
+        long seed = seeds != null ? seeds.nextLong() : player.getID() * 31L + System.nanoTime();
         return switch (skillLevel) {
-            case 1, 2 -> new TournamentAI();
+            case 1, 2 -> seeds != null ? new TournamentAI(seed) : new TournamentAI();
             case 3 -> new V1Algorithm(seed, V1Algorithm.AI_EASY);
             case 4 -> new V1Algorithm(seed, V1Algorithm.AI_MEDIUM);
             case 5, 6, 7 -> new V2Algorithm();
@@ -142,23 +175,32 @@ public class ServerAIProvider implements PlayerActionProvider {
      */
     private AIContext createContext(int skillLevel, GamePlayerInfo player) {
         if (skillLevel >= 5) {
-            ServerStrategyProvider strategy = new ServerStrategyProvider(String.valueOf(player.getID()));
-            return new ServerV2AIContext(table, currentHand, tournament, player, strategy, opponentTracker);
+            String playerId = String.valueOf(player.getID());
+            ServerStrategyProvider strategy = seeds != null
+                    ? new ServerStrategyProvider(playerId, StrategyDataLoader.loadDefaultStrategy(),
+                            new Random(seeds.nextLong()))
+                    : new ServerStrategyProvider(playerId);
+            return new ServerV2AIContext(table, null, tournament, player, strategy, opponentTracker, boardScores);
         }
-        return new ServerAIContext(table, currentHand, tournament, player, opponentTracker);
+        return new ServerAIContext(table, null, tournament, player, opponentTracker);
     }
 
     /**
-     * Update current hand reference and propagate to all contexts. Called at the
-     * start of each hand.
+     * Point the contexts of the AI players dealt into a new hand at it. Called at
+     * the start of each hand, after the deal. Players at other tables keep their
+     * own table's hand, so tables running in parallel can start hands at the same
+     * time.
      *
      * @param hand
      *            New hand
      */
     public void onNewHand(GameHand hand) {
-        this.currentHand = hand;
-        for (AIContext ctx : playerContexts.values()) {
-            if (ctx instanceof ServerAIContext sac) {
+        if (hand == null) {
+            return;
+        }
+        for (Map.Entry<Integer, GamePlayerInfo> entry : aiPlayers.entrySet()) {
+            if (hand.getPlayerCards(entry.getValue()) != null
+                    && playerContexts.get(entry.getKey()) instanceof ServerAIContext sac) {
                 sac.setCurrentHand(hand);
             }
         }
@@ -236,6 +278,17 @@ public class ServerAIProvider implements PlayerActionProvider {
         return playerAIs.get(playerId);
     }
 
+    /**
+     * Get AI context for a player (for testing/debugging).
+     *
+     * @param playerId
+     *            Player ID
+     * @return AI context, or null if player is human or not found
+     */
+    public AIContext getContext(int playerId) {
+        return playerContexts.get(playerId);
+    }
+
     /**
      * Get count of AI players being managed.
      *
@@ -41,6 +41,7 @@ import com.donohoedigital.games.poker.engine.Hand;
 import java.security.SecureRandom;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * Server-side implementation of StrategyProvider that provides AI personality
@@ -56,7 +57,7 @@ public class ServerStrategyProvider implements StrategyProvider {
     private final Map<String, Integer> modifiers = new HashMap<>();
 
     /** Random number generator for creating per-player modifiers */
-    private final SecureRandom random = new SecureRandom();
+    private final Random random;
 
     /** Player identifier for caching modifiers */
     private final String playerId;
@@ -296,8 +297,24 @@ public class ServerStrategyProvider implements StrategyProvider {
      *            Pre-loaded strategy data
      */
     public ServerStrategyProvider(String playerId, StrategyData strategyData) {
+        this(playerId, strategyData, new SecureRandom());
+    }
+
+    /**
+     * Create strategy provider with loaded strategy data and a caller-supplied
+     * random source for the per-player modifiers (seeded for reproducible runs).
+     *
+     * @param playerId
+     *            unique identifier for this player
+     * @param strategyData
+     *            Pre-loaded strategy data
+     * @param random
+     *            random source for strategy modifiers
+     */
+    public ServerStrategyProvider(String playerId, StrategyData strategyData, Random random) {
         this.playerId = playerId;
         this.strategyData = strategyData != null ? strategyData : StrategyDataLoader.loadDefaultStrategy();
+        this.random = random;
     }
 
     @Override
@@ -39,6 +39,7 @@ public class ServerV2AIContext extends ServerAIContext implements V2AIContext {
 
     private final StrategyProvider strategyProvider;
     private final GamePlayerInfo aiPlayer;
+    private final BoardCache<Long, BoardScores> boardScores;
 
     /**
      * Create V2 AI context for server game.
@@ -58,9 +59,36 @@ public class ServerV2AIContext extends ServerAIContext implements V2AIContext {
      */
     public ServerV2AIContext(GameTable table, GameHand currentHand, TournamentContext tournament,
             GamePlayerInfo aiPlayer, StrategyProvider strategyProvider, ServerOpponentTracker opponentTracker) {
+        this(table, currentHand, tournament, aiPlayer, strategyProvider, opponentTracker, null);
+    }
+
+    /**
+     * Create V2 AI context that shares per-board holding scores with the other V2
+     * players in the game.
+     *
+     * @param table
+     *            Current table state
+     * @param currentHand
+     *            Current hand being played (or null between hands)
+     * @param tournament
+     *            Tournament context for blind structure
+     * @param aiPlayer
+     *            The AI player this context is for
+     * @param strategyProvider
+     *            Strategy factor provider
+     * @param opponentTracker
+     *            Shared opponent tracker for behavioral statistics
+     * @param boardScores
+     *            Shared board scores keyed by board fingerprint, or null to have
+     *            the AI score each board itself
+     */
+    public ServerV2AIContext(GameTable table, GameHand currentHand, TournamentContext tournament,
+            GamePlayerInfo aiPlayer, StrategyProvider strategyProvider, ServerOpponentTracker opponentTracker,
+            BoardCache<Long, BoardScores> boardScores) {
         super(table, currentHand, tournament, aiPlayer, opponentTracker);
         this.aiPlayer = aiPlayer;
         this.strategyProvider = strategyProvider;
+        this.boardScores = boardScores;
     }
 
     // === Strategy ===
@@ -189,6 +217,16 @@ public class ServerV2AIContext extends ServerAIContext implements V2AIContext {
         return ranks.getRawHandStrength(pocket);
     }
 
+    @Override
+    public BoardScores getBoardScores() {
+        Hand community = getCommunity();
+        if (boardScores == null || community == null || community.size() < 3) {
+            return null;
+        }
+        // First V2 player to act on a new board scores it; the rest reuse it
+        return boardScores.get(community.fingerprint(), key -> BoardScores.compute(community));
+    }
+
     @Override
     public float getBiasedRawHandStrength(int seat, Hand community) {
         if (community == null || community.size() < 3) {
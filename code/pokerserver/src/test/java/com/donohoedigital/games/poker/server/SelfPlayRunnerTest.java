@@ -0,0 +1,83 @@
+/*
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ * DD Poker - Community Edition
+ * Copyright (c) 2026 Joshua Beard and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * For the full License text, please see the LICENSE.txt file
+ * in the root directory of this project.
+ * =-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+ */
+package com.donohoedigital.games.poker.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for SelfPlayRunner batch results and seed reproducibility.
+ */
+class SelfPlayRunnerTest {
+
+    @Test
+    void batch_everyTournamentHasOneWinnerAndEverySeatIsCounted() {
+        SelfPlayReport report = new SelfPlayRunner(new SelfPlayRunner.Config(4, 2, 6, List.of(1, 3, 5), 7L, 500, 3))
+                .run();
+
+        assertThat(report.tournaments()).isEqualTo(4);
+        assertThat(report.hands()).isPositive();
+        assertThat(report.aiClasses()).extracting(SelfPlayReport.AIClassStats::aiClass)
+                .containsExactly("TournamentAI", "V1Algorithm", "V2Algorithm");
+        assertThat(report.aiClasses()).extracting(SelfPlayReport.AIClassStats::entries).containsOnly(8);
+        assertThat(report.aiClasses().stream().mapToInt(SelfPlayReport.AIClassStats::wins).sum()).isEqualTo(4);
+        assertThat(report.aiClasses().stream().mapToLong(SelfPlayReport.AIClassStats::decisions).sum())
+                .isEqualTo(report.decisions()).isPositive();
+        for (SelfPlayReport.AIClassStats stats : report.aiClasses()) {
+            assertThat(stats.p99Nanos()).isGreaterThanOrEqualTo(stats.p50Nanos());
+            assertThat(stats.averageFinish()).isBetween(1.0, 6.0);
+        }
+        assertThat(report.format()).contains("TournamentAI", "V1Algorithm", "V2Algorithm", "hands");
+    }
+
+    @Test
+    void batch_sameSeedReplaysSameTournaments() {
+        // TournamentAI and V1 draw only from the batch seed; V2 does not
+        SelfPlayRunner.Config config = new SelfPlayRunner.Config(3, 3, 6, List.of(1, 3, 4), 42L, 500, 3);
+
+        SelfPlayReport first = new SelfPlayRunner(config).run();
+        SelfPlayReport second = new SelfPlayRunner(config).run();
+
+        assertThat(second.hands()).isEqualTo(first.hands());
+        assertThat(second.decisions()).isEqualTo(first.decisions());
+        assertThat(second.aiClasses()).extracting(SelfPlayReport.AIClassStats::wins)
+                .isEqualTo(first.aiClasses().stream().map(SelfPlayReport.AIClassStats::wins).toList());
+        assertThat(second.aiClasses()).extracting(SelfPlayReport.AIClassStats::averageFinish)
+                .isEqualTo(first.aiClasses().stream().map(SelfPlayReport.AIClassStats::averageFinish).toList());
+    }
+
+    @Test
+    void config_rejectsUnknownSkillLevel() {
+        assertThatThrownBy(() -> new SelfPlayRunner.Config(1, 1, 6, List.of(8), 1L, 500, 3))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("skill level");
+    }
+
+    @Test
+    void percentile_usesNearestRank() {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertThat(SelfPlayRunner.percentile(sorted, 50)).isEqualTo(5);
+        assertThat(SelfPlayRunner.percentile(sorted, 99)).isEqualTo(10);
+        assertThat(SelfPlayRunner.percentile(new long[0], 99)).isZero();
+    }
+}
@@ -24,6 +24,7 @@ import com.donohoedigital.games.poker.core.GameHand;
 import com.donohoedigital.games.poker.core.GameTable;
 import com.donohoedigital.games.poker.core.TournamentContext;
 import com.donohoedigital.games.poker.core.ai.*;
+import com.donohoedigital.games.poker.engine.Card;
 import com.donohoedigital.games.poker.engine.GamePlayerInfo;
 import com.donohoedigital.games.poker.engine.PlayerAction;
 import org.junit.jupiter.api.Test;
@@ -164,24 +165,23 @@ class ServerAIProviderTest {
     }
 
     @Test
-    void onNewHand_updatesAllContexts() {
+    void onNewHand_updatesContextsOfPlayersInHand() {
         GameTable table = mock(GameTable.class);
         TournamentContext tournament = mock(TournamentContext.class);
-        GameHand initialHand = mock(GameHand.class);
         GameHand newHand = mock(GameHand.class);
 
         GamePlayerInfo player1 = createMockComputerPlayer(1);
         GamePlayerInfo player2 = createMockComputerPlayer(2);
+        // only player 1 is dealt into the hand; player 2 sits at another table
+        when(newHand.getPlayerCards(player1)).thenReturn(new Card[]{Card.SPADES_A, Card.HEARTS_K});
 
         Map<Integer, Integer> skillLevels = Map.of(1, 3, 2, 5);
         ServerAIProvider provider = new ServerAIProvider(List.of(player1, player2), skillLevels, table, tournament);
 
-        // Update to new hand
         provider.onNewHand(newHand);
 
-        // Contexts should be updated - verify by getting an action
-        // (This is a basic smoke test - full verification would require inspecting
-        // contexts)
+        assertThat(provider.getContext(1).getCurrentHand()).isSameAs(newHand);
+        assertThat(provider.getContext(2).getCurrentHand()).isNull();
         ActionOptions options = createMockOptions();
         PlayerAction action = provider.getAction(player1, options);
         assertThat(action).isNotNull();
@@ -23,6 +23,8 @@ import com.donohoedigital.games.poker.core.GameHand;
 import com.donohoedigital.games.poker.core.GameTable;
 import com.donohoedigital.games.poker.core.TournamentContext;
 import com.donohoedigital.games.poker.core.ai.AIConstants;
+import com.donohoedigital.games.poker.core.ai.BoardCache;
+import com.donohoedigital.games.poker.core.ai.BoardScores;
 import com.donohoedigital.games.poker.core.ai.StrategyProvider;
 import com.donohoedigital.games.poker.engine.GamePlayerInfo;
 import com.donohoedigital.games.poker.engine.Card;
@@ -1596,4 +1598,42 @@ class ServerV2AIContextTest {
         int nutFlush = context.getNutFlushCount(pocket, community);
         assertThat(nutFlush).isGreaterThanOrEqualTo(0);
     }
+
+    @Test
+    void getBoardScores_sharedByPlayersOnSameBoard() {
+        GameTable table = mock(GameTable.class);
+        GameHand gameHand = mock(GameHand.class);
+        TournamentContext tournament = mock(TournamentContext.class);
+        StrategyProvider strategy = mock(StrategyProvider.class);
+        ServerOpponentTracker tracker = new ServerOpponentTracker();
+        BoardCache<Long, BoardScores> shared = new BoardCache<>(1);
+
+        when(gameHand.getCommunityCards()).thenReturn(new Card[]{new Card(CardSuit.SPADES, Card.ACE),
+                new Card(CardSuit.HEARTS, Card.NINE), new Card(CardSuit.CLUBS, Card.FOUR)});
+
+        ServerV2AIContext first = new ServerV2AIContext(table, gameHand, tournament, mock(GamePlayerInfo.class),
+                strategy, tracker, shared);
+        ServerV2AIContext second = new ServerV2AIContext(table, gameHand, tournament, mock(GamePlayerInfo.class),
+                strategy, tracker, shared);
+
+        BoardScores scores = first.getBoardScores();
+
+        assertThat(scores).isNotNull();
+        assertThat(scores.getBoard()).isEqualTo(first.getCommunity().fingerprint());
+        assertThat(second.getBoardScores()).isSameAs(scores);
+        assertThat(shared.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void getBoardScores_withoutSharedCache_returnsNull() {
+        GameHand gameHand = mock(GameHand.class);
+        when(gameHand.getCommunityCards()).thenReturn(new Card[]{new Card(CardSuit.SPADES, Card.ACE),
+                new Card(CardSuit.HEARTS, Card.NINE), new Card(CardSuit.CLUBS, Card.FOUR)});
+
+        ServerV2AIContext context = new ServerV2AIContext(mock(GameTable.class), gameHand,
+                mock(TournamentContext.class), mock(GamePlayerInfo.class), mock(StrategyProvider.class),
+                new ServerOpponentTracker());
+
+        assertThat(context.getBoardScores()).isNull();
+    }
 }